@@ -15,7 +15,7 @@ version = getGitHash()
 
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(21)
 	}
 }
 
@@ -54,6 +54,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	implementation("org.redisson:redisson-spring-boot-starter:3.27.1")				
 
+    // Local Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
     // DevTools (개발 시 자동 재시작)
     developmentOnly("org.springframework.boot:spring-boot-devtools")
 
@@ -86,4 +89,9 @@ tasks.withType<Test> {
 	if (project.hasProperty("test.kafka.enabled")) {
 		systemProperty("test.kafka.enabled", project.property("test.kafka.enabled"))
 	}
+
+	// Redis 처리량 비교 테스트 활성화 속성 전달
+	if (project.hasProperty("test.benchmark.enabled")) {
+		systemProperty("test.benchmark.enabled", project.property("test.benchmark.enabled"))
+	}
 }
\ No newline at end of file
@@ -96,6 +96,66 @@ CREATE TABLE IF NOT EXISTS order_items (
     FOREIGN KEY (product_id) REFERENCES products(product_id)
 );
 
+-- balance_shards 테이블 생성 (BaseEntity 상속, 핫 계정 잔액 샤드 1 ~ N-1번)
+CREATE TABLE IF NOT EXISTS balance_shards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    amount DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_balance_shards_user_shard (user_id, shard_no)
+);
+
+-- balance_reconciliation_baselines 테이블 생성 (잔액 정합성 검증 기준점, 사용자별 최초 1회 저장)
+CREATE TABLE IF NOT EXISTS balance_reconciliation_baselines (
+    user_id BIGINT PRIMARY KEY,
+    opening_amount DECIMAL(15,2) NOT NULL,
+    tx_watermark_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+-- balance_reconciliation_reports 테이블 생성 (BaseEntity 상속, 잔액 정합성 검증 불일치 기록)
+CREATE TABLE IF NOT EXISTS balance_reconciliation_reports (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    run_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    balance_amount DECIMAL(15,2) NOT NULL,
+    expected_amount DECIMAL(15,2) NOT NULL,
+    difference DECIMAL(15,2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_balance_recon_run (run_id, user_id)
+);
+
+-- id_sequences 테이블 생성 (PooledIdBaseEntity 상속 엔티티의 pooled ID 할당용)
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- pooled_id 시작값 (pooled optimizer는 next_val - 49부터 사용하므로 기존 최대 ID + allocationSize(50))
+-- 이미 데이터가 있는 DB는 docker/mysql/migration/001-seed-pooled-id.sql 실행
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'pooled_id', COALESCE(MAX(order_item_id), 0) + 50 FROM order_items
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- outbox_events 테이블 생성 (PooledIdBaseEntity 상속, 트랜잭셔널 아웃박스)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT NOT NULL PRIMARY KEY,
+    aggregate_id BIGINT NOT NULL,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    message_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_outbox_events_status_next (status, next_attempt_at)
+);
 
 -- user_balance_tx 테이블 (balance_transactions와 동일한 구조로 별도 테이블)
 CREATE TABLE IF NOT EXISTS user_balance_tx (
@@ -106,10 +166,29 @@ CREATE TABLE IF NOT EXISTS user_balance_tx (
     status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
     memo VARCHAR(255),
     related_order_id BIGINT,
+    delta DECIMAL(15,2),
+    debit_seq BIGINT,
+    snapshotted TINYINT(1) NOT NULL DEFAULT 1,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id),
-    INDEX idx_user_balance_tx_user_id (user_id),
+    UNIQUE KEY uk_balance_tx_debit_seq (user_id, debit_seq),
+    INDEX idx_user_balance_tx_user_created (user_id, created_at),
     INDEX idx_user_balance_tx_created_at (created_at),
-    INDEX idx_user_balance_tx_status (status)
+    INDEX idx_user_balance_tx_status (status),
+    INDEX idx_balance_tx_ledger (user_id, snapshotted, delta),
+    INDEX idx_balance_tx_snapshot (snapshotted, id)
+);
+
+-- balance_tx_dead_letters 테이블 (배치 저장에 실패한 거래 내역, 수동 재처리용)
+CREATE TABLE IF NOT EXISTS balance_tx_dead_letters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    amount DECIMAL(38,2) NOT NULL,
+    tx_type VARCHAR(20) NOT NULL,
+    memo VARCHAR(255),
+    related_order_id BIGINT,
+    occurred_at DATETIME(6) NOT NULL,
+    error_message VARCHAR(500),
+    created_at DATETIME(6) NOT NULL
 );
\ No newline at end of file
@@ -0,0 +1,16 @@
+-- pooled_id 시퀀스 시작값 보정 (기존 AUTO_INCREMENT 데이터가 있는 DB 대상)
+-- order_items가 PooledIdBaseEntity(id_sequences 테이블 할당)로 바뀌면서
+-- pooled_id 행이 없으면 ID가 1부터 할당되어 기존 행과 PK 충돌이 발생함
+-- docker 스키마의 order_items PK는 order_item_id이고 order_history_events 테이블은 없음
+-- 애플리케이션 배포 전에 실행, 여러 번 실행해도 next_val은 줄어들지 않음
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- pooled optimizer는 next_val - 49부터 사용하므로 기존 최대 ID + allocationSize(50)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'pooled_id', COALESCE(MAX(order_item_id), 0) + 50 FROM order_items
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,10 @@
+-- 잔액 정합성 검증 기준점 테이블 (기존 환경용, 재실행해도 안전)
+-- 기준점은 BalanceReconciliationJob이 사용자별로 처음 검사할 때 저장하므로 별도 백필 불필요
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS balance_reconciliation_baselines (
+    user_id BIGINT PRIMARY KEY,
+    opening_amount DECIMAL(15,2) NOT NULL,
+    tx_watermark_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,19 @@
+-- 잔액 원장 모드(balance.mode=ledger) 컬럼과 인덱스 추가 (기존 환경용, 재실행해도 안전)
+-- 기존 거래 내역은 이미 balances에 반영된 행이므로 snapshotted = 1로 채움
+-- MySQL 8.0은 ADD COLUMN IF NOT EXISTS가 없으므로 컬럼 존재 여부를 확인한 뒤 한 문장으로 변경
+USE ecommerce;
+
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.COLUMNS
+     WHERE TABLE_SCHEMA = 'ecommerce' AND TABLE_NAME = 'user_balance_tx' AND COLUMN_NAME = 'debit_seq') = 0,
+    'ALTER TABLE user_balance_tx
+         ADD COLUMN delta DECIMAL(15,2) AFTER related_order_id,
+         ADD COLUMN debit_seq BIGINT AFTER delta,
+         ADD COLUMN snapshotted TINYINT(1) NOT NULL DEFAULT 1 AFTER debit_seq,
+         ADD UNIQUE KEY uk_balance_tx_debit_seq (user_id, debit_seq),
+         ADD INDEX idx_balance_tx_ledger (user_id, snapshotted, delta),
+         ADD INDEX idx_balance_tx_snapshot (snapshotted, id)',
+    'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,20 @@
+-- 주문 이벤트 트랜잭셔널 아웃박스 테이블 (event.publisher.type=kafka)
+-- id는 PooledIdBaseEntity(id_sequences의 pooled_id) 할당이므로 001을 먼저 실행
+-- 릴레이 조회는 status + next_attempt_at 인덱스를 사용
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT NOT NULL PRIMARY KEY,
+    aggregate_id BIGINT NOT NULL,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    message_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_outbox_events_status_next (status, next_attempt_at)
+);
@@ -0,0 +1,13 @@
+-- 핫 계정 잔액 샤드 테이블 (기존 환경용, 재실행해도 안전)
+-- 0번 샤드는 기존 balances 행이므로 1 ~ N-1번만 저장, 샤드 행은 첫 충전 시 생성되어 별도 백필 불필요
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS balance_shards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    amount DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_balance_shards_user_shard (user_id, shard_no)
+);
@@ -0,0 +1,15 @@
+-- 거래 내역 일괄 저장(balance.tx-log.mode=batched) 실패 건 테이블 (기존 환경용, 재실행해도 안전)
+-- 재시도 후에도 저장하지 못한 거래 내역을 기록하며, 수동 재처리 후 삭제
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS balance_tx_dead_letters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    amount DECIMAL(38,2) NOT NULL,
+    tx_type VARCHAR(20) NOT NULL,
+    memo VARCHAR(255),
+    related_order_id BIGINT,
+    occurred_at DATETIME(6) NOT NULL,
+    error_message VARCHAR(500),
+    created_at DATETIME(6) NOT NULL
+);
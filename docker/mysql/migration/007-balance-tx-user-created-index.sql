@@ -0,0 +1,22 @@
+-- 거래 내역 keyset 페이지네이션용 (user_id, created_at) 복합 인덱스 (기존 환경용, 재실행해도 안전)
+-- user_id 단일 인덱스는 user_id FK가 사용하므로, 대체 인덱스 추가와 삭제를 한 ALTER 문으로 실행해야
+-- 삭제 시 "needed in a foreign key constraint" 오류가 나지 않음
+USE ecommerce;
+
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.STATISTICS
+     WHERE TABLE_SCHEMA = 'ecommerce' AND TABLE_NAME = 'user_balance_tx'
+       AND INDEX_NAME = 'idx_user_balance_tx_user_created') > 0,
+    'SELECT 1',
+    IF(
+        (SELECT COUNT(*) FROM information_schema.STATISTICS
+         WHERE TABLE_SCHEMA = 'ecommerce' AND TABLE_NAME = 'user_balance_tx'
+           AND INDEX_NAME = 'idx_user_balance_tx_user_id') > 0,
+        'ALTER TABLE user_balance_tx
+             ADD INDEX idx_user_balance_tx_user_created (user_id, created_at),
+             DROP INDEX idx_user_balance_tx_user_id',
+        'ALTER TABLE user_balance_tx
+             ADD INDEX idx_user_balance_tx_user_created (user_id, created_at)'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
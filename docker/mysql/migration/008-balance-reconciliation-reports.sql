@@ -0,0 +1,15 @@
+-- 잔액 정합성 검증 불일치 기록 테이블 (기존 환경용, 재실행해도 안전)
+-- BalanceReconciliationJob이 실행 ID별로 확정된 불일치 사용자를 기록
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS balance_reconciliation_reports (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    run_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    balance_amount DECIMAL(15,2) NOT NULL,
+    expected_amount DECIMAL(15,2) NOT NULL,
+    difference DECIMAL(15,2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_balance_recon_run (run_id, user_id)
+);
@@ -0,0 +1,38 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, DEFAULT_HEADERS } from '../../utils/config.js';
+
+/**
+ * 거래 내역 저장 방식(sync / batched) 충전 처리량 비교용 벤치마크
+ * - VUS: 동시 사용자 수, 사용자 1001 ~ 2000 순환 (핫 계정 경합 없이 INSERT 비용만 비교)
+ * 실행: ./run-balance-tx-log-benchmark.sh (모드별로 앱을 띄운 뒤 실행)
+ */
+const VUS = parseInt(__ENV.VUS || '100');
+const DURATION = __ENV.DURATION || '60s';
+
+const chargeDuration = new Trend('charge_duration');
+
+export let options = {
+    scenarios: {
+        benchmark: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            gracefulStop: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const userId = 1001 + Math.floor(Math.random() * 1000);
+    const payload = JSON.stringify({
+        userId: userId,
+        amount: 1000,
+    });
+
+    const response = http.post(`${BASE_URL}/api/users/balance/charge`, payload, { headers: DEFAULT_HEADERS, timeout: '30s' });
+    chargeDuration.add(response.timings.duration);
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,65 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+import { BASE_URL, DEFAULT_HEADERS, generateUserId, generateProductId } from '../../utils/config.js';
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 처리량 비교용 벤치마크
+ * - VUS: 동시 사용자 수 (100 / 500 / 2000)
+ * - 주문 생성과 잔액 조회를 섞어 JDBC + Redisson 락 + Redis 경로를 모두 사용
+ * 실행: ./run-virtual-thread-benchmark.sh (모드별로 앱을 띄운 뒤 실행)
+ */
+const VUS = parseInt(__ENV.VUS || '100');
+const DURATION = __ENV.DURATION || '60s';
+
+const orderSuccess = new Counter('successful_orders');
+const orderFailure = new Counter('failed_orders');
+const orderDuration = new Trend('order_duration');
+const balanceDuration = new Trend('balance_duration');
+
+export let options = {
+    scenarios: {
+        benchmark: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            gracefulStop: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    // 잔액 부족으로 인한 실패가 결과를 왜곡하지 않도록 사용자 잔액 충전
+    for (let userId = 1001; userId <= 2000; userId++) {
+        http.post(`${BASE_URL}/api/users/balance/charge`,
+            JSON.stringify({ userId: userId, amount: 1000000 }),
+            { headers: DEFAULT_HEADERS, timeout: '10s' });
+    }
+}
+
+export default function () {
+    const userId = generateUserId();
+
+    if (Math.random() < 0.7) {
+        const payload = JSON.stringify({
+            userId: userId,
+            orderItems: [
+                { productId: generateProductId(), quantity: 1 },
+            ],
+        });
+        const response = http.post(`${BASE_URL}/api/orders`, payload, { headers: DEFAULT_HEADERS, timeout: '30s' });
+        orderDuration.add(response.timings.duration);
+
+        const ok = check(response, { 'order status is 200 or 400': (r) => r.status === 200 || r.status === 400 });
+        if (response.status === 200) {
+            orderSuccess.add(1);
+        } else if (!ok) {
+            orderFailure.add(1);
+        }
+    } else {
+        const response = http.get(`${BASE_URL}/api/users/balance?userId=${userId}`, { headers: DEFAULT_HEADERS, timeout: '30s' });
+        balanceDuration.add(response.timings.duration);
+        check(response, { 'balance status is 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,54 @@
+#!/bin/bash
+
+# 잔액 거래 내역 저장 방식(sync / batched) 충전 처리량 비교 벤치마크
+#
+# 사용법:
+#   1) 동기 모드로 앱 실행 후:    ./run-balance-tx-log-benchmark.sh sync
+#   2) 배치 모드로 앱 재실행 후:  ./run-balance-tx-log-benchmark.sh batched
+#      (./gradlew bootRun --args='--balance.tx-log.mode=batched')
+#   3) 두 모드 결과가 모두 있으면 비교 표 출력
+#
+# 결과: k6-results/balance-tx-log/<mode>-<vus>.json (k6 --summary-export)
+
+MODE=$1
+BASE_URL=${BASE_URL:-http://localhost:8083}
+DURATION=${DURATION:-60s}
+VUS_LEVELS=${VUS_LEVELS:-"50 200 500"}
+RESULT_DIR=k6-results/balance-tx-log
+
+if [ "$MODE" != "sync" ] && [ "$MODE" != "batched" ]; then
+    echo "사용법: $0 <sync|batched>"
+    exit 1
+fi
+
+mkdir -p $RESULT_DIR
+
+for VUS in $VUS_LEVELS; do
+    echo "🚀 [$MODE] 동시 사용자 $VUS 명 - $DURATION"
+    k6 run -q \
+        -e BASE_URL=$BASE_URL -e VUS=$VUS -e DURATION=$DURATION \
+        --summary-export $RESULT_DIR/$MODE-$VUS.json \
+        k6-tests/scenarios/balance/charge-tx-log-benchmark.js
+done
+
+# 비교 표 출력 (jq 필요)
+if ! command -v jq > /dev/null; then
+    exit 0
+fi
+
+echo ""
+printf "%-6s | %-8s | %10s | %10s | %10s | %8s\n" "VUS" "MODE" "req/s" "p95(ms)" "p99(ms)" "fail%"
+echo "-------+----------+------------+------------+------------+---------"
+for VUS in $VUS_LEVELS; do
+    for M in sync batched; do
+        FILE=$RESULT_DIR/$M-$VUS.json
+        [ -f "$FILE" ] || continue
+        jq -r --arg vus "$VUS" --arg mode "$M" \
+            '[$vus, $mode,
+              (.metrics.http_reqs.rate | floor),
+              (.metrics.http_req_duration["p(95)"] | floor),
+              (.metrics.http_req_duration["p(99)"] | floor),
+              ((.metrics.http_req_failed.value // 0) * 100 | floor)] | @tsv' "$FILE" |
+            awk -F'\t' '{ printf "%-6s | %-8s | %10s | %10s | %10s | %7s%%\n", $1, $2, $3, $4, $5, $6 }'
+    done
+done
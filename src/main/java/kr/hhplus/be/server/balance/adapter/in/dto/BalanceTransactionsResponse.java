@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.balance.adapter.in.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "잔액 거래 내역 조회 응답")
+public class BalanceTransactionsResponse {
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "거래 내역 (최신순)")
+    private List<TransactionResponse> transactions;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNC0wOC0yMVQxMDowMDowMHwxMjM")
+    private String nextCursor;
+
+    @Schema(description = "잔액 거래 내역 항목")
+    public static class TransactionResponse {
+        @Schema(description = "거래 ID", example = "123")
+        private Long transactionId;
+
+        @Schema(description = "거래 유형", example = "CHARGE")
+        private String type;
+
+        @Schema(description = "거래 금액", example = "10000")
+        private Integer amount;
+
+        @Schema(description = "거래 상태", example = "COMPLETED")
+        private String status;
+
+        @Schema(description = "메모", example = "잔액 충전")
+        private String description;
+
+        @Schema(description = "관련 주문 ID", example = "1")
+        private Long referenceId;
+
+        @Schema(description = "거래 일시")
+        private LocalDateTime createdAt;
+
+        public TransactionResponse() {}
+
+        public TransactionResponse(Long transactionId, String type, Integer amount, String status,
+                                   String description, Long referenceId, LocalDateTime createdAt) {
+            this.transactionId = transactionId;
+            this.type = type;
+            this.amount = amount;
+            this.status = status;
+            this.description = description;
+            this.referenceId = referenceId;
+            this.createdAt = createdAt;
+        }
+
+        public Long getTransactionId() { return transactionId; }
+        public void setTransactionId(Long transactionId) { this.transactionId = transactionId; }
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        public Integer getAmount() { return amount; }
+        public void setAmount(Integer amount) { this.amount = amount; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public Long getReferenceId() { return referenceId; }
+        public void setReferenceId(Long referenceId) { this.referenceId = referenceId; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    }
+
+    public BalanceTransactionsResponse() {}
+
+    public BalanceTransactionsResponse(Long userId, List<TransactionResponse> transactions, String nextCursor) {
+        this.userId = userId;
+        this.transactions = transactions;
+        this.nextCursor = nextCursor;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<TransactionResponse> getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(List<TransactionResponse> transactions) {
+        this.transactions = transactions;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
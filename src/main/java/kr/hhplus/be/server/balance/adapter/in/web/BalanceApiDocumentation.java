@@ -2,12 +2,14 @@ package kr.hhplus.be.server.balance.adapter.in.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.balance.adapter.in.docs.BalanceSchemaDescription;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 잔액 API 문서화 인터페이스
@@ -29,12 +31,44 @@ public interface BalanceApiDocumentation {
 
     @PostMapping("/balance/charge")
     @Operation(summary = "잔액 충전", description = "사용자의 잔액을 충전합니다.")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = "재시도 시 중복 충전 방지용 키 (선택)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "충전 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중 (Retry-After 헤더 참고)"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청"),
+            @ApiResponse(responseCode = "429", description = "요청 수 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     ResponseEntity<?> chargeBalance(
             @Parameter(description = "잔액 충전 요청", required = true)
             @RequestBody kr.hhplus.be.server.balance.adapter.in.dto.ChargeBalanceRequest request);
-} 
\ No newline at end of file
+
+    @GetMapping("/{userId}/balance/transactions")
+    @Operation(summary = "잔액 거래 내역 조회",
+            description = "사용자의 잔액 거래 내역을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (사용자 없음, 잘못된 커서)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    ResponseEntity<?> getBalanceTransactions(
+            @Parameter(description = BalanceSchemaDescription.userId, required = true, example = "1001")
+            @PathVariable("userId") Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(value = "size", required = false) Integer size);
+
+    @GetMapping("/{userId}/balance/transactions/export")
+    @Operation(summary = "잔액 거래 내역 내보내기",
+            description = "사용자의 전체 잔액 거래 내역을 NDJSON(한 줄에 거래 하나, 최신순)으로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    ResponseEntity<StreamingResponseBody> exportBalanceTransactions(
+            @Parameter(description = BalanceSchemaDescription.userId, required = true, example = "1001")
+            @PathVariable("userId") Long userId);
+}
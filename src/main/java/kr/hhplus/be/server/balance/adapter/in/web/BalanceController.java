@@ -2,15 +2,24 @@ package kr.hhplus.be.server.balance.adapter.in.web;
 
 import kr.hhplus.be.server.balance.adapter.in.dto.ChargeBalanceRequest;
 import kr.hhplus.be.server.balance.application.port.in.ChargeBalanceUseCase;
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase;
 import kr.hhplus.be.server.balance.application.port.in.GetBalanceUseCase;
+import kr.hhplus.be.server.shared.idempotency.Idempotent;
+import kr.hhplus.be.server.shared.ratelimit.RateLimited;
 import kr.hhplus.be.server.shared.response.ErrorResponse;
 import kr.hhplus.be.server.balance.adapter.in.dto.BalanceResponse;
+import kr.hhplus.be.server.balance.adapter.in.dto.BalanceTransactionsResponse;
 import kr.hhplus.be.server.balance.adapter.in.dto.ChargeBalanceResponse;   
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;    
 
 @RestController
@@ -19,11 +28,17 @@ public class BalanceController implements BalanceApiDocumentation {
 
     private final GetBalanceUseCase getBalanceUseCase;
     private final ChargeBalanceUseCase chargeBalanceUseCase;
+    private final GetBalanceTransactionsUseCase getBalanceTransactionsUseCase;
+    private final ObjectMapper objectMapper;
 
     public BalanceController(GetBalanceUseCase getBalanceUseCase, 
-                           ChargeBalanceUseCase chargeBalanceUseCase) {
+                           ChargeBalanceUseCase chargeBalanceUseCase,
+                           GetBalanceTransactionsUseCase getBalanceTransactionsUseCase,
+                           ObjectMapper objectMapper) {
         this.getBalanceUseCase = getBalanceUseCase;
         this.chargeBalanceUseCase = chargeBalanceUseCase;
+        this.getBalanceTransactionsUseCase = getBalanceTransactionsUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/balance")
@@ -43,6 +58,8 @@ public class BalanceController implements BalanceApiDocumentation {
     }
 
     @PostMapping("/balance/charge")
+    @Idempotent(scope = "balance-charge", key = "#request.userId")
+    @RateLimited(scope = "balance-charge", key = "#request.userId", limit = 5, burst = 10)
     public ResponseEntity<?> chargeBalance(@Valid @RequestBody ChargeBalanceRequest request) {
         
         ChargeBalanceUseCase.ChargeBalanceCommand command = 
@@ -61,4 +78,65 @@ public class BalanceController implements BalanceApiDocumentation {
         
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/{userId}/balance/transactions")
+    public ResponseEntity<?> getBalanceTransactions(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        GetBalanceTransactionsUseCase.GetTransactionsCommand command = new GetBalanceTransactionsUseCase.GetTransactionsCommand(
+                userId,
+                cursor != null && !cursor.isBlank() ? GetBalanceTransactionsUseCase.TransactionCursor.decode(cursor) : null,
+                size);
+        var pageOpt = getBalanceTransactionsUseCase.getTransactions(command);
+
+        if (pageOpt.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("사용자를 찾을 수 없습니다."));
+        }
+
+        GetBalanceTransactionsUseCase.TransactionPage page = pageOpt.get();
+        BalanceTransactionsResponse response = new BalanceTransactionsResponse(
+                page.getUserId(),
+                page.getItems().stream().map(this::toTransactionResponse).toList(),
+                page.getNextCursor() != null ? page.getNextCursor().encode() : null);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 전체 거래 내역 NDJSON 내보내기 - 한 줄에 거래 하나, 최신순
+     * 사용자가 없으면 스트리밍 시작 전에 IllegalArgumentException → 400
+     */
+    @GetMapping("/{userId}/balance/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportBalanceTransactions(@PathVariable("userId") Long userId) {
+        GetBalanceTransactionsUseCase.TransactionExport export = getBalanceTransactionsUseCase.exportTransactions(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        StreamingResponseBody body = outputStream -> {
+            export.writeTo(item -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(toTransactionResponse(item)));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    private BalanceTransactionsResponse.TransactionResponse toTransactionResponse(
+            GetBalanceTransactionsUseCase.TransactionItem item) {
+        return new BalanceTransactionsResponse.TransactionResponse(
+                item.getTransactionId(),
+                item.getType(),
+                item.getAmount().intValue(),
+                item.getStatus(),
+                item.getDescription(),
+                item.getReferenceId(),
+                item.getCreatedAt());
+    }
+}
@@ -1,53 +1,43 @@
 package kr.hhplus.be.server.balance.application;
 
 import kr.hhplus.be.server.balance.application.port.in.ChargeBalanceUseCase;
-import kr.hhplus.be.server.balance.application.port.out.LoadBalancePort;
+import kr.hhplus.be.server.balance.application.port.out.BalanceCachePort;
 import kr.hhplus.be.server.balance.application.port.out.LoadUserPort;
-import kr.hhplus.be.server.balance.application.port.out.SaveBalanceTransactionPort;
-import kr.hhplus.be.server.balance.domain.Balance;
-import kr.hhplus.be.server.balance.domain.BalanceTransaction;
-import kr.hhplus.be.server.shared.lock.DistributedLock;
+import kr.hhplus.be.server.balance.application.port.out.UpdateBalancePort;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 
 /**
  * 잔액 충전 Application 서비스
- * - 분산 락으로 중복 클릭 방지
- * - 사용자별 순차 처리로 동시성 제어
+ * - 단일 원자적 UPDATE로 충전 (분산 락/재시도 없음)
+ * - 중복 클릭은 Idempotency-Key로 방지
  */
 @Slf4j
 @Service
 public class ChargeBalanceService implements ChargeBalanceUseCase {
 
     private final LoadUserPort loadUserPort;
-    private final LoadBalancePort loadBalancePort;
-    private final SaveBalanceTransactionPort saveBalanceTransactionPort;
+    private final UpdateBalancePort updateBalancePort;
+    private final BalanceCachePort balanceCachePort;
 
     public ChargeBalanceService(LoadUserPort loadUserPort, 
-                               LoadBalancePort loadBalancePort,
-                               SaveBalanceTransactionPort saveBalanceTransactionPort) {
+                               UpdateBalancePort updateBalancePort,
+                               BalanceCachePort balanceCachePort) {
         this.loadUserPort = loadUserPort;
-        this.loadBalancePort = loadBalancePort;
-        this.saveBalanceTransactionPort = saveBalanceTransactionPort;
+        this.updateBalancePort = updateBalancePort;
+        this.balanceCachePort = balanceCachePort;
     }
 
     /**
-     * 잔액 충전 - 분산 락으로 사용자별 순차 처리
-     * @DistributedLock 어노테이션으로 동시성 제어
+     * 잔액 충전 - amount = amount + ? 단일 UPDATE
+     * 동시 충전은 DB 행 락으로 직렬화되므로 갱신 손실 없음
      */
     @Override
-    @DistributedLock(
-        key = "balance-#{#command.userId}",
-        waitTime = 1,              // 3초 → 1초 (빠른 실패)
-        leaseTime = 5,             // 10초 → 5초 (락 홀드 시간 단축)
-        timeUnit = TimeUnit.SECONDS,
-        throwException = true
-    )
     @Transactional
     public ChargeBalanceResult chargeBalance(ChargeBalanceCommand command) {
         log.info("잔액 충전 시작 - 사용자: {}, 금액: {}", command.getUserId(), command.getAmount());
@@ -62,7 +52,6 @@ public class ChargeBalanceService implements ChargeBalanceUseCase {
     
     /**
      * 실제 잔액 충전 로직
-     * AOP 분산 락과 트랜잭션이 적용된 상태에서 호출됨
      */
     private ChargeBalanceResult performChargeBalanceWithTransaction(ChargeBalanceCommand command) {
         // 1. 입력값 검증
@@ -85,40 +74,24 @@ public class ChargeBalanceService implements ChargeBalanceUseCase {
             return ChargeBalanceResult.failure("사용자를 찾을 수 없습니다.");
         }
 
-        // 3. 잔액 조회 또는 생성
-        Balance balance = loadBalancePort.loadActiveBalanceByUserId(command.getUserId())
-                .orElseGet(() -> {
-                    log.info("새로운 잔액 생성 - 사용자: {}", command.getUserId());
-                    return Balance.builder().userId(command.getUserId()).build();
-                });
-
-        BigDecimal beforeAmount = balance.getAmount();
-        
-        // 4. 잔액 충전 (도메인 로직)
-        balance.charge(command.getAmount());
-        
-        log.debug("잔액 충전 처리 - 사용자: {}, 이전잔액: {}, 충전금액: {}, 충전후잔액: {}", 
-                command.getUserId(), beforeAmount, command.getAmount(), balance.getAmount());
-        
-        // 5. 잔액 저장 (분산 락으로 동시성 제어됨)
-        Balance savedBalance = loadBalancePort.saveBalance(balance);
+        // 3. 원자적 잔액 충전 + 거래 내역 기록 (잔액 행이 없으면 생성)
+        Optional<UpdateBalancePort.BalanceChange> change = updateBalancePort.chargeBalance(command.getUserId(), command.getAmount());
+        if (change.isEmpty()) {
+            log.warn("활성 잔액 없음 - 사용자: {}", command.getUserId());
+            return ChargeBalanceResult.failure("잔액 정보를 찾을 수 없습니다.");
+        }
 
-        // 6. 거래 내역 생성
-        BalanceTransaction transaction = BalanceTransaction.create(
-                command.getUserId(), 
-                command.getAmount(), 
-                BalanceTransaction.TransactionType.CHARGE,
-                "잔액 충전"
-        );
-        BalanceTransaction savedTransaction = saveBalanceTransactionPort.saveBalanceTransaction(transaction);
+        // 4. 커밋 후 잔액 캐시 무효화
+        balanceCachePort.evictAfterCommit(command.getUserId());
 
-        log.info("잔액 충전 완료 - 사용자: {}, 최종잔액: {}, 거래ID: {}", 
-                command.getUserId(), savedBalance.getAmount(), savedTransaction.getId());
+        log.info("잔액 충전 완료 - 사용자: {}, 최종잔액: {}",
+                command.getUserId(), change.get().getNewAmount());
 
+        // 거래 ID는 커밋 전에 기다리지 않고 그대로 전달 (일괄 저장 모드에서는 커밋 후 저장 시 채워짐)
         return ChargeBalanceResult.success(
                 command.getUserId(),
-                savedBalance.getAmount(),
-                savedTransaction.getId(),
+                change.get().getNewAmount(),
+                change.get().getTransactionIdFuture(),
                 command.getAmount()  // 충전 금액 추가
         );
     }
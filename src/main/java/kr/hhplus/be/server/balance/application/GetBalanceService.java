@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.balance.application;
 
 import kr.hhplus.be.server.balance.application.port.in.GetBalanceUseCase;
+import kr.hhplus.be.server.balance.application.port.out.BalanceCachePort;
 import kr.hhplus.be.server.balance.application.port.out.LoadBalancePort;
 import kr.hhplus.be.server.balance.application.port.out.LoadUserPort;
 import kr.hhplus.be.server.balance.domain.Balance;
@@ -12,28 +13,40 @@ import java.util.Optional;
 
 /**
  * 잔액 조회 Application 서비스
+ * - 캐시는 ACTIVE 사용자의 잔액만 채우므로 적중 시 사용자/잔액 DB 조회 없이 응답
+ * - 미적중 시 사용자 존재/ACTIVE 확인 후 DB 조회, 조회 시점 버전으로 캐시 채우기
+ * - 사용자 상태 변경은 BalanceCachePort.evictAfterCommit으로 즉시 반영 (호출하지 않으면 캐시 TTL 이내 반영)
  */
 @Service
 public class GetBalanceService implements GetBalanceUseCase {
 
     private final LoadUserPort loadUserPort;
     private final LoadBalancePort loadBalancePort;
+    private final BalanceCachePort balanceCachePort;
 
     public GetBalanceService(@Qualifier("balanceUserPersistenceAdapter") LoadUserPort loadUserPort, 
-                           LoadBalancePort loadBalancePort) {
+                           LoadBalancePort loadBalancePort,
+                           BalanceCachePort balanceCachePort) {
         this.loadUserPort = loadUserPort;
         this.loadBalancePort = loadBalancePort;
+        this.balanceCachePort = balanceCachePort;
     }
 
     @Override
     public Optional<GetBalanceResult> getBalance(GetBalanceCommand command) {
         try {
-            // 1. 사용자 존재 확인
+            // 1. 캐시 조회 (버전은 DB 조회 전에 읽어야 그 사이의 변경이 감지됨)
+            BalanceCachePort.CachedBalance cached = balanceCachePort.lookup(command.getUserId());
+            if (cached.isHit()) {
+                return Optional.of(new GetBalanceResult(command.getUserId(), cached.getAmount()));
+            }
+
+            // 2. 사용자 존재 확인 (ACTIVE 사용자만 캐시에 채워짐)
             if (!loadUserPort.existsByUserId(command.getUserId())) {
                 return Optional.empty();
             }
 
-            // 2. 잔액 조회
+            // 3. 잔액 조회
             Optional<Balance> balanceOpt = loadBalancePort.loadActiveBalanceByUserId(command.getUserId());
             
             if (balanceOpt.isEmpty()) {
@@ -41,6 +54,7 @@ public class GetBalanceService implements GetBalanceUseCase {
             }
 
             Balance balance = balanceOpt.get();
+            balanceCachePort.fill(command.getUserId(), balance.getAmount(), cached.getVersion());
             return Optional.of(new GetBalanceResult(command.getUserId(), balance.getAmount()));
 
         } catch (Exception e) {
@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.balance.application;
+
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase;
+import kr.hhplus.be.server.balance.application.port.out.LoadBalanceTransactionPort;
+import kr.hhplus.be.server.balance.application.port.out.LoadUserPort;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔액 거래 내역 조회 Application 서비스
+ * - 페이지 조회: size + 1건을 읽어 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+ * - 내보내기: 사용자 확인만 먼저 하고, 실제 조회는 writeTo 호출 시 스트리밍
+ */
+@Service
+public class GetBalanceTransactionsService implements GetBalanceTransactionsUseCase {
+
+    private final LoadUserPort loadUserPort;
+    private final LoadBalanceTransactionPort loadBalanceTransactionPort;
+
+    public GetBalanceTransactionsService(@Qualifier("balanceUserPersistenceAdapter") LoadUserPort loadUserPort,
+                                         LoadBalanceTransactionPort loadBalanceTransactionPort) {
+        this.loadUserPort = loadUserPort;
+        this.loadBalanceTransactionPort = loadBalanceTransactionPort;
+    }
+
+    @Override
+    public Optional<TransactionPage> getTransactions(GetTransactionsCommand command) {
+        if (!loadUserPort.existsByUserId(command.getUserId())) {
+            return Optional.empty();
+        }
+
+        TransactionCursor cursor = command.getCursor();
+        List<BalanceTransaction> rows = loadBalanceTransactionPort.loadTransactions(
+                command.getUserId(),
+                cursor != null ? cursor.getCreatedAt() : null,
+                cursor != null ? cursor.getId() : null,
+                command.getSize() + 1);
+
+        boolean hasNext = rows.size() > command.getSize();
+        List<TransactionItem> items = rows.stream()
+                .limit(command.getSize())
+                .map(this::toItem)
+                .toList();
+
+        TransactionCursor nextCursor = null;
+        if (hasNext) {
+            TransactionItem last = items.get(items.size() - 1);
+            nextCursor = new TransactionCursor(last.getCreatedAt(), last.getTransactionId());
+        }
+        return Optional.of(new TransactionPage(command.getUserId(), items, nextCursor));
+    }
+
+    @Override
+    public Optional<TransactionExport> exportTransactions(Long userId) {
+        if (!loadUserPort.existsByUserId(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(consumer ->
+                loadBalanceTransactionPort.streamTransactions(userId, transaction -> consumer.accept(toItem(transaction))));
+    }
+
+    private TransactionItem toItem(BalanceTransaction transaction) {
+        return new TransactionItem(
+                transaction.getId(),
+                transaction.getType().name(),
+                transaction.getAmount(),
+                transaction.getStatus().name(),
+                transaction.getDescription(),
+                transaction.getReferenceId(),
+                transaction.getCreatedAt());
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.balance.application.port.in;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 잔액 충전 Incoming Port (Use Case)
@@ -40,12 +41,12 @@ public interface ChargeBalanceUseCase {
         private final boolean success;
         private final Long userId;
         private final BigDecimal newBalance;
-        private final Long transactionId;
+        private final CompletableFuture<Long> transactionId; // 거래 내역 일괄 저장 모드에서는 저장 완료 시 채워짐
         private final String errorMessage;
         private final BigDecimal chargeAmount;  // 충전 금액 추가
         
         private ChargeBalanceResult(boolean success, Long userId, BigDecimal newBalance, 
-                                  Long transactionId, String errorMessage, BigDecimal chargeAmount) {
+                                  CompletableFuture<Long> transactionId, String errorMessage, BigDecimal chargeAmount) {
             this.success = success;
             this.userId = userId;
             this.newBalance = newBalance;
@@ -55,11 +56,16 @@ public interface ChargeBalanceUseCase {
         }
         
         public static ChargeBalanceResult success(Long userId, BigDecimal newBalance, Long transactionId, BigDecimal chargeAmount) {
+            return success(userId, newBalance, CompletableFuture.completedFuture(transactionId), chargeAmount);
+        }
+
+        public static ChargeBalanceResult success(Long userId, BigDecimal newBalance, CompletableFuture<Long> transactionId,
+                                                  BigDecimal chargeAmount) {
             return new ChargeBalanceResult(true, userId, newBalance, transactionId, null, chargeAmount);
         }
         
         public static ChargeBalanceResult failure(String errorMessage) {
-            return new ChargeBalanceResult(false, null, null, null, errorMessage, null);
+            return new ChargeBalanceResult(false, null, null, CompletableFuture.completedFuture(null), errorMessage, null);
         }
         
         public boolean isSuccess() {
@@ -74,7 +80,18 @@ public interface ChargeBalanceUseCase {
             return newBalance;
         }
         
+        /**
+         * 거래 ID (대기 없음)
+         * 거래 내역 일괄 저장 모드(balance.tx-log.mode=batched)에서는 아직 저장 전이면 null
+         */
         public Long getTransactionId() {
+            return transactionId.getNow(null);
+        }
+
+        /**
+         * 저장 완료 시 채워지는 거래 ID (저장 실패, 롤백, 대기 시간 초과 시 null로 완료)
+         */
+        public CompletableFuture<Long> getTransactionIdFuture() {
             return transactionId;
         }
         
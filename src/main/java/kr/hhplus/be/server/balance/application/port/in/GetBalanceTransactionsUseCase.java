@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.balance.application.port.in;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 잔액 거래 내역 조회 Incoming Port (Use Case)
+ * (created_at, id) 내림차순 키셋 페이지네이션 + 전체 내역 스트리밍 내보내기
+ */
+public interface GetBalanceTransactionsUseCase {
+
+    /**
+     * 거래 내역 페이지 조회
+     * @return 사용자가 없으면 empty
+     */
+    Optional<TransactionPage> getTransactions(GetTransactionsCommand command);
+
+    /**
+     * 거래 내역 전체 내보내기 준비
+     * @return 사용자가 없으면 empty, 있으면 호출 시 한 건씩 전달하는 내보내기
+     */
+    Optional<TransactionExport> exportTransactions(Long userId);
+
+    /**
+     * 거래 내역 내보내기 - writeTo 호출 동안 DB 커서를 열어두고 한 건씩 전달
+     */
+    @FunctionalInterface
+    interface TransactionExport {
+        void writeTo(Consumer<TransactionItem> consumer);
+    }
+
+    /**
+     * 거래 내역 조회 명령
+     */
+    class GetTransactionsCommand {
+        public static final int DEFAULT_SIZE = 20;
+        public static final int MAX_SIZE = 100;
+
+        private final Long userId;
+        private final TransactionCursor cursor;
+        private final int size;
+
+        public GetTransactionsCommand(Long userId, TransactionCursor cursor, Integer size) {
+            this.userId = userId;
+            this.cursor = cursor;
+            this.size = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public TransactionCursor getCursor() {
+            return cursor;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+
+    /**
+     * 페이지 커서 - 직전 페이지 마지막 거래의 (createdAt, id)
+     * 외부에는 URL-safe Base64 문자열로 노출
+     */
+    class TransactionCursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        public TransactionCursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public static TransactionCursor decode(String encoded) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('|');
+                return new TransactionCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        public String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    /**
+     * 거래 내역 항목
+     */
+    class TransactionItem {
+        private final Long transactionId;
+        private final String type;
+        private final BigDecimal amount;
+        private final String status;
+        private final String description;
+        private final Long referenceId;
+        private final LocalDateTime createdAt;
+
+        public TransactionItem(Long transactionId, String type, BigDecimal amount, String status,
+                               String description, Long referenceId, LocalDateTime createdAt) {
+            this.transactionId = transactionId;
+            this.type = type;
+            this.amount = amount;
+            this.status = status;
+            this.description = description;
+            this.referenceId = referenceId;
+            this.createdAt = createdAt;
+        }
+
+        public Long getTransactionId() {
+            return transactionId;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Long getReferenceId() {
+            return referenceId;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    /**
+     * 거래 내역 페이지
+     */
+    class TransactionPage {
+        private final Long userId;
+        private final List<TransactionItem> items;
+        private final TransactionCursor nextCursor;
+
+        public TransactionPage(Long userId, List<TransactionItem> items, TransactionCursor nextCursor) {
+            this.userId = userId;
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public List<TransactionItem> getItems() {
+            return items;
+        }
+
+        /**
+         * 다음 페이지 커서, 마지막 페이지면 null
+         */
+        public TransactionCursor getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
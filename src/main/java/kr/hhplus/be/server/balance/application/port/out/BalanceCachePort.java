@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.balance.application.port.out;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 조회 캐시 Port
+ * 캐시 항목은 사용자별 버전을 가지며, 쓰기 측은 커밋 후 버전을 올려 값을 무효화한다.
+ * 조회 측은 조회 시점의 버전이 그대로일 때만 DB 값을 채우므로 늦게 도착한 옛 값이 새 값을 덮어쓰지 않음
+ * 캐시 항목은 ACTIVE 사용자에 대해서만 채워지므로, 사용자 상태를 바꾸는 쪽도 evictAfterCommit을 호출해야 함
+ */
+public interface BalanceCachePort {
+
+    /**
+     * 캐시 조회
+     * @return 적중 시 잔액, 미적중 시 채우기에 사용할 버전
+     */
+    CachedBalance lookup(Long userId);
+
+    /**
+     * 캐시 채우기 - lookup 이후 버전이 바뀌었으면 무시 (ACTIVE 사용자 확인 후 호출)
+     */
+    void fill(Long userId, BigDecimal amount, long version);
+
+    /**
+     * 잔액 또는 사용자 상태 변경 후 무효화 - 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시)
+     */
+    void evictAfterCommit(Long userId);
+
+    /**
+     * 캐시 조회 결과
+     */
+    class CachedBalance {
+        /** 채우기 불가 (캐시 비활성 또는 캐시 장애) */
+        public static final long NO_VERSION = -1L;
+
+        private final BigDecimal amount;
+        private final long version;
+
+        private CachedBalance(BigDecimal amount, long version) {
+            this.amount = amount;
+            this.version = version;
+        }
+
+        public static CachedBalance hit(BigDecimal amount) {
+            return new CachedBalance(amount, NO_VERSION);
+        }
+
+        public static CachedBalance miss(long version) {
+            return new CachedBalance(null, version);
+        }
+
+        public boolean isHit() {
+            return amount != null;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -18,9 +18,4 @@ public interface LoadBalancePort {
      * 사용자 ID로 활성 잔액 조회 (비관적 락 적용)
      */
     Optional<Balance> loadActiveBalanceByUserIdWithLock(Long userId);
-    
-    /**
-     * 잔액 저장
-     */
-    Balance saveBalance(Balance balance);
 } 
\ No newline at end of file
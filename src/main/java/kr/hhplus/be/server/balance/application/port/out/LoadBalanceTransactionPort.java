@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.balance.application.port.out;
+
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 잔액 거래 내역 조회 Outgoing Port
+ * 정렬 기준은 (createdAt, id) 내림차순
+ */
+public interface LoadBalanceTransactionPort {
+
+    /**
+     * 키셋 페이지 조회
+     * @param cursorCreatedAt 직전 페이지 마지막 거래 일시 (첫 페이지면 null)
+     * @param cursorId 직전 페이지 마지막 거래 ID (첫 페이지면 null)
+     */
+    List<BalanceTransaction> loadTransactions(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 전체 거래 내역을 순방향 커서로 한 건씩 전달 (결과 전체를 메모리에 올리지 않음)
+     */
+    void streamTransactions(Long userId, Consumer<BalanceTransaction> consumer);
+}
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.balance.application.port.out;
+
+import kr.hhplus.be.server.balance.domain.Balance;
+
+/**
+ * 잔액 저장 Port
+ * balances 행을 직접 저장하는 단일 행 방식 전용 (원장/샤드 모드의 잔액 변경은 UpdateBalancePort 사용)
+ */
+public interface SaveBalancePort {
+
+    /**
+     * 잔액 저장
+     */
+    Balance saveBalance(Balance balance);
+}
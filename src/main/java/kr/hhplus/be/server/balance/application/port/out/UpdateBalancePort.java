@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.balance.application.port.out;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 잔액 원자적 변경 Port
+ * 읽기-수정-쓰기 없이 단일 조건부 UPDATE(또는 원장 추가)로 처리 (분산 락 불필요)
+ */
+public interface UpdateBalancePort {
+
+    /**
+     * 잔액 충전 + 거래 내역 기록
+     * 잔액 행이 없으면 생성 후 충전
+     * @return 충전 결과, 활성 잔액이 아니면 empty
+     */
+    Optional<BalanceChange> chargeBalance(Long userId, BigDecimal amount);
+
+    /**
+     * 잔액 차감
+     * @return 차감 성공 여부 (잔액 부족 또는 활성 잔액 없음이면 false)
+     */
+    boolean deductBalance(Long userId, BigDecimal amount);
+
+    /**
+     * 잔액 변경 결과
+     * 거래 내역을 커밋 후 일괄 저장하는 경우(balance.tx-log.mode=batched) 거래 ID는 저장 완료 시 채워짐
+     */
+    class BalanceChange {
+        private final CompletableFuture<Long> transactionId;
+        private final BigDecimal newAmount;
+
+        public BalanceChange(Long transactionId, BigDecimal newAmount) {
+            this(CompletableFuture.completedFuture(transactionId), newAmount);
+        }
+
+        public BalanceChange(CompletableFuture<Long> transactionId, BigDecimal newAmount) {
+            this.transactionId = transactionId;
+            this.newAmount = newAmount;
+        }
+
+        /**
+         * 거래 ID (대기 없음, 일괄 저장 모드에서 아직 저장 전이면 null)
+         */
+        public Long getTransactionId() {
+            return transactionId.getNow(null);
+        }
+
+        /**
+         * 거래 ID (트랜잭션 안에서 전달할 때 사용, 대기 없음)
+         */
+        public CompletableFuture<Long> getTransactionIdFuture() {
+            return transactionId;
+        }
+
+        public BigDecimal getNewAmount() {
+            return newAmount;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package kr.hhplus.be.server.balance.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hhplus.be.server.balance.application.port.out.BalanceCachePort;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 잔액 캐시 Adapter (L1 Caffeine + L2 Redis)
+ * - balance:cache:{userId} 해시 : amount(잔액), v(버전)
+ * - 쓰기: 커밋 후 v 증가 + amount 삭제 (값을 직접 쓰지 않음)
+ * - 채우기: 조회 시점의 v와 같을 때만 amount 저장
+ * - L1은 노드 로컬이므로 자기 노드 쓰기만 즉시 무효화, 다른 노드 쓰기는 local-ttl-ms 이내 반영
+ * Redis 장애 시 캐시를 건너뛰고 DB 조회
+ */
+@Slf4j
+@Component
+public class RedisBalanceCacheAdapter implements BalanceCachePort {
+
+    private static final String AMOUNT_FIELD = "amount";
+    private static final String VERSION_FIELD = "v";
+
+    /**
+     * 버전 일치 시 채우기
+     * KEYS: cache key
+     * ARGV: expected version, amount, ttl seconds
+     */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'v') or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'v', current, 'amount', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 무효화 - 버전 증가 후 값 삭제 (진행 중인 채우기는 버전 불일치로 버려짐)
+     * KEYS: cache key
+     * ARGV: ttl seconds
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            local v = redis.call('HINCRBY', KEYS[1], 'v', 1)
+            redis.call('HDEL', KEYS[1], 'amount')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return v
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final Cache<Long, BigDecimal> localCache;
+
+    public RedisBalanceCacheAdapter(StringRedisTemplate redisTemplate,
+                                    @Value("${balance.cache.enabled:true}") boolean enabled,
+                                    @Value("${balance.cache.ttl-seconds:60}") long ttlSeconds,
+                                    @Value("${balance.cache.local-ttl-ms:1000}") long localTtlMillis,
+                                    @Value("${balance.cache.local-max-size:10000}") long localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(localMaxSize)
+                .build();
+    }
+
+    @Override
+    public CachedBalance lookup(Long userId) {
+        if (!enabled) {
+            return CachedBalance.miss(CachedBalance.NO_VERSION);
+        }
+
+        BigDecimal local = localCache.getIfPresent(userId);
+        if (local != null) {
+            return CachedBalance.hit(local);
+        }
+
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(RedisKeyConstants.getBalanceCacheKey(userId), List.of(AMOUNT_FIELD, VERSION_FIELD));
+            Object amount = values.get(0);
+            if (amount != null) {
+                BigDecimal cached = new BigDecimal(amount.toString());
+                localCache.put(userId, cached);
+                return CachedBalance.hit(cached);
+            }
+            Object version = values.get(1);
+            return CachedBalance.miss(version != null ? Long.parseLong(version.toString()) : 0L);
+        } catch (Exception e) {
+            log.warn("잔액 캐시 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            return CachedBalance.miss(CachedBalance.NO_VERSION);
+        }
+    }
+
+    @Override
+    public void fill(Long userId, BigDecimal amount, long version) {
+        if (!enabled || version == CachedBalance.NO_VERSION || amount == null) {
+            return;
+        }
+
+        try {
+            Long filled = redisTemplate.execute(FILL_SCRIPT, List.of(RedisKeyConstants.getBalanceCacheKey(userId)),
+                    String.valueOf(version), amount.toPlainString(), String.valueOf(ttlSeconds));
+            if (filled != null && filled == 1L) {
+                localCache.put(userId, amount);
+            } else {
+                log.debug("잔액 캐시 채우기 생략 (버전 변경) - 사용자: {}, 버전: {}", userId, version);
+            }
+        } catch (Exception e) {
+            log.warn("잔액 캐시 채우기 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictAfterCommit(Long userId) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(RedisKeyConstants.getBalanceCacheKey(userId)),
+                    String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            // 무효화 실패 시 최대 ttl-seconds 동안 이전 잔액이 조회될 수 있음
+            log.error("잔액 캐시 무효화 실패 - 사용자: {}", userId, e);
+        }
+    }
+}
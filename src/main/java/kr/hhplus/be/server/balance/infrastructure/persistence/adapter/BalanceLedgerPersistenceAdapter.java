@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.adapter;
+
+import kr.hhplus.be.server.balance.application.port.out.LoadBalancePort;
+import kr.hhplus.be.server.balance.application.port.out.UpdateBalancePort;
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * 잔액 원장 Adapter (balance.mode=ledger)
+ * 충전/차감은 user_balance_tx에 엔트리를 추가만 하고 balances 행은 건드리지 않는다.
+ * 현재 잔액 = balances 스냅샷 + 미반영 증감액 합계, 스냅샷 반영은 BalanceLedgerSnapshotter가 담당
+ *
+ * 차감 동시성: 잔액 확인 시점의 마지막 차감 순번 + 1로 INSERT
+ * 그 사이 다른 차감이 같은 순번을 가져갔다면 유니크 키 충돌 → 그 차감액을 잔액에서 빼고 다음 순번으로 재시도
+ * (충전은 잔액을 늘리기만 하므로 순번 없음, 재시도 중 커밋된 충전은 반영하지 않아 보수적으로 판단)
+ * 잔액 부족일 때만 false, 순번 충돌 외의 INSERT 오류는 예외로 전달
+ * balances 행 직접 저장(SaveBalancePort)은 지원하지 않음
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "balance.mode", havingValue = "ledger")
+public class BalanceLedgerPersistenceAdapter implements LoadBalancePort, UpdateBalancePort {
+
+    private static final int MAX_DEBIT_ATTEMPTS = 100;
+
+    private final BalanceJpaRepository balanceJpaRepository;
+    private final BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Override
+    public Optional<Balance> loadActiveBalanceByUserId(Long userId) {
+        return Optional.ofNullable(balanceJpaRepository.findLedgerAmount(userId))
+                .map(amount -> Balance.builder().userId(userId).amount(amount).build());
+    }
+
+    @Override
+    public Optional<Balance> loadActiveBalanceByUserIdWithLock(Long userId) {
+        // 원장 모드는 잠글 행이 없음 - 차감 시 순번으로 보호
+        return loadActiveBalanceByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public Optional<UpdateBalancePort.BalanceChange> chargeBalance(Long userId, BigDecimal amount) {
+        // 스냅샷 행은 최초 1회만 생성 (이후 충전은 balances 행을 잠그지 않음)
+        if (!balanceJpaRepository.existsByUserIdAndStatus(userId, "ACTIVE")) {
+            balanceJpaRepository.insertIfAbsent(userId);
+            // 0원 UPDATE로 현재 행을 읽음 - 동시에 생성된 행도 보이게 하고, 비활성 잔액이면 0행
+            if (balanceJpaRepository.chargeAtomic(userId, BigDecimal.ZERO) == 0) {
+                return Optional.empty();
+            }
+        }
+
+        Long transactionId = balanceTransactionJpaRepository.appendLedgerEntry(
+                userId, amount, amount, null, BalanceTransaction.TransactionType.CHARGE.name(), "잔액 충전");
+
+        return Optional.of(new UpdateBalancePort.BalanceChange(transactionId, balanceJpaRepository.findLedgerAmount(userId)));
+    }
+
+    @Override
+    @Transactional
+    public boolean deductBalance(Long userId, BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            log.warn("유효하지 않은 차감 금액 - 사용자: {}, 금액: {}", userId, amount);
+            return false;
+        }
+
+        // 순번을 먼저 읽어야 잔액 확인 이후의 차감이 모두 순번 충돌로 감지됨
+        long debitSeq = balanceTransactionJpaRepository.findLastDebitSeq(userId) + 1;
+        BigDecimal available = balanceJpaRepository.findLedgerAmount(userId);
+
+        for (int attempt = 1; attempt <= MAX_DEBIT_ATTEMPTS; attempt++) {
+            if (available == null || available.compareTo(amount) < 0) {
+                log.debug("원장 잔액 부족 - 사용자: {}, 잔액: {}, 차감: {}", userId, available, amount);
+                return false;
+            }
+
+            Long transactionId = balanceTransactionJpaRepository.appendLedgerEntry(
+                    userId, amount, amount.negate(), debitSeq,
+                    BalanceTransaction.TransactionType.PAYMENT.name(), "주문 결제");
+            if (transactionId != null) {
+                return true;
+            }
+
+            // 스냅샷 이후 커밋된 차감 - 일반 SELECT로는 보이지 않으므로 잠금 읽기로 차감액을 반영
+            BigDecimal committedDelta = balanceTransactionJpaRepository.findDebitDeltaForShare(userId, debitSeq);
+            log.debug("차감 순번 충돌 - 사용자: {}, 순번: {}, 차감액: {}", userId, debitSeq, committedDelta);
+            available = available.add(committedDelta);
+            debitSeq++;
+        }
+
+        throw new IllegalStateException("차감 순번 경합이 계속되어 차감하지 못했습니다. 사용자: " + userId);
+    }
+}
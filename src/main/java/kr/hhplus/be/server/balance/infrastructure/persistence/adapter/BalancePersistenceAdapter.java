@@ -1,38 +1,47 @@
 package kr.hhplus.be.server.balance.infrastructure.persistence.adapter;
 
 import kr.hhplus.be.server.balance.application.port.out.LoadBalancePort;
+import kr.hhplus.be.server.balance.application.port.out.SaveBalancePort;
 import kr.hhplus.be.server.balance.application.port.out.SaveBalanceTransactionPort;
+import kr.hhplus.be.server.balance.application.port.out.UpdateBalancePort;
 import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.infrastructure.persistence.batch.BalanceTransactionBatcher;
 import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
 import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceTransactionEntity;
 import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
 import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
 import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
 import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Balance 인프라스트럭처 영속성 Adapter
  * 잔액 전용 데이터 접근
  */
 @Component
-public class BalancePersistenceAdapter implements LoadBalancePort, SaveBalanceTransactionPort {
+public class BalancePersistenceAdapter implements LoadBalancePort, SaveBalancePort, SaveBalanceTransactionPort, UpdateBalancePort {
 
     private final BalanceJpaRepository balanceJpaRepository;
     private final BalanceTransactionJpaRepository balanceTransactionJpaRepository;
     private final UserJpaRepository userJpaRepository;
+    private final BalanceTransactionBatcher balanceTransactionBatcher; // balance.tx-log.mode=batched일 때만 존재
 
     public BalancePersistenceAdapter(BalanceJpaRepository balanceJpaRepository,
                                    BalanceTransactionJpaRepository balanceTransactionJpaRepository,
-                                   UserJpaRepository userJpaRepository) {
+                                   UserJpaRepository userJpaRepository,
+                                   ObjectProvider<BalanceTransactionBatcher> balanceTransactionBatcher) {
         this.balanceJpaRepository = balanceJpaRepository;
         this.balanceTransactionJpaRepository = balanceTransactionJpaRepository;
         this.userJpaRepository = userJpaRepository;
+        this.balanceTransactionBatcher = balanceTransactionBatcher.getIfAvailable();
     }
 
     @Override
@@ -71,14 +80,71 @@ public class BalancePersistenceAdapter implements LoadBalancePort, SaveBalanceTr
         return mapToBalance(entity);
     }
 
+    @Override
+    @Transactional
+    public Optional<UpdateBalancePort.BalanceChange> chargeBalance(Long userId, BigDecimal amount) {
+        int updated = balanceJpaRepository.chargeAtomic(userId, amount);
+        if (updated == 0) {
+            // 최초 충전 - 0원 잔액 행 생성 후 다시 충전
+            balanceJpaRepository.insertIfAbsent(userId);
+            updated = balanceJpaRepository.chargeAtomic(userId, amount);
+        }
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        CompletableFuture<Long> transactionId = recordTransaction(BalanceTransaction.create(
+                userId, amount, BalanceTransaction.TransactionType.CHARGE, "잔액 충전"));
+
+        // 행 락을 보유한 상태이므로 방금 반영한 값이 조회됨
+        return Optional.of(new UpdateBalancePort.BalanceChange(
+                transactionId, balanceJpaRepository.findCurrentAmount(userId)));
+    }
+
+    /**
+     * 주문 결제 차감 - 차감에 성공하면 같은 트랜잭션에서 PAYMENT 거래 내역도 기록
+     * (잔액 정합성 검증이 거래 내역 합계와 잔액을 비교하므로 차감도 반드시 내역을 남김)
+     */
+    @Override
+    @Transactional
+    public boolean deductBalance(Long userId, BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            return false;
+        }
+        // amount = amount - ? WHERE amount >= ? (영향받은 행이 없으면 잔액 부족 또는 잔액 없음)
+        if (balanceJpaRepository.deductAtomic(userId, amount) != 1) {
+            return false;
+        }
+        saveBalanceTransaction(BalanceTransaction.create(
+                userId, amount, BalanceTransaction.TransactionType.PAYMENT, "주문 결제"));
+        return true;
+    }
+
     @Override
     @Transactional
     public BalanceTransaction saveBalanceTransaction(BalanceTransaction transaction) {
+        if (balanceTransactionBatcher != null) {
+            // Write-Behind: 커밋 후 배치 INSERT (id는 저장 시점에 부여되므로 반환값에는 없음)
+            balanceTransactionBatcher.submit(transaction);
+            return transaction;
+        }
         BalanceTransactionEntity entity = mapToBalanceTransactionEntity(transaction);
         BalanceTransactionEntity savedEntity = balanceTransactionJpaRepository.save(entity);
         return mapToBalanceTransaction(savedEntity);
     }
 
+    /**
+     * 거래 내역 기록 후 거래 ID 반환
+     * Write-Behind 모드에서는 커밋 후 배치 INSERT로 ID가 부여되면 완료되는 Future
+     */
+    @Transactional
+    public CompletableFuture<Long> recordTransaction(BalanceTransaction transaction) {
+        if (balanceTransactionBatcher != null) {
+            return balanceTransactionBatcher.submit(transaction);
+        }
+        return CompletableFuture.completedFuture(saveBalanceTransaction(transaction).getId());
+    }
+
     /**
      * BalanceEntity를 Balance 도메인 객체로 변환
      */
@@ -127,9 +193,8 @@ public class BalancePersistenceAdapter implements LoadBalancePort, SaveBalanceTr
      * BalanceTransaction 도메인 객체를 BalanceTransactionEntity로 변환
      */
     private BalanceTransactionEntity mapToBalanceTransactionEntity(BalanceTransaction transaction) {
-        // UserEntity 조회
-        UserEntity userEntity = userJpaRepository.findByUserIdAndStatus(transaction.getUserId(), "ACTIVE")
-                .orElseThrow(() -> new IllegalArgumentException("User not found with userId: " + transaction.getUserId()));
+        // user_id FK 값만 필요하므로 조회 없이 프록시 참조 사용 (사용자 존재는 서비스에서 확인)
+        UserEntity userEntity = userJpaRepository.getReferenceById(transaction.getUserId());
         
         return BalanceTransactionEntity.builder()
                 .user(userEntity)  // user 관계를 통해 userId 설정
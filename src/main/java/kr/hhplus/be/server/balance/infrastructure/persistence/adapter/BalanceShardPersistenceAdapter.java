@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.adapter;
+
+import kr.hhplus.be.server.balance.application.port.out.LoadBalancePort;
+import kr.hhplus.be.server.balance.application.port.out.UpdateBalancePort;
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceShardJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샤드 잔액 Adapter (balance.mode=sharded)
+ * balance.shard.user-ids에 등록된 핫 계정은 잔액을 N개 행에 분산 (0번 = balances 행, 1 ~ N-1번 = balance_shards)
+ * - 충전: 임의의 샤드 하나에 단일 UPDATE → 동시 충전이 서로 다른 행에 분산
+ * - 차감: 샤드 번호 오름차순으로 조건부 UPDATE (락 순서 고정으로 데드락 방지, 0번 샤드가 비활성이면 실패),
+ *         모든 샤드가 부족하면 나머지 샤드를 0번으로 모은 뒤 다시 차감
+ * - 조회: 전체 샤드 합계
+ * 등록되지 않은 계정은 기존 단일 행 방식 그대로 처리
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "balance.mode", havingValue = "sharded")
+public class BalanceShardPersistenceAdapter implements LoadBalancePort, UpdateBalancePort {
+
+    private final BalancePersistenceAdapter singleRowAdapter;
+    private final BalanceJpaRepository balanceJpaRepository;
+    private final BalanceShardJpaRepository balanceShardJpaRepository;
+    private final int shardCount;
+    private final Set<Long> shardedUserIds;
+
+    public BalanceShardPersistenceAdapter(BalancePersistenceAdapter singleRowAdapter,
+                                          BalanceJpaRepository balanceJpaRepository,
+                                          BalanceShardJpaRepository balanceShardJpaRepository,
+                                          @Value("${balance.shard.count:8}") int shardCount,
+                                          @Value("${balance.shard.user-ids:}") Set<Long> shardedUserIds) {
+        this.singleRowAdapter = singleRowAdapter;
+        this.balanceJpaRepository = balanceJpaRepository;
+        this.balanceShardJpaRepository = balanceShardJpaRepository;
+        this.shardCount = shardCount;
+        this.shardedUserIds = shardedUserIds;
+    }
+
+    @Override
+    public Optional<Balance> loadActiveBalanceByUserId(Long userId) {
+        if (!isSharded(userId)) {
+            return singleRowAdapter.loadActiveBalanceByUserId(userId);
+        }
+        return Optional.ofNullable(balanceJpaRepository.findShardedAmount(userId))
+                .map(amount -> Balance.builder().userId(userId).amount(amount).build());
+    }
+
+    /**
+     * 샤드 계정은 0번 샤드(balances) → 나머지 샤드 순으로 잠근 뒤 합계 반환 (차감 경로와 같은 잠금 순서)
+     */
+    @Override
+    @Transactional
+    public Optional<Balance> loadActiveBalanceByUserIdWithLock(Long userId) {
+        if (!isSharded(userId)) {
+            return singleRowAdapter.loadActiveBalanceByUserIdWithLock(userId);
+        }
+        return balanceJpaRepository.findActiveAmountForUpdate(userId)
+                .map(amount -> Balance.builder()
+                        .userId(userId)
+                        .amount(amount.add(balanceShardJpaRepository.sumForUpdate(userId)))
+                        .build());
+    }
+
+    @Override
+    @Transactional
+    public Optional<UpdateBalancePort.BalanceChange> chargeBalance(Long userId, BigDecimal amount) {
+        if (!isSharded(userId)) {
+            return singleRowAdapter.chargeBalance(userId, amount);
+        }
+
+        int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        if (shardNo == 0) {
+            return singleRowAdapter.chargeBalance(userId, amount)
+                    .map(change -> new UpdateBalancePort.BalanceChange(
+                            change.getTransactionIdFuture(), balanceJpaRepository.findShardedAmount(userId)));
+        }
+
+        // 0번 샤드(balances)는 계정 상태를 겸하므로 최초 1회 생성, 비활성이면 충전 불가
+        if (!balanceJpaRepository.existsByUserIdAndStatus(userId, "ACTIVE")) {
+            balanceJpaRepository.insertIfAbsent(userId);
+            if (balanceJpaRepository.chargeAtomic(userId, BigDecimal.ZERO) == 0) {
+                return Optional.empty();
+            }
+        }
+
+        balanceShardJpaRepository.chargeShard(userId, shardNo, amount);
+        CompletableFuture<Long> transactionId = singleRowAdapter.recordTransaction(BalanceTransaction.create(
+                userId, amount, BalanceTransaction.TransactionType.CHARGE, "잔액 충전"));
+
+        return Optional.of(new UpdateBalancePort.BalanceChange(
+                transactionId, balanceJpaRepository.findShardedAmount(userId)));
+    }
+
+    /**
+     * 주문 결제 차감 - 샤드 차감에 성공하면 단일 행 방식과 같이 PAYMENT 거래 내역 기록
+     */
+    @Override
+    @Transactional
+    public boolean deductBalance(Long userId, BigDecimal amount) {
+        if (!isSharded(userId)) {
+            return singleRowAdapter.deductBalance(userId, amount);
+        }
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            return false;
+        }
+        if (!deductFromShards(userId, amount)) {
+            return false;
+        }
+        singleRowAdapter.saveBalanceTransaction(BalanceTransaction.create(
+                userId, amount, BalanceTransaction.TransactionType.PAYMENT, "주문 결제"));
+        return true;
+    }
+
+    private boolean deductFromShards(Long userId, BigDecimal amount) {
+        // 1. 샤드 번호 오름차순으로 단일 샤드 차감 시도
+        if (balanceJpaRepository.deductAtomic(userId, amount) == 1) {
+            return true;
+        }
+        for (int shardNo = 1; shardNo < shardCount; shardNo++) {
+            if (balanceShardJpaRepository.deductShard(userId, shardNo, amount) == 1) {
+                return true;
+            }
+        }
+
+        // 2. 재분배 - 나머지 샤드를 0번 샤드로 모은 뒤 다시 차감 (합계가 부족하면 실패)
+        //    0번 샤드를 먼저 잠가 비활성 계정이면 샤드를 비우지 않음
+        if (balanceJpaRepository.findActiveAmountForUpdate(userId).isEmpty()) {
+            return false;
+        }
+        BigDecimal moved = balanceShardJpaRepository.sumForUpdate(userId);
+        if (moved.signum() > 0) {
+            balanceShardJpaRepository.drainShards(userId);
+            if (balanceJpaRepository.chargeAtomic(userId, moved) == 0) {
+                throw new IllegalStateException("잔액 샤드 재분배 실패 - 사용자: " + userId);
+            }
+            log.debug("잔액 샤드 재분배 - 사용자: {}, 이동 금액: {}", userId, moved);
+        }
+        return balanceJpaRepository.deductAtomic(userId, amount) == 1;
+    }
+
+    private boolean isSharded(Long userId) {
+        return shardCount > 1 && shardedUserIds.contains(userId);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.adapter;
+
+import kr.hhplus.be.server.balance.application.port.out.LoadBalanceTransactionPort;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 잔액 거래 내역 조회 Adapter
+ * 엔티티 대신 프로젝션으로 읽어 연관 엔티티 로딩/영속성 컨텍스트 적재 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceTransactionQueryAdapter implements LoadBalanceTransactionPort {
+
+    private final BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BalanceTransaction> loadTransactions(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<BalanceTransactionSummary> rows = cursorCreatedAt == null || cursorId == null
+                ? balanceTransactionJpaRepository.findFirstPage(userId, page)
+                : balanceTransactionJpaRepository.findPageAfter(userId, cursorCreatedAt, cursorId, page);
+
+        return rows.stream()
+                .map(row -> mapToBalanceTransaction(userId, row))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTransactions(Long userId, Consumer<BalanceTransaction> consumer) {
+        try (Stream<BalanceTransactionSummary> rows = balanceTransactionJpaRepository.streamByUserId(userId)) {
+            rows.forEach(row -> consumer.accept(mapToBalanceTransaction(userId, row)));
+        }
+    }
+
+    private BalanceTransaction mapToBalanceTransaction(Long userId, BalanceTransactionSummary row) {
+        return BalanceTransaction.builder()
+                .id(row.getId())
+                .userId(userId)
+                .amount(row.getAmount())
+                .type(BalanceTransaction.TransactionType.valueOf(row.getType()))
+                .status(BalanceTransaction.TransactionStatus.valueOf(row.getStatus()))
+                .description(row.getDescription())
+                .referenceId(row.getReferenceId())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.batch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 거래 내역 Write-Behind 배처 (balance.tx-log.mode=batched)
+ * 잔액 트랜잭션 커밋 후 거래 내역을 큐에 넣고, 전용 스레드가 batch-size건 또는 flush-interval-ms마다
+ * 다중 VALUES INSERT 한 번으로 저장한다.
+ * - 거래 ID는 저장 후 채워지는 CompletableFuture로 반환 (id-wait-timeout-ms 안에 저장되지 않으면 null)
+ * - 저장 실패 시 max-attempts까지 재시도, 그래도 실패하면 한 건씩 저장하고 실패 건은 balance_tx_dead_letters에 기록
+ * 잔액 자체는 같은 트랜잭션의 UPDATE로 보장되며, 거래 내역은 프로세스 비정상 종료 시 큐에 남은 만큼 유실될 수 있음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "balance.tx-log.mode", havingValue = "batched")
+public class BalanceTransactionBatcher {
+
+    private final BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long idWaitTimeoutMillis;
+    private final BlockingQueue<PendingTransaction> queue;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public BalanceTransactionBatcher(BalanceTransactionJpaRepository balanceTransactionJpaRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${balance.tx-log.batch-size:500}") int batchSize,
+                                     @Value("${balance.tx-log.flush-interval-ms:50}") long flushIntervalMillis,
+                                     @Value("${balance.tx-log.queue-capacity:100000}") int queueCapacity,
+                                     @Value("${balance.tx-log.max-attempts:3}") int maxAttempts,
+                                     @Value("${balance.tx-log.retry-backoff-ms:100}") long retryBackoffMillis,
+                                     @Value("${balance.tx-log.id-wait-timeout-ms:2000}") long idWaitTimeoutMillis) {
+        this.balanceTransactionJpaRepository = balanceTransactionJpaRepository;
+        // 큐가 가득 찬 경우 afterCommit 안에서도 저장되므로 항상 새 트랜잭션으로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.idWaitTimeoutMillis = idWaitTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::runFlushLoop, "balance-tx-batcher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 거래 내역 등록 - 현재 트랜잭션이 커밋된 뒤에만 큐에 넣음 (롤백된 충전은 기록하지 않음)
+     * @return 저장 후 부여된 거래 ID (롤백, 저장 실패, 대기 시간 초과 시 null)
+     */
+    public CompletableFuture<Long> submit(BalanceTransaction transaction) {
+        PendingTransaction pending = new PendingTransaction(transaction,
+                new CompletableFuture<Long>().completeOnTimeout(null, idWaitTimeoutMillis, TimeUnit.MILLISECONDS));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        pending.transactionId().complete(null);
+                    }
+                }
+            });
+        } else {
+            enqueue(pending);
+        }
+        return pending.transactionId();
+    }
+
+    private void enqueue(PendingTransaction pending) {
+        if (!queue.offer(pending)) {
+            // 큐가 가득 차면 호출 스레드에서 직접 저장 (배압)
+            log.warn("거래 내역 배처 큐 가득 참 - 동기 저장으로 전환, userId: {}", pending.transaction().getUserId());
+            flush(List.of(pending));
+        }
+    }
+
+    private void runFlushLoop() {
+        List<PendingTransaction> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingTransaction first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 건 기준 flush-interval-ms 안에 batch-size까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingTransaction next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 남은 큐는 stop()에서 저장
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 다중 VALUES INSERT로 저장, 재시도 후에도 실패하면 한 건씩 저장 (문제 행만 dead letter로 분리)
+     */
+    private void flush(List<PendingTransaction> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BalanceTransaction> transactions = batch.stream().map(PendingTransaction::transaction).toList();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> balanceTransactionJpaRepository.insertAll(transactions));
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).transactionId().complete(ids != null && i < ids.size() ? ids.get(i) : null);
+                }
+                log.debug("거래 내역 일괄 저장 - count: {}", batch.size());
+                return;
+            } catch (Exception e) {
+                log.warn("거래 내역 일괄 저장 실패 - count: {}, attempt: {}/{}", batch.size(), attempt, maxAttempts, e);
+                if (attempt < maxAttempts && !sleepBackoff(attempt)) {
+                    break;
+                }
+            }
+        }
+        batch.forEach(this::saveOneOrDeadLetter);
+    }
+
+    private void saveOneOrDeadLetter(PendingTransaction pending) {
+        BalanceTransaction transaction = pending.transaction();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> balanceTransactionJpaRepository.insertAll(List.of(transaction)));
+            pending.transactionId().complete(ids != null && !ids.isEmpty() ? ids.get(0) : null);
+        } catch (Exception e) {
+            pending.transactionId().complete(null);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        balanceTransactionJpaRepository.insertDeadLetter(transaction, String.valueOf(e.getMessage())));
+                log.error("거래 내역 저장 실패 - dead letter 기록, userId: {}, type: {}, amount: {}",
+                        transaction.getUserId(), transaction.getType(), transaction.getAmount(), e);
+            } catch (Exception deadLetterError) {
+                log.error("거래 내역 dead letter 기록 실패 - userId: {}, type: {}, amount: {}, createdAt: {}",
+                        transaction.getUserId(), transaction.getType(), transaction.getAmount(),
+                        transaction.getCreatedAt(), deadLetterError);
+            }
+        }
+    }
+
+    private boolean sleepBackoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 종료 시 큐에 남은 거래 내역 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingTransaction> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            flush(remaining.subList(i, Math.min(i + batchSize, remaining.size())));
+        }
+    }
+
+    private record PendingTransaction(BalanceTransaction transaction, CompletableFuture<Long> transactionId) {
+    }
+}
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 정합성 검증 불일치 기록
+ * balance_amount: 현재 잔액 (balances + 샤드 + 미반영 원장), expected_amount: 거래 내역 합계
+ */
+@Entity
+@Table(name = "balance_reconciliation_reports",
+       indexes = @Index(name = "idx_balance_recon_run", columnList = "run_id, user_id"))
+@Getter
+@Setter(AccessLevel.PRIVATE) // setter는 private으로 제한
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceReconciliationReportEntity extends BaseEntity {
+
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "balance_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal balanceAmount;
+
+    @Column(name = "expected_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal expectedAmount;
+
+    @Column(name = "difference", precision = 15, scale = 2, nullable = false)
+    private BigDecimal difference; // balance_amount - expected_amount
+}
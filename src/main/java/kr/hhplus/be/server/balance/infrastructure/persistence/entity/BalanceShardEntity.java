@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 샤드 엔티티 (balance.mode=sharded)
+ * 핫 계정의 잔액을 여러 행으로 분산 - 0번 샤드는 balances 행, 1 ~ N-1번 샤드는 이 테이블
+ */
+@Entity
+@Table(name = "balance_shards",
+       uniqueConstraints = @UniqueConstraint(name = "uk_balance_shards_user_shard", columnNames = {"user_id", "shard_no"}))
+@Getter
+@Setter(AccessLevel.PRIVATE) // setter는 private으로 제한
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceShardEntity extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "amount", precision = 15, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal amount = BigDecimal.ZERO;
+}
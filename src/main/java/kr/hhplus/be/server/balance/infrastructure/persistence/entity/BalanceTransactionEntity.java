@@ -17,9 +17,16 @@ import java.time.LocalDateTime;
 /**
  * 잔액 거래 내역 전용 엔티티
  * INSERT ONLY 테이블로 설계 (감사 추적용)
+ * 원장 모드에서는 delta/debit_seq/snapshotted로 잔액 원장 역할도 겸함
  */
 @Entity
-@Table(name = "user_balance_tx")
+@Table(name = "user_balance_tx",
+       uniqueConstraints = @UniqueConstraint(name = "uk_balance_tx_debit_seq", columnNames = {"user_id", "debit_seq"}),
+       indexes = {
+           @Index(name = "idx_user_balance_tx_user_created", columnList = "user_id, created_at"),
+           @Index(name = "idx_balance_tx_ledger", columnList = "user_id, snapshotted, delta"),
+           @Index(name = "idx_balance_tx_snapshot", columnList = "snapshotted, id")
+       })
 @Getter
 @Setter(AccessLevel.PRIVATE) // setter는 private으로 제한
 @NoArgsConstructor
@@ -55,4 +62,14 @@ public class BalanceTransactionEntity extends BaseEntity {
 
     @Column(name = "related_order_id", insertable = false, updatable = false)
     private Long referenceId; // 주문 ID, 쿠폰 ID 등 참조
+
+    @Column(name = "delta", precision = 15, scale = 2)
+    private BigDecimal delta; // 부호 있는 증감액 (원장 모드 전용)
+
+    @Column(name = "debit_seq")
+    private Long debitSeq; // 사용자별 차감 순번 (원장 모드 차감 전용)
+
+    @Column(name = "snapshotted", nullable = false)
+    @Builder.Default
+    private Boolean snapshotted = true; // balances 반영 여부 (직접 모드는 이미 반영됨)
 }
\ No newline at end of file
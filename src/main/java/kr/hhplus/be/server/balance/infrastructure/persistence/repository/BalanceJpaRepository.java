@@ -3,11 +3,13 @@ package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
 import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
@@ -28,8 +30,70 @@ public interface BalanceJpaRepository extends JpaRepository<BalanceEntity, Long>
     Optional<BalanceEntity> findByUserId(Long userId);
 
 
+    /**
+     * 활성 잔액 금액 잠금 조회 (영속성 컨텍스트를 거치지 않고 최신 값을 읽음)
+     */
+    @Query(value = "SELECT amount FROM balances WHERE user_id = :userId AND status = 'ACTIVE' FOR UPDATE", nativeQuery = true)
+    Optional<BigDecimal> findActiveAmountForUpdate(@Param("userId") Long userId);
+
     /**
      * 사용자 ID로 잔액 존재 여부 확인
      */
     boolean existsByUserIdAndStatus(Long userId, String status);
-} 
\ No newline at end of file
+
+    /**
+     * 원자적 잔액 충전 (단일 UPDATE)
+     * @return 영향받은 행 수 (0이면 활성 잔액 없음)
+     */
+    @Modifying
+    @Query("UPDATE BalanceEntity b SET b.amount = b.amount + :amount, b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP WHERE b.userId = :userId AND b.status = 'ACTIVE'")
+    int chargeAtomic(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
+
+    /**
+     * 원자적 잔액 차감 (조건부 UPDATE)
+     * @return 영향받은 행 수 (0이면 잔액 부족 또는 활성 잔액 없음)
+     */
+    @Modifying
+    @Query("UPDATE BalanceEntity b SET b.amount = b.amount - :amount, b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP WHERE b.userId = :userId AND b.status = 'ACTIVE' AND b.amount >= :amount")
+    int deductAtomic(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
+
+    /**
+     * 잔액 행이 없으면 0원으로 생성 (이미 있으면 아무것도 하지 않음)
+     * 최초 충전이 동시에 들어와도 user_id 유니크 키로 한 행만 생성됨
+     */
+    @Modifying
+    @Query(value = "INSERT INTO balances (user_id, amount, status, version, created_at, updated_at) " +
+                   "VALUES (:userId, 0, 'ACTIVE', 0, NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * 현재 활성 잔액 조회 (영속성 컨텍스트 우회)
+     */
+    @Query(value = "SELECT amount FROM balances WHERE user_id = :userId AND status = 'ACTIVE'", nativeQuery = true)
+    BigDecimal findCurrentAmount(@Param("userId") Long userId);
+
+    /**
+     * 원장 모드 현재 잔액 조회 - 스냅샷 + 미반영 증감액
+     * 단일 문장으로 읽어 스냅샷 반영 도중에도 일관된 값을 보장 (증감액 합계는 idx_balance_tx_ledger 인덱스만 사용)
+     */
+    @Query(value = "SELECT b.amount + COALESCE((SELECT SUM(t.delta) FROM user_balance_tx t " +
+                   "WHERE t.user_id = b.user_id AND t.snapshotted = 0), 0) " +
+                   "FROM balances b WHERE b.user_id = :userId AND b.status = 'ACTIVE'", nativeQuery = true)
+    BigDecimal findLedgerAmount(@Param("userId") Long userId);
+
+    /**
+     * 원장 증감액을 스냅샷에 반영
+     */
+    @Modifying
+    @Query("UPDATE BalanceEntity b SET b.amount = b.amount + :delta, b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP WHERE b.userId = :userId")
+    int applyLedgerDelta(@Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    /**
+     * 샤드 모드 현재 잔액 조회 - 0번 샤드(balances) + 나머지 샤드 합계
+     */
+    @Query(value = "SELECT b.amount + COALESCE((SELECT SUM(s.amount) FROM balance_shards s " +
+                   "WHERE s.user_id = b.user_id), 0) " +
+                   "FROM balances b WHERE b.user_id = :userId AND b.status = 'ACTIVE'", nativeQuery = true)
+    BigDecimal findShardedAmount(@Param("userId") Long userId);
+}
@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
+
+import jakarta.persistence.QueryHint;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceReconciliationReportEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 잔액 정합성 검증 Repository
+ * 불일치 기록 저장 + 사용자 구간별 집계 조회
+ * 검증은 사용자별 기준점(balance_reconciliation_baselines) 이후 거래 내역만 대상으로 함
+ * - opening_amount: 기준점 시점 잔액, tx_watermark_id: 기준점 시점 마지막 거래 내역 ID
+ * - 기대 잔액 = opening_amount + tx_watermark_id 이후 거래 내역 합계
+ */
+@Repository
+public interface BalanceReconciliationReportJpaRepository extends JpaRepository<BalanceReconciliationReportEntity, Long> {
+
+    /**
+     * 검증 대상 사용자 ID 범위 [min, max]
+     * @return 잔액이 하나도 없으면 null 원소
+     */
+    @Query(value = "SELECT MIN(user_id) AS minUserId, MAX(user_id) AS maxUserId FROM balances", nativeQuery = true)
+    UserIdRange findUserIdRange();
+
+    /**
+     * 사용자 구간 [fromUserId, toUserId]에서 기준점이 없는 사용자의 현재 잔액 / 마지막 거래 내역 ID / 거래 내역 수
+     * 두 번 읽어 값이 같을 때만 기준점으로 저장 (진행 중인 거래가 기준점에 섞이지 않도록)
+     */
+    @Query(value = "SELECT b.user_id AS userId, " +
+                   "b.amount + COALESCE(s.total, 0) + COALESCE(t.pending, 0) AS balanceAmount, " +
+                   "COALESCE(t.max_id, 0) AS maxTxId, COALESCE(t.tx_count, 0) AS txCount " +
+                   "FROM balances b " +
+                   "LEFT JOIN balance_reconciliation_baselines bl ON bl.user_id = b.user_id " +
+                   "LEFT JOIN (SELECT user_id, SUM(amount) AS total FROM balance_shards " +
+                   "           WHERE user_id BETWEEN :fromUserId AND :toUserId GROUP BY user_id) s " +
+                   "       ON s.user_id = b.user_id " +
+                   "LEFT JOIN (SELECT user_id, MAX(id) AS max_id, COUNT(*) AS tx_count, " +
+                   "                  SUM(CASE WHEN status = 'COMPLETED' AND snapshotted = 0 THEN delta ELSE 0 END) AS pending " +
+                   "           FROM user_balance_tx " +
+                   "           WHERE user_id BETWEEN :fromUserId AND :toUserId " +
+                   "           GROUP BY user_id) t " +
+                   "       ON t.user_id = b.user_id " +
+                   "WHERE b.user_id BETWEEN :fromUserId AND :toUserId AND bl.user_id IS NULL " +
+                   "ORDER BY b.user_id",
+           nativeQuery = true)
+    List<BaselineCandidate> findBaselineCandidates(@Param("fromUserId") Long fromUserId,
+                                                   @Param("toUserId") Long toUserId);
+
+    /**
+     * 기준점 저장 (이미 있으면 유지 - 동시에 실행된 다른 검증이 먼저 저장한 경우)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO balance_reconciliation_baselines (user_id, opening_amount, tx_watermark_id, created_at) " +
+                   "VALUES (:userId, :openingAmount, :txWatermarkId, NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    int insertBaseline(@Param("userId") Long userId,
+                       @Param("openingAmount") BigDecimal openingAmount,
+                       @Param("txWatermarkId") Long txWatermarkId);
+
+    /**
+     * 사용자 구간 [fromUserId, toUserId]에서 기준점이 있는 사용자별 현재 잔액 / 기대 잔액
+     * 거래 내역은 (user_id, ...) 인덱스 순서대로 GROUP BY되어 임시 테이블 없이 집계되고,
+     * 결과는 fetch size Integer.MIN_VALUE로 한 행씩 스트리밍
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT b.user_id AS userId, " +
+                   "b.amount + COALESCE(s.total, 0) + COALESCE(t.pending, 0) AS balanceAmount, " +
+                   "bl.opening_amount + COALESCE(t.expected, 0) AS expectedAmount " +
+                   "FROM balances b " +
+                   "JOIN balance_reconciliation_baselines bl ON bl.user_id = b.user_id " +
+                   "LEFT JOIN (SELECT user_id, SUM(amount) AS total FROM balance_shards " +
+                   "           WHERE user_id BETWEEN :fromUserId AND :toUserId GROUP BY user_id) s " +
+                   "       ON s.user_id = b.user_id " +
+                   "LEFT JOIN (SELECT tx.user_id, " +
+                   "                  SUM(CASE WHEN tx.id <= w.tx_watermark_id THEN 0 " +
+                   "                           WHEN tx.tx_type = 'PAYMENT' THEN -tx.amount ELSE tx.amount END) AS expected, " +
+                   "                  SUM(CASE WHEN tx.snapshotted = 0 THEN tx.delta ELSE 0 END) AS pending " +
+                   "           FROM user_balance_tx tx " +
+                   "           JOIN balance_reconciliation_baselines w ON w.user_id = tx.user_id " +
+                   "           WHERE tx.user_id BETWEEN :fromUserId AND :toUserId AND tx.status = 'COMPLETED' " +
+                   "           GROUP BY tx.user_id) t " +
+                   "       ON t.user_id = b.user_id " +
+                   "WHERE b.user_id BETWEEN :fromUserId AND :toUserId " +
+                   "ORDER BY b.user_id",
+           nativeQuery = true)
+    Stream<BalanceReconciliationRow> streamReconciliationRows(@Param("fromUserId") Long fromUserId,
+                                                              @Param("toUserId") Long toUserId);
+
+    /**
+     * 기준점 후보 프로젝션
+     */
+    interface BaselineCandidate {
+        Long getUserId();
+
+        BigDecimal getBalanceAmount();
+
+        Long getMaxTxId();
+
+        Long getTxCount();
+    }
+
+    /**
+     * 사용자 ID 범위 프로젝션
+     */
+    interface UserIdRange {
+        Long getMinUserId();
+
+        Long getMaxUserId();
+    }
+}
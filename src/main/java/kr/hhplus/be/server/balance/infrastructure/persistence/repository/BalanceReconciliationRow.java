@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 정합성 검증용 사용자별 집계 프로젝션
+ */
+public interface BalanceReconciliationRow {
+
+    Long getUserId();
+
+    /**
+     * 현재 잔액 - balances + 샤드 합계 + 스냅샷 미반영 원장 증감액
+     */
+    BigDecimal getBalanceAmount();
+
+    /**
+     * 거래 내역 기준 잔액 - 기준점 잔액 + 기준점 이후 거래 내역 (결제는 차감, 그 외 유형은 가산)
+     */
+    BigDecimal getExpectedAmount();
+}
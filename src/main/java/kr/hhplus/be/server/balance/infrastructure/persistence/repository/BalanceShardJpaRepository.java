@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
+
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceShardEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+/**
+ * BalanceShard 엔티티 JPA Repository
+ */
+@Repository
+public interface BalanceShardJpaRepository extends JpaRepository<BalanceShardEntity, Long> {
+
+    /**
+     * 샤드 충전 (샤드 행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO balance_shards (user_id, shard_no, amount, created_at, updated_at) " +
+                   "VALUES (:userId, :shardNo, :amount, NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE amount = amount + :amount, updated_at = NOW(6)", nativeQuery = true)
+    int chargeShard(@Param("userId") Long userId, @Param("shardNo") int shardNo, @Param("amount") BigDecimal amount);
+
+    /**
+     * 샤드 조건부 차감 - 0번 샤드(balances)가 활성일 때만
+     * @return 영향받은 행 수 (0이면 샤드 잔액 부족, 샤드 없음 또는 비활성 잔액)
+     */
+    @Modifying
+    @Query("UPDATE BalanceShardEntity s SET s.amount = s.amount - :amount, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.userId = :userId AND s.shardNo = :shardNo AND s.amount >= :amount " +
+           "AND EXISTS (SELECT 1 FROM BalanceEntity b WHERE b.userId = :userId AND b.status = 'ACTIVE')")
+    int deductShard(@Param("userId") Long userId, @Param("shardNo") int shardNo, @Param("amount") BigDecimal amount);
+
+    /**
+     * 1 ~ N-1번 샤드 잔액 합계 (잠금 조회)
+     */
+    @Query(value = "SELECT COALESCE(SUM(amount), 0) FROM balance_shards WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    BigDecimal sumForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 1 ~ N-1번 샤드 비우기 (0번 샤드로 재분배 시)
+     */
+    @Modifying
+    @Query("UPDATE BalanceShardEntity s SET s.amount = 0, s.updatedAt = CURRENT_TIMESTAMP WHERE s.userId = :userId AND s.amount > 0")
+    int drainShards(@Param("userId") Long userId);
+}
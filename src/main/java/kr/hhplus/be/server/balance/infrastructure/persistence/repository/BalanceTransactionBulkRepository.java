@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
+
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 잔액 거래 내역 벌크 INSERT Repository Fragment
+ * 여러 거래 내역을 다중 VALUES 단일 INSERT로 저장
+ */
+public interface BalanceTransactionBulkRepository {
+
+    /**
+     * 거래 내역 일괄 저장 (user_id FK 값만 사용, 사용자 조회 없음)
+     * @return 입력 순서대로 생성된 거래 ID
+     */
+    List<Long> insertAll(List<BalanceTransaction> transactions);
+
+    /**
+     * 저장에 실패한 거래 내역을 balance_tx_dead_letters에 기록 (수동 재처리용)
+     * @return 저장된 행 수
+     */
+    int insertDeadLetter(BalanceTransaction transaction, String errorMessage);
+
+    /**
+     * 원장 엔트리 추가 (balance.mode=ledger)
+     * 차감 엔트리는 (user_id, debit_seq) 유니크 키로 보호되며, 같은 순번이 이미 있을 때만 null 반환
+     * 그 밖의 오류(값 범위 초과, 제약 조건 위반 등)는 예외로 전달
+     * @return 생성된 거래 ID, 차감 순번 충돌이면 null
+     */
+    Long appendLedgerEntry(Long userId, BigDecimal amount, BigDecimal delta, Long debitSeq, String type, String memo);
+}
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import org.hibernate.Session;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잔액 거래 내역 벌크 INSERT 구현
+ * INSERT INTO user_balance_tx (...) VALUES (...), (...), ...
+ * 생성 키는 JDBC getGeneratedKeys로 받음 (MySQL은 단일 다중 VALUES INSERT에 연속된 AUTO_INCREMENT 값을 할당)
+ */
+public class BalanceTransactionBulkRepositoryImpl implements BalanceTransactionBulkRepository {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String DEBIT_SEQ_UNIQUE_KEY = "uk_balance_tx_debit_seq";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> insertAll(List<BalanceTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO user_balance_tx (user_id, amount, tx_type, status, memo, related_order_id, snapshotted, created_at, updated_at) VALUES ");
+        // snapshotted = 1: 직접/샤드 모드 거래 내역은 이미 잔액에 반영된 감사 기록
+        for (int i = 0; i < transactions.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?, ?, ?, ?, ?, 1, ?, ?)");
+        }
+
+        List<Long> ids = new ArrayList<>(transactions.size());
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+                int position = 1;
+                for (BalanceTransaction transaction : transactions) {
+                    Timestamp createdAt = Timestamp.valueOf(
+                            transaction.getCreatedAt() != null ? transaction.getCreatedAt() : LocalDateTime.now());
+                    statement.setLong(position++, transaction.getUserId());
+                    statement.setBigDecimal(position++, transaction.getAmount());
+                    statement.setString(position++, transaction.getType().name());
+                    statement.setString(position++, transaction.getStatus().name());
+                    statement.setString(position++, transaction.getDescription());
+                    statement.setObject(position++, transaction.getReferenceId(), Types.BIGINT);
+                    statement.setTimestamp(position++, createdAt);
+                    statement.setTimestamp(position++, createdAt);
+                }
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+        });
+        return ids;
+    }
+
+    @Override
+    public Long appendLedgerEntry(Long userId, BigDecimal amount, BigDecimal delta, Long debitSeq, String type, String memo) {
+        // INSERT IGNORE는 값 잘림/제약 조건 오류까지 경고로 바꾸므로 일반 INSERT 후 순번 충돌만 구분
+        Long[] id = new Long[1];
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO user_balance_tx " +
+                    "(user_id, amount, delta, debit_seq, snapshotted, tx_type, status, memo, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, 0, ?, 'COMPLETED', ?, NOW(6), NOW(6))",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                statement.setLong(1, userId);
+                statement.setBigDecimal(2, amount);
+                statement.setBigDecimal(3, delta);
+                statement.setObject(4, debitSeq, Types.BIGINT);
+                statement.setString(5, type);
+                statement.setString(6, memo);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        id[0] = keys.getLong(1);
+                    }
+                }
+            } catch (SQLException e) {
+                // 실패한 문장만 롤백되므로 트랜잭션은 계속 사용 가능
+                if (!isDebitSeqConflict(e)) {
+                    throw e;
+                }
+            }
+        });
+        return id[0];
+    }
+
+    private boolean isDebitSeqConflict(SQLException e) {
+        return e.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                && e.getMessage() != null
+                && e.getMessage().contains(DEBIT_SEQ_UNIQUE_KEY);
+    }
+
+    @Override
+    public int insertDeadLetter(BalanceTransaction transaction, String errorMessage) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO balance_tx_dead_letters (user_id, amount, tx_type, memo, related_order_id, occurred_at, error_message, created_at) " +
+                        "VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, NOW(6))")
+                .setParameter(1, transaction.getUserId())
+                .setParameter(2, transaction.getAmount())
+                .setParameter(3, transaction.getType().name())
+                .setParameter(4, transaction.getDescription())
+                .setParameter(5, transaction.getReferenceId())
+                .setParameter(6, transaction.getCreatedAt() != null ? transaction.getCreatedAt() : LocalDateTime.now())
+                .setParameter(7, errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                        ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH) : errorMessage)
+                .executeUpdate();
+    }
+}
@@ -1,18 +1,28 @@
 package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceTransactionEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * BalanceTransaction 엔티티 JPA Repository
  * Balance 도메인 전용 데이터 접근 계층
  */
 @Repository
-public interface BalanceTransactionJpaRepository extends JpaRepository<BalanceTransactionEntity, Long> {
+public interface BalanceTransactionJpaRepository extends JpaRepository<BalanceTransactionEntity, Long>, BalanceTransactionBulkRepository {
 
 
     /**
@@ -20,4 +30,68 @@ public interface BalanceTransactionJpaRepository extends JpaRepository<BalanceTr
      */
     List<BalanceTransactionEntity> findByUserIdAndStatus(Long userId, String status);
 
-}
\ No newline at end of file
+    /**
+     * 사용자의 마지막 차감 순번 조회 (uk_balance_tx_debit_seq 인덱스만 사용)
+     */
+    @Query(value = "SELECT COALESCE(MAX(debit_seq), 0) FROM user_balance_tx WHERE user_id = :userId", nativeQuery = true)
+    long findLastDebitSeq(@Param("userId") Long userId);
+
+    /**
+     * 이미 커밋된 차감 엔트리의 증감액 조회 (순번 충돌 후 재시도용)
+     * 잠금 읽기라 트랜잭션 스냅샷 이후에 커밋된 행도 보이며, 존재하는 유니크 키 행만 읽으므로 갭 락 없이 레코드 공유 락만 잡음
+     */
+    @Query(value = "SELECT delta FROM user_balance_tx WHERE user_id = :userId AND debit_seq = :debitSeq FOR SHARE",
+           nativeQuery = true)
+    BigDecimal findDebitDeltaForShare(@Param("userId") Long userId, @Param("debitSeq") Long debitSeq);
+
+    /**
+     * 스냅샷 미반영 엔트리를 잠금 후 조회 (다중 인스턴스 대비 SKIP LOCKED)
+     */
+    @Query(value = "SELECT * FROM user_balance_tx WHERE snapshotted = 0 ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<BalanceTransactionEntity> findUnsnapshottedForUpdate(@Param("limit") int limit);
+
+    /**
+     * 스냅샷 반영 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE BalanceTransactionEntity t SET t.snapshotted = true WHERE t.id IN :ids")
+    int markSnapshotted(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 거래 내역 첫 페이지 (idx_user_balance_tx_user_created 인덱스 역순 스캔)
+     */
+    @Query("SELECT t.id AS id, t.type AS type, t.amount AS amount, t.status AS status, " +
+           "t.description AS description, t.referenceId AS referenceId, t.createdAt AS createdAt " +
+           "FROM BalanceTransactionEntity t WHERE t.userId = :userId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<BalanceTransactionSummary> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 거래 내역 다음 페이지 - 커서 (createdAt, id) 이후부터 (OFFSET 없음)
+     */
+    @Query("SELECT t.id AS id, t.type AS type, t.amount AS amount, t.status AS status, " +
+           "t.description AS description, t.referenceId AS referenceId, t.createdAt AS createdAt " +
+           "FROM BalanceTransactionEntity t WHERE t.userId = :userId " +
+           "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<BalanceTransactionSummary> findPageAfter(@Param("userId") Long userId,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    /**
+     * 거래 내역 전체 스트리밍 - fetch size Integer.MIN_VALUE로 MySQL 드라이버가 행 단위 순방향 스트리밍
+     * 트랜잭션 안에서 Stream을 닫을 때까지 커넥션을 점유함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t.id AS id, t.type AS type, t.amount AS amount, t.status AS status, " +
+           "t.description AS description, t.referenceId AS referenceId, t.createdAt AS createdAt " +
+           "FROM BalanceTransactionEntity t WHERE t.userId = :userId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<BalanceTransactionSummary> streamByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.balance.infrastructure.persistence.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 조회용 프로젝션
+ * 엔티티 대신 필요한 컬럼만 읽으므로 영속성 컨텍스트에 쌓이지 않음
+ */
+public interface BalanceTransactionSummary {
+
+    Long getId();
+
+    String getType();
+
+    BigDecimal getAmount();
+
+    String getStatus();
+
+    String getDescription();
+
+    Long getReferenceId();
+
+    LocalDateTime getCreatedAt();
+}
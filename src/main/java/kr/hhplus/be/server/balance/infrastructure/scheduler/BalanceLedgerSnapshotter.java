@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.balance.infrastructure.scheduler;
+
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceTransactionEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 잔액 원장 스냅샷 반영 스케줄러 (balance.mode=ledger)
+ * 미반영 엔트리를 배치 단위로 잠근 뒤 사용자별 합계를 balances에 더하고 반영 완료로 표시
+ * 두 작업이 한 트랜잭션이므로 조회 시 스냅샷 + 미반영 합계는 항상 같은 값
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "balance.mode", havingValue = "ledger")
+public class BalanceLedgerSnapshotter {
+
+    private final BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+    private final BalanceJpaRepository balanceJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BalanceLedgerSnapshotter(BalanceTransactionJpaRepository balanceTransactionJpaRepository,
+                                    BalanceJpaRepository balanceJpaRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${balance.ledger.snapshot-batch-size:500}") int batchSize) {
+        this.balanceTransactionJpaRepository = balanceTransactionJpaRepository;
+        this.balanceJpaRepository = balanceJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 미반영 엔트리가 남아있으면 배치를 연속으로 처리
+     */
+    @Scheduled(fixedDelayString = "${balance.ledger.snapshot-interval-ms:1000}")
+    public void snapshot() {
+        try {
+            int folded;
+            do {
+                folded = snapshotBatch();
+            } while (folded == batchSize);
+        } catch (Exception e) {
+            log.error("잔액 원장 스냅샷 반영 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 한 배치 반영
+     * @return 반영한 엔트리 수
+     */
+    int snapshotBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<BalanceTransactionEntity> entries = balanceTransactionJpaRepository.findUnsnapshottedForUpdate(batchSize);
+            if (entries.isEmpty()) {
+                return 0;
+            }
+
+            // userId 오름차순으로 balances 갱신 (다른 인스턴스와 락 순서 통일)
+            Map<Long, BigDecimal> deltaByUser = entries.stream()
+                    .collect(Collectors.groupingBy(BalanceTransactionEntity::getUserId, TreeMap::new,
+                            Collectors.reducing(BigDecimal.ZERO, BalanceTransactionEntity::getDelta, BigDecimal::add)));
+            deltaByUser.forEach((userId, delta) -> {
+                if (delta.signum() != 0) {
+                    balanceJpaRepository.applyLedgerDelta(userId, delta);
+                }
+            });
+
+            balanceTransactionJpaRepository.markSnapshotted(
+                    entries.stream().map(BalanceTransactionEntity::getId).toList());
+
+            log.debug("잔액 원장 스냅샷 반영 - entries: {}, users: {}", entries.size(), deltaByUser.size());
+            return entries.size();
+        });
+        return processed != null ? processed : 0;
+    }
+}
@@ -0,0 +1,332 @@
+package kr.hhplus.be.server.balance.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceReconciliationReportEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceReconciliationReportJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceReconciliationRow;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 잔액 정합성 검증 작업
+ * 현재 잔액(balances + 샤드 + 미반영 원장)이 기준점 잔액 + 기준점 이후 거래 내역 합계와 같은지 전체 사용자를 검사하고 불일치를 기록한다.
+ * - 기준점이 없는 사용자(거래 내역 기록 이전부터 잔액이 있던 사용자, 신규 사용자)는 먼저 현재 잔액과
+ *   마지막 거래 내역 ID를 기준점으로 저장하고 이후 거래부터 검증 (recheck-delay-ms 간격으로 두 번 읽어 같을 때만)
+ * - 사용자 ID 범위를 chunk-size 단위 구간으로 나눠 parallelism 크기의 ForkJoinPool에서 병렬 처리
+ * - 구간마다 읽기 전용 트랜잭션 하나 (같은 스냅샷에서 잔액과 거래 내역을 읽음), 결과는 한 행씩 스트리밍
+ * - 불일치는 잠시 후 해당 사용자만 다시 확인 (커밋 후 기록되는 write-behind 거래 내역 대비)
+ * - 운영 중 실행을 위해 워커마다 구간 사이에 pause-ms만큼 쉼
+ * - 분산락으로 전체 노드에서 한 번에 하나의 실행만 진행
+ */
+@Slf4j
+@Component
+public class BalanceReconciliationJob {
+
+    private static final String LOCK_KEY = "lock:balance:reconciliation";
+
+    private final BalanceReconciliationReportJpaRepository reconciliationRepository;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long pauseMillis;
+    private final long recheckDelayMillis;
+
+    private final AtomicLong chunksTotal = new AtomicLong();
+    private final AtomicLong chunksDone = new AtomicLong();
+    private final AtomicLong runUsersChecked = new AtomicLong();
+    private volatile long runStartedNanos;
+    private volatile long runFinishedNanos;
+
+    private final Counter usersCheckedCounter;
+    private final Counter discrepancyCounter;
+    private final Counter chunkFailureCounter;
+    private final Counter baselineCounter;
+    private final Timer chunkTimer;
+
+    public BalanceReconciliationJob(BalanceReconciliationReportJpaRepository reconciliationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    RedissonClient redissonClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${balance.reconciliation.chunk-size:1000}") int chunkSize,
+                                    @Value("${balance.reconciliation.parallelism:2}") int parallelism,
+                                    @Value("${balance.reconciliation.pause-ms:50}") long pauseMillis,
+                                    @Value("${balance.reconciliation.recheck-delay-ms:500}") long recheckDelayMillis) {
+        this.reconciliationRepository = reconciliationRepository;
+        this.redissonClient = redissonClient;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.pauseMillis = pauseMillis;
+        this.recheckDelayMillis = recheckDelayMillis;
+
+        this.usersCheckedCounter = meterRegistry.counter("balance.reconciliation.users.checked");
+        this.discrepancyCounter = meterRegistry.counter("balance.reconciliation.discrepancies");
+        this.chunkFailureCounter = meterRegistry.counter("balance.reconciliation.chunk.failures");
+        this.baselineCounter = meterRegistry.counter("balance.reconciliation.baselines.created");
+        this.chunkTimer = meterRegistry.timer("balance.reconciliation.chunk.duration");
+        Gauge.builder("balance.reconciliation.progress", this, BalanceReconciliationJob::progress)
+                .description("현재 실행의 처리 구간 비율 (0 ~ 1)")
+                .register(meterRegistry);
+        Gauge.builder("balance.reconciliation.throughput", this, BalanceReconciliationJob::usersPerSecond)
+                .description("현재 실행의 초당 검사 사용자 수")
+                .baseUnit("users/s")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${balance.reconciliation.cron:-}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * 전체 사용자 검증 1회 실행 (어느 노드에서든 이미 실행 중이면 건너뜀)
+     * @return 실행 ID, 건너뛰었거나 대상이 없으면 empty
+     */
+    public Optional<String> run() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        // 대기 없이 시도 - 다른 노드가 실행 중이면 건너뜀 (실행 중에는 watchdog이 락 유지)
+        if (!lock.tryLock()) {
+            log.info("잔액 정합성 검증이 이미 실행 중 - 건너뜀");
+            return Optional.empty();
+        }
+
+        try {
+            BalanceReconciliationReportJpaRepository.UserIdRange range =
+                    readOnlyTransactionTemplate.execute(status -> reconciliationRepository.findUserIdRange());
+            if (range == null || range.getMinUserId() == null) {
+                return Optional.empty();
+            }
+
+            String runId = UUID.randomUUID().toString();
+            long minUserId = range.getMinUserId();
+            long maxUserId = range.getMaxUserId();
+            long chunkCount = (maxUserId - minUserId) / chunkSize + 1;
+
+            chunksTotal.set(chunkCount);
+            chunksDone.set(0);
+            runUsersChecked.set(0);
+            runStartedNanos = System.nanoTime();
+            runFinishedNanos = 0;
+            log.info("잔액 정합성 검증 시작 - runId: {}, 사용자 범위: {} ~ {}, 구간: {}, 병렬도: {}",
+                    runId, minUserId, maxUserId, chunkCount, parallelism);
+
+            long discrepancies = 0;
+            ForkJoinPool pool = new ForkJoinPool(parallelism, BalanceReconciliationJob::newWorkerThread, null, false);
+            try {
+                List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+                for (long from = minUserId; from <= maxUserId; from += chunkSize) {
+                    long chunkFrom = from;
+                    long chunkTo = Math.min(from + chunkSize - 1, maxUserId);
+                    tasks.add(pool.submit(() -> reconcileChunk(runId, chunkFrom, chunkTo)));
+                }
+                for (ForkJoinTask<Integer> task : tasks) {
+                    discrepancies += task.join();
+                }
+            } finally {
+                pool.shutdown();
+                runFinishedNanos = System.nanoTime();
+            }
+
+            log.info("잔액 정합성 검증 완료 - runId: {}, 검사 사용자: {}, 불일치: {}, 처리량: {} users/s",
+                    runId, runUsersChecked.get(), discrepancies, Math.round(usersPerSecond()));
+            return Optional.of(runId);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 한 구간 검증
+     * @return 기록한 불일치 수
+     */
+    private int reconcileChunk(String runId, long fromUserId, long toUserId) {
+        try {
+            backfillBaselines(fromUserId, toUserId);
+
+            List<BalanceReconciliationReportEntity> mismatches = chunkTimer.record(() ->
+                    readOnlyTransactionTemplate.execute(status -> findMismatches(runId, fromUserId, toUserId)));
+
+            List<BalanceReconciliationReportEntity> confirmed = recheck(runId, mismatches);
+            if (!confirmed.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> reconciliationRepository.saveAll(confirmed));
+                discrepancyCounter.increment(confirmed.size());
+                log.warn("잔액 불일치 발견 - runId: {}, 구간: {} ~ {}, 사용자: {}", runId, fromUserId, toUserId,
+                        confirmed.stream().map(BalanceReconciliationReportEntity::getUserId).toList());
+            }
+            return confirmed.size();
+        } catch (Exception e) {
+            chunkFailureCounter.increment();
+            log.error("잔액 정합성 검증 구간 실패 - runId: {}, 구간: {} ~ {}", runId, fromUserId, toUserId, e);
+            return 0;
+        } finally {
+            chunksDone.incrementAndGet();
+            throttle();
+        }
+    }
+
+    /**
+     * 구간 내 기준점이 없는 사용자의 기준점 저장
+     * recheck-delay-ms 후 다시 읽어 잔액/마지막 거래 내역 ID/거래 내역 수가 그대로인 사용자만 저장
+     * (진행 중인 거래가 있으면 다음 실행에서 다시 시도)
+     */
+    private void backfillBaselines(long fromUserId, long toUserId) {
+        Map<Long, BalanceReconciliationReportJpaRepository.BaselineCandidate> first = findBaselineCandidates(fromUserId, toUserId);
+        if (first.isEmpty()) {
+            return;
+        }
+        sleep(recheckDelayMillis);
+
+        List<BalanceReconciliationReportJpaRepository.BaselineCandidate> stable = findBaselineCandidates(fromUserId, toUserId)
+                .values().stream()
+                .filter(candidate -> isUnchanged(first.get(candidate.getUserId()), candidate))
+                .toList();
+        if (stable.isEmpty()) {
+            return;
+        }
+
+        Integer created = transactionTemplate.execute(status -> stable.stream()
+                .mapToInt(candidate -> reconciliationRepository.insertBaseline(
+                        candidate.getUserId(), candidate.getBalanceAmount(), candidate.getMaxTxId()))
+                .sum());
+        int createdCount = created != null ? created : 0;
+        baselineCounter.increment(createdCount);
+        log.info("잔액 정합성 기준점 저장 - 구간: {} ~ {}, 사용자: {}, 보류: {}",
+                fromUserId, toUserId, createdCount, first.size() - stable.size());
+    }
+
+    private Map<Long, BalanceReconciliationReportJpaRepository.BaselineCandidate> findBaselineCandidates(long fromUserId, long toUserId) {
+        List<BalanceReconciliationReportJpaRepository.BaselineCandidate> candidates = readOnlyTransactionTemplate.execute(
+                status -> reconciliationRepository.findBaselineCandidates(fromUserId, toUserId));
+        if (candidates == null) {
+            return Map.of();
+        }
+        return candidates.stream().collect(Collectors.toMap(
+                BalanceReconciliationReportJpaRepository.BaselineCandidate::getUserId, Function.identity()));
+    }
+
+    private boolean isUnchanged(BalanceReconciliationReportJpaRepository.BaselineCandidate before,
+                                BalanceReconciliationReportJpaRepository.BaselineCandidate after) {
+        return before != null
+                && before.getBalanceAmount().compareTo(after.getBalanceAmount()) == 0
+                && Objects.equals(before.getMaxTxId(), after.getMaxTxId())
+                && Objects.equals(before.getTxCount(), after.getTxCount());
+    }
+
+    private List<BalanceReconciliationReportEntity> findMismatches(String runId, long fromUserId, long toUserId) {
+        List<BalanceReconciliationReportEntity> mismatches = new ArrayList<>();
+        long checked = 0;
+        try (Stream<BalanceReconciliationRow> rows =
+                     reconciliationRepository.streamReconciliationRows(fromUserId, toUserId)) {
+            for (BalanceReconciliationRow row : (Iterable<BalanceReconciliationRow>) rows::iterator) {
+                checked++;
+                if (row.getBalanceAmount().compareTo(row.getExpectedAmount()) != 0) {
+                    mismatches.add(toReport(runId, row));
+                }
+            }
+        }
+        usersCheckedCounter.increment(checked);
+        runUsersChecked.addAndGet(checked);
+        return mismatches;
+    }
+
+    /**
+     * 불일치 사용자만 새 트랜잭션으로 다시 확인 - 여전히 다르면 확정
+     */
+    private List<BalanceReconciliationReportEntity> recheck(String runId, List<BalanceReconciliationReportEntity> mismatches) {
+        if (mismatches.isEmpty()) {
+            return mismatches;
+        }
+        sleep(recheckDelayMillis);
+
+        List<BalanceReconciliationReportEntity> confirmed = new ArrayList<>();
+        for (BalanceReconciliationReportEntity mismatch : mismatches) {
+            Long userId = mismatch.getUserId();
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<BalanceReconciliationRow> rows =
+                             reconciliationRepository.streamReconciliationRows(userId, userId)) {
+                    rows.filter(row -> row.getBalanceAmount().compareTo(row.getExpectedAmount()) != 0)
+                            .findFirst()
+                            .ifPresent(row -> confirmed.add(toReport(runId, row)));
+                }
+            });
+        }
+        return confirmed;
+    }
+
+    private BalanceReconciliationReportEntity toReport(String runId, BalanceReconciliationRow row) {
+        return BalanceReconciliationReportEntity.builder()
+                .runId(runId)
+                .userId(row.getUserId())
+                .balanceAmount(row.getBalanceAmount())
+                .expectedAmount(row.getExpectedAmount())
+                .difference(row.getBalanceAmount().subtract(row.getExpectedAmount()))
+                .build();
+    }
+
+    private void throttle() {
+        if (pauseMillis > 0) {
+            sleep(pauseMillis);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double progress() {
+        long total = chunksTotal.get();
+        return total == 0 ? 0.0 : (double) chunksDone.get() / total;
+    }
+
+    /**
+     * 실행 중이면 현재까지, 끝났으면 마지막 실행 전체 기준
+     */
+    private double usersPerSecond() {
+        long endNanos = runFinishedNanos != 0 ? runFinishedNanos : System.nanoTime();
+        long elapsedNanos = endNanos - runStartedNanos;
+        if (runStartedNanos == 0 || elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return runUsersChecked.get() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("balance-reconcile-" + thread.getPoolIndex());
+        return thread;
+    }
+}
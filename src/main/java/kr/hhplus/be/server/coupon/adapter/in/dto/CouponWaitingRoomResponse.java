@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.coupon.adapter.in.dto;
+
+/**
+ * 쿠폰 대기실 상태 응답 DTO
+ */
+public class CouponWaitingRoomResponse {
+    private String status; // WAITING, ADMITTED, NOT_FOUND
+    private String queueToken;
+    private Long position;
+    private Long waitingCount;
+
+    public CouponWaitingRoomResponse() {
+    }
+
+    public CouponWaitingRoomResponse(String status, String queueToken, Long position, Long waitingCount) {
+        this.status = status;
+        this.queueToken = queueToken;
+        this.position = position;
+        this.waitingCount = waitingCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getQueueToken() {
+        return queueToken;
+    }
+
+    public void setQueueToken(String queueToken) {
+        this.queueToken = queueToken;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    public Long getWaitingCount() {
+        return waitingCount;
+    }
+
+    public void setWaitingCount(Long waitingCount) {
+        this.waitingCount = waitingCount;
+    }
+}
@@ -6,8 +6,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.coupon.adapter.in.docs.CouponSchemaDescription;
+import kr.hhplus.be.server.coupon.adapter.in.dto.CouponQueueStatusResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
 
@@ -23,12 +25,59 @@ public interface CouponApiDocumentation {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "발급 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 발급 불가"),
+            @ApiResponse(responseCode = "429", description = "요청 수 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     ResponseEntity<?> issueCoupon(
             @Parameter(description = CouponSchemaDescription.couponId, required = true, example = "1") 
             @PathVariable(name = "id") Long id,
             @Parameter(description = CouponSchemaDescription.userId, required = true, example = "1001") 
+            @RequestParam(name = "userId", required = true) Long userId,
+            @Parameter(description = "대기실 입장 토큰 (대기실 사용 시 필수)")
+            @RequestParam(name = "queueToken", required = false) String queueToken);
+
+    @PostMapping("/{id}/waiting-room")
+    @Operation(summary = "쿠폰 대기실 입장",
+            description = "입장 토큰과 대기 순서를 발급합니다. 이미 입장한 사용자는 같은 토큰과 현재 순서를 받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "입장 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 대기실 미사용"),
+            @ApiResponse(responseCode = "429", description = "요청 수 한도 초과 (Retry-After 헤더 참고)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    ResponseEntity<?> enterWaitingRoom(
+            @Parameter(description = CouponSchemaDescription.couponId, required = true, example = "1")
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = CouponSchemaDescription.userId, required = true, example = "1001")
+            @RequestParam(name = "userId", required = true) Long userId);
+
+    @GetMapping("/{id}/waiting-room")
+    @Operation(summary = "쿠폰 대기실 상태 조회",
+            description = "대기 순서를 조회합니다. ADMITTED 상태가 되면 입장 토큰으로 발급을 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 대기실 미사용"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    ResponseEntity<?> getWaitingRoomStatus(
+            @Parameter(description = CouponSchemaDescription.couponId, required = true, example = "1")
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = CouponSchemaDescription.userId, required = true, example = "1001")
+            @RequestParam(name = "userId", required = true) Long userId);
+
+    @GetMapping("/{id}/issue/result")
+    @Operation(summary = "쿠폰 발급 결과 대기",
+            description = "발급 결과가 나올 때까지 대기한 뒤 응답합니다 (Long-Polling). "
+                    + "타임아웃 시 PROCESSING 상태와 대기열 순서를 응답하며, 클라이언트는 다시 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 결과 또는 처리 중 상태"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    DeferredResult<ResponseEntity<CouponQueueStatusResponse>> awaitIssueResult(
+            @Parameter(description = CouponSchemaDescription.couponId, required = true, example = "1")
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = CouponSchemaDescription.userId, required = true, example = "1001")
             @RequestParam(name = "userId", required = true) Long userId);
 
     @GetMapping("/users/{userId}")
@@ -2,15 +2,22 @@ package kr.hhplus.be.server.coupon.adapter.in.web;
 
 import kr.hhplus.be.server.coupon.application.port.in.GetUserCouponsUseCase;
 import kr.hhplus.be.server.coupon.application.port.in.IssueCouponUseCase;
+import kr.hhplus.be.server.coupon.domain.service.CouponIssueResultNotifier;
+import kr.hhplus.be.server.coupon.domain.service.CouponWaitingRoomService;
 import kr.hhplus.be.server.coupon.domain.service.RedisCouponQueueService;
 import kr.hhplus.be.server.coupon.adapter.in.dto.UserCouponResponse;
 import kr.hhplus.be.server.coupon.adapter.in.dto.CouponQueueResponse;
 import kr.hhplus.be.server.coupon.adapter.in.dto.CouponQueueStatusResponse;
+import kr.hhplus.be.server.coupon.adapter.in.dto.CouponWaitingRoomResponse;
+import kr.hhplus.be.server.shared.ratelimit.RateLimited;
 import kr.hhplus.be.server.shared.response.ErrorResponse;       
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/coupons")
@@ -19,23 +26,63 @@ public class CouponController implements CouponApiDocumentation {
     private final GetUserCouponsUseCase getUserCouponsUseCase;
     private final IssueCouponUseCase issueCouponUseCase;
     private final RedisCouponQueueService queueService;
+    private final CouponIssueResultNotifier resultNotifier;
+    private final CouponWaitingRoomService waitingRoomService;
 
     public CouponController(GetUserCouponsUseCase getUserCouponsUseCase,
                           IssueCouponUseCase issueCouponUseCase,
-                          RedisCouponQueueService queueService) {
+                          RedisCouponQueueService queueService,
+                          CouponIssueResultNotifier resultNotifier,
+                          CouponWaitingRoomService waitingRoomService) {
         this.getUserCouponsUseCase = getUserCouponsUseCase;
         this.issueCouponUseCase = issueCouponUseCase;
         this.queueService = queueService;
+        this.resultNotifier = resultNotifier;
+        this.waitingRoomService = waitingRoomService;
+    }
+
+    /**
+     * 대기실 입장 - 입장 토큰과 대기 순서 발급 (이미 입장했으면 같은 토큰과 현재 순서)
+     */
+    @PostMapping("/{id}/waiting-room")
+    @RateLimited(scope = "coupon-waiting-room", key = "#userId", limit = 5, burst = 10)
+    public ResponseEntity<?> enterWaitingRoom(
+            @PathVariable(name = "id") Long id,
+            @RequestParam(name = "userId", required = true) Long userId) {
+
+        if (!waitingRoomService.isEnabled()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("대기실을 사용하지 않습니다. 바로 발급 요청해주세요."));
+        }
+
+        String queueToken = waitingRoomService.enter(id, userId);
+        return ResponseEntity.ok(toWaitingRoomResponse(waitingRoomService.getStatus(id, userId), queueToken));
+    }
+
+    /**
+     * 대기실 상태 조회 - ADMITTED가 되면 입장 토큰으로 발급 요청
+     */
+    @GetMapping("/{id}/waiting-room")
+    public ResponseEntity<?> getWaitingRoomStatus(
+            @PathVariable(name = "id") Long id,
+            @RequestParam(name = "userId", required = true) Long userId) {
+
+        if (!waitingRoomService.isEnabled()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("대기실을 사용하지 않습니다. 바로 발급 요청해주세요."));
+        }
+
+        return ResponseEntity.ok(toWaitingRoomResponse(waitingRoomService.getStatus(id, userId), null));
     }
 
     @PostMapping("/{id}/issue")
+    @RateLimited(scope = "coupon-issue", key = "#userId", limit = 5, burst = 10)
     public ResponseEntity<?> issueCoupon(
             @PathVariable(name = "id") Long id,
-            @RequestParam(name = "userId", required = true) Long userId) {
+            @RequestParam(name = "userId", required = true) Long userId,
+            @RequestParam(name = "queueToken", required = false) String queueToken) {
         
         // IssueCouponService를 통해 하이브리드 처리 (빠른 실패 + 비동기)
         IssueCouponUseCase.IssueCouponCommand command = 
-            new IssueCouponUseCase.IssueCouponCommand(userId, id);
+            new IssueCouponUseCase.IssueCouponCommand(userId, id, queueToken);
         
         IssueCouponUseCase.IssueCouponResult result = issueCouponUseCase.issueCoupon(command);
         
@@ -74,16 +121,67 @@ public class CouponController implements CouponApiDocumentation {
         
         if (result == null) {
             // 아직 처리되지 않음
-            Long queuePosition = queueService.getUserQueuePosition(id, userId);
-            return ResponseEntity.ok(new CouponQueueStatusResponse(
-                "PROCESSING",
-                "처리 중입니다.",
-                queuePosition,
-                queueService.getQueueSize(id)
-            ));
+            return processingStatus(id, userId);
         }
         
         // 처리 완료
+        return completedStatus(result);
+    }
+
+    /**
+     * 발급 결과 Long-Polling
+     * 결과가 저장될 때까지 요청 스레드를 점유하지 않고 대기 (결과 저장 알림은 Redis Pub/Sub으로 연결을 가진 노드에 전달)
+     * 타임아웃 시 PROCESSING과 대기열 순서를 응답하며, 클라이언트는 다시 요청
+     */
+    @GetMapping("/{id}/issue/result")
+    public DeferredResult<ResponseEntity<CouponQueueStatusResponse>> awaitIssueResult(
+            @PathVariable(name = "id") Long id,
+            @RequestParam(name = "userId", required = true) Long userId) {
+
+        DeferredResult<ResponseEntity<CouponQueueStatusResponse>> deferredResult =
+                new DeferredResult<>(resultNotifier.getTimeoutMillis());
+
+        Optional<CompletableFuture<RedisCouponQueueService.CouponIssueResult>> waiter = resultNotifier.register(id, userId);
+        if (waiter.isEmpty()) {
+            // 대기자 한도 초과 - 현재 상태 즉시 응답
+            deferredResult.setResult(getIssueStatusResponse(id, userId));
+            return deferredResult;
+        }
+
+        CompletableFuture<RedisCouponQueueService.CouponIssueResult> future = waiter.get();
+        deferredResult.onCompletion(() -> resultNotifier.unregister(id, userId, future));
+        deferredResult.onTimeout(() -> deferredResult.setResult(processingStatus(id, userId)));
+        future.thenAccept(result -> deferredResult.setResult(completedStatus(result)));
+
+        // 등록 전에 이미 저장된 결과 확인 (등록 후 저장된 결과는 알림으로 수신)
+        RedisCouponQueueService.CouponIssueResult existing = queueService.getIssueResult(id, userId);
+        if (existing != null) {
+            future.complete(existing);
+        }
+        return deferredResult;
+    }
+
+    private CouponWaitingRoomResponse toWaitingRoomResponse(CouponWaitingRoomService.WaitingStatus status, String queueToken) {
+        String state = status.isAdmitted() ? "ADMITTED" : status.getPosition() != null ? "WAITING" : "NOT_FOUND";
+        return new CouponWaitingRoomResponse(state, queueToken, status.getPosition(), status.getWaitingCount());
+    }
+
+    private ResponseEntity<CouponQueueStatusResponse> getIssueStatusResponse(Long id, Long userId) {
+        RedisCouponQueueService.CouponIssueResult result = queueService.getIssueResult(id, userId);
+        return result != null ? completedStatus(result) : processingStatus(id, userId);
+    }
+
+    private ResponseEntity<CouponQueueStatusResponse> processingStatus(Long id, Long userId) {
+        Long queuePosition = queueService.getUserQueuePosition(id, userId);
+        return ResponseEntity.ok(new CouponQueueStatusResponse(
+            "PROCESSING",
+            "처리 중입니다.",
+            queuePosition,
+            queueService.getQueueSize(id)
+        ));
+    }
+
+    private ResponseEntity<CouponQueueStatusResponse> completedStatus(RedisCouponQueueService.CouponIssueResult result) {
         return ResponseEntity.ok(new CouponQueueStatusResponse(
             result.isSuccess() ? "SUCCESS" : "FAILED",
             result.getMessage(),
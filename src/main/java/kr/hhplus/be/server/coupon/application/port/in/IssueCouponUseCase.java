@@ -19,10 +19,16 @@ public interface IssueCouponUseCase {
     class IssueCouponCommand {
         private final Long userId;
         private final Long couponId;
+        private final String queueToken; // 대기실 입장 토큰 (대기실 사용 시)
         
         public IssueCouponCommand(Long userId, Long couponId) {
+            this(userId, couponId, null);
+        }
+        
+        public IssueCouponCommand(Long userId, Long couponId, String queueToken) {
             this.userId = userId;
             this.couponId = couponId;
+            this.queueToken = queueToken;
         }
         
         public Long getUserId() {
@@ -32,6 +38,10 @@ public interface IssueCouponUseCase {
         public Long getCouponId() {
             return couponId;
         }
+        
+        public String getQueueToken() {
+            return queueToken;
+        }
     }
     
     /**
@@ -29,6 +29,12 @@ public interface LoadCouponPort {
      */
     boolean incrementIssuedCount(Long couponId);
     
+    /**
+     * 쿠폰 발급 수량을 count만큼 원자적으로 증가 (배치 발급용)
+     * 증가 후 수량이 최대 발급 수량을 넘으면 반영하지 않음
+     */
+    boolean incrementIssuedCountByBatch(Long couponId, int count);
+    
     /**
      * 쿠폰 발급 수량을 원자적으로 감소 (롤백용)
      */
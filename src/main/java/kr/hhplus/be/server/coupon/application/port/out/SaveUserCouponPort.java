@@ -2,6 +2,8 @@ package kr.hhplus.be.server.coupon.application.port.out;
 
 import kr.hhplus.be.server.coupon.domain.UserCoupon;
 
+import java.util.List;
+
 /**
  * 사용자 쿠폰 저장 Outgoing Port
  */
@@ -12,5 +14,10 @@ public interface SaveUserCouponPort {
      */
     UserCoupon saveUserCoupon(UserCoupon userCoupon);
     
+    /**
+     * 사용자 쿠폰 일괄 저장 (배치 발급용, 다중 VALUES 단일 INSERT)
+     * @return 저장된 행 수
+     */
+    int saveUserCoupons(List<UserCoupon> userCoupons);
 
 } 
\ No newline at end of file
@@ -46,7 +46,7 @@ public class AsyncCouponIssueWorker {
             LoadCouponPort.CouponInfo couponInfo = couponInfoOpt.get();
             Integer maxIssuanceCount = couponInfo.getMaxIssuanceCount();
             
-            // 2. Redis 기반 빠른 체크 (최적화된 방법 사용)
+            // 2. Redis 기반 빠른 체크 (Lua 스크립트 1회 왕복)
             RedisCouponService.CouponIssueResult redisResult = 
                 redisCouponService.checkAndIssueCouponOptimized(couponId, userId, maxIssuanceCount);   
             
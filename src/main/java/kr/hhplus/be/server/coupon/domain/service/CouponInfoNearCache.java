@@ -0,0 +1,144 @@
+package kr.hhplus.be.server.coupon.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 쿠폰 정보 노드 로컬 Near Cache (Redis 쿠폰 해시 앞단)
+ * - 짧은 TTL(local-ttl-ms)의 Caffeine 캐시, 변경 시 Redis Pub/Sub으로 모든 노드의 항목 무효화
+ * - 발급 수량 변경은 발급마다 일어나므로 쿠폰별 count-invalidation-interval-ms에 한 번만 무효화 전파
+ *   (발급 수량은 참고용이고 실제 선착순 판정은 Redis Set 기준)
+ * - 메트릭: coupon.info.near-cache.* (적중률, 적중 항목 나이, 수신 무효화 수)
+ */
+@Slf4j
+@Component
+public class CouponInfoNearCache {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, Entry> cache;
+
+    /**
+     * 쿠폰별 마지막 발급 수량 무효화 시각 - 간격이 지나면 만료되므로 항목은 최근 무효화한 쿠폰으로 한정
+     */
+    private final Cache<Long, Long> lastCountInvalidationNanos;
+
+    /**
+     * 무효화마다 증가 - 로드 중에 무효화가 있었으면 로드 결과를 캐시에 넣지 않음
+     */
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final Timer stalenessTimer;
+    private final Counter invalidationReceivedCounter;
+
+    public CouponInfoNearCache(StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${coupon.info-cache.local-ttl-ms:2000}") long localTtlMillis,
+                               @Value("${coupon.info-cache.local-max-size:10000}") long localMaxSize,
+                               @Value("${coupon.info-cache.count-invalidation-interval-ms:200}") long countInvalidationIntervalMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(localMaxSize)
+                .recordStats()
+                .build();
+        this.lastCountInvalidationNanos = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(countInvalidationIntervalMillis))
+                .maximumSize(localMaxSize)
+                .build();
+
+        listenerContainer.addMessageListener((message, pattern) -> onInvalidation(message),
+                new ChannelTopic(RedisKeyConstants.COUPON_INFO_INVALIDATION_CHANNEL));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "coupon.info.near-cache");
+        Gauge.builder("coupon.info.near-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("쿠폰 정보 로컬 캐시 적중률 (0 ~ 1)")
+                .register(meterRegistry);
+        this.stalenessTimer = Timer.builder("coupon.info.near-cache.staleness")
+                .description("적중 시 항목 나이 (Redis에서 읽은 뒤 경과 시간)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.invalidationReceivedCounter = meterRegistry.counter("coupon.info.near-cache.invalidations.received");
+    }
+
+    /**
+     * 로컬 캐시 조회, 없으면 loader(Redis 해시)로 읽어 저장
+     */
+    public Optional<RedisCouponService.CouponInfo> get(Long couponId,
+                                                       Function<Long, Optional<RedisCouponService.CouponInfo>> loader) {
+        Entry entry = cache.getIfPresent(couponId);
+        if (entry != null) {
+            stalenessTimer.record(System.nanoTime() - entry.loadedAtNanos(), TimeUnit.NANOSECONDS);
+            return Optional.of(entry.info());
+        }
+
+        long sequence = invalidationSequence.get();
+        Optional<RedisCouponService.CouponInfo> loaded = loader.apply(couponId);
+        if (loaded.isPresent() && invalidationSequence.get() == sequence) {
+            cache.put(couponId, new Entry(loaded.get(), System.nanoTime()));
+        }
+        return loaded;
+    }
+
+    /**
+     * 쿠폰 정보 변경 - 이 노드와 다른 노드의 항목 즉시 무효화
+     */
+    public void invalidate(Long couponId) {
+        evictLocal(couponId);
+        try {
+            stringRedisTemplate.convertAndSend(RedisKeyConstants.COUPON_INFO_INVALIDATION_CHANNEL, couponId.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 local-ttl-ms 안에 만료
+            log.warn("쿠폰 정보 무효화 전파 실패 - couponId: {}", couponId, e);
+        }
+    }
+
+    /**
+     * 발급 수량 변경 - 쿠폰별 count-invalidation-interval-ms에 한 번만 무효화
+     * 건너뛴 변경은 다음 무효화 또는 local-ttl-ms 만료로 반영
+     */
+    public void invalidateIssuedCount(Long couponId) {
+        if (lastCountInvalidationNanos.asMap().putIfAbsent(couponId, System.nanoTime()) != null) {
+            return;
+        }
+        invalidate(couponId);
+    }
+
+    private void onInvalidation(Message message) {
+        try {
+            Long couponId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            evictLocal(couponId);
+            invalidationReceivedCounter.increment();
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 정보 무효화 메시지 - body: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void evictLocal(Long couponId) {
+        invalidationSequence.incrementAndGet();
+        cache.invalidate(couponId);
+    }
+
+    private record Entry(RedisCouponService.CouponInfo info, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.coupon.domain.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 발급 결과 대기자 관리 (노드 로컬)
+ * 결과 저장 시 Redis Pub/Sub으로 모든 노드에 알리고, 연결을 가진 노드가 자기 대기자만 완료
+ * - 대기자는 스레드를 점유하지 않는 CompletableFuture (요청 스레드는 DeferredResult로 반환)
+ * - 메시지: "{couponId}|{userId}|{1|0}|{processedAt}|{message}"
+ */
+@Slf4j
+@Component
+public class CouponIssueResultNotifier {
+
+    private static final String SEPARATOR = "|";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long timeoutMillis;
+    private final int maxWaiters;
+    private final Map<String, Set<CompletableFuture<RedisCouponQueueService.CouponIssueResult>>> waiters =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    public CouponIssueResultNotifier(RedisTemplate<String, Object> redisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${coupon.issue.result-wait.timeout-ms:25000}") long timeoutMillis,
+                                     @Value("${coupon.issue.result-wait.max-waiters:10000}") int maxWaiters) {
+        this.redisTemplate = redisTemplate;
+        this.timeoutMillis = timeoutMillis;
+        this.maxWaiters = maxWaiters;
+
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message),
+                new ChannelTopic(RedisKeyConstants.COUPON_ISSUE_RESULT_CHANNEL));
+        Gauge.builder("coupon.issue.result.waiters", waiterCount, AtomicInteger::get)
+                .description("이 노드에서 발급 결과를 기다리는 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결과 알림 메시지 생성 (RedisCouponQueueService가 결과 저장 후 발행)
+     */
+    public static String notification(Long couponId, Long userId, RedisCouponQueueService.CouponIssueResult result) {
+        return couponId + SEPARATOR + userId + SEPARATOR + (result.isSuccess() ? "1" : "0") + SEPARATOR
+                + result.getProcessedAt() + SEPARATOR + (result.getMessage() != null ? result.getMessage() : "");
+    }
+
+    /**
+     * 결과 대기 등록
+     * @return 결과가 오면 완료되는 future, 대기자 수가 max-waiters를 넘으면 empty (호출자가 즉시 응답)
+     */
+    public Optional<CompletableFuture<RedisCouponQueueService.CouponIssueResult>> register(Long couponId, Long userId) {
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            return Optional.empty();
+        }
+        CompletableFuture<RedisCouponQueueService.CouponIssueResult> future = new CompletableFuture<>();
+        waiters.compute(waiterKey(couponId, userId), (key, futures) -> {
+            Set<CompletableFuture<RedisCouponQueueService.CouponIssueResult>> target =
+                    futures != null ? futures : ConcurrentHashMap.newKeySet();
+            target.add(future);
+            return target;
+        });
+        return Optional.of(future);
+    }
+
+    /**
+     * 대기 해제 (응답 완료, 타임아웃, 연결 끊김)
+     */
+    public void unregister(Long couponId, Long userId, CompletableFuture<RedisCouponQueueService.CouponIssueResult> future) {
+        String key = waiterKey(couponId, userId);
+        waiters.computeIfPresent(key, (k, futures) -> {
+            if (futures.remove(future)) {
+                waiterCount.decrementAndGet();
+            }
+            return futures.isEmpty() ? null : futures;
+        });
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    private void onMessage(Message message) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+        String[] parts = body.toString().split("\\|", 5);
+        if (parts.length < 5) {
+            log.warn("잘못된 쿠폰 발급 결과 알림 - payload: {}", body);
+            return;
+        }
+
+        Set<CompletableFuture<RedisCouponQueueService.CouponIssueResult>> futures = waiters.get(parts[0] + ":" + parts[1]);
+        if (futures == null) {
+            return;
+        }
+        RedisCouponQueueService.CouponIssueResult result = new RedisCouponQueueService.CouponIssueResult(
+                "1".equals(parts[2]), parts[4].isEmpty() ? null : parts[4], LocalDateTime.parse(parts[3]));
+        futures.forEach(future -> future.complete(result));
+    }
+
+    private String waiterKey(Long couponId, Long userId) {
+        return couponId + ":" + userId;
+    }
+}
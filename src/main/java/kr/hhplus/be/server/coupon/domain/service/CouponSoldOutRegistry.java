@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.coupon.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 쿠폰 소진 여부 노드 로컬 레지스트리
+ * 선착순 스크립트나 DB에서 소진을 확인하면 표시하고 Redis Pub/Sub으로 다른 노드에 전파,
+ * 이후 요청은 I/O 없이 프로세스 안에서 거절
+ * - 소진 표시에는 세대(coupon:sold-out:generation:{couponId})를 붙임. 해제할 때마다 세대가 INCR로 올라감
+ * - 메시지: "SET:{couponId}:{세대}" 소진 표시 / "CLEAR:{couponId}:{세대}" 해제 (발급 롤백으로 수량이 돌아온 경우)
+ *   이미 본 해제 세대보다 낮은 SET은 무시 (늦게 도착한 SET이 그 사이의 해제를 덮어쓰지 않도록, 자기 노드 메시지 포함)
+ * - 표시는 local-ttl-ms 후 만료되어 다시 Redis로 확인 (해제 메시지 유실 대비)
+ */
+@Slf4j
+@Component
+public class CouponSoldOutRegistry {
+
+    private static final String SET_PREFIX = "SET:";
+    private static final String CLEAR_PREFIX = "CLEAR:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    /**
+     * 쿠폰 ID → 소진 표시 세대
+     */
+    private final Cache<Long, Long> soldOutCoupons;
+    /**
+     * 쿠폰 ID → 이 노드가 확인한 마지막 해제 세대 (소진 표시보다 오래 유지)
+     */
+    private final Cache<Long, Long> clearedGenerations;
+    private final Counter rejectedCounter;
+
+    public CouponSoldOutRegistry(StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${coupon.sold-out.local-ttl-ms:60000}") long localTtlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.soldOutCoupons = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(10_000)
+                .build();
+        this.clearedGenerations = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(localTtlMillis).multipliedBy(10))
+                .maximumSize(10_000)
+                .build();
+        this.rejectedCounter = meterRegistry.counter("coupon.sold-out.rejected.local");
+
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message),
+                new ChannelTopic(RedisKeyConstants.COUPON_SOLD_OUT_CHANNEL));
+    }
+
+    /**
+     * 소진 표시된 쿠폰인지 확인 (I/O 없음) - 소진이면 로컬 거절 수 집계
+     */
+    public boolean isSoldOut(Long couponId) {
+        if (soldOutCoupons.getIfPresent(couponId) != null) {
+            rejectedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 세대로 소진 표시 후 전파 (이 노드에 이미 표시돼 있으면 전파 생략)
+     */
+    public void markSoldOut(Long couponId) {
+        if (soldOutCoupons.getIfPresent(couponId) != null) {
+            return;
+        }
+        long generation = currentGeneration(couponId);
+        if (!applySet(couponId, generation)) {
+            return;
+        }
+        log.info("쿠폰 소진 표시 - couponId: {}, generation: {}", couponId, generation);
+        publish(SET_PREFIX, couponId, generation);
+    }
+
+    /**
+     * 세대를 올려 소진 표시 해제 후 전파 (다른 노드에만 표시돼 있을 수 있으므로 항상 전파)
+     */
+    public void clear(Long couponId) {
+        Long generation = null;
+        try {
+            generation = stringRedisTemplate.opsForValue().increment(RedisKeyConstants.getCouponSoldOutGenerationKey(couponId));
+        } catch (Exception e) {
+            log.warn("쿠폰 소진 세대 증가 실패 - couponId: {}", couponId, e);
+        }
+        if (generation == null) {
+            // 세대를 올리지 못하면 로컬만 해제 (다른 노드는 local-ttl-ms 후 만료)
+            soldOutCoupons.invalidate(couponId);
+            return;
+        }
+        applyClear(couponId, generation);
+        publish(CLEAR_PREFIX, couponId, generation);
+    }
+
+    /**
+     * Redis의 현재 세대 (조회 실패 시 이 노드가 본 마지막 해제 세대)
+     */
+    private long currentGeneration(Long couponId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(RedisKeyConstants.getCouponSoldOutGenerationKey(couponId));
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+            return 0L;
+        } catch (Exception e) {
+            log.warn("쿠폰 소진 세대 조회 실패 - couponId: {}", couponId, e);
+            Long cleared = clearedGenerations.getIfPresent(couponId);
+            return cleared != null ? cleared : 0L;
+        }
+    }
+
+    /**
+     * 해제 세대보다 오래된 표시는 버림
+     * @return 표시 여부
+     */
+    private boolean applySet(Long couponId, long generation) {
+        if (generation < clearedGeneration(couponId)) {
+            return false;
+        }
+        if (soldOutCoupons.asMap().putIfAbsent(couponId, generation) != null) {
+            return false;
+        }
+        // 표시하는 사이 더 새로운 해제가 들어왔으면 되돌림
+        if (generation < clearedGeneration(couponId)) {
+            soldOutCoupons.asMap().remove(couponId, generation);
+            return false;
+        }
+        return true;
+    }
+
+    private void applyClear(Long couponId, long generation) {
+        clearedGenerations.asMap().merge(couponId, generation, Math::max);
+        soldOutCoupons.asMap().computeIfPresent(couponId, (id, marked) -> marked < generation ? null : marked);
+    }
+
+    private long clearedGeneration(Long couponId) {
+        Long cleared = clearedGenerations.getIfPresent(couponId);
+        return cleared != null ? cleared : 0L;
+    }
+
+    private void publish(String prefix, Long couponId, long generation) {
+        String payload = prefix + couponId + ":" + generation;
+        try {
+            stringRedisTemplate.convertAndSend(RedisKeyConstants.COUPON_SOLD_OUT_CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 각자 Redis에서 소진을 확인
+            log.warn("쿠폰 소진 상태 전파 실패 - payload: {}", payload, e);
+        }
+    }
+
+    private void onMessage(Message message) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            boolean set = payload.startsWith(SET_PREFIX);
+            String body = payload.substring((set ? SET_PREFIX : CLEAR_PREFIX).length());
+            int separator = body.indexOf(':');
+            Long couponId = Long.valueOf(body.substring(0, separator));
+            long generation = Long.parseLong(body.substring(separator + 1));
+            if (set) {
+                applySet(couponId, generation);
+            } else {
+                applyClear(couponId, generation);
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 쿠폰 소진 메시지 - payload: {}", payload);
+        }
+    }
+}
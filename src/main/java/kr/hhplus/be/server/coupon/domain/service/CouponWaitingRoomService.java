@@ -0,0 +1,290 @@
+package kr.hhplus.be.server.coupon.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 쿠폰 가상 대기실 (coupon.waiting-room.enabled=true)
+ * 사용자는 입장 토큰과 대기 순서를 받고, 입장 제어 스케줄러(CouponAdmissionController)가 허용한 토큰만 발급 요청 가능
+ * - coupon:waiting:{couponId} 대기 ZSET (score = 입장 순번)
+ * - coupon:admitted:{couponId} 입장 허용 ZSET (score = 허용 만료 시각 ms)
+ * - coupon:waiting:token:{couponId} userId → 토큰 Hash
+ * - 대기/허용 사용자가 있는 쿠폰 ID는 coupon:waiting:active 집합에 등록
+ */
+@Slf4j
+@Service
+public class CouponWaitingRoomService {
+
+    private static final String ACTIVE_KEY = "coupon:waiting:active";
+    private static final String ADMISSION_TICK_KEY = "coupon:waiting:admission-tick";
+    private static final String ADMISSION_RATE_KEY = "coupon:waiting:admission-rate";
+    private static final Duration KEY_TTL = Duration.ofHours(25);
+
+    public static final long ADMITTED = 1L;
+    public static final long WAITING = 0L;
+    public static final long INVALID = -1L;
+
+    /**
+     * 대기실 입장 - 대기 중이거나 허용 기간이 남은 사용자는 기존 토큰 반환 (재입장해도 순서 유지)
+     * KEYS: waiting zset, admitted zset, token hash, sequence key, active set
+     * ARGV: userId, 새 토큰, couponId, key ttl seconds
+     * 반환: 사용자 토큰
+     */
+    private static final RedisScript<String> ENTER_SCRIPT = new DefaultRedisScript<>("""
+            local token = redis.call('HGET', KEYS[3], ARGV[1])
+            if token then
+                if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                    return token
+                end
+                local admitUntil = redis.call('ZSCORE', KEYS[2], ARGV[1])
+                local time = redis.call('TIME')
+                if admitUntil and tonumber(admitUntil) >= tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) then
+                    return token
+                end
+                redis.call('ZREM', KEYS[2], ARGV[1])
+            end
+            local sequence = redis.call('INCR', KEYS[4])
+            redis.call('ZADD', KEYS[1], sequence, ARGV[1])
+            redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])
+            redis.call('SADD', KEYS[5], ARGV[3])
+            for i = 1, 4 do
+                redis.call('EXPIRE', KEYS[i], ARGV[4])
+            end
+            return ARGV[2]
+            """, String.class);
+
+    /**
+     * 대기 순서대로 입장 허용 (만료된 허용은 먼저 정리)
+     * KEYS: waiting zset, admitted zset, token hash, active set
+     * ARGV: 허용 수, 허용 유지 시간 ms, couponId
+     * 반환: 허용된 사용자 수
+     */
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, 1000)
+            if #expired > 0 then
+                redis.call('ZREM', KEYS[2], unpack(expired))
+                redis.call('HDEL', KEYS[3], unpack(expired))
+            end
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            local admitUntil = now + tonumber(ARGV[2])
+            for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], admitUntil, popped[i])
+            end
+            if redis.call('ZCARD', KEYS[1]) == 0 and redis.call('ZCARD', KEYS[2]) == 0 then
+                redis.call('SREM', KEYS[4], ARGV[3])
+            end
+            return #popped / 2
+            """, Long.class);
+
+    /**
+     * 입장 허용 확인 (입장권을 소비하지 않음) - 발급 요청 검증 전에 대기 중이거나 잘못된 토큰을 먼저 거절
+     * KEYS: admitted zset, token hash, waiting zset
+     * ARGV: userId, 토큰
+     * 반환: 1 허용, 0 아직 대기 중, -1 토큰 불일치 또는 허용 만료
+     */
+    private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+                return -1
+            end
+            local admitUntil = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not admitUntil then
+                if redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+                    return 0
+                end
+                return -1
+            end
+            local time = redis.call('TIME')
+            if tonumber(admitUntil) < tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) then
+                return -1
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 입장 허용 사용 (1회) - 토큰이 맞고 허용 기간이 남았으면 허용 제거
+     * KEYS: admitted zset, token hash, waiting zset
+     * ARGV: userId, 토큰
+     * 반환: 1 허용, 0 아직 대기 중, -1 토큰 불일치 또는 허용 만료
+     */
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+                return -1
+            end
+            local admitUntil = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not admitUntil then
+                if redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+                    return 0
+                end
+                return -1
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            local time = redis.call('TIME')
+            if tonumber(admitUntil) < tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) then
+                return -1
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final long admissionWindowMillis;
+
+    public CouponWaitingRoomService(StringRedisTemplate stringRedisTemplate,
+                                    @Value("${coupon.waiting-room.enabled:false}") boolean enabled,
+                                    @Value("${coupon.waiting-room.admission-window-ms:60000}") long admissionWindowMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.admissionWindowMillis = admissionWindowMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기실 입장
+     * @return 입장 토큰 (발급 요청 시 함께 전달)
+     */
+    public String enter(Long couponId, Long userId) {
+        return stringRedisTemplate.execute(ENTER_SCRIPT,
+                List.of(waitingKey(couponId), admittedKey(couponId), tokenKey(couponId), sequenceKey(couponId), ACTIVE_KEY),
+                userId.toString(), UUID.randomUUID().toString(), couponId.toString(),
+                String.valueOf(KEY_TTL.toSeconds()));
+    }
+
+    /**
+     * 대기 상태 조회
+     */
+    public WaitingStatus getStatus(Long couponId, Long userId) {
+        String userKey = userId.toString();
+        Long rank = stringRedisTemplate.opsForZSet().rank(waitingKey(couponId), userKey);
+        Double admitUntil = stringRedisTemplate.opsForZSet().score(admittedKey(couponId), userKey);
+        boolean admitted = admitUntil != null && admitUntil >= System.currentTimeMillis();
+        return new WaitingStatus(
+                rank != null ? rank + 1 : null, // 1-based 순서
+                admitted,
+                stringRedisTemplate.opsForZSet().size(waitingKey(couponId))
+        );
+    }
+
+    /**
+     * 발급 요청 시 입장 허용 확인 (입장권을 소비하지 않음)
+     * @return ADMITTED, WAITING, INVALID
+     */
+    public long checkAdmission(Long couponId, Long userId, String token) {
+        return executeAdmissionScript(CHECK_SCRIPT, couponId, userId, token);
+    }
+
+    /**
+     * 입장 허용 사용 - 발급 요청이 대기열에 등록된 뒤 호출
+     * @return ADMITTED, WAITING, INVALID
+     */
+    public long consumeAdmission(Long couponId, Long userId, String token) {
+        return executeAdmissionScript(CONSUME_SCRIPT, couponId, userId, token);
+    }
+
+    private long executeAdmissionScript(RedisScript<Long> script, Long couponId, Long userId, String token) {
+        if (token == null || token.isBlank()) {
+            return INVALID;
+        }
+        Long result = stringRedisTemplate.execute(script,
+                List.of(admittedKey(couponId), tokenKey(couponId), waitingKey(couponId)),
+                userId.toString(), token);
+        return result != null ? result : INVALID;
+    }
+
+    /**
+     * 대기 순서대로 count명 입장 허용
+     * @return 허용된 사용자 수
+     */
+    public long admit(Long couponId, int count) {
+        Long admitted = stringRedisTemplate.execute(ADMIT_SCRIPT,
+                List.of(waitingKey(couponId), admittedKey(couponId), tokenKey(couponId), ACTIVE_KEY),
+                String.valueOf(count), String.valueOf(admissionWindowMillis), couponId.toString());
+        return admitted != null ? admitted : 0L;
+    }
+
+    /**
+     * 대기/허용 사용자가 있는 쿠폰 ID 목록
+     */
+    public Set<Long> getActiveCouponIds() {
+        try {
+            Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_KEY);
+            if (members == null) {
+                return Collections.emptySet();
+            }
+            return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.error("대기실 쿠폰 목록 조회 실패", e);
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * 입장 제어 주기 선점 - 여러 노드 중 주기마다 한 노드만 입장 허용 (허용 속도가 노드 수만큼 늘지 않도록)
+     */
+    public boolean tryAcquireAdmissionTick(String nodeId, Duration interval) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(ADMISSION_TICK_KEY, nodeId, interval));
+    }
+
+    /**
+     * 현재 입장 허용 속도 (노드 간 공유, 없으면 null)
+     */
+    public Double getAdmissionRate() {
+        String rate = stringRedisTemplate.opsForValue().get(ADMISSION_RATE_KEY);
+        return rate != null ? Double.valueOf(rate) : null;
+    }
+
+    public void saveAdmissionRate(double ratePerSecond) {
+        stringRedisTemplate.opsForValue().set(ADMISSION_RATE_KEY, String.valueOf(ratePerSecond), KEY_TTL);
+    }
+
+    private String waitingKey(Long couponId) {
+        return "coupon:waiting:" + couponId;
+    }
+
+    private String admittedKey(Long couponId) {
+        return "coupon:admitted:" + couponId;
+    }
+
+    private String tokenKey(Long couponId) {
+        return "coupon:waiting:token:" + couponId;
+    }
+
+    private String sequenceKey(Long couponId) {
+        return "coupon:waiting:seq:" + couponId;
+    }
+
+    /**
+     * 대기 상태
+     */
+    public static class WaitingStatus {
+        private final Long position;
+        private final boolean admitted;
+        private final Long waitingCount;
+
+        public WaitingStatus(Long position, boolean admitted, Long waitingCount) {
+            this.position = position;
+            this.admitted = admitted;
+            this.waitingCount = waitingCount;
+        }
+
+        public Long getPosition() { return position; }
+        public boolean isAdmitted() { return admitted; }
+        public Long getWaitingCount() { return waitingCount; }
+    }
+}
@@ -31,6 +31,8 @@ public class IssueCouponService implements IssueCouponUseCase {
     private final RedisCouponService redisCouponService;
     private final RedisCouponQueueService queueService;
     private final KafkaCouponEventProducer kafkaEventProducer;  
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final CouponWaitingRoomService waitingRoomService;
 
     @Override
     public IssueCouponResult issueCoupon(IssueCouponCommand command) {
@@ -49,6 +51,20 @@ public class IssueCouponService implements IssueCouponUseCase {
                 return IssueCouponResult.failure("잘못된 쿠폰 ID입니다.");
             }
             
+            // 소진 표시된 쿠폰은 I/O 없이 즉시 거절
+            if (soldOutRegistry.isSoldOut(command.getCouponId())) {
+                return IssueCouponResult.failure("쿠폰이 모두 소진되었습니다.");
+            }
+            
+            // 대기실 사용 시 입장 허용된 토큰만 통과 (허용은 대기열 등록 후 1회 사용)
+            if (waitingRoomService.isEnabled()) {
+                IssueCouponResult admissionFailure = toAdmissionFailure(waitingRoomService.checkAdmission(
+                        command.getCouponId(), command.getUserId(), command.getQueueToken()));
+                if (admissionFailure != null) {
+                    return admissionFailure;
+                }
+            }
+            
             // 2. 빠른 사용자 존재 확인
             if (!loadUserPort.existsById(command.getUserId())) {
                 return IssueCouponResult.failure("사용자를 찾을 수 없습니다.");
@@ -98,6 +114,7 @@ public class IssueCouponService implements IssueCouponUseCase {
             // 쿠폰 소진 여부 빠른 체크 (Redis 기반)
             Boolean isExhausted = redisCouponService.isCouponExhausted(command.getCouponId(), couponInfo.getMaxIssuanceCount());
             if (Boolean.TRUE.equals(isExhausted)) {
+                soldOutRegistry.markSoldOut(command.getCouponId());
                 log.info("빠른 실패: 쿠폰 소진 - couponId: {}, userId: {}", 
                         command.getCouponId(), command.getUserId());
                 return IssueCouponResult.failure("쿠폰이 모두 소진되었습니다.");
@@ -113,6 +130,16 @@ public class IssueCouponService implements IssueCouponUseCase {
             if (!addedToQueue) {
                 return IssueCouponResult.failure("이미 쿠폰 발급 요청이 처리 중입니다.");
             }
+
+            // 검증과 대기열 등록이 끝난 요청만 입장 허용 사용 (앞 단계에서 거절돼도 허용이 남아 재시도 가능)
+            if (waitingRoomService.isEnabled()) {
+                IssueCouponResult admissionFailure = toAdmissionFailure(waitingRoomService.consumeAdmission(
+                        command.getCouponId(), command.getUserId(), command.getQueueToken()));
+                if (admissionFailure != null) {
+                    queueService.removeFromQueue(command.getCouponId(), command.getUserId());
+                    return admissionFailure;
+                }
+            }
             
             // 7. Kafka 이벤트 발행 (실제 처리는 비동기)
             CouponIssueMessage message = CouponIssueMessage.of(
@@ -142,6 +169,19 @@ public class IssueCouponService implements IssueCouponUseCase {
         }
     }
     
+    /**
+     * 대기실 입장 확인 결과를 실패 응답으로 변환 (허용이면 null)
+     */
+    private IssueCouponResult toAdmissionFailure(long admission) {
+        if (admission == CouponWaitingRoomService.ADMITTED) {
+            return null;
+        }
+        if (admission == CouponWaitingRoomService.WAITING) {
+            return IssueCouponResult.failure("아직 입장 순서가 아닙니다. 대기실에서 순서를 기다려주세요.");
+        }
+        return IssueCouponResult.failure("유효하지 않거나 만료된 대기실 토큰입니다. 대기실에 다시 입장해주세요.");
+    }
+
     /**
      * 쿠폰 발급 결과 조회 (대기열 처리 후)
      */
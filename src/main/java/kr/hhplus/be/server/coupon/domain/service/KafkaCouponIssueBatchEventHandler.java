@@ -0,0 +1,199 @@
+package kr.hhplus.be.server.coupon.domain.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.coupon.application.port.out.LoadCouponPort;
+import kr.hhplus.be.server.coupon.application.port.out.SaveUserCouponPort;
+import kr.hhplus.be.server.coupon.domain.UserCoupon;
+import kr.hhplus.be.server.shared.kafka.CouponIssueMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Kafka 기반 쿠폰 발급 배치 이벤트 핸들러 (coupon.issue.consumer-mode=batch)
+ * poll 단위로 받은 메시지를 쿠폰별로 묶어 처리
+ * - Redis 선착순 체크는 사용자별, DB는 쿠폰당 트랜잭션 하나에 발급 수량 UPDATE 1회 + user_coupons 다중 VALUES INSERT 1회
+ * - 일괄 저장이 실패하면 요청마다 트랜잭션을 나눠 다시 발급 (실패한 요청만 오류 처리)
+ * - 발급 결과는 쿠폰당 파이프라인 한 번으로 Redis에 저장
+ * - 리스너가 반환하면 배치 전체 오프셋을 한 번에 커밋 (AckMode.BATCH)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.consumer-mode", havingValue = "batch")
+@RequiredArgsConstructor
+public class KafkaCouponIssueBatchEventHandler {
+
+    private static final String SOLD_OUT_MESSAGE = "쿠폰이 모두 소진되었습니다.";
+    private static final String NOT_ISSUABLE_MESSAGE = "발급할 수 없는 쿠폰입니다.";
+
+    private final LoadCouponPort loadCouponPort;
+    private final SaveUserCouponPort saveUserCouponPort;
+    private final RedisCouponService redisCouponService;
+    private final RedisCouponQueueService queueService;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @KafkaListener(
+        topics = "coupon-issue-events",
+        groupId = "coupon-issue-group",
+        containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handleCouponIssueEvents(@Payload List<CouponIssueMessage> messages) {
+        log.info("쿠폰 발급 이벤트 배치 수신 - count: {}", messages.size());
+
+        Map<Long, List<CouponIssueMessage>> messagesByCoupon = messages.stream()
+                .collect(Collectors.groupingBy(CouponIssueMessage::getCouponId, LinkedHashMap::new, Collectors.toList()));
+        messagesByCoupon.forEach(this::processCouponBatch);
+    }
+
+    /**
+     * 한 쿠폰의 발급 요청 묶음 처리
+     * 쿠폰 단위로 실패를 격리 - 저장 실패는 건별 재시도 후 실패한 요청만 실패 처리하고 배치는 커밋
+     * (배치 재시도 시 이미 처리된 다른 쿠폰 요청이 중복 발급으로 판정되는 것을 방지)
+     */
+    private void processCouponBatch(Long couponId, List<CouponIssueMessage> messages) {
+        Map<Long, RedisCouponQueueService.CouponIssueResult> results = new LinkedHashMap<>();
+        List<CouponIssueMessage> accepted = new ArrayList<>();
+
+        // 1. Redis 기반 선착순 체크
+        for (CouponIssueMessage message : messages) {
+            RedisCouponService.CouponIssueResult redisResult =
+                    redisCouponService.checkAndIssueCoupon(couponId, message.getUserId(), message.getMaxIssuanceCount());
+            if (redisResult.isSuccess()) {
+                accepted.add(message);
+            } else {
+                results.put(message.getUserId(), failure(redisResult.getErrorMessage()));
+            }
+        }
+
+        // 2. DB 발급 수량 증가 + 사용자 쿠폰 일괄 저장 (트랜잭션 하나, 실패 시 건별 트랜잭션)
+        if (!accepted.isEmpty()) {
+            // 대기실 입장 제어용으로 쿠폰 묶음 트랜잭션 처리 시간 기록 (실패 포함 - 느린 실패가 누락되면 과부하를 놓침)
+            Timer.Sample dbSample = Timer.start(meterRegistry);
+            Set<Long> issuedUserIds = new HashSet<>();
+            Set<Long> failedUserIds = new HashSet<>();
+            try {
+                Integer issuedCount = transactionTemplate.execute(status -> issueInDatabase(couponId, accepted));
+                int issued = issuedCount != null ? issuedCount : 0;
+                accepted.subList(0, issued).forEach(message -> issuedUserIds.add(message.getUserId()));
+            } catch (Exception e) {
+                // 한 건(삭제된 사용자 FK 등) 때문에 묶음 전체가 실패하지 않도록 건별로 다시 발급
+                log.warn("쿠폰 일괄 발급 실패, 건별 발급으로 전환 - couponId: {}, count: {}", couponId, accepted.size(), e);
+                issueEach(couponId, accepted, issuedUserIds, failedUserIds, results);
+            } finally {
+                dbSample.stop(meterRegistry.timer("coupon.issue.db.latency"));
+            }
+
+            // 남은 요청은 수량 상한 때문인지 비활성/삭제 때문인지 구분 (상한일 때만 소진 표시)
+            boolean limitReached = issuedUserIds.size() + failedUserIds.size() < accepted.size()
+                    && isIssuanceLimitReached(couponId);
+            for (CouponIssueMessage message : accepted) {
+                Long userId = message.getUserId();
+                if (issuedUserIds.contains(userId)) {
+                    results.put(userId, success(couponId));
+                } else if (!failedUserIds.contains(userId)) {
+                    redisCouponService.rollbackCouponIssuance(couponId, userId);
+                    results.put(userId, failure(limitReached ? SOLD_OUT_MESSAGE : NOT_ISSUABLE_MESSAGE));
+                }
+            }
+            if (limitReached) {
+                // DB 기준 소진 - 롤백의 표시 해제보다 뒤에 표시
+                soldOutRegistry.markSoldOut(couponId);
+            }
+            log.info("쿠폰 배치 발급 완료 - couponId: {}, requested: {}, issued: {}, failed: {}",
+                    couponId, messages.size(), issuedUserIds.size(), failedUserIds.size());
+        }
+
+        // 3. 발급 결과 저장 (파이프라인)
+        queueService.saveIssueResults(couponId, results);
+    }
+
+    /**
+     * 요청마다 트랜잭션을 나눠 발급 (일괄 발급 실패 시)
+     * 저장에 실패한 요청만 Redis 롤백 후 오류 결과를 기록하고 나머지는 정상 발급
+     */
+    private void issueEach(Long couponId, List<CouponIssueMessage> accepted,
+                           Set<Long> issuedUserIds, Set<Long> failedUserIds,
+                           Map<Long, RedisCouponQueueService.CouponIssueResult> results) {
+        for (CouponIssueMessage message : accepted) {
+            Long userId = message.getUserId();
+            try {
+                Integer issued = transactionTemplate.execute(status -> issueInDatabase(couponId, List.of(message)));
+                if (issued != null && issued > 0) {
+                    issuedUserIds.add(userId);
+                }
+            } catch (Exception e) {
+                log.error("쿠폰 건별 발급 실패, 롤백 수행 - couponId: {}, userId: {}", couponId, userId, e);
+                redisCouponService.rollbackCouponIssuance(couponId, userId);
+                results.put(userId, failure("쿠폰 발급 처리 중 오류가 발생했습니다: " + e.getMessage()));
+                failedUserIds.add(userId);
+            }
+        }
+    }
+
+    /**
+     * 발급 수량을 묶음 크기만큼 한 번에 증가시키고 사용자 쿠폰을 일괄 저장
+     * 남은 수량이 묶음보다 적으면 건별 증가로 남은 수량만큼만 앞에서부터 발급
+     * @return 발급된 요청 수 (accepted 앞쪽 기준)
+     */
+    private int issueInDatabase(Long couponId, List<CouponIssueMessage> accepted) {
+        int issuedCount = 0;
+        if (loadCouponPort.incrementIssuedCountByBatch(couponId, accepted.size())) {
+            issuedCount = accepted.size();
+        } else {
+            while (issuedCount < accepted.size() && loadCouponPort.incrementIssuedCount(couponId)) {
+                issuedCount++;
+            }
+        }
+
+        LocalDateTime issuedAt = LocalDateTime.now();
+        List<UserCoupon> userCoupons = accepted.subList(0, issuedCount).stream()
+                .map(message -> UserCoupon.builder()
+                        .userId(message.getUserId())
+                        .couponId(couponId)
+                        .discountAmount(message.getDiscountAmount())
+                        .issuedAt(issuedAt)
+                        .build())
+                .toList();
+        saveUserCouponPort.saveUserCoupons(userCoupons);
+        return issuedCount;
+    }
+
+    /**
+     * 조건부 UPDATE 실패가 발급 수량 상한 때문인지 확인 (조회 실패 시 소진으로 보지 않음)
+     */
+    private boolean isIssuanceLimitReached(Long couponId) {
+        try {
+            return loadCouponPort.loadCouponById(couponId)
+                    .map(coupon -> coupon.getIssuedCount() >= coupon.getMaxIssuanceCount())
+                    .orElse(false);
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 수량 상한 확인 실패 - couponId: {}", couponId, e);
+            return false;
+        }
+    }
+
+    private RedisCouponQueueService.CouponIssueResult success(Long couponId) {
+        return new RedisCouponQueueService.CouponIssueResult(true,
+                String.format("쿠폰 발급 완료 - 쿠폰ID: %d", couponId), LocalDateTime.now());
+    }
+
+    private RedisCouponQueueService.CouponIssueResult failure(String message) {
+        return new RedisCouponQueueService.CouponIssueResult(false, message, LocalDateTime.now());
+    }
+}
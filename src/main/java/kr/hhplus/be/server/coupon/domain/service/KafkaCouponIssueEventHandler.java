@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.coupon.domain.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.hhplus.be.server.coupon.application.port.out.LoadCouponPort;
 import kr.hhplus.be.server.coupon.application.port.out.LoadUserPort;
 import kr.hhplus.be.server.coupon.application.port.out.SaveUserCouponPort;
@@ -7,6 +9,7 @@ import kr.hhplus.be.server.coupon.domain.UserCoupon;
 import kr.hhplus.be.server.shared.kafka.CouponIssueMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -20,9 +23,11 @@ import java.time.LocalDateTime;
 /**
  * Kafka 기반 쿠폰 발급 이벤트 핸들러
  * 실제 쿠폰 발급 처리를 비동기로 수행
+ * 레코드 단위 처리 (coupon.issue.consumer-mode=single, 기본값) - 배치 처리는 KafkaCouponIssueBatchEventHandler
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "coupon.issue.consumer-mode", havingValue = "single", matchIfMissing = true)
 @RequiredArgsConstructor
 public class KafkaCouponIssueEventHandler {
     
@@ -31,6 +36,8 @@ public class KafkaCouponIssueEventHandler {
     private final SaveUserCouponPort saveUserCouponPort;
     private final RedisCouponService redisCouponService;
     private final RedisCouponQueueService queueService;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final MeterRegistry meterRegistry;
     
     @KafkaListener(
         topics = "coupon-issue-events",
@@ -90,13 +97,27 @@ public class KafkaCouponIssueEventHandler {
             return;
         }
         
-        // 2. DB에서 쿠폰 정보 확인 및 발급 수량 증가
-        boolean dbUpdated = loadCouponPort.incrementIssuedCount(couponId);
+        // 2. DB에서 쿠폰 정보 확인 및 발급 수량 증가 (대기실 입장 제어용으로 DB 처리 시간 기록 - 실패 포함)
+        Timer.Sample dbSample = Timer.start(meterRegistry);
+        boolean dbUpdated;
+        try {
+            dbUpdated = loadCouponPort.incrementIssuedCount(couponId);
+        } catch (RuntimeException e) {
+            dbSample.stop(dbLatencyTimer());
+            throw e;
+        }
         if (!dbUpdated) {
+            dbSample.stop(dbLatencyTimer());
             log.error("DB 쿠폰 발급 수량 증가 실패 - couponId: {}, userId: {}", couponId, userId);
             
-            // Redis 롤백
+            // Redis 롤백 후, 수량 상한 때문에 실패한 경우에만 소진 표시 (롤백의 표시 해제보다 뒤에 표시)
             redisCouponService.rollbackCouponIssuance(couponId, userId);
+            if (!isIssuanceLimitReached(couponId)) {
+                // 비활성/삭제된 쿠폰 - 소진 표시하면 다시 활성화돼도 local-ttl-ms 동안 거절됨
+                queueService.saveIssueResult(couponId, userId, false, "발급할 수 없는 쿠폰입니다.");
+                return;
+            }
+            soldOutRegistry.markSoldOut(couponId);
             
             queueService.saveIssueResult(couponId, userId, false, "쿠폰이 모두 소진되었습니다.");
             return;
@@ -111,7 +132,12 @@ public class KafkaCouponIssueEventHandler {
                     .issuedAt(LocalDateTime.now())
                     .build();
             
-            UserCoupon savedUserCoupon = saveUserCouponPort.saveUserCoupon(userCoupon);
+            UserCoupon savedUserCoupon;
+            try {
+                savedUserCoupon = saveUserCouponPort.saveUserCoupon(userCoupon);
+            } finally {
+                dbSample.stop(dbLatencyTimer());
+            }
             
             // 4. Redis 캐시 업데이트
             redisCouponService.updateCouponIssuedCount(couponId, null);
@@ -140,4 +166,17 @@ public class KafkaCouponIssueEventHandler {
             throw e;
         }
     }
+
+    /**
+     * 조건부 UPDATE 실패가 발급 수량 상한 때문인지 확인
+     */
+    private boolean isIssuanceLimitReached(Long couponId) {
+        return loadCouponPort.loadCouponById(couponId)
+                .map(coupon -> coupon.getIssuedCount() >= coupon.getMaxIssuanceCount())
+                .orElse(false);
+    }
+
+    private Timer dbLatencyTimer() {
+        return meterRegistry.timer("coupon.issue.db.latency");
+    }
 }
\ No newline at end of file
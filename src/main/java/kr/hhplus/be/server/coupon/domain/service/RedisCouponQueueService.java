@@ -1,23 +1,71 @@
 package kr.hhplus.be.server.coupon.domain.service;
 
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Redis 기반 쿠폰 대기열 서비스
  * 선착순 쿠폰 발급을 위한 트래픽 제어 및 대기열 관리
+ * 대기열이 있는 쿠폰 ID는 {coupon:queue}:active 집합에 등록 (KEYS 스캔 없이 처리 대상 조회)
+ * 대기열 키({coupon:queue}:{couponId})와 등록 집합은 등록 해제/재등록 스크립트가 함께 다루므로
+ * {coupon:queue} 해시 태그를 공유 - Redis Cluster에서도 한 슬롯에 모여 CROSSSLOT 없이 실행됨 (대기열은 한 샤드에 집중)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisCouponQueueService {
 
+    private static final String ACTIVE_QUEUE_KEY = "{coupon:queue}:active";
+    private static final String QUEUE_KEY_PREFIX = "{coupon:queue}:";
+    private static final String LEGACY_QUEUE_KEY_PREFIX = "coupon:queue:";
+    private static final Duration QUEUE_TTL = Duration.ofHours(25);
+    private static final Duration RESULT_TTL = Duration.ofMinutes(30);
+
+    /**
+     * 빈 대기열 등록 해제 - 확인과 해제 사이에 추가된 사용자가 있으면 유지
+     * KEYS: queue key, active queue key
+     * ARGV: couponId
+     */
+    private static final RedisScript<Long> DEREGISTER_IF_EMPTY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                return redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 발행 실패한 사용자를 원래 대기 순서(score)로 재등록
+     * 그 사이 다시 요청해 대기열에 있으면 기존 순서 유지 (ZADD NX)
+     * KEYS: queue key, active queue key
+     * ARGV: userId, score, ttlSeconds, couponId
+     * 반환: 1 재등록 / 0 이미 대기 중
+     */
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local added = redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            return added
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     /**
@@ -42,7 +90,9 @@ public class RedisCouponQueueService {
             
             if (Boolean.TRUE.equals(added)) {
                 // TTL 설정 (쿠폰 발급 기간 + 1시간)
-                redisTemplate.expire(queueKey, Duration.ofHours(25));
+                redisTemplate.expire(queueKey, QUEUE_TTL);
+                // 처리 대상 등록 (ZADD 이후에 등록해야 등록 해제 스크립트와 경합해도 누락 없음)
+                redisTemplate.opsForSet().add(ACTIVE_QUEUE_KEY, couponId);
                 log.debug("대기열 추가 성공 - couponId: {}, userId: {}, score: {}", couponId, userId, score);
                 return true;
             }
@@ -79,6 +129,114 @@ public class RedisCouponQueueService {
         }
     }
 
+    /**
+     * 대기열에서 가장 오래된 사용자들을 한 번에 꺼냄 (ZPOPMIN count)
+     * 대기열이 비면 처리 대상에서 등록 해제
+     * @return 대기 순서대로 정렬된 사용자 (재등록 시 원래 순서를 지키도록 score 포함)
+     */
+    public List<QueuedUser> popBatchFromQueue(Long couponId, int count) {
+        String queueKey = generateQueueKey(couponId);
+
+        try {
+            Set<ZSetOperations.TypedTuple<Object>> popped = redisTemplate.opsForZSet().popMin(queueKey, count);
+            List<QueuedUser> users = popped == null ? List.of() : popped.stream()
+                    .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+                    .map(tuple -> new QueuedUser(Long.parseLong(tuple.getValue().toString()), tuple.getScore()))
+                    .toList();
+
+            if (users.size() < count) {
+                redisTemplate.execute(DEREGISTER_IF_EMPTY_SCRIPT, List.of(queueKey, ACTIVE_QUEUE_KEY), couponId);
+            }
+            log.debug("대기열 일괄 추출 - couponId: {}, requested: {}, popped: {}", couponId, count, users.size());
+            return users;
+
+        } catch (Exception e) {
+            log.error("대기열 일괄 추출 실패 - couponId: {}", couponId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 꺼낸 사용자를 원래 score로 대기열에 되돌림 (발행 실패 시)
+     * @return true: 재등록, false: 이미 대기 중이거나 Redis 오류
+     */
+    public boolean requeue(Long couponId, QueuedUser user) {
+        try {
+            Long added = redisTemplate.execute(REQUEUE_SCRIPT,
+                    List.of(generateQueueKey(couponId), ACTIVE_QUEUE_KEY),
+                    user.userId().toString(), user.score(), QUEUE_TTL.toSeconds(), couponId);
+            return added != null && added == 1L;
+        } catch (Exception e) {
+            log.error("대기열 재등록 실패 - couponId: {}, userId: {}", couponId, user.userId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 처리 대상 집합에 없는 대기열을 등록 (기동 시 1회, SCAN)
+     * 해시 태그 도입 전 키(coupon:queue:{couponId})에 남은 대기열은 원래 score로 옮긴 뒤 등록
+     * @return 등록한 쿠폰 수
+     */
+    public int backfillActiveQueues() {
+        int registered = 0;
+        for (String prefix : List.of(QUEUE_KEY_PREFIX, LEGACY_QUEUE_KEY_PREFIX)) {
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    String suffix = key.substring(prefix.length());
+                    if (suffix.isEmpty() || !suffix.chars().allMatch(Character::isDigit)) {
+                        continue; // 등록 집합 등 대기열이 아닌 키
+                    }
+                    Long couponId = Long.parseLong(suffix);
+                    if (prefix.equals(LEGACY_QUEUE_KEY_PREFIX)) {
+                        moveLegacyQueue(key, couponId);
+                    }
+                    Long size = redisTemplate.opsForZSet().size(generateQueueKey(couponId));
+                    if (size != null && size > 0) {
+                        redisTemplate.opsForSet().add(ACTIVE_QUEUE_KEY, couponId);
+                        registered++;
+                    }
+                }
+            } catch (Exception e) {
+                log.error("처리 대상 대기열 복구 실패 - prefix: {}", prefix, e);
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * 이전 키의 대기열을 새 키로 이동 (슬롯이 다를 수 있어 스크립트 대신 조회 후 ZADD NX)
+     */
+    private void moveLegacyQueue(String legacyKey, Long couponId) {
+        Set<ZSetOperations.TypedTuple<Object>> entries = redisTemplate.opsForZSet().rangeWithScores(legacyKey, 0, -1);
+        if (entries != null && !entries.isEmpty()) {
+            String queueKey = generateQueueKey(couponId);
+            redisTemplate.opsForZSet().addIfAbsent(queueKey, entries);
+            redisTemplate.expire(queueKey, QUEUE_TTL);
+        }
+        redisTemplate.delete(legacyKey);
+        log.info("이전 대기열 키 이동 - couponId: {}, count: {}", couponId, entries != null ? entries.size() : 0);
+    }
+
+    /**
+     * 대기열이 있는 쿠폰 ID 목록
+     */
+    public Set<Long> getActiveQueueCouponIds() {
+        try {
+            Set<Object> members = redisTemplate.opsForSet().members(ACTIVE_QUEUE_KEY);
+            if (members == null) {
+                return Collections.emptySet();
+            }
+            return members.stream()
+                    .map(member -> Long.parseLong(member.toString()))
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.error("처리 대상 대기열 조회 실패", e);
+            return Collections.emptySet();
+        }
+    }
+
     /**
      * 스케줄러용 - 대기열에서 사용자 ID를 꺼냄 (별칭 메서드)
      */
@@ -142,13 +300,46 @@ public class RedisCouponQueueService {
         
         try {
             CouponIssueResult result = new CouponIssueResult(success, message, LocalDateTime.now());
-            redisTemplate.opsForValue().set(resultKey, result, Duration.ofMinutes(30));
+            redisTemplate.opsForValue().set(resultKey, result, RESULT_TTL);
+            // 결과를 기다리는 연결이 있는 노드에 알림
+            redisTemplate.convertAndSend(RedisKeyConstants.COUPON_ISSUE_RESULT_CHANNEL,
+                    CouponIssueResultNotifier.notification(couponId, userId, result));
             log.debug("쿠폰 발급 결과 저장 - couponId: {}, userId: {}, success: {}", couponId, userId, success);
         } catch (Exception e) {
             log.error("쿠폰 발급 결과 저장 실패 - couponId: {}, userId: {}", couponId, userId, e);
         }
     }
 
+    /**
+     * 쿠폰 발급 결과 일괄 저장 (배치 컨슈머용)
+     * 사용자별 SET + 결과 알림 PUBLISH를 파이프라인 한 번으로 전송
+     * @param results userId → 발급 결과
+     */
+    public void saveIssueResults(Long couponId, Map<Long, CouponIssueResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    results.forEach((userId, result) -> {
+                        ops.opsForValue().set(generateResultKey(couponId, userId), result, RESULT_TTL);
+                        ops.convertAndSend(RedisKeyConstants.COUPON_ISSUE_RESULT_CHANNEL,
+                                CouponIssueResultNotifier.notification(couponId, userId, result));
+                    });
+                    return null;
+                }
+            });
+            log.debug("쿠폰 발급 결과 일괄 저장 - couponId: {}, count: {}", couponId, results.size());
+        } catch (Exception e) {
+            log.error("쿠폰 발급 결과 일괄 저장 실패 - couponId: {}, count: {}", couponId, results.size(), e);
+        }
+    }
+
     /**
      * 쿠폰 발급 결과 조회
      */
@@ -167,7 +358,7 @@ public class RedisCouponQueueService {
      * 대기열 키 생성
      */
     private String generateQueueKey(Long couponId) {
-        return "coupon:queue:" + couponId;
+        return QUEUE_KEY_PREFIX + couponId;
     }
 
     /**
@@ -177,6 +368,12 @@ public class RedisCouponQueueService {
         return "coupon:result:" + couponId + ":" + userId;
     }
 
+    /**
+     * 대기열에서 꺼낸 사용자 (score = 대기열 등록 시각)
+     */
+    public record QueuedUser(Long userId, double score) {
+    }
+
     /**
      * 쿠폰 발급 결과
      */
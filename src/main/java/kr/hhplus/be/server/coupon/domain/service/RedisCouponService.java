@@ -1,12 +1,19 @@
 package kr.hhplus.be.server.coupon.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
@@ -14,62 +21,138 @@ import java.util.Optional;
 /**
  * Redis 기반 선착순 쿠폰 발급 서비스
  * 기존 DB 기반 로직과 병행하여 사용
+ * 발급 방식은 샤드 모드 키(coupon:issue-shards:{id})로 쿠폰마다 결정 - TTL 없이 두어 쿠폰 정보 만료/삭제와 무관하게 유지
+ * - 없음: 단일 Set (coupon:issued:{id})
+ * - K(≥2): 샤드 모드 - 수량을 K개 샤드에 나눠 두고 사용자를 홈 샤드로 라우팅, 홈 샤드 소진 시 이웃 샤드 수량 사용
+ * 샤드 모드는 최대 발급 수량이 coupon.issue.sharding.min-issuance 이상인 쿠폰 정보를 처음 캐싱할 때 켜짐
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisCouponService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final long ISSUE_SUCCESS = 1L;
+    private static final long ISSUE_DUPLICATE = 0L;
+    private static final Duration ISSUED_KEY_TTL = Duration.ofDays(30);
 
     /**
-     * Redis 기반 선착순 쿠폰 발급 체크 (기본 명령어 사용)
-     * 기존 IssueCouponService에서 DB 처리 전에 호출
-     * 
-     * 주의: 만료일 체크는 DB에서 수행하므로 Redis에서는 수량과 중복 발급만 체크
+     * 선착순 발급
+     * KEYS: coupon:issued:{couponId}
+     * ARGV: userId, maxIssuanceCount, ttlSeconds
+     * 반환: 1 발급 / 0 이미 발급 / -1 소진
      */
-    public CouponIssueResult checkAndIssueCoupon(Long couponId, Long userId, Integer maxIssuanceCount) {
-        String issuedKey = generateIssuedKey(couponId);
-        String userKey = userId.toString();
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 0
+            end
+            if redis.call('SCARD', KEYS[1]) >= tonumber(ARGV[2]) then
+                return -1
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
 
-        try {
-            // 1. 이미 발급받았는지 확인
-            Boolean isMember = redisTemplate.opsForSet().isMember(issuedKey, userKey);
-            if (Boolean.TRUE.equals(isMember)) {
-                return CouponIssueResult.failure("이미 발급받은 쿠폰입니다.");
-            }
+    private static final long SHARD_ISSUE_DUPLICATE = 0L;
+    private static final long SHARD_ISSUE_SOLD_OUT = -1L;
+    private static final Duration SHARD_MODE_LOCAL_TTL = Duration.ofSeconds(5);
 
-            // 2. 현재 발급 수량 확인
-            Long currentCount = redisTemplate.opsForSet().size(issuedKey);
-            if (currentCount != null && currentCount >= maxIssuanceCount) {
-                return CouponIssueResult.failure("쿠폰이 모두 소진되었습니다.");
-            }
+    /**
+     * 샤드 모드 전환 - 샤드별 잔여 수량 키와 모드 키를 한 번에 기록 (잔여 수량 없이 모드만 켜지는 구간 없음)
+     * KEYS: 모드 키, 샤드 0..K-1 잔여 수량 (모두 같은 해시 태그)
+     * ARGV: shardCount, ttlSeconds, 샤드 0..K-1 수량
+     * 반환: 1 전환 / 0 이미 샤드 모드
+     */
+    private static final RedisScript<Long> ENABLE_SHARDS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #KEYS do
+                redis.call('SET', KEYS[i], ARGV[i + 1], 'EX', ARGV[2], 'NX')
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
 
-            // 3. 발급 처리 (SADD는 이미 존재하면 0, 새로 추가되면 1 반환)
-            Long added = redisTemplate.opsForSet().add(issuedKey, userKey);
+    /**
+     * 샤드 모드 발급 (홈 샤드 → 이웃 샤드 순서로 수량 1개 확보 후 홈 샤드에 기록)
+     * 사용자는 항상 홈 샤드 Set에만 기록되므로 중복 판정은 정확하고,
+     * 수량을 확보한 경우에만 기록하므로 소진 시 기록이 잠깐 남는 구간이 없음
+     * KEYS: 홈 샤드 Set, 홈 샤드부터 차례로 샤드 잔여 수량 (모두 같은 해시 태그)
+     * ARGV: userId, ttlSeconds
+     * 반환: n(≥1) 발급 (n번째 잔여 수량 키에서 확보, 1이면 홈 샤드) / 0 이미 발급 / -1 소진
+     */
+    private static final RedisScript<Long> SHARD_ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 0
+            end
+            for i = 2, #KEYS do
+                if tonumber(redis.call('GET', KEYS[i]) or '0') > 0 then
+                    redis.call('DECR', KEYS[i])
+                    redis.call('SADD', KEYS[1], ARGV[1])
+                    redis.call('EXPIRE', KEYS[1], ARGV[2])
+                    return i - 1
+                end
+            end
+            return -1
+            """, Long.class);
 
-            if (added != null && added > 0) {
-                // 4. TTL 설정 (30일)
-                redisTemplate.expire(issuedKey, Duration.ofDays(30));
-                log.debug("Redis 쿠폰 발급 성공 - couponId: {}, userId: {}", couponId, userId);
-                return CouponIssueResult.success();
-            } else {
-                // 동시 요청으로 인해 이미 추가된 경우
-                return CouponIssueResult.failure("이미 발급받은 쿠폰입니다.");
-            }
+    /**
+     * 샤드 모드 발급 롤백 - 사용자 제거 후 수량은 홈 샤드로 반환 (전체 수량 보존)
+     * KEYS: 홈 샤드 Set, 홈 샤드 잔여 수량
+     * ARGV: userId
+     */
+    private static final RedisScript<Long> SHARD_ROLLBACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+                redis.call('INCR', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
 
-        } catch (Exception e) {
-            log.warn("Redis 쿠폰 발급 체크 실패 - couponId: {}, userId: {}", couponId, userId, e);
-            // Redis 실패 시 DB 로직으로 fallback
-            return CouponIssueResult.fallbackToDb();
-        }
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponInfoNearCache couponInfoNearCache;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final int shardingMinIssuance;
+    private final int shardingShards;
+
+    /**
+     * 쿠폰별 샤드 수 로컬 캐시 (요청마다 해시 조회 방지)
+     */
+    private final Cache<Long, Integer> issueShardCounts = Caffeine.newBuilder()
+            .expireAfterWrite(SHARD_MODE_LOCAL_TTL)
+            .maximumSize(10_000)
+            .build();
+
+    public RedisCouponService(RedisTemplate<String, Object> redisTemplate,
+                              CouponInfoNearCache couponInfoNearCache,
+                              CouponSoldOutRegistry soldOutRegistry,
+                              @Value("${coupon.issue.sharding.min-issuance:0}") int shardingMinIssuance,
+                              @Value("${coupon.issue.sharding.shards:8}") int shardingShards) {
+        this.redisTemplate = redisTemplate;
+        this.couponInfoNearCache = couponInfoNearCache;
+        this.soldOutRegistry = soldOutRegistry;
+        this.shardingMinIssuance = shardingMinIssuance;
+        this.shardingShards = shardingShards;
+    }
+
+    /**
+     * Redis 기반 선착순 쿠폰 발급 체크
+     * 기존 IssueCouponService에서 DB 처리 전에 호출
+     * 
+     * 주의: 만료일 체크는 DB에서 수행하므로 Redis에서는 수량과 중복 발급만 체크
+     */
+    public CouponIssueResult checkAndIssueCoupon(Long couponId, Long userId, Integer maxIssuanceCount) {
+        return issueWithScript(couponId, userId, maxIssuanceCount);
     }
 
     /**
      * 사용자 발급 여부 확인
      */
     public Boolean isUserIssued(Long couponId, Long userId) {
-        String issuedKey = generateIssuedKey(couponId);
+        int shardCount = getIssueShardCount(couponId);
+        String issuedKey = shardCount > 1
+                ? generateShardIssuedKey(couponId, homeShard(userId, shardCount))
+                : generateIssuedKey(couponId);
         
         try {
             return redisTemplate.opsForSet().isMember(issuedKey, userId.toString());
@@ -86,6 +169,10 @@ public class RedisCouponService {
         String issuedKey = generateIssuedKey(couponId);
         
         try {
+            int shardCount = getIssueShardCount(couponId);
+            if (shardCount > 1) {
+                return getShardedIssuedCount(couponId, shardCount);
+            }
             return redisTemplate.opsForSet().size(issuedKey);
         } catch (Exception e) {
             log.warn("현재 발급 수량 조회 실패 - couponId: {}", couponId, e);
@@ -106,42 +193,183 @@ public class RedisCouponService {
 
 
     /**
-     * Redis 기반 선착순 쿠폰 발급 체크 (최적화된 방법)
-     * Redis의 기본 명령어만 사용하여 성능 최적화
+     * Redis 기반 선착순 쿠폰 발급 체크 (비동기 워커용)
+     * checkAndIssueCoupon과 같은 스크립트 사용
      */
     public CouponIssueResult checkAndIssueCouponOptimized(Long couponId, Long userId, Integer maxIssuanceCount) {
+        return issueWithScript(couponId, userId, maxIssuanceCount);
+    }
+
+    /**
+     * 중복 확인 → 수량 확인 → 발급 → TTL을 스크립트 한 번으로 처리 (왕복 1회)
+     * 스크립트 실행 중에는 다른 명령이 끼어들 수 없으므로 노드가 여러 대여도 초과 발급 없음
+     */
+    private CouponIssueResult issueWithScript(Long couponId, Long userId, Integer maxIssuanceCount) {
+        if (soldOutRegistry.isSoldOut(couponId)) {
+            return CouponIssueResult.failure("쿠폰이 모두 소진되었습니다.");
+        }
+
+        int shardCount = getIssueShardCount(couponId);
+        if (shardCount > 1) {
+            return issueWithShards(couponId, userId, shardCount);
+        }
+
         String issuedKey = generateIssuedKey(couponId);
-        String userKey = userId.toString();
-        
+
         try {
-            // 1. SADD로 한 번에 처리 (이미 존재하면 0, 새로 추가되면 1 반환)
-            Long added = redisTemplate.opsForSet().add(issuedKey, userKey);
-            
-            if (added != null && added > 0) {
-                // 2. 새로 추가된 경우에만 수량 체크
-                Long currentCount = redisTemplate.opsForSet().size(issuedKey);
-                
-                if (currentCount != null && currentCount > maxIssuanceCount) {
-                    // 3. 수량 초과 시 제거
-                    redisTemplate.opsForSet().remove(issuedKey, userKey);
-                    return CouponIssueResult.failure("쿠폰이 모두 소진되었습니다.");
-                }
-                
-                // 4. TTL 설정 (30일)
-                redisTemplate.expire(issuedKey, Duration.ofDays(30));
-                log.debug("Redis 쿠폰 발급 성공 (최적화) - couponId: {}, userId: {}", couponId, userId);
+            Long status = redisTemplate.execute(ISSUE_SCRIPT, List.of(issuedKey),
+                    userId.toString(), maxIssuanceCount, ISSUED_KEY_TTL.toSeconds());
+
+            if (status == null) {
+                return CouponIssueResult.fallbackToDb();
+            }
+            if (status == ISSUE_SUCCESS) {
+                log.debug("Redis 쿠폰 발급 성공 - couponId: {}, userId: {}", couponId, userId);
                 return CouponIssueResult.success();
-            } else {
-                // 이미 발급받은 경우
+            }
+            if (status == ISSUE_DUPLICATE) {
                 return CouponIssueResult.failure("이미 발급받은 쿠폰입니다.");
             }
-            
+            soldOutRegistry.markSoldOut(couponId);
+            return CouponIssueResult.failure("쿠폰이 모두 소진되었습니다.");
+
+        } catch (Exception e) {
+            log.warn("Redis 쿠폰 발급 체크 실패 - couponId: {}, userId: {}", couponId, userId, e);
+            // Redis 실패 시 DB 로직으로 fallback
+            return CouponIssueResult.fallbackToDb();
+        }
+    }
+
+    /**
+     * 샤드 모드 발급 - 홈 샤드 소진 시 이웃 샤드 수량 사용까지 스크립트 1회로 처리
+     */
+    private CouponIssueResult issueWithShards(Long couponId, Long userId, int shardCount) {
+        int home = homeShard(userId, shardCount);
+        List<String> keys = new ArrayList<>(shardCount + 1);
+        keys.add(generateShardIssuedKey(couponId, home));
+        for (int offset = 0; offset < shardCount; offset++) {
+            keys.add(generateShardRemainingKey(couponId, (home + offset) % shardCount));
+        }
+
+        try {
+            Long status = redisTemplate.execute(SHARD_ISSUE_SCRIPT, keys,
+                    userId.toString(), ISSUED_KEY_TTL.toSeconds());
+
+            if (status == null) {
+                return CouponIssueResult.fallbackToDb();
+            }
+            if (status == SHARD_ISSUE_DUPLICATE) {
+                return CouponIssueResult.failure("이미 발급받은 쿠폰입니다.");
+            }
+            if (status == SHARD_ISSUE_SOLD_OUT) {
+                soldOutRegistry.markSoldOut(couponId);
+                return CouponIssueResult.failure("쿠폰이 모두 소진되었습니다.");
+            }
+            if (status > 1) {
+                log.debug("Redis 샤드 쿠폰 발급 성공 (이웃 샤드) - couponId: {}, userId: {}, home: {}, shard: {}",
+                        couponId, userId, home, (home + status - 1) % shardCount);
+            }
+            return CouponIssueResult.success();
+
         } catch (Exception e) {
-            log.warn("Redis 쿠폰 발급 체크 실패 (최적화) - couponId: {}, userId: {}", couponId, userId, e);
+            log.warn("Redis 샤드 쿠폰 발급 체크 실패 - couponId: {}, userId: {}", couponId, userId, e);
             return CouponIssueResult.fallbackToDb();
         }
     }
 
+    /**
+     * 쿠폰을 샤드 모드로 전환 (발급 시작 전에 호출)
+     * 최대 발급 수량을 shardCount개 샤드에 나눈 잔여 수량 키와 모드 키를 스크립트 한 번으로 기록
+     * 다른 노드는 로컬 캐시 TTL(5초) 안에 전환을 인지하므로 이벤트 오픈 전에 호출해야 함
+     * @return 샤드 모드 여부 (이미 단일 Set으로 발급된 쿠폰은 중복 판정을 보장할 수 없어 거부)
+     */
+    public boolean enableShardedIssuance(Long couponId, int shardCount, int maxIssuanceCount) {
+        if (shardCount < 2) {
+            throw new IllegalArgumentException("샤드 수는 2 이상이어야 합니다.");
+        }
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(generateIssuedKey(couponId)))) {
+            log.warn("샤드 모드 전환 거부 - 이미 발급 이력 존재, couponId: {}", couponId);
+            return false;
+        }
+
+        // 수량 선분할 - 나머지는 앞쪽 샤드에 1개씩
+        List<String> keys = new ArrayList<>(shardCount + 1);
+        List<Object> args = new ArrayList<>(shardCount + 2);
+        keys.add(generateShardModeKey(couponId));
+        args.add(shardCount);
+        args.add(ISSUED_KEY_TTL.toSeconds());
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(generateShardRemainingKey(couponId, shard));
+            args.add(maxIssuanceCount / shardCount + (shard < maxIssuanceCount % shardCount ? 1 : 0));
+        }
+
+        Long enabled = redisTemplate.execute(ENABLE_SHARDS_SCRIPT, keys, args.toArray());
+        issueShardCounts.invalidate(couponId);
+        if (enabled != null && enabled == 1L) {
+            log.info("쿠폰 샤드 모드 전환 - couponId: {}, shards: {}, max: {}", couponId, shardCount, maxIssuanceCount);
+        } else {
+            log.info("쿠폰 샤드 모드 이미 적용 - couponId: {}", couponId);
+        }
+        return true;
+    }
+
+    /**
+     * 설정 기준 이상의 대량 발급 쿠폰이고 아직 단일 모드인 경우
+     */
+    private boolean shouldEnableSharding(Long couponId, Integer maxIssuanceCount) {
+        return shardingMinIssuance > 0 && shardingShards > 1
+                && maxIssuanceCount != null && maxIssuanceCount >= shardingMinIssuance
+                && getIssueShardCount(couponId) == 1;
+    }
+
+    /**
+     * 쿠폰의 발급 샤드 수 (1이면 단일 Set)
+     */
+    private int getIssueShardCount(Long couponId) {
+        Integer cached = issueShardCounts.getIfPresent(couponId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int shardCount = 1;
+        try {
+            Object value = redisTemplate.opsForValue().get(generateShardModeKey(couponId));
+            if (value != null) {
+                shardCount = Math.max(1, Integer.parseInt(value.toString()));
+            } else if (!Boolean.TRUE.equals(redisTemplate.hasKey(generateCouponInfoKey(couponId)))) {
+                // 쿠폰 정보가 아직 캐싱 전이면 캐싱 시점에 샤드 모드로 바뀔 수 있으므로 단일 모드를 기억하지 않음
+                return 1;
+            }
+        } catch (Exception e) {
+            // 조회 실패 시 캐싱하지 않고 단일 모드로 처리
+            log.warn("쿠폰 샤드 모드 조회 실패 - couponId: {}", couponId, e);
+            return 1;
+        }
+        issueShardCounts.put(couponId, shardCount);
+        return shardCount;
+    }
+
+    /**
+     * 샤드 Set 크기 합계 (파이프라인 1회)
+     */
+    private Long getShardedIssuedCount(Long couponId, int shardCount) {
+        List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int shard = 0; shard < shardCount; shard++) {
+                connection.setCommands().sCard(generateShardIssuedKey(couponId, shard).getBytes());
+            }
+            return null;
+        });
+        long total = 0;
+        for (Object size : sizes) {
+            total += size != null ? ((Number) size).longValue() : 0;
+        }
+        return total;
+    }
+
+    private int homeShard(Long userId, int shardCount) {
+        return Math.floorMod(Long.hashCode(userId), shardCount);
+    }
+
     /**
      * 쿠폰 정보를 Redis에 캐싱
      */
@@ -162,8 +390,12 @@ public class RedisCouponService {
             couponData.put("validFrom", validFrom != null ? validFrom.toString() : "");
             couponData.put("validTo", validTo != null ? validTo.toString() : "");
             
+            if (shouldEnableSharding(couponId, maxIssuanceCount)) {
+                enableShardedIssuance(couponId, shardingShards, maxIssuanceCount);
+            }
             redisTemplate.opsForHash().putAll(couponKey, couponData);
-            redisTemplate.expire(couponKey, Duration.ofHours(24)); // 24시간 캐시
+            redisTemplate.expire(couponKey, Duration.ofHours(24)); // 24시간 캐시 (샤드 모드는 별도 키라 만료와 무관)
+            couponInfoNearCache.invalidate(couponId);
             
             log.debug("쿠폰 정보 캐싱 완료 - couponId: {}", couponId);
         } catch (Exception e) {
@@ -172,9 +404,16 @@ public class RedisCouponService {
     }
 
     /**
-     * Redis에서 쿠폰 정보 조회
+     * 쿠폰 정보 조회 (노드 로컬 Near Cache → Redis 해시)
      */
     public Optional<CouponInfo> getCouponInfoFromCache(Long couponId) {
+        return couponInfoNearCache.get(couponId, this::loadCouponInfoFromRedis);
+    }
+
+    /**
+     * Redis에서 쿠폰 정보 조회
+     */
+    private Optional<CouponInfo> loadCouponInfoFromRedis(Long couponId) {
         String couponKey = generateCouponInfoKey(couponId);
         
         try {
@@ -216,6 +455,7 @@ public class RedisCouponService {
                 // newIssuedCount가 null인 경우 현재 값을 증가
                 redisTemplate.opsForHash().increment(couponKey, "issuedCount", 1);
             }
+            couponInfoNearCache.invalidateIssuedCount(couponId);
             log.debug("쿠폰 발급 수량 업데이트 - couponId: {}, newCount: {}", couponId, newIssuedCount);
         } catch (Exception e) {
             log.warn("쿠폰 발급 수량 업데이트 실패 - couponId: {}", couponId, e);
@@ -230,8 +470,19 @@ public class RedisCouponService {
         String userKey = userId.toString();
         
         try {
-            Long removed = redisTemplate.opsForSet().remove(issuedKey, userKey);
+            int shardCount = getIssueShardCount(couponId);
+            Long removed;
+            if (shardCount > 1) {
+                int home = homeShard(userId, shardCount);
+                removed = redisTemplate.execute(SHARD_ROLLBACK_SCRIPT,
+                        List.of(generateShardIssuedKey(couponId, home), generateShardRemainingKey(couponId, home)),
+                        userKey);
+            } else {
+                removed = redisTemplate.opsForSet().remove(issuedKey, userKey);
+            }
             if (removed != null && removed > 0) {
+                // 수량이 돌아왔으므로 소진 표시 해제
+                soldOutRegistry.clear(couponId);
                 log.info("쿠폰 발급 롤백 완료 - couponId: {}, userId: {}", couponId, userId);
             }
         } catch (Exception e) {
@@ -247,6 +498,7 @@ public class RedisCouponService {
         
         try {
             redisTemplate.delete(couponKey);
+            couponInfoNearCache.invalidate(couponId);
             log.debug("쿠폰 정보 삭제 - couponId: {}", couponId);
         } catch (Exception e) {
             log.warn("쿠폰 정보 삭제 실패 - couponId: {}", couponId, e);
@@ -257,6 +509,21 @@ public class RedisCouponService {
         return "coupon:issued:" + couponId;
     }
 
+    /**
+     * 샤드 키는 쿠폰 단위 해시 태그를 공유 - 이웃 샤드 수량 사용까지 한 스크립트에서 처리하기 위해 같은 슬롯에 배치
+     */
+    private String generateShardIssuedKey(Long couponId, int shard) {
+        return "coupon:issued:{" + couponId + "}:" + shard;
+    }
+
+    private String generateShardRemainingKey(Long couponId, int shard) {
+        return "coupon:remaining:{" + couponId + "}:" + shard;
+    }
+
+    private String generateShardModeKey(Long couponId) {
+        return "coupon:issue-shards:{" + couponId + "}";
+    }
+
     private String generateCouponInfoKey(Long couponId) {
         return "coupon:info:" + couponId;
     }
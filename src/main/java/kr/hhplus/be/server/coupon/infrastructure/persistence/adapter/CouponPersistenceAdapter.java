@@ -7,6 +7,8 @@ import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.CouponEntity
 import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.CouponJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -73,45 +75,66 @@ public class CouponPersistenceAdapter implements LoadCouponPort, SaveCouponPort
         int updatedRows = couponJpaRepository.incrementIssuedCount(couponId);
         
         if (updatedRows > 0) {
-            // DB 업데이트 성공 시 Redis 캐시도 업데이트
-            try {
-                // 현재 발급 수량 조회
-                Optional<CouponEntity> couponOpt = couponJpaRepository.findById(couponId);
-                if (couponOpt.isPresent()) {
-                    CouponEntity coupon = couponOpt.get();
-                    redisCouponService.updateCouponIssuedCount(couponId, coupon.getIssuedCount());
-                }
-            } catch (Exception e) {
-                // Redis 업데이트 실패는 로그만 남기고 DB 업데이트는 성공으로 처리
-                // Redis는 캐시이므로 DB가 원본 데이터
-            }
+            // DB 업데이트 성공 시 커밋 후 Redis 캐시도 업데이트
+            updateIssuedCountCacheAfterCommit(couponId);
         }
         
         return updatedRows > 0;
     }
-    
+
+    @Override
+    @Transactional
+    public boolean incrementIssuedCountByBatch(Long couponId, int count) {
+        int updatedRows = couponJpaRepository.incrementIssuedCountByBatch(couponId, count);
+
+        if (updatedRows > 0) {
+            // 배치당 한 번만 Redis 캐시 갱신 (커밋 후)
+            updateIssuedCountCacheAfterCommit(couponId);
+        }
+
+        return updatedRows > 0;
+    }
+
     @Override
     @Transactional
     public boolean decrementIssuedCount(Long couponId) {
         int updatedRows = couponJpaRepository.decrementIssuedCount(couponId);
         
         if (updatedRows > 0) {
-            // DB 업데이트 성공 시 Redis 캐시도 업데이트
-            try {
-                // 현재 발급 수량 조회
-                Optional<CouponEntity> couponOpt = couponJpaRepository.findById(couponId);
-                if (couponOpt.isPresent()) {
-                    CouponEntity coupon = couponOpt.get();
-                    redisCouponService.updateCouponIssuedCount(couponId, coupon.getIssuedCount());
-                }
-            } catch (Exception e) {
-                // Redis 업데이트 실패는 로그만 남기고 DB 업데이트는 성공으로 처리
-            }
+            // DB 업데이트 성공 시 커밋 후 Redis 캐시도 업데이트
+            updateIssuedCountCacheAfterCommit(couponId);
         }
         
         return updatedRows > 0;
     }
 
+    /**
+     * 발급 수량 캐시 갱신을 커밋 이후로 미룸
+     * 바깥 트랜잭션(배치 발급 등)이 롤백되면 캐시에 반영되지 않도록 하고, 값은 커밋된 DB에서 다시 읽음
+     */
+    private void updateIssuedCountCacheAfterCommit(Long couponId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshIssuedCountCache(couponId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshIssuedCountCache(couponId);
+            }
+        });
+    }
+
+    private void refreshIssuedCountCache(Long couponId) {
+        try {
+            couponJpaRepository.findIssuedCountById(couponId)
+                    .ifPresent(issuedCount -> redisCouponService.updateCouponIssuedCount(couponId, issuedCount));
+        } catch (Exception e) {
+            // Redis 업데이트 실패는 로그만 남기고 DB 업데이트는 성공으로 처리
+            // Redis는 캐시이므로 DB가 원본 데이터
+        }
+    }
+
     @Override
     public List<LoadCouponPort.CouponInfo> loadAllCoupons() {
         return couponJpaRepository.findAll().stream()
@@ -63,6 +63,12 @@ public class UserCouponPersistenceAdapter implements LoadUserCouponPort, SaveUse
         return mapToUserCoupon(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public int saveUserCoupons(List<UserCoupon> userCoupons) {
+        return userCouponJpaRepository.insertAll(userCoupons);
+    }
+
     @Override
     @Transactional
     public void updateUserCoupon(UserCoupon userCoupon) {
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +36,12 @@ public interface CouponJpaRepository extends JpaRepository<CouponEntity, Long> {
     @Query("SELECT c FROM CouponEntity c WHERE c.id = :couponId")
     Optional<CouponEntity> findByIdWithOptimisticLock(@Param("couponId") Long couponId);
 
+    /**
+     * 발급 수량만 조회 (영속성 컨텍스트에 남은 엔티티 대신 DB 값)
+     */
+    @Query("SELECT c.issuedCount FROM CouponEntity c WHERE c.id = :couponId")
+    Optional<Integer> findIssuedCountById(@Param("couponId") Long couponId);
+
     /**
      * 쿠폰 발급 수량 증가 (동시성 제어) - 개선된 버전
      */
@@ -61,4 +68,10 @@ public interface CouponJpaRepository extends JpaRepository<CouponEntity, Long> {
      */
     @Query("SELECT c FROM CouponEntity c WHERE c.status = :status AND c.issuedCount < c.maxIssuanceCount")
     List<CouponEntity> findAvailableCoupons(@Param("status") String status);
+
+    /**
+     * 유효 기간이 [from, to) 구간에 끝난 쿠폰 ID 조회 (사용자 쿠폰 만료 처리용)
+     */
+    @Query("SELECT c.id FROM CouponEntity c WHERE c.validTo >= :from AND c.validTo < :to")
+    List<Long> findExpiredCouponIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
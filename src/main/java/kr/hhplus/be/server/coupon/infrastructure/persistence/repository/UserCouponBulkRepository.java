@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.coupon.infrastructure.persistence.repository;
+
+import kr.hhplus.be.server.coupon.domain.UserCoupon;
+
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 벌크 INSERT Repository Fragment
+ * 여러 사용자 쿠폰을 다중 VALUES 단일 INSERT로 저장
+ */
+public interface UserCouponBulkRepository {
+
+    /**
+     * 사용자 쿠폰 일괄 저장 (user_id / coupon_id 값만 사용, 사용자·쿠폰 조회 없음)
+     * @return 저장된 행 수
+     */
+    int insertAll(List<UserCoupon> userCoupons);
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.coupon.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import kr.hhplus.be.server.coupon.domain.UserCoupon;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 벌크 INSERT 구현
+ * INSERT INTO user_coupons (...) VALUES (...), (...), ...
+ */
+public class UserCouponBulkRepositoryImpl implements UserCouponBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAll(List<UserCoupon> userCoupons) {
+        if (userCoupons.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO user_coupons (user_id, coupon_id, discount_amount, status, issued_at, created_at, updated_at) VALUES ");
+        int position = 1;
+        for (int i = 0; i < userCoupons.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?").append(position++).append(", ?").append(position++).append(", ?").append(position++)
+               .append(", ?").append(position++).append(", ?").append(position++).append(", ?").append(position++)
+               .append(", ?").append(position++).append(')');
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        LocalDateTime now = LocalDateTime.now();
+        position = 1;
+        for (UserCoupon userCoupon : userCoupons) {
+            LocalDateTime issuedAt = userCoupon.getIssuedAt() != null ? userCoupon.getIssuedAt() : now;
+            query.setParameter(position++, userCoupon.getUserId());
+            query.setParameter(position++, userCoupon.getCouponId());
+            query.setParameter(position++, userCoupon.getDiscountAmount());
+            query.setParameter(position++, userCoupon.getStatus().name());
+            query.setParameter(position++, issuedAt);
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -3,19 +3,23 @@ package kr.hhplus.be.server.coupon.infrastructure.persistence.repository;
 import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.UserCouponEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 사용자 쿠폰 Repository
+ * 배치 발급용 다중 VALUES INSERT는 UserCouponBulkRepository 참고
  */
 @Repository
-public interface UserCouponJpaRepository extends JpaRepository<UserCouponEntity, Long> {
+public interface UserCouponJpaRepository extends JpaRepository<UserCouponEntity, Long>, UserCouponBulkRepository {
 
     /**
      * 사용자별 쿠폰 목록 조회
@@ -44,4 +48,33 @@ public interface UserCouponJpaRepository extends JpaRepository<UserCouponEntity,
      */
     Optional<UserCouponEntity> findByOrderId(Long orderId);
 
+    /**
+     * ID 구간의 만료 대상(AVAILABLE + 만료 쿠폰) 사용자 ID 조회 - PK 범위 스캔
+     */
+    @Query("SELECT DISTINCT uc.userId FROM UserCouponEntity uc " +
+            "WHERE uc.id BETWEEN :fromId AND :toId AND uc.status = 'AVAILABLE' AND uc.couponId IN :couponIds")
+    List<Long> findExpirableUserIds(@Param("fromId") long fromId, @Param("toId") long toId,
+                                    @Param("couponIds") Collection<Long> couponIds);
+
+    /**
+     * ID 구간의 만료 대상을 EXPIRED로 변경 - 구간 크기만큼만 잠금
+     */
+    @Modifying
+    @Query("UPDATE UserCouponEntity uc SET uc.status = 'EXPIRED', uc.updatedAt = :now " +
+            "WHERE uc.id BETWEEN :fromId AND :toId AND uc.status = 'AVAILABLE' AND uc.couponId IN :couponIds")
+    int expireRange(@Param("fromId") long fromId, @Param("toId") long toId,
+                    @Param("couponIds") Collection<Long> couponIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 전체 ID 범위 (만료 처리 구간 계산용)
+     */
+    @Query("SELECT MIN(uc.id) AS minId, MAX(uc.id) AS maxId FROM UserCouponEntity uc")
+    IdRange findIdRange();
+
+    interface IdRange {
+        Long getMinId();
+
+        Long getMaxId();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+package kr.hhplus.be.server.coupon.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.coupon.domain.service.CouponWaitingRoomService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 대기실 입장 제어 스케줄러 (coupon.waiting-room.enabled=true)
+ * 하위 처리 용량에 맞춰 주기마다 대기실 사용자를 입장 허용
+ * - 허용 속도는 AIMD로 조절: 발급 컨슈머 lag 또는 DB 발급 지연이 목표를 넘으면 decrease-factor배로 감소,
+ *   둘 다 목표 이하면 increase-step만큼 증가 (min-rate ~ max-rate)
+ * - DB 지연은 발급 핸들러가 기록하는 coupon.issue.db.latency 타이머의 직전 주기 평균 (이 노드 기준)
+ * - 주기마다 한 노드만 허용하고 허용 속도는 Redis로 공유 (노드 수만큼 허용량이 늘지 않도록)
+ * - 여러 쿠폰이 대기 중이면 허용량을 쿠폰 수로 나누고 나머지는 주기마다 돌아가며 1명씩 더 배정 (합계가 허용량을 넘지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.waiting-room.enabled", havingValue = "true")
+public class CouponAdmissionController {
+
+    private static final String DB_LATENCY_TIMER = "coupon.issue.db.latency";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CouponWaitingRoomService waitingRoomService;
+    private final MeterRegistry meterRegistry;
+    private final AdminClient adminClient;
+    private final String couponIssueTopic;
+    private final String consumerGroup;
+    private final long intervalMillis;
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final long targetLag;
+    private final double targetDbLatencyMillis;
+
+    private final Counter admittedCounter;
+    private final AtomicLong lastLag = new AtomicLong(-1);
+    private volatile double currentRate;
+    private volatile double lastDbLatencyMillis = Double.NaN;
+    private double carry;
+    private double lastDbTotalMillis;
+    private long lastDbCount;
+    private int remainderOffset;
+
+    public CouponAdmissionController(CouponWaitingRoomService waitingRoomService,
+                                     MeterRegistry meterRegistry,
+                                     ObjectProvider<KafkaAdmin> kafkaAdminProvider,
+                                     @Value("${kafka.topics.coupon-issue:coupon-issue-events}") String couponIssueTopic,
+                                     @Value("${coupon.waiting-room.consumer-group:coupon-issue-group}") String consumerGroup,
+                                     @Value("${coupon.waiting-room.admission-interval-ms:500}") long intervalMillis,
+                                     @Value("${coupon.waiting-room.initial-rate-per-second:50}") double initialRate,
+                                     @Value("${coupon.waiting-room.min-rate-per-second:5}") double minRate,
+                                     @Value("${coupon.waiting-room.max-rate-per-second:500}") double maxRate,
+                                     @Value("${coupon.waiting-room.increase-step:10}") double increaseStep,
+                                     @Value("${coupon.waiting-room.decrease-factor:0.7}") double decreaseFactor,
+                                     @Value("${coupon.waiting-room.target-lag:1000}") long targetLag,
+                                     @Value("${coupon.waiting-room.target-db-latency-ms:50}") double targetDbLatencyMillis) {
+        this.waitingRoomService = waitingRoomService;
+        this.meterRegistry = meterRegistry;
+        KafkaAdmin kafkaAdmin = kafkaAdminProvider.getIfAvailable();
+        this.adminClient = kafkaAdmin != null ? AdminClient.create(kafkaAdmin.getConfigurationProperties()) : null;
+        this.couponIssueTopic = couponIssueTopic;
+        this.consumerGroup = consumerGroup;
+        this.intervalMillis = intervalMillis;
+        this.currentRate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.targetLag = targetLag;
+        this.targetDbLatencyMillis = targetDbLatencyMillis;
+
+        this.admittedCounter = meterRegistry.counter("coupon.waiting-room.admitted");
+        Gauge.builder("coupon.waiting-room.admission-rate", this, c -> c.currentRate)
+                .description("대기실 초당 입장 허용 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.waiting-room.consumer-lag", lastLag, AtomicLong::get)
+                .description("쿠폰 발급 컨슈머 lag (-1이면 조회 실패)")
+                .register(meterRegistry);
+        Gauge.builder("coupon.waiting-room.db-latency-ms", this, c -> c.lastDbLatencyMillis)
+                .description("직전 주기 쿠폰 발급 DB 처리 평균 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기마다 허용 속도 조절 후 대기실 사용자 입장 허용
+     */
+    @Scheduled(fixedDelayString = "${coupon.waiting-room.admission-interval-ms:500}")
+    public void admit() {
+        try {
+            Set<Long> couponIds = waitingRoomService.getActiveCouponIds();
+            if (couponIds.isEmpty()) {
+                return;
+            }
+            if (!waitingRoomService.tryAcquireAdmissionTick(nodeId, Duration.ofMillis(intervalMillis))) {
+                // 다른 노드가 이번 주기 담당
+                return;
+            }
+
+            Double sharedRate = waitingRoomService.getAdmissionRate();
+            double rate = adjustRate(sharedRate != null ? sharedRate : currentRate);
+            currentRate = rate;
+            waitingRoomService.saveAdmissionRate(rate);
+
+            double budget = rate * intervalMillis / 1000.0 + carry;
+            int total = (int) budget;
+            carry = budget - total;
+            if (total == 0) {
+                return;
+            }
+
+            List<Long> orderedIds = couponIds.stream().sorted().toList();
+            int base = total / orderedIds.size();
+            int remainder = total % orderedIds.size();
+            int offset = Math.floorMod(remainderOffset++, orderedIds.size());
+            for (int i = 0; i < orderedIds.size(); i++) {
+                Long couponId = orderedIds.get(i);
+                int quota = base + (Math.floorMod(i - offset, orderedIds.size()) < remainder ? 1 : 0);
+                if (quota == 0) {
+                    continue;
+                }
+                long admitted = waitingRoomService.admit(couponId, quota);
+                admittedCounter.increment(admitted);
+                if (admitted > 0) {
+                    log.debug("대기실 입장 허용 - couponId: {}, admitted: {}, rate: {}", couponId, admitted, rate);
+                }
+            }
+        } catch (Exception e) {
+            log.error("대기실 입장 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * AIMD 허용 속도 조절
+     * lag 조회에 실패하면 속도를 올리지 않음 (하위 상태를 모르는 채로 늘리지 않도록)
+     */
+    private double adjustRate(double rate) {
+        long lag = fetchConsumerLag();
+        double dbLatencyMillis = sampleDbLatencyMillis();
+        lastLag.set(lag);
+        lastDbLatencyMillis = dbLatencyMillis;
+
+        boolean overloaded = lag > targetLag || dbLatencyMillis > targetDbLatencyMillis;
+        if (overloaded) {
+            double decreased = Math.max(minRate, rate * decreaseFactor);
+            log.info("대기실 입장 속도 감소 - lag: {}, dbLatencyMs: {}, rate: {} -> {}", lag, dbLatencyMillis, rate, decreased);
+            return decreased;
+        }
+        if (lag < 0) {
+            return Math.max(minRate, Math.min(maxRate, rate));
+        }
+        return Math.min(maxRate, rate + increaseStep);
+    }
+
+    /**
+     * 발급 컨슈머 그룹의 쿠폰 발급 토픽 lag 합계
+     * @return lag, 조회 실패 시 -1
+     */
+    protected long fetchConsumerLag() {
+        if (adminClient == null) {
+            return -1;
+        }
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = adminClient.listConsumerGroupOffsets(consumerGroup)
+                    .partitionsToOffsetAndMetadata()
+                    .get(intervalMillis, TimeUnit.MILLISECONDS);
+            Map<TopicPartition, OffsetSpec> request = committed.keySet().stream()
+                    .filter(partition -> partition.topic().equals(couponIssueTopic))
+                    .collect(Collectors.toMap(partition -> partition, partition -> OffsetSpec.latest()));
+            if (request.isEmpty()) {
+                return 0;
+            }
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = adminClient.listOffsets(request)
+                    .all()
+                    .get(intervalMillis, TimeUnit.MILLISECONDS);
+
+            long lag = 0;
+            for (TopicPartition partition : request.keySet()) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset != null) {
+                    lag += Math.max(0, endOffsets.get(partition).offset() - offset.offset());
+                }
+            }
+            return lag;
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 컨슈머 lag 조회 실패 - group: {}", consumerGroup, e);
+            return -1;
+        }
+    }
+
+    /**
+     * 직전 주기 이후 기록된 DB 발급 처리 평균 시간 (기록이 없으면 NaN)
+     */
+    private double sampleDbLatencyMillis() {
+        Timer timer = meterRegistry.find(DB_LATENCY_TIMER).timer();
+        if (timer == null) {
+            return Double.NaN;
+        }
+        double totalMillis = timer.totalTime(TimeUnit.MILLISECONDS);
+        long count = timer.count();
+        double deltaMillis = totalMillis - lastDbTotalMillis;
+        long deltaCount = count - lastDbCount;
+        lastDbTotalMillis = totalMillis;
+        lastDbCount = count;
+        return deltaCount > 0 ? deltaMillis / deltaCount : Double.NaN;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close(Duration.ofSeconds(1));
+        }
+    }
+}
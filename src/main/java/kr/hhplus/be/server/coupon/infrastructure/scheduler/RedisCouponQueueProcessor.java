@@ -1,46 +1,70 @@
 package kr.hhplus.be.server.coupon.infrastructure.scheduler;
 
+import kr.hhplus.be.server.coupon.application.port.out.LoadCouponPort;
 import kr.hhplus.be.server.coupon.domain.service.RedisCouponQueueService;
 import kr.hhplus.be.server.shared.kafka.CouponIssueMessage;
 import kr.hhplus.be.server.shared.kafka.KafkaCouponEventProducer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Redis 쿠폰 대기열 처리 스케줄러
  * 주기적으로 Redis 큐에서 쿠폰 발급 요청을 꺼내서 Kafka로 발행
+ * - 처리 대상은 대기열 등록 집합({coupon:queue}:active)에서 조회 (KEYS 스캔 없음)
+ * - 쿠폰마다 ZPOPMIN count 한 번으로 drain-rate-per-second × 주기만큼 꺼내 일괄 발행
+ * - 기동 시 처리 대상 집합에 없는 기존 대기열을 한 번 등록
+ * - 꺼낸 뒤 예외가 나면 꺼낸 사용자를 원래 순서로 대기열에 되돌림
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
 public class RedisCouponQueueProcessor {
 
     private final RedisCouponQueueService couponQueueService;
     private final KafkaCouponEventProducer kafkaCouponEventProducer;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final LoadCouponPort loadCouponPort;
+    private final int batchSizePerTick;
+
+    public RedisCouponQueueProcessor(RedisCouponQueueService couponQueueService,
+                                     KafkaCouponEventProducer kafkaCouponEventProducer,
+                                     LoadCouponPort loadCouponPort,
+                                     @Value("${coupon.queue.drain-rate-per-second:10}") int drainRatePerSecond,
+                                     @Value("${coupon.queue.drain-interval-ms:1000}") long drainIntervalMillis) {
+        this.couponQueueService = couponQueueService;
+        this.kafkaCouponEventProducer = kafkaCouponEventProducer;
+        this.loadCouponPort = loadCouponPort;
+        this.batchSizePerTick = (int) Math.max(1, drainRatePerSecond * drainIntervalMillis / 1000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillActiveQueues() {
+        int registered = couponQueueService.backfillActiveQueues();
+        if (registered > 0) {
+            log.info("기존 쿠폰 대기열 처리 대상 등록 - count: {}", registered);
+        }
+    }
 
     /**
-     * 매초마다 Redis 쿠폰 대기열을 처리
+     * 주기마다 Redis 쿠폰 대기열을 처리
      */
-    @Scheduled(fixedDelay = 1000) // 1초마다 실행
+    @Scheduled(fixedDelayString = "${coupon.queue.drain-interval-ms:1000}")
     public void processCouponQueue() {
         try {
-            // 모든 쿠폰 큐 키 조회
-            Set<String> queueKeys = redisTemplate.keys("coupon:queue:*");
-            
-            if (queueKeys == null || queueKeys.isEmpty()) {
-                return;
-            }
-
-            for (String queueKey : queueKeys) {
-                processQueueForCoupon(queueKey);
+            Set<Long> couponIds = couponQueueService.getActiveQueueCouponIds();
+            for (Long couponId : couponIds) {
+                processQueueForCoupon(couponId);
             }
         } catch (Exception e) {
             log.error("쿠폰 큐 처리 중 오류 발생", e);
@@ -49,40 +73,40 @@ public class RedisCouponQueueProcessor {
 
     /**
      * 특정 쿠폰의 큐를 처리
+     * 꺼낸 뒤 예외가 나면 꺼낸 사용자를 모두 원래 순서로 되돌림 (이미 되돌린 사용자는 ZADD NX로 무시)
      */
-    private void processQueueForCoupon(String queueKey) {
+    private void processQueueForCoupon(Long couponId) {
+        List<RedisCouponQueueService.QueuedUser> users = couponQueueService.popBatchFromQueue(couponId, batchSizePerTick);
+        if (users.isEmpty()) {
+            return;
+        }
+
         try {
-            // 큐 키에서 쿠폰 ID 추출: "coupon:queue:123" -> "123"
-            String couponIdStr = queueKey.substring("coupon:queue:".length());
-            Long couponId = Long.parseLong(couponIdStr);
-            
-            // 큐에서 사용자 ID 하나씩 처리 (최대 10개씩)
-            int processed = 0;
-            while (processed < 10) {
-                Long userId = couponQueueService.pollFromQueue(couponId);
-                if (userId == null) {
-                    break; // 큐가 비어있음
-                }
-                
-                // 카프카로 쿠폰 발급 이벤트 발행
-                CouponIssueMessage message = CouponIssueMessage.builder()
-                        .couponId(couponId)
-                        .userId(userId)
-                        .maxIssuanceCount(100) // 기본값, 실제로는 쿠폰 정보에서 가져와야 함
-                        .discountAmount(1000)   // 기본값, 실제로는 쿠폰 정보에서 가져와야 함
-                        .build();
-                
-                kafkaCouponEventProducer.publishCouponIssueEvent(message);
-                processed++;
-                
-                log.debug("큐에서 쿠폰 발급 요청 처리 - couponId: {}, userId: {}", couponId, userId);
-            }
-            
-            if (processed > 0) {
-                log.info("쿠폰 큐 처리 완료 - couponId: {}, processed: {}", couponId, processed);
+            // 쿠폰 정보는 배치당 한 번 조회 (발급 수량 상한/할인 금액을 메시지에 포함)
+            Optional<LoadCouponPort.CouponInfo> couponInfoOpt = loadCouponPort.loadCouponById(couponId);
+            if (couponInfoOpt.isEmpty()) {
+                users.forEach(user ->
+                        couponQueueService.saveIssueResult(couponId, user.userId(), false, "존재하지 않는 쿠폰입니다."));
+                log.warn("존재하지 않는 쿠폰 대기열 처리 - couponId: {}, count: {}", couponId, users.size());
+                return;
             }
+            LoadCouponPort.CouponInfo couponInfo = couponInfoOpt.get();
+
+            List<CouponIssueMessage> messages = users.stream()
+                    .map(user -> CouponIssueMessage.of(user.userId(), couponId, couponInfo.getName(),
+                            couponInfo.getDiscountAmount(), couponInfo.getMaxIssuanceCount()))
+                    .toList();
+
+            // 발행 실패한 사용자는 원래 대기 순서로 대기열에 되돌려 다음 주기에 재시도
+            Map<Long, RedisCouponQueueService.QueuedUser> byUserId = users.stream()
+                    .collect(Collectors.toMap(RedisCouponQueueService.QueuedUser::userId, Function.identity(), (a, b) -> a));
+            kafkaCouponEventProducer.publishCouponIssueEvents(messages,
+                    failed -> couponQueueService.requeue(couponId, byUserId.get(failed.getUserId())));
+
+            log.info("쿠폰 큐 처리 완료 - couponId: {}, processed: {}", couponId, messages.size());
         } catch (Exception e) {
-            log.error("쿠폰 큐 처리 중 오류 - queueKey: {}", queueKey, e);
+            log.error("쿠폰 큐 처리 중 오류, 꺼낸 사용자 재등록 - couponId: {}, count: {}", couponId, users.size(), e);
+            users.forEach(user -> couponQueueService.requeue(couponId, user));
         }
     }
-}
\ No newline at end of file
+}
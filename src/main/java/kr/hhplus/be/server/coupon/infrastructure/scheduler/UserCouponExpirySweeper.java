@@ -0,0 +1,286 @@
+package kr.hhplus.be.server.coupon.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.CouponJpaRepository;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.UserCouponJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 쿠폰 만료 처리 작업
+ * 유효 기간(valid_to)이 끝난 쿠폰의 AVAILABLE 사용자 쿠폰을 EXPIRED로 변경
+ * - user_coupons PK를 chunk-size 단위 구간으로 나눠 구간마다 UPDATE 트랜잭션 하나 (잠금 범위와 시간을 구간 크기로 제한)
+ * - 구간마다 변경 대상 사용자의 userCouponsAll 캐시를 DEL 한 번으로 일괄 삭제 (키 접두사는 shortTermCacheManager 설정 기준)
+ * - Redisson 락으로 여러 노드 중 한 노드만 실행
+ * - 쿠폰별로 처리를 마친 마지막 ID(워터마크)를 구간마다 기록, 다음 실행은 워터마크 이후 구간부터 처리
+ *   (중간에 실패하거나 노드가 바뀌어도 이어서 처리, 유예 중인 쿠폰도 새로 발급된 행만 다시 확인)
+ * - 실행을 마치면 완료 시각(지금 - 유예)을 기록하고 다음 실행은 그 이후에 만료된 쿠폰만 조회
+ *   (만료 직후의 쿠폰은 늦게 반영되는 발급 대비 유예 동안 계속 확인, 완료 기록은 키 하나라 쿠폰 수와 무관하게 크기 고정)
+ * - 완료 시각 이전으로 유효 기간을 되돌린 쿠폰은 대상에서 빠지므로 유효 기간 단축은 완료 시각 이후로만 해야 함
+ * - 메트릭: coupon.expiry.rows.expired, coupon.expiry.throughput (rows/s), coupon.expiry.chunk.lock-time
+ */
+@Slf4j
+@Component
+public class UserCouponExpirySweeper {
+
+    private static final String LOCK_KEY = "lock:coupon:expiry-sweep";
+    private static final String SWEPT_THROUGH_KEY = "coupon:expiry-sweep:swept-through";
+    private static final LocalDateTime SWEEP_FLOOR = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String WATERMARK_KEY = "coupon:expiry-sweep:watermark";
+    private static final String USER_COUPONS_CACHE = "userCouponsAll";
+    private static final long DONE_GRACE_MINUTES = 10;
+
+    private final UserCouponJpaRepository userCouponJpaRepository;
+    private final CouponJpaRepository couponJpaRepository;
+    private final RedissonClient redissonClient;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final Cache userCouponsCache;
+    /**
+     * userCouponsAll Redis 키 접두사 (Redis 캐시가 아니면 null - 캐시 API로 한 건씩 삭제)
+     */
+    private final String cacheKeyPrefix;
+
+    private final AtomicLong runRowsExpired = new AtomicLong();
+    private volatile long runStartedNanos;
+    private volatile long runFinishedNanos;
+
+    private final Counter rowsExpiredCounter;
+    private final Timer chunkLockTimer;
+
+    public UserCouponExpirySweeper(UserCouponJpaRepository userCouponJpaRepository,
+                                   CouponJpaRepository couponJpaRepository,
+                                   RedissonClient redissonClient,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   @Qualifier("shortTermCacheManager") CacheManager shortTermCacheManager,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${coupon.expiry-sweep.chunk-size:1000}") int chunkSize,
+                                   @Value("${coupon.expiry-sweep.pause-ms:20}") long pauseMillis) {
+        this.userCouponJpaRepository = userCouponJpaRepository;
+        this.couponJpaRepository = couponJpaRepository;
+        this.redissonClient = redissonClient;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        // @Cacheable(cacheManager = "shortTermCacheManager")과 같은 캐시 설정에서 접두사를 가져옴
+        this.userCouponsCache = shortTermCacheManager.getCache(USER_COUPONS_CACHE);
+        this.cacheKeyPrefix = userCouponsCache instanceof RedisCache redisCache
+                ? redisCache.getCacheConfiguration().getKeyPrefixFor(USER_COUPONS_CACHE)
+                : null;
+
+        this.rowsExpiredCounter = meterRegistry.counter("coupon.expiry.rows.expired");
+        this.chunkLockTimer = Timer.builder("coupon.expiry.chunk.lock-time")
+                .description("구간 UPDATE 트랜잭션 시간 (행 잠금 유지 시간)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("coupon.expiry.throughput", this, UserCouponExpirySweeper::rowsPerSecond)
+                .description("현재(마지막) 실행의 초당 만료 처리 행 수")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${coupon.expiry-sweep.cron:0 */10 * * * *}")
+    public void scheduledRun() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        // 대기 없이 시도 - 다른 노드가 실행 중이면 건너뜀 (실행 중에는 watchdog이 락 유지)
+        if (!lock.tryLock()) {
+            log.debug("다른 노드에서 사용자 쿠폰 만료 처리 실행 중 - 건너뜀");
+            return;
+        }
+        try {
+            run();
+        } catch (Exception e) {
+            // 완료 기록 전에 실패하면 다음 실행에서 다시 처리
+            log.error("사용자 쿠폰 만료 처리 중 오류 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 만료 처리 1회 실행
+     * @return 만료 처리한 행 수
+     */
+    public long run() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime sweptThrough = loadSweptThrough();
+        List<Long> couponIds = couponJpaRepository.findExpiredCouponIds(sweptThrough, now);
+        if (couponIds.isEmpty()) {
+            return 0;
+        }
+
+        UserCouponJpaRepository.IdRange range = userCouponJpaRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            markSwept(couponIds, sweptThrough, now);
+            return 0;
+        }
+
+        // 쿠폰마다 워터마크 이후만 처리하면 되므로 가장 낮은 워터마크 다음부터 시작
+        Map<Long, Long> watermarks = loadWatermarks(couponIds);
+        long startId = Math.max(range.getMinId(), couponIds.stream()
+                .mapToLong(couponId -> watermarks.getOrDefault(couponId, 0L) + 1)
+                .min()
+                .orElse(range.getMinId()));
+        if (startId > range.getMaxId()) {
+            markSwept(couponIds, sweptThrough, now);
+            return 0;
+        }
+
+        runRowsExpired.set(0);
+        runStartedNanos = System.nanoTime();
+        runFinishedNanos = 0;
+        log.info("사용자 쿠폰 만료 처리 시작 - 쿠폰: {}, ID 범위: {} ~ {}", couponIds, startId, range.getMaxId());
+
+        try {
+            for (long from = startId; from <= range.getMaxId(); from += chunkSize) {
+                long to = Math.min(from + chunkSize - 1, range.getMaxId());
+                expireChunk(couponIds, from, to);
+                saveWatermark(couponIds, watermarks, to);
+                throttle();
+            }
+        } finally {
+            runFinishedNanos = System.nanoTime();
+        }
+
+        markSwept(couponIds, sweptThrough, now);
+        log.info("사용자 쿠폰 만료 처리 완료 - 만료: {}, 처리량: {} rows/s", runRowsExpired.get(), Math.round(rowsPerSecond()));
+        return runRowsExpired.get();
+    }
+
+    /**
+     * 한 구간 만료 처리 후 대상 사용자 캐시 일괄 삭제
+     */
+    private void expireChunk(List<Long> couponIds, long fromId, long toId) {
+        List<Long> userIds = userCouponJpaRepository.findExpirableUserIds(fromId, toId, couponIds);
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Integer expired = chunkLockTimer.record(() -> transactionTemplate.execute(status ->
+                userCouponJpaRepository.expireRange(fromId, toId, couponIds, LocalDateTime.now())));
+        int expiredRows = expired != null ? expired : 0;
+        rowsExpiredCounter.increment(expiredRows);
+        runRowsExpired.addAndGet(expiredRows);
+
+        try {
+            if (cacheKeyPrefix != null) {
+                stringRedisTemplate.delete(userIds.stream()
+                        .map(userId -> cacheKeyPrefix + userId)
+                        .collect(Collectors.toList()));
+            } else if (userCouponsCache != null) {
+                userIds.forEach(userCouponsCache::evict);
+            }
+        } catch (Exception e) {
+            // 캐시는 짧은 TTL로 만료되므로 삭제 실패는 로그만 남김
+            log.warn("사용자 쿠폰 캐시 일괄 삭제 실패 - 구간: {} ~ {}, 사용자 수: {}", fromId, toId, userIds.size(), e);
+        }
+    }
+
+    /**
+     * 쿠폰별 워터마크 조회 (없으면 처음부터)
+     */
+    private Map<Long, Long> loadWatermarks(List<Long> couponIds) {
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(WATERMARK_KEY,
+                couponIds.stream().map(couponId -> (Object) couponId.toString()).toList());
+        Map<Long, Long> watermarks = new HashMap<>();
+        for (int i = 0; i < couponIds.size(); i++) {
+            Object value = values != null ? values.get(i) : null;
+            if (value != null) {
+                watermarks.put(couponIds.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return watermarks;
+    }
+
+    /**
+     * 구간 처리 후 워터마크가 더 낮은 쿠폰의 워터마크를 구간 끝으로 올림
+     */
+    private void saveWatermark(List<Long> couponIds, Map<Long, Long> watermarks, long toId) {
+        Map<String, String> raised = new HashMap<>();
+        for (Long couponId : couponIds) {
+            if (watermarks.getOrDefault(couponId, 0L) < toId) {
+                watermarks.put(couponId, toId);
+                raised.put(couponId.toString(), String.valueOf(toId));
+            }
+        }
+        if (!raised.isEmpty()) {
+            stringRedisTemplate.opsForHash().putAll(WATERMARK_KEY, raised);
+        }
+    }
+
+    /**
+     * 완료 시각 조회 (없으면 처음부터)
+     */
+    private LocalDateTime loadSweptThrough() {
+        String value = stringRedisTemplate.opsForValue().get(SWEPT_THROUGH_KEY);
+        return value != null ? LocalDateTime.parse(value) : SWEEP_FLOOR;
+    }
+
+    /**
+     * 유예 시간보다 먼저 만료된 쿠폰까지 완료로 보고 완료 시각을 올림 (해당 쿠폰 워터마크는 더 필요 없으므로 삭제)
+     * 이번 실행이 조회한 쿠폰을 모두 처리한 뒤에만 호출
+     */
+    private void markSwept(List<Long> couponIds, LocalDateTime sweptThrough, LocalDateTime now) {
+        LocalDateTime doneBefore = now.minusMinutes(DONE_GRACE_MINUTES);
+        if (!doneBefore.isAfter(sweptThrough)) {
+            return;
+        }
+        List<Long> doneIds = couponJpaRepository.findExpiredCouponIds(sweptThrough, doneBefore).stream()
+                .filter(couponIds::contains)
+                .toList();
+        stringRedisTemplate.opsForValue().set(SWEPT_THROUGH_KEY, doneBefore.toString());
+        if (!doneIds.isEmpty()) {
+            stringRedisTemplate.opsForHash().delete(WATERMARK_KEY,
+                    doneIds.stream().map(String::valueOf).toArray(Object[]::new));
+        }
+    }
+
+    private void throttle() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rowsPerSecond() {
+        long started = runStartedNanos;
+        if (started == 0) {
+            return 0;
+        }
+        long end = runFinishedNanos != 0 ? runFinishedNanos : System.nanoTime();
+        double seconds = (end - started) / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds > 0 ? runRowsExpired.get() / seconds : 0;
+    }
+}
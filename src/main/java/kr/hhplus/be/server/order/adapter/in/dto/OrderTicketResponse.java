@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.order.adapter.in.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "비동기 주문 티켓 응답")
+public class OrderTicketResponse {
+
+    @Schema(description = "주문 티켓 ID", example = "8d0e6a0c-1f2b-4c5d-9e8f-0a1b2c3d4e5f")
+    private String ticketId;
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "티켓 상태 (ACCEPTED, PROCESSING, COMPLETED, FAILED)", example = "ACCEPTED")
+    private String status;
+
+    @Schema(description = "주문 ID (COMPLETED일 때)", example = "1")
+    private Long orderId;
+
+    @Schema(description = "총 주문 금액 (COMPLETED일 때)", example = "50000")
+    private Integer totalAmount;
+
+    @Schema(description = "실패 사유 (FAILED일 때)", example = "재고가 부족합니다")
+    private String errorMessage;
+
+    @Schema(description = "접수 일시")
+    private LocalDateTime acceptedAt;
+
+    public OrderTicketResponse() {}
+
+    public OrderTicketResponse(String ticketId, Long userId, String status, Long orderId,
+                               Integer totalAmount, String errorMessage, LocalDateTime acceptedAt) {
+        this.ticketId = ticketId;
+        this.userId = userId;
+        this.status = status;
+        this.orderId = orderId;
+        this.totalAmount = totalAmount;
+        this.errorMessage = errorMessage;
+        this.acceptedAt = acceptedAt;
+    }
+
+    public String getTicketId() { return ticketId; }
+    public void setTicketId(String ticketId) { this.ticketId = ticketId; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getOrderId() { return orderId; }
+    public void setOrderId(Long orderId) { this.orderId = orderId; }
+    public Integer getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(Integer totalAmount) { this.totalAmount = totalAmount; }
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    public LocalDateTime getAcceptedAt() { return acceptedAt; }
+    public void setAcceptedAt(LocalDateTime acceptedAt) { this.acceptedAt = acceptedAt; }
+}
@@ -2,13 +2,21 @@ package kr.hhplus.be.server.order.adapter.in.web;
 
 import kr.hhplus.be.server.order.domain.service.CreateOrderService;
 import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+import kr.hhplus.be.server.order.application.port.in.PlaceOrderAsyncUseCase;
+import kr.hhplus.be.server.order.application.port.out.OrderTicketPort;
 import kr.hhplus.be.server.order.adapter.in.dto.OrderResponse;
+import kr.hhplus.be.server.order.adapter.in.dto.OrderTicketResponse;
+import kr.hhplus.be.server.shared.idempotency.Idempotent;
+import kr.hhplus.be.server.shared.ratelimit.RateLimited;
 import kr.hhplus.be.server.shared.response.ErrorResponse;
 import kr.hhplus.be.server.order.adapter.in.dto.OrderRequest;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -22,30 +30,34 @@ import java.util.List;
 public class OrderController {
 
     private final CreateOrderService createOrderService;
+    private final PlaceOrderAsyncUseCase placeOrderAsyncUseCase;
 
-    public OrderController(CreateOrderService createOrderService) {
+    public OrderController(CreateOrderService createOrderService,
+                           PlaceOrderAsyncUseCase placeOrderAsyncUseCase) {
         this.createOrderService = createOrderService;
+        this.placeOrderAsyncUseCase = placeOrderAsyncUseCase;
     }
 
     /**
      * 주문 생성 API
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 최초 결과를 재전송
      */
     @PostMapping
+    @Idempotent(scope = "order", key = "#request.userId")
+    @RateLimited(scope = "order", key = "#request.userId", limit = 10, burst = 20)
     @Operation(summary = "주문 생성", description = "주문을 생성하고 결제를 처리합니다.")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = "재시도 시 중복 주문 방지용 키 (선택)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "주문 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 주문 실패"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중 (Retry-After 헤더 참고)"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청"),
+            @ApiResponse(responseCode = "429", description = "요청 수 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     public ResponseEntity<?> createOrder(@Valid @RequestBody OrderRequest request) {
         
-        // OrderRequest를 CreateOrderCommand로 변환
-        List<CreateOrderUseCase.OrderItemCommand> orderItemCommands = request.getOrderItems().stream()
-                .map(item -> new CreateOrderUseCase.OrderItemCommand(item.getProductId(), item.getQuantity()))
-                .toList();
-
-        CreateOrderUseCase.CreateOrderCommand command = new CreateOrderUseCase.CreateOrderCommand(
-                request.getUserId(), orderItemCommands, request.getUserCouponId());
+        CreateOrderUseCase.CreateOrderCommand command = toCommand(request);
 
         CreateOrderUseCase.CreateOrderResult result = createOrderService.createOrder(command);
 
@@ -80,4 +92,71 @@ public class OrderController {
 
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 비동기 주문 접수 API
+     * 검증 후 userId 파티션 큐에 등록하고 202와 티켓을 즉시 반환
+     */
+    @PostMapping("/async")
+    @Idempotent(scope = "order-async", key = "#request.userId")
+    @Operation(summary = "비동기 주문 접수", description = "주문을 접수하고 티켓을 발급합니다. 처리 결과는 티켓 조회로 확인합니다.")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = "재시도 시 중복 접수 방지용 키 (선택)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "주문 접수"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중 (Retry-After 헤더 참고)"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청"),
+            @ApiResponse(responseCode = "503", description = "주문 큐 등록 실패")
+    })
+    public ResponseEntity<?> acceptOrder(@Valid @RequestBody OrderRequest request) {
+        PlaceOrderAsyncUseCase.AcceptOrderResult result = placeOrderAsyncUseCase.acceptOrder(toCommand(request));
+
+        if (!result.isSuccess()) {
+            HttpStatus status = result.isQueueUnavailable() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(new ErrorResponse(result.getErrorMessage()));
+        }
+
+        OrderTicketPort.OrderTicket ticket = result.getTicket();
+        return ResponseEntity.accepted()
+                .header("Location", "/api/orders/tickets/" + ticket.getTicketId())
+                .body(toTicketResponse(ticket));
+    }
+
+    /**
+     * 비동기 주문 티켓 조회 API
+     */
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(summary = "주문 티켓 조회", description = "비동기 주문의 처리 상태와 결과를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "티켓 없음 (만료 포함)")
+    })
+    public ResponseEntity<?> getTicket(@PathVariable("ticketId") String ticketId) {
+        return placeOrderAsyncUseCase.getTicket(ticketId)
+                .<ResponseEntity<?>>map(ticket -> ResponseEntity.ok(toTicketResponse(ticket)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse("주문 티켓을 찾을 수 없습니다.")));
+    }
+
+    /**
+     * OrderRequest를 CreateOrderCommand로 변환
+     */
+    private CreateOrderUseCase.CreateOrderCommand toCommand(OrderRequest request) {
+        List<CreateOrderUseCase.OrderItemCommand> orderItemCommands = request.getOrderItems().stream()
+                .map(item -> new CreateOrderUseCase.OrderItemCommand(item.getProductId(), item.getQuantity()))
+                .toList();
+
+        return new CreateOrderUseCase.CreateOrderCommand(
+                request.getUserId(), orderItemCommands, request.getUserCouponId());
+    }
+
+    private OrderTicketResponse toTicketResponse(OrderTicketPort.OrderTicket ticket) {
+        return new OrderTicketResponse(
+                ticket.getTicketId(),
+                ticket.getUserId(),
+                ticket.getStatus().name(),
+                ticket.getOrderId(),
+                ticket.getTotalAmount() != null ? ticket.getTotalAmount().intValue() : null,
+                ticket.getErrorMessage(),
+                ticket.getAcceptedAt());
+    }
+}
@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.order.application.port.in;
+
+import kr.hhplus.be.server.order.application.port.out.OrderTicketPort;
+
+import java.util.Optional;
+
+/**
+ * 비동기 주문 접수 Incoming Port (Use Case)
+ * 주문을 접수(티켓 발급)만 하고, 실제 처리는 userId 파티션 워커가 수행
+ */
+public interface PlaceOrderAsyncUseCase {
+
+    /**
+     * 주문 접수 - 검증 후 큐에 등록하고 티켓 반환
+     */
+    AcceptOrderResult acceptOrder(CreateOrderUseCase.CreateOrderCommand command);
+
+    /**
+     * 주문 티켓 상태 조회
+     */
+    Optional<OrderTicketPort.OrderTicket> getTicket(String ticketId);
+
+    /**
+     * 주문 접수 결과
+     */
+    class AcceptOrderResult {
+        private final boolean success;
+        private final OrderTicketPort.OrderTicket ticket;
+        private final String errorMessage;
+        private final boolean queueUnavailable;
+
+        private AcceptOrderResult(boolean success, OrderTicketPort.OrderTicket ticket, String errorMessage,
+                                  boolean queueUnavailable) {
+            this.success = success;
+            this.ticket = ticket;
+            this.errorMessage = errorMessage;
+            this.queueUnavailable = queueUnavailable;
+        }
+
+        public static AcceptOrderResult accepted(OrderTicketPort.OrderTicket ticket) {
+            return new AcceptOrderResult(true, ticket, null, false);
+        }
+
+        public static AcceptOrderResult failure(String errorMessage) {
+            return new AcceptOrderResult(false, null, errorMessage, false);
+        }
+
+        /**
+         * 큐 등록 실패 (재시도 가능)
+         */
+        public static AcceptOrderResult queueUnavailable(String errorMessage) {
+            return new AcceptOrderResult(false, null, errorMessage, true);
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public OrderTicketPort.OrderTicket getTicket() {
+            return ticket;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public boolean isQueueUnavailable() {
+            return queueUnavailable;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.order.application.port.out;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 재고 일괄 차감 Outgoing Port
+ * 장바구니 전체를 productId 오름차순으로 잠근 뒤 한 번의 UPDATE로 차감
+ */
+public interface DeductProductStocksPort {
+
+    /**
+     * 주문 아이템 전체 재고 일괄 차감
+     * 하나라도 차감할 수 없으면 어떤 상품도 차감하지 않음
+     */
+    StockDeductionResult deductStocks(List<StockDeductionItem> items);
+
+    /**
+     * 일괄 차감된 재고 복구 (보상 트랜잭션)
+     */
+    boolean restoreStocks(List<StockDeductionItem> items);
+
+    /**
+     * 재고 차감 요청 아이템
+     */
+    class StockDeductionItem {
+        private final Long productId;
+        private final Integer quantity;
+
+        public StockDeductionItem(Long productId, Integer quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+
+    /**
+     * 아이템별 차감 상태
+     */
+    enum ItemStatus {
+        DEDUCTED, NOT_FOUND, INACTIVE, INSUFFICIENT_STOCK, NOT_APPLIED
+    }
+
+    /**
+     * 아이템별 차감 결과 (요청 순서 유지)
+     */
+    class ItemResult {
+        private final Long productId;
+        private final Integer quantity;
+        private final String productName;
+        private final BigDecimal unitPrice;
+        private final Integer remainingStock;
+        private final ItemStatus status;
+
+        public ItemResult(Long productId, Integer quantity, String productName,
+                          BigDecimal unitPrice, Integer remainingStock, ItemStatus status) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.productName = productName;
+            this.unitPrice = unitPrice;
+            this.remainingStock = remainingStock;
+            this.status = status;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public String getProductName() {
+            return productName;
+        }
+
+        public BigDecimal getUnitPrice() {
+            return unitPrice;
+        }
+
+        public Integer getRemainingStock() {
+            return remainingStock;
+        }
+
+        public ItemStatus getStatus() {
+            return status;
+        }
+
+        public boolean isDeducted() {
+            return status == ItemStatus.DEDUCTED;
+        }
+    }
+
+    /**
+     * 일괄 차감 결과
+     */
+    class StockDeductionResult {
+        private final boolean success;
+        private final List<ItemResult> items;
+
+        public StockDeductionResult(boolean success, List<ItemResult> items) {
+            this.success = success;
+            this.items = items;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public List<ItemResult> getItems() {
+            return items;
+        }
+
+        /**
+         * 첫 번째 실패 아이템 (성공 시 null)
+         */
+        public ItemResult getFirstFailure() {
+            return items.stream()
+                    .filter(item -> !item.isDeducted() && item.getStatus() != ItemStatus.NOT_APPLIED)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.order.application.port.out;
+
+import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+
+/**
+ * 주문 처리 큐 등록 Outgoing Port
+ * 같은 사용자의 주문은 같은 파티션에 등록되어 순서대로 처리됨
+ */
+public interface EnqueueOrderPort {
+
+    /**
+     * 주문 명령 등록 (브로커 확인까지 대기)
+     * @return 등록 성공 여부
+     */
+    boolean enqueue(String ticketId, CreateOrderUseCase.CreateOrderCommand command);
+}
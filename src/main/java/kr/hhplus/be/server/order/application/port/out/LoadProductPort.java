@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.order.application.port.out;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,6 +20,12 @@ public interface LoadProductPort {
      */
     Optional<ProductInfo> loadProductByIdWithLock(Long productId);
     
+    /**
+     * 상품 ID 목록으로 일괄 조회 (단일 IN 쿼리)
+     * 존재하지 않는 상품은 결과 Map에 포함되지 않음
+     */
+    Map<Long, ProductInfo> loadProductsByIds(Collection<Long> productIds);
+    
     /**
      * 상품 정보
      */
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.order.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 티켓 저장 Outgoing Port
+ */
+public interface OrderTicketPort {
+
+    /**
+     * 접수된 티켓 저장 (ACCEPTED)
+     */
+    void saveAccepted(OrderTicket ticket);
+
+    /**
+     * 티켓 조회
+     */
+    Optional<OrderTicket> findById(String ticketId);
+
+    /**
+     * ACCEPTED → PROCESSING 전이 (이미 처리 중이거나 끝난 티켓이면 false)
+     */
+    boolean markProcessing(String ticketId);
+
+    /**
+     * 주문 완료 기록
+     */
+    void markCompleted(String ticketId, Long orderId, BigDecimal totalAmount);
+
+    /**
+     * 주문 실패 기록
+     */
+    void markFailed(String ticketId, String errorMessage);
+
+    /**
+     * 티켓 상태
+     */
+    enum TicketStatus {
+        ACCEPTED, PROCESSING, COMPLETED, FAILED
+    }
+
+    /**
+     * 주문 티켓
+     */
+    class OrderTicket {
+        private final String ticketId;
+        private final Long userId;
+        private final TicketStatus status;
+        private final Long orderId;
+        private final BigDecimal totalAmount;
+        private final String errorMessage;
+        private final LocalDateTime acceptedAt;
+
+        public OrderTicket(String ticketId, Long userId, TicketStatus status, Long orderId,
+                           BigDecimal totalAmount, String errorMessage, LocalDateTime acceptedAt) {
+            this.ticketId = ticketId;
+            this.userId = userId;
+            this.status = status;
+            this.orderId = orderId;
+            this.totalAmount = totalAmount;
+            this.errorMessage = errorMessage;
+            this.acceptedAt = acceptedAt;
+        }
+
+        public static OrderTicket accepted(String ticketId, Long userId) {
+            return new OrderTicket(ticketId, userId, TicketStatus.ACCEPTED, null, null, null, LocalDateTime.now());
+        }
+
+        public String getTicketId() {
+            return ticketId;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public TicketStatus getStatus() {
+            return status;
+        }
+
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public LocalDateTime getAcceptedAt() {
+            return acceptedAt;
+        }
+    }
+}
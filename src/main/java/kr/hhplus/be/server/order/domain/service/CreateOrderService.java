@@ -1,11 +1,9 @@
 package kr.hhplus.be.server.order.domain.service;
 
 import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
-import kr.hhplus.be.server.order.application.port.out.LoadProductPort;
-import kr.hhplus.be.server.order.application.port.out.UpdateProductStockPort;
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort;
 import kr.hhplus.be.server.order.application.port.out.DeductBalancePort;
 import kr.hhplus.be.server.balance.application.port.out.LoadBalancePort;
-import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.shared.lock.DistributedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +26,7 @@ import org.springframework.context.ApplicationEventPublisher;
 public class CreateOrderService implements CreateOrderUseCase {
 
     private final OrderDomainService orderDomainService;
-    private final LoadProductPort loadProductPort;
-    private final UpdateProductStockPort updateProductStockPort;
+    private final DeductProductStocksPort deductProductStocksPort;
     private final LoadBalancePort loadBalancePort;
     private final DeductBalancePort deductBalancePort;
     private final ApplicationEventPublisher eventPublisher;
@@ -47,6 +44,21 @@ public class CreateOrderService implements CreateOrderUseCase {
     )
     @Transactional
     public CreateOrderUseCase.CreateOrderResult createOrder(CreateOrderUseCase.CreateOrderCommand command) {
+        return placeOrder(command);
+    }
+
+    /**
+     * userId 파티션 워커 전용 주문 생성 (분산 락 없음)
+     * 같은 사용자의 비동기 주문은 파티션 컨슈머 스레드 하나가 접수 순서대로 실행함
+     * 동기 경로(createOrder)와 동시에 실행돼도 재고/잔액은 조건부 UPDATE로 차감하므로 초과 차감되지 않고,
+     * 두 경로 사이의 실행 순서만 보장하지 않음
+     */
+    @Transactional
+    public CreateOrderUseCase.CreateOrderResult createOrderInPartition(CreateOrderUseCase.CreateOrderCommand command) {
+        return placeOrder(command);
+    }
+
+    private CreateOrderUseCase.CreateOrderResult placeOrder(CreateOrderUseCase.CreateOrderCommand command) {
         log.debug("동기식 Saga 주문 처리 시작 - userId: {}", command.getUserId());
         
         try {
@@ -56,74 +68,38 @@ public class CreateOrderService implements CreateOrderUseCase {
                 return CreateOrderUseCase.CreateOrderResult.failure(validationResult.getErrorMessage());
             }
 
-            // 2. 상품 정보 및 재고 확인 + 차감 (비관적 락)
+            // 2. 상품 재고 일괄 확인 + 차감 (productId 오름차순 비관적 락, 단일 UPDATE)
+            List<DeductProductStocksPort.StockDeductionItem> stockItems = toStockDeductionItems(command);
+            DeductProductStocksPort.StockDeductionResult stockResult = deductProductStocksPort.deductStocks(stockItems);
+
+            if (!stockResult.isSuccess()) {
+                return CreateOrderUseCase.CreateOrderResult.failure(toStockFailureMessage(stockResult.getFirstFailure()));
+            }
+
             BigDecimal totalAmount = BigDecimal.ZERO;
             List<CreateOrderUseCase.OrderItemResult> orderItemResults = new ArrayList<>();
-            
-            for (CreateOrderUseCase.OrderItemCommand itemCommand : command.getOrderItems()) {
-                // 상품 정보 조회 (락 포함)
-                LoadProductPort.ProductInfo productInfo = loadProductPort.loadProductByIdWithLock(itemCommand.getProductId())
-                    .orElse(null);
-                
-                if (productInfo == null) {
-                    return CreateOrderUseCase.CreateOrderResult.failure("존재하지 않는 상품입니다: " + itemCommand.getProductId());
-                }
-                
-                if (!"ACTIVE".equals(productInfo.getStatus())) {
-                    return CreateOrderUseCase.CreateOrderResult.failure("판매 중지된 상품입니다: " + productInfo.getName());
-                }
-                
-                if (productInfo.getStock() < itemCommand.getQuantity()) {
-                    return CreateOrderUseCase.CreateOrderResult.failure("재고가 부족합니다: " + productInfo.getName() + " (남은 재고: " + productInfo.getStock() + ")");
-                }
-                
-                // 재고 차감
-                boolean stockDeducted = updateProductStockPort.deductStock(
-                    itemCommand.getProductId(), itemCommand.getQuantity()
-                );
-                
-                if (!stockDeducted) {
-                    return CreateOrderUseCase.CreateOrderResult.failure("재고 차감에 실패했습니다: " + productInfo.getName());
-                }
-                
-                BigDecimal itemAmount = productInfo.getCurrentPrice().multiply(new BigDecimal(itemCommand.getQuantity()));
+
+            for (DeductProductStocksPort.ItemResult itemResult : stockResult.getItems()) {
+                BigDecimal itemAmount = itemResult.getUnitPrice().multiply(new BigDecimal(itemResult.getQuantity()));
                 totalAmount = totalAmount.add(itemAmount);
-                
+
                 orderItemResults.add(new CreateOrderUseCase.OrderItemResult(
                     null, // id는 나중에 설정
-                    itemCommand.getProductId(),
-                    productInfo.getName(),
-                    itemCommand.getQuantity(),
-                    productInfo.getCurrentPrice(),
+                    itemResult.getProductId(),
+                    itemResult.getProductName(),
+                    itemResult.getQuantity(),
+                    itemResult.getUnitPrice(),
                     itemAmount
                 ));
             }
 
-            // 3. 잔액 확인 + 차감 (비관적 락)
-            Balance balance = loadBalancePort.loadActiveBalanceByUserIdWithLock(command.getUserId())
-                .orElse(null);
-            
-            if (balance == null) {
-                // 재고 롤백 필요 (간단히 처리)
-                rollbackStock(command);
-                return CreateOrderUseCase.CreateOrderResult.failure("잔액 정보를 찾을 수 없습니다.");
-            }
-            
-            if (balance.getAmount().compareTo(totalAmount) < 0) {
-                // 재고 롤백 필요
-                rollbackStock(command);
-                return CreateOrderUseCase.CreateOrderResult.failure("잔액이 부족합니다. 현재 잔액: " + balance.getAmount() + ", 주문 금액: " + totalAmount);
-            }
-            
-            // 잔액 차감
-            boolean balanceDeducted = deductBalancePort.deductBalance(
-                command.getUserId(), totalAmount
-            );
-            
+            // 3. 잔액 확인 + 차감 (조건부 UPDATE 한 번, 락 없음)
+            boolean balanceDeducted = deductBalancePort.deductBalance(command.getUserId(), totalAmount);
+
             if (!balanceDeducted) {
                 // 재고 롤백 필요
                 rollbackStock(command);
-                return CreateOrderUseCase.CreateOrderResult.failure("잔액 차감에 실패했습니다.");
+                return CreateOrderUseCase.CreateOrderResult.failure(toBalanceFailureMessage(command.getUserId(), totalAmount));
             }
 
             // 4. 주문 생성 및 저장
@@ -174,13 +150,42 @@ public class CreateOrderService implements CreateOrderUseCase {
      * 재고 롤백 (보상 트랜잭션)
      */
     private void rollbackStock(CreateOrderUseCase.CreateOrderCommand command) {
-        for (CreateOrderUseCase.OrderItemCommand itemCommand : command.getOrderItems()) {
-            try {
-                updateProductStockPort.restoreStock(itemCommand.getProductId(), itemCommand.getQuantity());
-            } catch (Exception e) {
-                log.error("재고 롤백 실패 - productId: {}", itemCommand.getProductId(), e);
-            }
+        if (!deductProductStocksPort.restoreStocks(toStockDeductionItems(command))) {
+            log.error("재고 롤백 실패 - userId: {}", command.getUserId());
+        }
+    }
+
+    /**
+     * 잔액 차감 실패 사유 조회 (실패 경로에서만 잔액을 읽음)
+     */
+    private String toBalanceFailureMessage(Long userId, BigDecimal totalAmount) {
+        return loadBalancePort.loadActiveBalanceByUserId(userId)
+            .map(balance -> "잔액이 부족합니다. 현재 잔액: " + balance.getAmount() + ", 주문 금액: " + totalAmount)
+            .orElse("잔액 정보를 찾을 수 없습니다.");
+    }
+
+    /**
+     * 주문 아이템 명령을 재고 차감 요청으로 변환
+     */
+    private List<DeductProductStocksPort.StockDeductionItem> toStockDeductionItems(CreateOrderUseCase.CreateOrderCommand command) {
+        return command.getOrderItems().stream()
+            .map(item -> new DeductProductStocksPort.StockDeductionItem(item.getProductId(), item.getQuantity()))
+            .toList();
+    }
+
+    /**
+     * 재고 차감 실패 아이템을 기존 응답 메시지 형식으로 변환
+     */
+    private String toStockFailureMessage(DeductProductStocksPort.ItemResult failure) {
+        if (failure == null) {
+            return "재고 차감에 실패했습니다.";
         }
+        return switch (failure.getStatus()) {
+            case NOT_FOUND -> "존재하지 않는 상품입니다: " + failure.getProductId();
+            case INACTIVE -> "판매 중지된 상품입니다: " + failure.getProductName();
+            case INSUFFICIENT_STOCK -> "재고가 부족합니다: " + failure.getProductName() + " (남은 재고: " + failure.getRemainingStock() + ")";
+            default -> "재고 차감에 실패했습니다: " + failure.getProductName();
+        };
     }
     
     /**
@@ -5,62 +5,70 @@ import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
 import kr.hhplus.be.server.shared.kafka.message.DataPlatformMessage;
 import kr.hhplus.be.server.shared.kafka.message.OrderCompletedMessage;
 import kr.hhplus.be.server.shared.kafka.message.ProductRankingMessage;
-import kr.hhplus.be.server.shared.kafka.producer.KafkaEventProducer;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.shared.outbox.OutboxEventAppender;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Kafka 기반 주문 이벤트 핸들러
  * event.publisher.type=kafka일 때 활성화
- * 트랜잭션 완료 후 Kafka로 이벤트 발행
+ * 주문 트랜잭션 커밋 직전에 아웃박스에 기록하고, 실제 발행은 OutboxRelay가 배치로 수행
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka")
 public class KafkaOrderEventHandler {
 
-    private final KafkaEventProducer kafkaEventProducer;
+    private final OutboxEventAppender outboxEventAppender;
+    private final String orderCompletedTopic;
+    private final String productRankingTopic;
+    private final String dataPlatformTransferTopic;
+
+    public KafkaOrderEventHandler(OutboxEventAppender outboxEventAppender,
+                                  @Value("${kafka.topics.order-completed}") String orderCompletedTopic,
+                                  @Value("${kafka.topics.product-ranking}") String productRankingTopic,
+                                  @Value("${kafka.topics.data-platform-transfer}") String dataPlatformTransferTopic) {
+        this.outboxEventAppender = outboxEventAppender;
+        this.orderCompletedTopic = orderCompletedTopic;
+        this.productRankingTopic = productRankingTopic;
+        this.dataPlatformTransferTopic = dataPlatformTransferTopic;
+    }
 
     /**
-     * 주문 완료 이벤트를 Kafka로 발행
-     * 트랜잭션 완료 후 실행하여 데이터 정합성 보장
+     * 주문 완료 이벤트를 아웃박스에 기록
+     * 주문과 같은 트랜잭션에서 기록되므로 주문이 커밋되면 이벤트도 반드시 남음
+     * (기록 실패 시 주문도 함께 롤백)
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleOrderCompleted(OrderCompletedEvent event) {
-        try {
-            log.info("Publishing order events to Kafka - orderId: {}", event.getOrderId());
-
-            // 1. 주문 완료 메시지 발행
-            publishOrderCompletedMessage(event);
+        List<OutboxEventAppender.OutboxMessage> messages = new ArrayList<>();
 
-            // 2. 상품 랭킹 업데이트 메시지들 발행
-            publishProductRankingMessages(event);
+        // 1. 주문 완료 메시지
+        messages.add(toOrderCompletedMessage(event));
 
-            // 3. 데이터 플랫폼 전송 메시지 발행
-            publishDataPlatformMessage(event);
+        // 2. 상품 랭킹 업데이트 메시지들
+        messages.addAll(toProductRankingMessages(event));
 
-            log.info("All order events published to Kafka successfully - orderId: {}", event.getOrderId());
+        // 3. 데이터 플랫폼 전송 메시지
+        messages.add(toDataPlatformMessage(event));
 
-        } catch (Exception e) {
-            log.error("Failed to publish order events to Kafka - orderId: {}", event.getOrderId(), e);
-            // Kafka 발행 실패는 메인 트랜잭션에 영향을 주지 않음
-            // 필요시 재시도 로직이나 알림 추가 가능
-        }
+        outboxEventAppender.append(messages);
+        log.info("Order events recorded to outbox - orderId: {}, messages: {}", event.getOrderId(), messages.size());
     }
 
     /**
-     * 주문 완료 메시지 발행
+     * 주문 완료 메시지 생성
+     * 파티션 키: userId (같은 사용자의 주문은 순서 보장)
      */
-    private void publishOrderCompletedMessage(OrderCompletedEvent event) {
+    private OutboxEventAppender.OutboxMessage toOrderCompletedMessage(OrderCompletedEvent event) {
         List<OrderCompletedMessage.OrderItemMessage> orderItems = event.getOrderItems().stream()
                 .map(this::convertToOrderItemMessage)
                 .toList();
@@ -78,14 +86,16 @@ public class KafkaOrderEventHandler {
                 .eventOccurredAt(LocalDateTime.now())
                 .build();
 
-        kafkaEventProducer.publishOrderCompleted(message);
+        return new OutboxEventAppender.OutboxMessage(event.getOrderId(), orderCompletedTopic,
+                "user-" + event.getUserId(), message);
     }
 
     /**
-     * 상품 랭킹 업데이트 메시지들 발행
-     * 주문한 각 상품별로 개별 메시지 발행
+     * 상품 랭킹 업데이트 메시지들 생성
+     * 주문한 각 상품별로 개별 메시지 (파티션 키: productId)
      */
-    private void publishProductRankingMessages(OrderCompletedEvent event) {
+    private List<OutboxEventAppender.OutboxMessage> toProductRankingMessages(OrderCompletedEvent event) {
+        List<OutboxEventAppender.OutboxMessage> messages = new ArrayList<>();
         for (OrderItem item : event.getOrderItems()) {
             ProductRankingMessage message = ProductRankingMessage.builder()
                     .orderId(event.getOrderId())
@@ -96,14 +106,17 @@ public class KafkaOrderEventHandler {
                     .eventOccurredAt(LocalDateTime.now())
                     .build();
 
-            kafkaEventProducer.publishProductRanking(message);
+            messages.add(new OutboxEventAppender.OutboxMessage(event.getOrderId(), productRankingTopic,
+                    "product-" + item.getProductId(), message));
         }
+        return messages;
     }
 
     /**
-     * 데이터 플랫폼 전송 메시지 발행
+     * 데이터 플랫폼 전송 메시지 생성
+     * 파티션 키: orderId (주문별 순서 보장)
      */
-    private void publishDataPlatformMessage(OrderCompletedEvent event) {
+    private OutboxEventAppender.OutboxMessage toDataPlatformMessage(OrderCompletedEvent event) {
         List<DataPlatformMessage.DataPlatformOrderItem> orderItems = event.getOrderItems().stream()
                 .map(this::convertToDataPlatformItem)
                 .toList();
@@ -122,7 +135,8 @@ public class KafkaOrderEventHandler {
                 .processedAt(LocalDateTime.now())
                 .build();
 
-        kafkaEventProducer.publishDataPlatformTransfer(message);
+        return new OutboxEventAppender.OutboxMessage(event.getOrderId(), dataPlatformTransferTopic,
+                "order-" + event.getOrderId(), message);
     }
 
     /**
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.order.domain.service;
+
+import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+import kr.hhplus.be.server.order.application.port.in.PlaceOrderAsyncUseCase;
+import kr.hhplus.be.server.order.application.port.out.EnqueueOrderPort;
+import kr.hhplus.be.server.order.application.port.out.LoadProductPort;
+import kr.hhplus.be.server.order.application.port.out.OrderTicketPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 서비스
+ * 요청 스레드는 검증 + 큐 등록만 하고 바로 반환 (분산락 대기 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceOrderAsyncService implements PlaceOrderAsyncUseCase {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderTicketPort orderTicketPort;
+    private final EnqueueOrderPort enqueueOrderPort;
+    private final LoadProductPort loadProductPort;
+
+    @Override
+    public AcceptOrderResult acceptOrder(CreateOrderUseCase.CreateOrderCommand command) {
+        // 1. 주문 기본 검증 (재고/잔액은 워커에서 확인)
+        OrderDomainService.OrderValidationResult validationResult = orderDomainService.validateOrder(command);
+        if (!validationResult.isSuccess()) {
+            return AcceptOrderResult.failure(validationResult.getErrorMessage());
+        }
+
+        // 2. 상품 존재/판매 상태 확인 (단일 IN 쿼리)
+        String productError = validateProducts(command);
+        if (productError != null) {
+            return AcceptOrderResult.failure(productError);
+        }
+
+        // 3. 티켓 발급 후 큐 등록
+        OrderTicketPort.OrderTicket ticket = OrderTicketPort.OrderTicket.accepted(UUID.randomUUID().toString(), command.getUserId());
+        orderTicketPort.saveAccepted(ticket);
+
+        if (!enqueueOrderPort.enqueue(ticket.getTicketId(), command)) {
+            orderTicketPort.markFailed(ticket.getTicketId(), "주문 접수에 실패했습니다.");
+            return AcceptOrderResult.queueUnavailable("주문 접수에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.debug("주문 접수 완료 - ticketId: {}, userId: {}", ticket.getTicketId(), command.getUserId());
+        return AcceptOrderResult.accepted(ticket);
+    }
+
+    /**
+     * 존재하지 않거나 판매 중지된 상품은 큐에 넣기 전에 거절
+     */
+    private String validateProducts(CreateOrderUseCase.CreateOrderCommand command) {
+        List<Long> productIds = command.getOrderItems().stream()
+            .map(CreateOrderUseCase.OrderItemCommand::getProductId)
+            .distinct()
+            .toList();
+        Map<Long, LoadProductPort.ProductInfo> products = loadProductPort.loadProductsByIds(
+            productIds.stream().filter(Objects::nonNull).toList());
+
+        for (Long productId : productIds) {
+            LoadProductPort.ProductInfo product = products.get(productId);
+            if (product == null) {
+                return "존재하지 않는 상품입니다: " + productId;
+            }
+            if (!"ACTIVE".equals(product.getStatus())) {
+                return "판매 중지된 상품입니다: " + product.getName();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Optional<OrderTicketPort.OrderTicket> getTicket(String ticketId) {
+        return orderTicketPort.findById(ticketId);
+    }
+}
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.order.infrastructure.messaging;
+
+import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+import kr.hhplus.be.server.order.application.port.out.EnqueueOrderPort;
+import kr.hhplus.be.server.shared.kafka.message.OrderPlacementMessage;
+import kr.hhplus.be.server.shared.kafka.producer.KafkaEventProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 처리 큐 Kafka Adapter
+ * order-placement 토픽에 userId 키로 발행
+ */
+@Component
+public class KafkaOrderPlacementAdapter implements EnqueueOrderPort {
+
+    private final KafkaEventProducer kafkaEventProducer;
+    private final long enqueueTimeoutMillis;
+
+    public KafkaOrderPlacementAdapter(KafkaEventProducer kafkaEventProducer,
+                                      @Value("${order.async.enqueue-timeout-ms:3000}") long enqueueTimeoutMillis) {
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+    }
+
+    @Override
+    public boolean enqueue(String ticketId, CreateOrderUseCase.CreateOrderCommand command) {
+        OrderPlacementMessage message = OrderPlacementMessage.builder()
+                .ticketId(ticketId)
+                .userId(command.getUserId())
+                .userCouponId(command.getUserCouponId())
+                .orderItems(command.getOrderItems().stream()
+                        .map(item -> new OrderPlacementMessage.OrderPlacementItem(item.getProductId(), item.getQuantity()))
+                        .toList())
+                .acceptedAt(LocalDateTime.now())
+                .build();
+        return kafkaEventProducer.publishOrderPlacement(message, enqueueTimeoutMillis);
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.order.infrastructure.messaging;
+
+import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+import kr.hhplus.be.server.order.application.port.out.OrderTicketPort;
+import kr.hhplus.be.server.order.domain.service.CreateOrderService;
+import kr.hhplus.be.server.shared.kafka.message.OrderPlacementMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 주문 처리 워커
+ * 파티션마다 하나의 컨슈머 스레드가 순서대로 처리하므로 같은 사용자의 비동기 주문은 분산 락 없이 접수 순서대로 실행됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPlacementWorker {
+
+    private final CreateOrderService createOrderService;
+    private final OrderTicketPort orderTicketPort;
+
+    @KafkaListener(
+        topics = "${kafka.topics.order-placement}",
+        groupId = "order-placement-group",
+        containerFactory = "kafkaListenerContainerFactory",
+        concurrency = "${order.async.worker-concurrency:6}"
+    )
+    public void handleOrderPlacement(
+            @Payload OrderPlacementMessage message,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment) {
+
+        String ticketId = message.getTicketId();
+        log.debug("주문 처리 요청 수신 - ticketId: {}, userId: {}, partition: {}, offset: {}",
+                ticketId, message.getUserId(), partition, offset);
+
+        // 재전달된 메시지 - 이미 처리 중이었거나 끝난 티켓은 다시 실행하지 않음
+        if (!orderTicketPort.markProcessing(ticketId)) {
+            handleRedelivery(ticketId);
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        try {
+            CreateOrderUseCase.CreateOrderResult result = createOrderService.createOrderInPartition(toCommand(message));
+            if (result.isSuccess()) {
+                orderTicketPort.markCompleted(ticketId, result.getOrderId(), result.getTotalAmount());
+            } else {
+                orderTicketPort.markFailed(ticketId, result.getErrorMessage());
+            }
+        } catch (Exception e) {
+            log.error("주문 처리 실패 - ticketId: {}, userId: {}", ticketId, message.getUserId(), e);
+            orderTicketPort.markFailed(ticketId, "주문 처리 중 오류가 발생했습니다.");
+        }
+
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * PROCESSING 상태로 남은 티켓은 이전 워커가 처리 도중 종료된 경우
+     * 주문 트랜잭션 커밋 여부를 알 수 없으므로 재실행하지 않고 실패로 알림
+     */
+    private void handleRedelivery(String ticketId) {
+        orderTicketPort.findById(ticketId)
+                .filter(ticket -> ticket.getStatus() == OrderTicketPort.TicketStatus.PROCESSING)
+                .ifPresent(ticket -> {
+                    log.warn("처리 중 중단된 주문 티켓 - ticketId: {}, userId: {}", ticketId, ticket.getUserId());
+                    orderTicketPort.markFailed(ticketId, "주문 처리 결과를 확인할 수 없습니다. 주문 내역을 확인해주세요.");
+                });
+    }
+
+    private CreateOrderUseCase.CreateOrderCommand toCommand(OrderPlacementMessage message) {
+        return new CreateOrderUseCase.CreateOrderCommand(
+                message.getUserId(),
+                message.getOrderItems().stream()
+                        .map(item -> new CreateOrderUseCase.OrderItemCommand(item.getProductId(), item.getQuantity()))
+                        .toList(),
+                message.getUserCouponId());
+    }
+}
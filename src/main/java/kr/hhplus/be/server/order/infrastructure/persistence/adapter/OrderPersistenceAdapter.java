@@ -18,8 +18,9 @@ import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEnti
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Order 인프라스트럭처 영속성 Adapter
@@ -49,46 +50,37 @@ public class OrderPersistenceAdapter implements SaveOrderPort {
     @Override
     @Transactional
     public Order saveOrder(Order order) {
-        // 1. Order 도메인 객체를 OrderEntity로 변환
-        OrderEntity orderEntity = mapToOrderEntity(order);
-        
-        // 2. Order 저장 및 flush로 즉시 DB에 반영하여 ID 생성
-        OrderEntity savedOrderEntity = orderJpaRepository.saveAndFlush(orderEntity);
-        
-        // 3. ID가 제대로 생성되었는지 확인
-        if (savedOrderEntity.getId() == null) {
-            throw new RuntimeException("Order 저장 후 ID가 생성되지 않았습니다.");
-        }
-        
-        // 4. OrderItem들 저장
+        // 1. Order 저장 (IDENTITY이므로 즉시 INSERT되어 ID 확정)
+        OrderEntity savedOrderEntity = orderJpaRepository.save(mapToOrderEntity(order));
+
+        // 2. OrderItem / OrderHistoryEvent는 pooled ID로 persist만 하고 커밋 시 JDBC 배치로 INSERT
         List<OrderItemEntity> orderItemEntities = order.getOrderItems().stream()
-                .map(item -> mapToOrderItemEntity(item, savedOrderEntity.getId()))
+                .map(item -> mapToOrderItemEntity(item, savedOrderEntity))
                 .toList();
         if (!orderItemEntities.isEmpty()) {
             orderItemJpaRepository.saveAll(orderItemEntities);
         }
-        
-        // 5. OrderHistoryEvent들 저장
+
         List<OrderHistoryEventEntity> historyEventEntities = order.getHistoryEvents().stream()
-                .map(event -> mapToOrderHistoryEventEntity(event, savedOrderEntity.getId()))
+                .map(event -> mapToOrderHistoryEventEntity(event, order, savedOrderEntity))
                 .toList();
         if (!historyEventEntities.isEmpty()) {
             orderHistoryEventJpaRepository.saveAll(historyEventEntities);
         }
-        
-        // 6. 저장된 OrderEntity를 다시 Order 도메인 객체로 변환하여 반환
-        return mapToOrder(savedOrderEntity, orderItemEntities, historyEventEntities);
+
+        // 3. 재조회 없이 메모리의 도메인 객체에 생성된 ID만 채워서 반환
+        return toSavedOrder(order, savedOrderEntity, orderItemEntities, historyEventEntities);
     }
 
     /**
      * Order 도메인 객체를 OrderEntity로 변환
+     * ACTIVE 상태 사용자만 주문 가능 (PK 조회 1회, 비활성/탈퇴 사용자의 주문 저장 방지)
      */
     private OrderEntity mapToOrderEntity(Order order) {
-        // UserEntity 조회 (ACTIVE 상태인 사용자)
         UserEntity userEntity = userJpaRepository.findByUserIdAndStatus(order.getUserId(), "ACTIVE")
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + order.getUserId()));
-        
-        OrderEntity entity = OrderEntity.builder()
+
+        return OrderEntity.builder()
             .user(userEntity)  // user 관계 설정 (이를 통해 user_id 컬럼이 채워짐)
             .totalAmount(order.getTotalAmount())
             .discountedAmount(order.getDiscountedAmount())
@@ -97,99 +89,86 @@ public class OrderPersistenceAdapter implements SaveOrderPort {
             .status(order.getStatus().name())
             .orderedAt(order.getOrderedAt())
             .build();
-        return entity;
     }
 
     /**
-     * OrderItem 도메인 객체를 OrderItemEntity로 변환
+     * OrderItem 도메인 객체를 OrderItemEntity로 변환 (상품은 참조 프록시, SELECT 없음)
      */
-    private OrderItemEntity mapToOrderItemEntity(OrderItem orderItem, Long orderId) {
-        // OrderEntity 조회 (order_id를 통해)
-        OrderEntity orderEntity = orderJpaRepository.findById(orderId).orElse(null);
-        
-        // ProductEntity 조회 (product_id를 통해)
-        ProductEntity productEntity = null;
-        if (orderItem.getProductId() != null) {
-            productEntity = productJpaRepository.findById(orderItem.getProductId()).orElse(null);
-        }
-        
-        OrderItemEntity entity = OrderItemEntity.builder()
+    private OrderItemEntity mapToOrderItemEntity(OrderItem orderItem, OrderEntity orderEntity) {
+        ProductEntity productReference = orderItem.getProductId() != null
+                ? productJpaRepository.getReferenceById(orderItem.getProductId())
+                : null;
+
+        return OrderItemEntity.builder()
                 .order(orderEntity)  // order 관계 설정
-                .product(productEntity)  // product 관계 설정
+                .product(productReference)  // product 관계 설정
                 .productName(orderItem.getProductName())
                 .quantity(orderItem.getQuantity())
                 .unitPrice(orderItem.getUnitPrice())
                 .totalPrice(orderItem.getTotalPrice())
                 .build();
-        return entity;
     }
 
     /**
      * OrderHistoryEvent 도메인 객체를 OrderHistoryEventEntity로 변환
      */
-    private OrderHistoryEventEntity mapToOrderHistoryEventEntity(OrderHistoryEvent event, Long orderId) {
-        OrderHistoryEventEntity entity = OrderHistoryEventEntity.builder()
-            .orderId(orderId)
+    private OrderHistoryEventEntity mapToOrderHistoryEventEntity(OrderHistoryEvent event, Order order, OrderEntity orderEntity) {
+        return OrderHistoryEventEntity.builder()
+            .order(orderEntity)  // order_id 컬럼은 관계를 통해 채워짐
             .eventType(event.getEventType().name())
+            .totalAmount(event.getTotalAmount() != null ? BigDecimal.valueOf(event.getTotalAmount()) : order.getTotalAmount())
+            .discountAmount(event.getDiscountAmount() != null ? BigDecimal.valueOf(event.getDiscountAmount()) : order.getDiscountAmount())
+            .discountedAmount(event.getDiscountedAmount() != null ? BigDecimal.valueOf(event.getDiscountedAmount()) : order.getDiscountedAmount())
+            .paymentMethod(event.getPaymentMethod())
+            .refundAmount(event.getRefundAmount() != null ? BigDecimal.valueOf(event.getRefundAmount()) : null)
+            .cancelReason(event.getCancelReason())
             .occurredAt(event.getOccurredAt())
             .build();
-        return entity;
     }
 
     /**
-     * OrderEntity를 Order 도메인 객체로 변환
+     * 저장에 사용한 도메인 객체 + 생성된 ID로 반환용 Order 구성
      */
-    private Order mapToOrder(OrderEntity orderEntity, List<OrderItemEntity> orderItemEntities, 
-                           List<OrderHistoryEventEntity> historyEventEntities) {
-        // OrderItem들 변환
-        List<OrderItem> orderItems = orderItemEntities.stream()
-                .map(this::mapToOrderItem)
-                .toList();
-        
-        // OrderHistoryEvent들 변환
-        List<OrderHistoryEvent> historyEvents = historyEventEntities.stream()
-                .map(this::mapToOrderHistoryEvent)
-                .toList();
-        
+    private Order toSavedOrder(Order order, OrderEntity orderEntity, List<OrderItemEntity> orderItemEntities,
+                               List<OrderHistoryEventEntity> historyEventEntities) {
+        List<OrderItem> orderItems = new ArrayList<>(orderItemEntities.size());
+        for (int i = 0; i < orderItemEntities.size(); i++) {
+            orderItems.add(order.getOrderItems().get(i).toBuilder()
+                    .id(orderItemEntities.get(i).getId())
+                    .orderId(orderEntity.getId())
+                    .build());
+        }
+
+        List<OrderHistoryEvent> historyEvents = new ArrayList<>(historyEventEntities.size());
+        for (int i = 0; i < historyEventEntities.size(); i++) {
+            OrderHistoryEvent event = order.getHistoryEvents().get(i);
+            historyEvents.add(OrderHistoryEvent.builder()
+                    .id(historyEventEntities.get(i).getId())
+                    .orderId(orderEntity.getId())
+                    .eventType(event.getEventType())
+                    .occurredAt(event.getOccurredAt())
+                    .cancelReason(event.getCancelReason())
+                    .refundAmount(event.getRefundAmount())
+                    .paymentMethod(event.getPaymentMethod())
+                    .totalAmount(event.getTotalAmount())
+                    .discountAmount(event.getDiscountAmount())
+                    .discountedAmount(event.getDiscountedAmount())
+                    .createdAt(event.getCreatedAt())
+                    .build());
+        }
+
         return Order.builder()
                 .id(orderEntity.getId())
-                .userId(orderEntity.getUser() != null ? orderEntity.getUser().getUserId() : null)
-                .totalAmount(orderEntity.getTotalAmount())
-                .discountedAmount(orderEntity.getDiscountedAmount())
-                .discountAmount(orderEntity.getDiscountAmount())
-                .userCouponId(orderEntity.getUserCouponId())
-                .status(Order.OrderStatus.valueOf(orderEntity.getStatus()))
-                .orderedAt(orderEntity.getOrderedAt())
+                .userId(order.getUserId())
+                .totalAmount(order.getTotalAmount())
+                .discountedAmount(order.getDiscountedAmount())
+                .discountAmount(order.getDiscountAmount())
+                .userCouponId(order.getUserCouponId())
+                .status(order.getStatus())
+                .orderedAt(order.getOrderedAt())
                 .updatedAt(orderEntity.getUpdatedAt())
                 .orderItems(orderItems)
                 .historyEvents(historyEvents)
                 .build();
     }
-
-    /**
-     * OrderItemEntity를 OrderItem 도메인 객체로 변환
-     */
-    private OrderItem mapToOrderItem(OrderItemEntity entity) {
-        return OrderItem.builder()
-                .id(entity.getId())
-                .orderId(entity.getOrder().getId())
-                .productId(entity.getProduct().getId())
-                .productName(entity.getProductName())
-                .quantity(entity.getQuantity())
-                .unitPrice(entity.getUnitPrice())
-                .totalPrice(entity.getTotalPrice())
-                .build();
-    }
-
-    /**
-     * OrderHistoryEventEntity를 OrderHistoryEvent 도메인 객체로 변환
-     */
-    private OrderHistoryEvent mapToOrderHistoryEvent(OrderHistoryEventEntity entity) {
-        return OrderHistoryEvent.builder()
-                .id(entity.getId())
-                .orderId(entity.getOrderId())
-                .eventType(OrderHistoryEvent.OrderEventType.valueOf(entity.getEventType()))
-                .occurredAt(entity.getOccurredAt())
-                .build();
-    }
-}
\ No newline at end of file
+}
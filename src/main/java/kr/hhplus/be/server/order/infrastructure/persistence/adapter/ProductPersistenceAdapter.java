@@ -6,7 +6,11 @@ import kr.hhplus.be.server.product.infrastructure.persistence.repository.Product
 
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Product 영속성 Adapter (Order 도메인용)
@@ -34,6 +38,17 @@ public class ProductPersistenceAdapter implements LoadProductPort {
                 .map(this::mapToProductInfo);
     }
 
+    @Override
+    public Map<Long, LoadProductPort.ProductInfo> loadProductsByIds(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productJpaRepository.findAllById(productIds)
+                .stream()
+                .map(this::mapToProductInfo)
+                .collect(Collectors.toMap(LoadProductPort.ProductInfo::getId, Function.identity()));
+    }
+
     /**
      * ProductEntity를 ProductInfo로 변환
      */
@@ -1,26 +1,50 @@
 package kr.hhplus.be.server.order.infrastructure.persistence.adapter;
 
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort;
 import kr.hhplus.be.server.order.application.port.out.UpdateProductStockPort;
 import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
 import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Product 재고 업데이트 영속성 Adapter (Order 도메인용)
  * Order 도메인에서 상품 재고 차감/복구를 위한 어댑터
  */
 @Slf4j
 @Component("orderProductStockPersistenceAdapter")
-public class ProductStockPersistenceAdapter implements UpdateProductStockPort {
+public class ProductStockPersistenceAdapter implements UpdateProductStockPort, DeductProductStocksPort {
 
     private final ProductJpaRepository productJpaRepository;
+    private final EntityManager entityManager;
+    private final CacheManager shortTermCacheManager;
+    private final Environment environment;
 
-    public ProductStockPersistenceAdapter(ProductJpaRepository productJpaRepository) {
+    public ProductStockPersistenceAdapter(ProductJpaRepository productJpaRepository,
+                                          EntityManager entityManager,
+                                          @Qualifier("shortTermCacheManager") CacheManager shortTermCacheManager,
+                                          Environment environment) {
         this.productJpaRepository = productJpaRepository;
+        this.entityManager = entityManager;
+        this.shortTermCacheManager = shortTermCacheManager;
+        this.environment = environment;
     }
 
     @Override
@@ -61,4 +85,126 @@ public class ProductStockPersistenceAdapter implements UpdateProductStockPort {
         }
     }
 
-}
\ No newline at end of file
+    @Override
+    @Transactional
+    public StockDeductionResult deductStocks(List<StockDeductionItem> items) {
+        // 1. 같은 상품이 여러 줄에 있으면 수량을 합산 (productId 오름차순)
+        Map<Long, Integer> requested = mergeByProductId(items);
+
+        // 2. 한 번의 SELECT ... FOR UPDATE로 productId 오름차순 락 획득
+        Map<Long, ProductEntity> products = productJpaRepository.findAllByIdForUpdateOrderById(requested.keySet())
+                .stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
+        // 3. 메모리에서 아이템별 검증
+        List<ItemResult> results = new ArrayList<>();
+        boolean allDeductible = true;
+        for (StockDeductionItem item : items) {
+            ProductEntity product = products.get(item.getProductId());
+            ItemStatus status = evaluate(product, requested.get(item.getProductId()));
+            allDeductible &= status == ItemStatus.DEDUCTED;
+            results.add(toItemResult(item, product, status));
+        }
+
+        // 락으로 읽은 엔티티는 이후 벌크 UPDATE와 어긋나므로 영속성 컨텍스트에서 분리
+        products.values().forEach(entityManager::detach);
+
+        if (!allDeductible) {
+            List<ItemResult> notApplied = results.stream()
+                    .map(result -> result.isDeducted() ? withStatus(result, ItemStatus.NOT_APPLIED) : result)
+                    .toList();
+            return new StockDeductionResult(false, notApplied);
+        }
+
+        // 4. 한 번의 UPDATE로 전체 차감
+        int updated = productJpaRepository.adjustStocks(signed(requested, -1));
+        if (updated != requested.size()) {
+            // 락을 보유한 상태이므로 발생하지 않아야 함 - 트랜잭션 롤백 유도
+            throw new IllegalStateException("일괄 재고 차감 대상 수 불일치 - expected: " + requested.size() + ", updated: " + updated);
+        }
+
+        evictProductDetailCache(requested.keySet());
+
+        List<ItemResult> deducted = results.stream()
+                .map(result -> new ItemResult(result.getProductId(), result.getQuantity(), result.getProductName(),
+                        result.getUnitPrice(),
+                        products.get(result.getProductId()).getStockQuantity() - requested.get(result.getProductId()),
+                        ItemStatus.DEDUCTED))
+                .toList();
+        return new StockDeductionResult(true, deducted);
+    }
+
+    @Override
+    @Transactional
+    public boolean restoreStocks(List<StockDeductionItem> items) {
+        try {
+            Map<Long, Integer> requested = mergeByProductId(items);
+            int updated = productJpaRepository.adjustStocks(signed(requested, 1));
+            evictProductDetailCache(requested.keySet());
+            return updated == requested.size();
+
+        } catch (Exception e) {
+            log.warn("일괄 재고 복구 실패 - items: {}", items.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * productId 기준 수량 합산 (TreeMap으로 오름차순 유지)
+     */
+    private Map<Long, Integer> mergeByProductId(List<StockDeductionItem> items) {
+        Map<Long, Integer> merged = new TreeMap<>();
+        for (StockDeductionItem item : items) {
+            merged.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return merged;
+    }
+
+    private ItemStatus evaluate(ProductEntity product, Integer totalQuantity) {
+        if (product == null) {
+            return ItemStatus.NOT_FOUND;
+        }
+        if (!"ACTIVE".equals(product.getStatus())) {
+            return ItemStatus.INACTIVE;
+        }
+        if (!product.hasStock(totalQuantity)) {
+            return ItemStatus.INSUFFICIENT_STOCK;
+        }
+        return ItemStatus.DEDUCTED;
+    }
+
+    private ItemResult toItemResult(StockDeductionItem item, ProductEntity product, ItemStatus status) {
+        if (product == null) {
+            return new ItemResult(item.getProductId(), item.getQuantity(), null, null, null, status);
+        }
+        return new ItemResult(item.getProductId(), item.getQuantity(), product.getName(),
+                product.getPrice(), product.getStockQuantity(), status);
+    }
+
+    private ItemResult withStatus(ItemResult result, ItemStatus status) {
+        return new ItemResult(result.getProductId(), result.getQuantity(), result.getProductName(),
+                result.getUnitPrice(), result.getRemainingStock(), status);
+    }
+
+    /**
+     * 부호를 적용한 증감 맵 생성 (차감은 음수)
+     */
+    private Map<Long, Integer> signed(Map<Long, Integer> quantities, int sign) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> deltas.put(productId, sign * quantity));
+        return deltas;
+    }
+
+    /**
+     * 상품 상세 캐시 일괄 무효화 (@CacheEvict와 동일하게 test 프로필 제외)
+     */
+    private void evictProductDetailCache(Collection<Long> productIds) {
+        if (environment.acceptsProfiles(Profiles.of("test"))) {
+            return;
+        }
+        Cache cache = shortTermCacheManager.getCache("productDetail");
+        if (cache != null) {
+            productIds.forEach(cache::evict);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package kr.hhplus.be.server.order.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
-import kr.hhplus.be.server.shared.domain.BaseEntity;
+import kr.hhplus.be.server.shared.domain.PooledIdBaseEntity;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +23,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class OrderHistoryEventEntity extends BaseEntity {
+public class OrderHistoryEventEntity extends PooledIdBaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", referencedColumnName = "id",
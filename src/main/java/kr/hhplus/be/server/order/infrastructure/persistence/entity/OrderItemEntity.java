@@ -1,7 +1,7 @@
 package kr.hhplus.be.server.order.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
-import kr.hhplus.be.server.shared.domain.BaseEntity;
+import kr.hhplus.be.server.shared.domain.PooledIdBaseEntity;
 import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,7 +23,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class OrderItemEntity extends BaseEntity {
+public class OrderItemEntity extends PooledIdBaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", referencedColumnName = "id",
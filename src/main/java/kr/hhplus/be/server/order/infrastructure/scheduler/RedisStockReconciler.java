@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.order.infrastructure.scheduler;
+
+import kr.hhplus.be.server.order.infrastructure.stock.RedisStockLedger;
+import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Redis 재고 원장 → MySQL 반영 스케줄러 (stock.mode=redis)
+ * - 확정된 재고 증감을 주기적으로 꺼내 상품 N개당 UPDATE 한 번으로 반영
+ * - 꺼낸 증감은 반영 실행 키에 남겨 두고 배치 커밋 후 제거 (반영 도중 종료되면 drain-lease-ms 이후 재반영)
+ * - 확정/해제되지 않고 방치된 예약은 만료 처리 (재고 복구)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.mode", havingValue = "redis")
+public class RedisStockReconciler {
+
+    private final RedisStockLedger stockLedger;
+    private final ProductJpaRepository productJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long reservationTimeoutMillis;
+    private final long drainLeaseMillis;
+
+    public RedisStockReconciler(RedisStockLedger stockLedger,
+                                ProductJpaRepository productJpaRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${stock.redis.reconcile-batch-size:500}") int batchSize,
+                                @Value("${stock.redis.reservation-timeout-seconds:30}") long reservationTimeoutSeconds,
+                                @Value("${stock.redis.drain-lease-ms:60000}") long drainLeaseMillis) {
+        this.stockLedger = stockLedger;
+        this.productJpaRepository = productJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.reservationTimeoutMillis = reservationTimeoutSeconds * 1000;
+        this.drainLeaseMillis = drainLeaseMillis;
+    }
+
+    /**
+     * 기동 시 이전 프로세스가 반영하지 못하고 남긴 증감 재반영
+     * 다른 노드가 반영 중일 수 있으므로 선점 후 drain-lease-ms가 지난 실행만 대상
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        try {
+            applyStaleDrains();
+        } catch (Exception e) {
+            log.error("미반영 Redis 재고 증감 복구 실패", e);
+        }
+    }
+
+    /**
+     * 확정된 재고 증감을 MySQL에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${stock.redis.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        applyStaleDrains();
+
+        RedisStockLedger.DrainRun run = stockLedger.drainPendingDeltas();
+        if (run.isEmpty()) {
+            return;
+        }
+        apply(run);
+        log.debug("Redis 재고 증감 MySQL 반영 - runId: {}, products: {}", run.runId(), run.deltas().size());
+    }
+
+    private void applyStaleDrains() {
+        for (RedisStockLedger.DrainRun run : stockLedger.claimStaleDrains(System.currentTimeMillis() - drainLeaseMillis)) {
+            log.warn("미반영 Redis 재고 증감 재반영 - runId: {}, products: {}", run.runId(), run.deltas().size());
+            apply(run);
+        }
+    }
+
+    /**
+     * 배치 단위로 MySQL 반영 후 커밋된 상품만 반영 실행 키에서 제거
+     * 실패한 배치는 반영 실행 키에 남아 drain-lease-ms 이후 재시도
+     */
+    private void apply(RedisStockLedger.DrainRun run) {
+        for (Map<Long, Integer> batch : partition(run.deltas())) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> productJpaRepository.adjustStocks(batch));
+            } catch (Exception e) {
+                log.error("Redis 재고 증감 MySQL 반영 실패 - runId: {}, products: {}", run.runId(), batch.size(), e);
+                continue;
+            }
+            stockLedger.completeDrain(run.runId(), batch.keySet());
+        }
+    }
+
+    /**
+     * 타임아웃이 지난 예약 해제
+     * 트랜잭션 종료 콜백이 유실된 경우(프로세스 종료 등)에만 남음
+     */
+    @Scheduled(fixedDelayString = "${stock.redis.reservation-sweep-interval-ms:5000}")
+    public void releaseExpiredReservations() {
+        Set<String> expired = stockLedger.findReservationsOlderThan(System.currentTimeMillis() - reservationTimeoutMillis);
+        for (String token : expired) {
+            try {
+                if (stockLedger.release(token)) {
+                    log.warn("만료된 Redis 재고 예약 해제 - token: {}", token);
+                }
+            } catch (Exception e) {
+                log.error("만료된 Redis 재고 예약 해제 실패 - token: {}", token, e);
+            }
+        }
+    }
+
+    private List<Map<Long, Integer>> partition(Map<Long, Integer> deltas) {
+        List<Map<Long, Integer>> batches = new ArrayList<>();
+        Map<Long, Integer> current = new TreeMap<>();
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() >= batchSize) {
+                batches.add(current);
+                current = new TreeMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.order.infrastructure.stock;
+
+import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
+import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 재고 미러 정합성 점검 (stock.mode=redis)
+ * 기대값: Redis 가용 재고 = MySQL 재고 + 미반영 증감 - 미확정 예약 수량
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.mode", havingValue = "redis")
+public class RedisStockConsistencyChecker {
+
+    private final RedisStockLedger stockLedger;
+    private final ProductJpaRepository productJpaRepository;
+
+    // 직전 점검에서 불일치한 상품 (반영 중 일시적 불일치 제외용)
+    private Set<Long> previousMismatches = new HashSet<>();
+
+    /**
+     * 미러링 중인 전체 상품 정합성 점검
+     */
+    public List<StockMismatch> check() {
+        Set<Long> productIds = stockLedger.getMirroredProductIds();
+        List<StockMismatch> mismatches = new ArrayList<>();
+        if (productIds.isEmpty()) {
+            return mismatches;
+        }
+
+        Map<Long, Integer> redisStocks = stockLedger.getAvailableStocks(productIds);
+        Map<Long, Integer> pendingDeltas = stockLedger.getPendingDeltas(productIds);
+        Map<Long, Integer> reserved = stockLedger.getOutstandingReservedQuantities();
+
+        for (ProductEntity product : productJpaRepository.findAllById(productIds)) {
+            Integer redisStock = redisStocks.get(product.getId());
+            if (redisStock == null) {
+                continue;
+            }
+            int expected = product.getStockQuantity()
+                    + pendingDeltas.getOrDefault(product.getId(), 0)
+                    - reserved.getOrDefault(product.getId(), 0);
+            if (expected != redisStock) {
+                mismatches.add(new StockMismatch(product.getId(), redisStock, product.getStockQuantity(), expected));
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * 주기적 점검 - 연속 두 번 불일치한 상품만 경고
+     */
+    @Scheduled(fixedDelayString = "${stock.redis.consistency-check-interval-ms:60000}")
+    public void scheduledCheck() {
+        try {
+            List<StockMismatch> mismatches = check();
+            Set<Long> current = new HashSet<>();
+            for (StockMismatch mismatch : mismatches) {
+                current.add(mismatch.getProductId());
+                if (previousMismatches.contains(mismatch.getProductId())) {
+                    log.warn("Redis 재고 불일치 - productId: {}, redis: {}, db: {}, expected: {}",
+                            mismatch.getProductId(), mismatch.getRedisStock(), mismatch.getDatabaseStock(), mismatch.getExpectedStock());
+                }
+            }
+            previousMismatches = current;
+        } catch (Exception e) {
+            log.error("Redis 재고 정합성 점검 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 재고 불일치 정보
+     */
+    public static class StockMismatch {
+        private final Long productId;
+        private final Integer redisStock;
+        private final Integer databaseStock;
+        private final Integer expectedStock;
+
+        public StockMismatch(Long productId, Integer redisStock, Integer databaseStock, Integer expectedStock) {
+            this.productId = productId;
+            this.redisStock = redisStock;
+            this.databaseStock = databaseStock;
+            this.expectedStock = expectedStock;
+        }
+
+        public Long getProductId() { return productId; }
+        public Integer getRedisStock() { return redisStock; }
+        public Integer getDatabaseStock() { return databaseStock; }
+        public Integer getExpectedStock() { return expectedStock; }
+    }
+}
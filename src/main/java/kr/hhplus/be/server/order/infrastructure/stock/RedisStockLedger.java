@@ -0,0 +1,550 @@
+package kr.hhplus.be.server.order.infrastructure.stock;
+
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 예약 원장
+ * - {stock}:available:{productId} : 예약 가능한 재고 (MySQL 재고의 미러)
+ * - {stock}:reservation:{token}   : 주문 단위 예약 내역 (productId → 수량)
+ * - {stock}:reservations          : 예약 인덱스 (score = 예약 시각, 만료 예약 정리용)
+ * - {stock}:pending-delta         : 아직 MySQL에 반영되지 않은 상품별 순증감
+ * - {stock}:pending-delta:processing:{runId} : MySQL 반영 중인 증감 (반영 완료 후 삭제)
+ * - {stock}:pending-delta:processing        : 반영 중 키 인덱스 (score = 선점 시각, 중단된 반영 재처리용)
+ * - {stock}:pending-delta:generation        : 반영 시작/완료마다 증가 (미러 초기화와 반영의 경합 감지)
+ *
+ * 모든 변경은 Lua 스크립트로 원자적으로 수행하며, 스크립트가 접근하는 키는 모두 KEYS로 전달
+ * 모든 키가 {stock} 해시 태그를 공유하므로 Redis Cluster에서도 한 슬롯에 모여 CROSSSLOT 없이 실행됨 (재고 원장은 한 샤드에 집중)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStockLedger {
+
+    /**
+     * 전체 아이템 재고 확인 후 일괄 예약
+     * KEYS: available keys(n), reservation key, reservation index key
+     * ARGV: n, quantities(n), productIds(n), token, nowMillis
+     * 반환: {0, remaining...} 성공 / {-1, index} 미러 없음 / {-2, index, current} 재고 부족
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local n = tonumber(ARGV[1])
+            for i = 1, n do
+                local current = redis.call('GET', KEYS[i])
+                if not current then
+                    return {-1, i}
+                end
+                if tonumber(current) < tonumber(ARGV[1 + i]) then
+                    return {-2, i, tonumber(current)}
+                end
+            end
+            local result = {0}
+            for i = 1, n do
+                result[i + 1] = redis.call('DECRBY', KEYS[i], ARGV[1 + i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[1 + n + i], ARGV[1 + i])
+            end
+            redis.call('ZADD', KEYS[n + 2], ARGV[2 * n + 3], ARGV[2 * n + 2])
+            return result
+            """, List.class);
+
+    /**
+     * 예약 확정 - 예약 수량을 MySQL 반영 대기 증감으로 이동
+     * KEYS: reservation key, reservation index key, pending delta key
+     * ARGV: token
+     */
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if #entries == 0 then
+                return 0
+            end
+            for i = 1, #entries, 2 do
+                redis.call('HINCRBY', KEYS[3], entries[i], -tonumber(entries[i + 1]))
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 예약 해제 - 예약 수량을 가용 재고로 복구
+     * KEYS: reservation key, reservation index key, available keys(n)
+     * ARGV: token, productIds(n)
+     * 반환: 1 해제, 0 이미 확정/해제됨
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 1, #KEYS - 2 do
+                local quantity = redis.call('HGET', KEYS[1], ARGV[1 + i])
+                if quantity then
+                    redis.call('INCRBY', KEYS[2 + i], quantity)
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 확정된 재고 복구 (가용 재고 증가 + MySQL 반영 대기 증감)
+     * KEYS: available keys(n), pending delta key
+     * ARGV: n, quantities(n), productIds(n)
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local n = tonumber(ARGV[1])
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[1 + i])
+                end
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[1 + n + i], ARGV[1 + i])
+            end
+            return n
+            """, Long.class);
+
+    /**
+     * MySQL 반영 대기 증감을 반영 실행 키로 옮김 (반영 완료 전까지 Redis에 남음)
+     * KEYS: pending delta key, processing key, processing index key, generation key
+     * ARGV: runId, nowMillis
+     * 반환: 옮긴 증감 (field, value 반복), 대기 증감이 없으면 빈 목록
+     */
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+            redis.call('INCR', KEYS[4])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    /**
+     * 선점 시각이 오래된 반영 실행을 다시 선점 (반영 도중 종료되었거나 반영에 실패한 증감)
+     * KEYS: processing key, processing index key, generation key
+     * ARGV: runId, staleBeforeMillis, nowMillis
+     * 반환: 남은 증감 (field, value 반복), 다른 노드가 선점 중이거나 남은 증감이 없으면 빈 목록
+     */
+    private static final RedisScript<List> CLAIM_STALE_SCRIPT = new DefaultRedisScript<>("""
+            local claimedAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if not claimedAt or tonumber(claimedAt) > tonumber(ARGV[2]) then
+                return {}
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                redis.call('INCR', KEYS[3])
+                return {}
+            end
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('INCR', KEYS[3])
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    /**
+     * MySQL 반영이 커밋된 상품의 증감 제거, 모두 반영되면 인덱스에서도 제거
+     * KEYS: processing key, processing index key, generation key
+     * ARGV: runId, productIds...
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV do
+                redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+            redis.call('INCR', KEYS[3])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 미러가 없는 상품의 가용 재고 초기화 (SET NX)
+     * MySQL 재고를 읽은 뒤 증감 반영이 시작/완료되었거나 반영 중인 증감이 있으면 초기화하지 않음
+     * KEYS: generation key, processing index key, pending delta key, mirrored set key, available keys(n)
+     * ARGV: expected generation, n, productIds(n), databaseStocks(n)
+     * 반환: 새로 초기화한 상품 수, 반영과 경합하면 -1
+     */
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] or redis.call('ZCARD', KEYS[2]) > 0 then
+                return -1
+            end
+            local n = tonumber(ARGV[2])
+            local created = 0
+            for i = 1, n do
+                local productId = ARGV[2 + i]
+                local delta = tonumber(redis.call('HGET', KEYS[3], productId) or '0')
+                if redis.call('SET', KEYS[4 + i], tonumber(ARGV[2 + n + i]) + delta, 'NX') then
+                    created = created + 1
+                end
+                redis.call('SADD', KEYS[4], productId)
+            end
+            return created
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 주문 단위 재고 예약
+     * @param quantities productId → 수량 (오름차순 정렬 권장)
+     */
+    public ReserveOutcome reserve(String token, Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        int n = productIds.size();
+
+        List<String> keys = new ArrayList<>(n + 2);
+        for (Long productId : productIds) {
+            keys.add(RedisKeyConstants.getStockAvailableKey(productId));
+        }
+        keys.add(RedisKeyConstants.getStockReservationKey(token));
+        keys.add(RedisKeyConstants.STOCK_RESERVATION_INDEX_KEY);
+
+        List<String> args = new ArrayList<>(2 * n + 3);
+        args.add(String.valueOf(n));
+        for (Long productId : productIds) {
+            args.add(String.valueOf(quantities.get(productId)));
+        }
+        for (Long productId : productIds) {
+            args.add(String.valueOf(productId));
+        }
+        args.add(token);
+        args.add(String.valueOf(System.currentTimeMillis()));
+
+        List<?> result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        long code = toLong(result.get(0));
+
+        if (code == -1) {
+            return ReserveOutcome.missing(productIds.get((int) toLong(result.get(1)) - 1));
+        }
+        if (code == -2) {
+            return ReserveOutcome.insufficient(productIds.get((int) toLong(result.get(1)) - 1), (int) toLong(result.get(2)));
+        }
+
+        Map<Long, Integer> remaining = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            remaining.put(productIds.get(i), (int) toLong(result.get(i + 1)));
+        }
+        return ReserveOutcome.reserved(remaining);
+    }
+
+    /**
+     * 예약 확정 (주문 커밋 후)
+     */
+    public boolean confirm(String token) {
+        Long confirmed = stringRedisTemplate.execute(CONFIRM_SCRIPT,
+                List.of(RedisKeyConstants.getStockReservationKey(token),
+                        RedisKeyConstants.STOCK_RESERVATION_INDEX_KEY,
+                        RedisKeyConstants.STOCK_PENDING_DELTA_KEY),
+                token);
+        return confirmed != null && confirmed > 0;
+    }
+
+    /**
+     * 예약 해제 (주문 롤백 또는 예약 만료)
+     */
+    public boolean release(String token) {
+        String reservationKey = RedisKeyConstants.getStockReservationKey(token);
+        // 예약 내역은 생성 후 바뀌지 않으므로 상품 목록을 먼저 읽어 가용 재고 키를 KEYS로 전달
+        Set<Object> productIds = stringRedisTemplate.opsForHash().keys(reservationKey);
+
+        List<String> keys = new ArrayList<>(productIds.size() + 2);
+        keys.add(reservationKey);
+        keys.add(RedisKeyConstants.STOCK_RESERVATION_INDEX_KEY);
+        List<String> args = new ArrayList<>(productIds.size() + 1);
+        args.add(token);
+        for (Object productId : productIds) {
+            keys.add(RedisKeyConstants.getStockAvailableKey(Long.valueOf(productId.toString())));
+            args.add(productId.toString());
+        }
+
+        Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+        return released != null && released > 0;
+    }
+
+    /**
+     * 확정된 재고 복구
+     */
+    public void restore(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        int n = productIds.size();
+
+        List<String> keys = new ArrayList<>(n + 1);
+        for (Long productId : productIds) {
+            keys.add(RedisKeyConstants.getStockAvailableKey(productId));
+        }
+        keys.add(RedisKeyConstants.STOCK_PENDING_DELTA_KEY);
+
+        List<String> args = new ArrayList<>(2 * n + 1);
+        args.add(String.valueOf(n));
+        for (Long productId : productIds) {
+            args.add(String.valueOf(quantities.get(productId)));
+        }
+        for (Long productId : productIds) {
+            args.add(String.valueOf(productId));
+        }
+
+        stringRedisTemplate.execute(RESTORE_SCRIPT, keys, args.toArray());
+    }
+
+    /**
+     * 증감 반영 세대 - MySQL 재고를 읽기 전에 조회해 warm()에 전달
+     */
+    public long getDrainGeneration() {
+        String generation = stringRedisTemplate.opsForValue().get(RedisKeyConstants.STOCK_PENDING_DELTA_GENERATION_KEY);
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    /**
+     * 미러가 없는 상품의 가용 재고 초기화 (SET NX)
+     * MySQL 재고에 아직 반영되지 않은 증감을 더해 초기값으로 사용
+     * @param generation MySQL 재고를 읽기 전에 조회한 getDrainGeneration() 값
+     * @return 초기화 여부 판단 완료 시 true, MySQL 반영과 경합하면 false (MySQL 재고를 다시 읽어 재시도)
+     */
+    public boolean warm(Map<Long, Integer> databaseStocks, long generation) {
+        List<Long> productIds = new ArrayList<>(databaseStocks.keySet());
+        int n = productIds.size();
+
+        List<String> keys = new ArrayList<>(n + 4);
+        keys.add(RedisKeyConstants.STOCK_PENDING_DELTA_GENERATION_KEY);
+        keys.add(RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY);
+        keys.add(RedisKeyConstants.STOCK_PENDING_DELTA_KEY);
+        keys.add(RedisKeyConstants.STOCK_MIRRORED_PRODUCTS_KEY);
+        List<String> args = new ArrayList<>(2 * n + 2);
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(n));
+        for (Long productId : productIds) {
+            keys.add(RedisKeyConstants.getStockAvailableKey(productId));
+            args.add(String.valueOf(productId));
+        }
+        for (Long productId : productIds) {
+            args.add(String.valueOf(databaseStocks.get(productId)));
+        }
+
+        Long created = stringRedisTemplate.execute(WARM_SCRIPT, keys, args.toArray());
+        if (created == null || created < 0) {
+            return false;
+        }
+        if (created > 0) {
+            log.info("Redis 재고 미러 초기화 - products: {}, created: {}", productIds, created);
+        }
+        return true;
+    }
+
+    /**
+     * MySQL 반영 대기 증감 전체를 새 반영 실행 키로 옮겨 꺼냄
+     * 반영이 커밋된 상품은 completeDrain()으로 제거하며, 그 전에 종료되면 claimStaleDrains()로 다시 꺼낼 수 있음
+     */
+    public DrainRun drainPendingDeltas() {
+        String runId = UUID.randomUUID().toString();
+        List<?> entries = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(RedisKeyConstants.STOCK_PENDING_DELTA_KEY,
+                        RedisKeyConstants.getStockPendingDeltaProcessingKey(runId),
+                        RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY,
+                        RedisKeyConstants.STOCK_PENDING_DELTA_GENERATION_KEY),
+                runId, String.valueOf(System.currentTimeMillis()));
+        return new DrainRun(runId, toDeltas(entries));
+    }
+
+    /**
+     * 선점 시각이 staleBeforeMillis 이전인 반영 실행을 다시 선점해 꺼냄
+     * (반영 도중 프로세스가 종료되었거나 MySQL 반영에 실패해 남은 증감)
+     */
+    public List<DrainRun> claimStaleDrains(long staleBeforeMillis) {
+        Set<String> runIds = stringRedisTemplate.opsForZSet()
+                .rangeByScore(RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY, 0, staleBeforeMillis);
+        if (runIds == null || runIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<DrainRun> runs = new ArrayList<>();
+        for (String runId : runIds) {
+            List<?> entries = stringRedisTemplate.execute(CLAIM_STALE_SCRIPT,
+                    List.of(RedisKeyConstants.getStockPendingDeltaProcessingKey(runId),
+                            RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY,
+                            RedisKeyConstants.STOCK_PENDING_DELTA_GENERATION_KEY),
+                    runId, String.valueOf(staleBeforeMillis), String.valueOf(System.currentTimeMillis()));
+            Map<Long, Integer> deltas = toDeltas(entries);
+            if (!deltas.isEmpty()) {
+                runs.add(new DrainRun(runId, deltas));
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * MySQL 반영이 커밋된 상품의 증감을 반영 실행 키에서 제거
+     */
+    public void completeDrain(String runId, Collection<Long> productIds) {
+        List<String> args = new ArrayList<>(productIds.size() + 1);
+        args.add(runId);
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+        stringRedisTemplate.execute(COMPLETE_SCRIPT,
+                List.of(RedisKeyConstants.getStockPendingDeltaProcessingKey(runId),
+                        RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY,
+                        RedisKeyConstants.STOCK_PENDING_DELTA_GENERATION_KEY),
+                args.toArray());
+    }
+
+    private Map<Long, Integer> toDeltas(List<?> entries) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            int delta = Integer.parseInt(entries.get(i + 1).toString());
+            if (delta != 0) {
+                deltas.put(Long.valueOf(entries.get(i).toString()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 상품별 MySQL 반영 대기 증감 조회 (반영 중인 증감 포함)
+     */
+    public Map<Long, Integer> getPendingDeltas(Collection<Long> productIds) {
+        List<Object> fields = productIds.stream().map(id -> (Object) String.valueOf(id)).toList();
+        Map<Long, Integer> deltas = new HashMap<>();
+        productIds.forEach(productId -> deltas.put(productId, 0));
+
+        List<String> hashKeys = new ArrayList<>();
+        hashKeys.add(RedisKeyConstants.STOCK_PENDING_DELTA_KEY);
+        Set<String> runIds = stringRedisTemplate.opsForZSet().range(RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY, 0, -1);
+        if (runIds != null) {
+            runIds.forEach(runId -> hashKeys.add(RedisKeyConstants.getStockPendingDeltaProcessingKey(runId)));
+        }
+
+        for (String hashKey : hashKeys) {
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(hashKey, fields);
+            int index = 0;
+            for (Long productId : productIds) {
+                Object value = values.get(index++);
+                if (value != null) {
+                    deltas.merge(productId, Integer.parseInt(value.toString()), Integer::sum);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 상품별 Redis 가용 재고 조회 (미러가 없으면 null)
+     */
+    public Map<Long, Integer> getAvailableStocks(Collection<Long> productIds) {
+        List<String> keys = productIds.stream().map(RedisKeyConstants::getStockAvailableKey).toList();
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        int index = 0;
+        for (Long productId : productIds) {
+            String value = values != null ? values.get(index) : null;
+            stocks.put(productId, value != null ? Integer.valueOf(value) : null);
+            index++;
+        }
+        return stocks;
+    }
+
+    /**
+     * 확정/해제되지 않은 예약 수량을 상품별로 합산
+     */
+    public Map<Long, Integer> getOutstandingReservedQuantities() {
+        Map<Long, Integer> reserved = new HashMap<>();
+        Set<String> tokens = stringRedisTemplate.opsForZSet().range(RedisKeyConstants.STOCK_RESERVATION_INDEX_KEY, 0, -1);
+        if (tokens == null) {
+            return reserved;
+        }
+        for (String token : tokens) {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(RedisKeyConstants.getStockReservationKey(token));
+            entries.forEach((productId, quantity) ->
+                    reserved.merge(Long.valueOf(productId.toString()), Integer.parseInt(quantity.toString()), Integer::sum));
+        }
+        return reserved;
+    }
+
+    /**
+     * 지정 시각 이전에 생성되어 아직 확정/해제되지 않은 예약 토큰 조회
+     */
+    public Set<String> findReservationsOlderThan(long cutoffMillis) {
+        Set<String> tokens = stringRedisTemplate.opsForZSet()
+                .rangeByScore(RedisKeyConstants.STOCK_RESERVATION_INDEX_KEY, 0, cutoffMillis);
+        return tokens != null ? tokens : Set.of();
+    }
+
+    /**
+     * 미러링 중인 상품 ID 목록
+     */
+    public Set<Long> getMirroredProductIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(RedisKeyConstants.STOCK_MIRRORED_PRODUCTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    /**
+     * MySQL 반영 실행 단위 (runId별 반영 중 키에 보관된 증감)
+     */
+    public record DrainRun(String runId, Map<Long, Integer> deltas) {
+        public boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+    }
+
+    /**
+     * 예약 결과
+     */
+    public static class ReserveOutcome {
+
+        public enum Status {
+            RESERVED, MISSING_MIRROR, INSUFFICIENT_STOCK
+        }
+
+        private final Status status;
+        private final Long failedProductId;
+        private final Integer currentStock;
+        private final Map<Long, Integer> remainingStocks;
+
+        private ReserveOutcome(Status status, Long failedProductId, Integer currentStock, Map<Long, Integer> remainingStocks) {
+            this.status = status;
+            this.failedProductId = failedProductId;
+            this.currentStock = currentStock;
+            this.remainingStocks = remainingStocks;
+        }
+
+        public static ReserveOutcome reserved(Map<Long, Integer> remainingStocks) {
+            return new ReserveOutcome(Status.RESERVED, null, null, remainingStocks);
+        }
+
+        public static ReserveOutcome missing(Long productId) {
+            return new ReserveOutcome(Status.MISSING_MIRROR, productId, null, Map.of());
+        }
+
+        public static ReserveOutcome insufficient(Long productId, Integer currentStock) {
+            return new ReserveOutcome(Status.INSUFFICIENT_STOCK, productId, currentStock, Map.of());
+        }
+
+        public Status getStatus() { return status; }
+        public Long getFailedProductId() { return failedProductId; }
+        public Integer getCurrentStock() { return currentStock; }
+        public Map<Long, Integer> getRemainingStocks() { return remainingStocks; }
+        public boolean isReserved() { return status == Status.RESERVED; }
+    }
+}
@@ -0,0 +1,227 @@
+package kr.hhplus.be.server.order.infrastructure.stock;
+
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort;
+import kr.hhplus.be.server.order.application.port.out.UpdateProductStockPort;
+import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
+import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 예약 Adapter (stock.mode=redis)
+ * 주문 경로에서는 MySQL 행 락 없이 Redis Lua 스크립트로 재고를 예약하고,
+ * 트랜잭션 커밋 시 확정 / 롤백 시 해제한다.
+ * 확정된 증감은 RedisStockReconciler가 주기적으로 MySQL에 일괄 반영
+ * 미러 초기화는 주문 트랜잭션 스냅샷이 아닌 별도 트랜잭션에서 읽은 MySQL 재고로 수행
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "stock.mode", havingValue = "redis")
+public class RedisStockReservationAdapter implements UpdateProductStockPort, DeductProductStocksPort {
+
+    private final RedisStockLedger stockLedger;
+    private static final int WARM_MAX_ATTEMPTS = 3;
+    private static final long WARM_RETRY_BACKOFF_MILLIS = 20;
+
+    private final ProductJpaRepository productJpaRepository;
+    private final TransactionTemplate freshReadTemplate;
+
+    public RedisStockReservationAdapter(RedisStockLedger stockLedger,
+                                        ProductJpaRepository productJpaRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.stockLedger = stockLedger;
+        this.productJpaRepository = productJpaRepository;
+        this.freshReadTemplate = new TransactionTemplate(transactionManager);
+        this.freshReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.freshReadTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public StockDeductionResult deductStocks(List<StockDeductionItem> items) {
+        Map<Long, Integer> requested = mergeByProductId(items);
+
+        // 상품명/가격/판매 상태 조회 (재고 수량은 Redis 미러 기준, 락 없음)
+        Map<Long, ProductEntity> products = productJpaRepository.findAllById(requested.keySet())
+                .stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
+        for (StockDeductionItem item : items) {
+            ProductEntity product = products.get(item.getProductId());
+            if (product == null) {
+                return failure(items, products, item.getProductId(), ItemStatus.NOT_FOUND, null);
+            }
+            if (!"ACTIVE".equals(product.getStatus())) {
+                return failure(items, products, item.getProductId(), ItemStatus.INACTIVE, null);
+            }
+        }
+
+        String token = UUID.randomUUID().toString();
+        RedisStockLedger.ReserveOutcome outcome = stockLedger.reserve(token, requested);
+        if (outcome.getStatus() == RedisStockLedger.ReserveOutcome.Status.MISSING_MIRROR) {
+            // 미러가 없는 상품은 MySQL 재고로 초기화 후 한 번 더 시도
+            warmMirror(requested.keySet());
+            outcome = stockLedger.reserve(token, requested);
+        }
+
+        if (!outcome.isReserved()) {
+            if (outcome.getStatus() == RedisStockLedger.ReserveOutcome.Status.MISSING_MIRROR) {
+                throw new IllegalStateException("Redis 재고 미러 초기화 실패 - productId: " + outcome.getFailedProductId());
+            }
+            return failure(items, products, outcome.getFailedProductId(), ItemStatus.INSUFFICIENT_STOCK, outcome.getCurrentStock());
+        }
+
+        registerCompletion(token);
+
+        List<ItemResult> results = new ArrayList<>();
+        for (StockDeductionItem item : items) {
+            ProductEntity product = products.get(item.getProductId());
+            results.add(new ItemResult(item.getProductId(), item.getQuantity(), product.getName(), product.getPrice(),
+                    outcome.getRemainingStocks().get(item.getProductId()), ItemStatus.DEDUCTED));
+        }
+        return new StockDeductionResult(true, results);
+    }
+
+    /**
+     * 미러 초기화 - 세대 조회 → MySQL 재고 조회 → 세대가 그대로일 때만 SET NX
+     * 그 사이 증감 반영이 시작/완료되면 MySQL 재고와 대기 증감이 어긋나므로 다시 읽어 재시도
+     */
+    private void warmMirror(Set<Long> productIds) {
+        for (int attempt = 1; attempt <= WARM_MAX_ATTEMPTS; attempt++) {
+            long generation = stockLedger.getDrainGeneration();
+            Map<Long, Integer> databaseStocks = freshReadTemplate.execute(status ->
+                    productJpaRepository.findAllById(productIds).stream()
+                            .collect(Collectors.toMap(ProductEntity::getId, ProductEntity::getStockQuantity)));
+            if (databaseStocks == null || stockLedger.warm(databaseStocks, generation)) {
+                return;
+            }
+            log.debug("Redis 재고 미러 초기화 재시도 - 증감 반영과 경합, attempt: {}", attempt);
+            try {
+                Thread.sleep(WARM_RETRY_BACKOFF_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.warn("Redis 재고 미러 초기화 실패 - 증감 반영이 계속 진행 중, products: {}", productIds);
+    }
+
+    @Override
+    public boolean restoreStocks(List<StockDeductionItem> items) {
+        try {
+            // 같은 트랜잭션에서 예약한 재고는 커밋 전이므로 예약 해제로 처리
+            ReservationSynchronization synchronization = currentSynchronization();
+            if (synchronization != null && !synchronization.tokens.isEmpty()) {
+                synchronization.tokens.forEach(stockLedger::release);
+                synchronization.tokens.clear();
+                return true;
+            }
+
+            stockLedger.restore(mergeByProductId(items));
+            return true;
+
+        } catch (Exception e) {
+            log.warn("Redis 재고 복구 실패 - items: {}", items.size(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean deductStock(Long productId, Integer quantity) {
+        return deductStocks(List.of(new StockDeductionItem(productId, quantity))).isSuccess();
+    }
+
+    @Override
+    public boolean restoreStock(Long productId, Integer quantity) {
+        return restoreStocks(List.of(new StockDeductionItem(productId, quantity)));
+    }
+
+    /**
+     * 트랜잭션 종료 시 예약 확정/해제 등록
+     * 트랜잭션 밖에서 호출되면 즉시 확정
+     */
+    private void registerCompletion(String token) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stockLedger.confirm(token);
+            return;
+        }
+
+        ReservationSynchronization synchronization = currentSynchronization();
+        if (synchronization == null) {
+            synchronization = new ReservationSynchronization();
+            TransactionSynchronizationManager.bindResource(ReservationSynchronization.class, synchronization);
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+        synchronization.tokens.add(token);
+    }
+
+    private ReservationSynchronization currentSynchronization() {
+        return (ReservationSynchronization) TransactionSynchronizationManager.getResource(ReservationSynchronization.class);
+    }
+
+    private StockDeductionResult failure(List<StockDeductionItem> items, Map<Long, ProductEntity> products,
+                                         Long failedProductId, ItemStatus failedStatus, Integer currentStock) {
+        List<ItemResult> results = new ArrayList<>();
+        for (StockDeductionItem item : items) {
+            ProductEntity product = products.get(item.getProductId());
+            boolean failed = item.getProductId().equals(failedProductId);
+            ItemStatus status = failed ? failedStatus : ItemStatus.NOT_APPLIED;
+            Integer remaining = failed && currentStock != null ? currentStock
+                    : product != null ? product.getStockQuantity() : null;
+            results.add(new ItemResult(item.getProductId(), item.getQuantity(),
+                    product != null ? product.getName() : null,
+                    product != null ? product.getPrice() : null,
+                    remaining, status));
+        }
+        return new StockDeductionResult(false, results);
+    }
+
+    private Map<Long, Integer> mergeByProductId(List<StockDeductionItem> items) {
+        Map<Long, Integer> merged = new TreeMap<>();
+        for (StockDeductionItem item : items) {
+            merged.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return merged;
+    }
+
+    /**
+     * 트랜잭션 단위 예약 토큰 보관 및 커밋/롤백 시 확정/해제
+     */
+    private class ReservationSynchronization implements TransactionSynchronization {
+
+        private final List<String> tokens = new ArrayList<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReservationSynchronization.class);
+            for (String token : tokens) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        stockLedger.confirm(token);
+                    } else {
+                        stockLedger.release(token);
+                    }
+                } catch (Exception e) {
+                    // 확정/해제 실패한 예약은 RedisStockReconciler의 만료 처리 대상
+                    log.error("Redis 재고 예약 종료 처리 실패 - token: {}, status: {}", token, status, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.order.infrastructure.ticket;
+
+import kr.hhplus.be.server.order.application.port.out.OrderTicketPort;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 티켓 Redis Adapter
+ * order:ticket:{ticketId} Hash에 상태와 결과를 보관 (TTL 적용)
+ */
+@Component
+public class RedisOrderTicketAdapter implements OrderTicketPort {
+
+    /**
+     * ACCEPTED 상태일 때만 PROCESSING으로 전이
+     */
+    private static final RedisScript<Long> MARK_PROCESSING_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= 'ACCEPTED' then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', 'PROCESSING')
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ticketTtl;
+
+    public RedisOrderTicketAdapter(StringRedisTemplate stringRedisTemplate,
+                                   @Value("${order.async.ticket-ttl-hours:24}") long ticketTtlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ticketTtl = Duration.ofHours(ticketTtlHours);
+    }
+
+    @Override
+    public void saveAccepted(OrderTicket ticket) {
+        String key = RedisKeyConstants.getOrderTicketKey(ticket.getTicketId());
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(ticket.getUserId()));
+        fields.put("status", TicketStatus.ACCEPTED.name());
+        fields.put("acceptedAt", ticket.getAcceptedAt().toString());
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+        stringRedisTemplate.expire(key, ticketTtl);
+    }
+
+    @Override
+    public Optional<OrderTicket> findById(String ticketId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(RedisKeyConstants.getOrderTicketKey(ticketId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String orderId = (String) fields.get("orderId");
+        String totalAmount = (String) fields.get("totalAmount");
+        String acceptedAt = (String) fields.get("acceptedAt");
+        return Optional.of(new OrderTicket(
+                ticketId,
+                Long.valueOf((String) fields.get("userId")),
+                TicketStatus.valueOf((String) fields.get("status")),
+                orderId != null ? Long.valueOf(orderId) : null,
+                totalAmount != null ? new BigDecimal(totalAmount) : null,
+                (String) fields.get("errorMessage"),
+                acceptedAt != null ? LocalDateTime.parse(acceptedAt) : null));
+    }
+
+    @Override
+    public boolean markProcessing(String ticketId) {
+        Long updated = stringRedisTemplate.execute(MARK_PROCESSING_SCRIPT, List.of(RedisKeyConstants.getOrderTicketKey(ticketId)));
+        return updated != null && updated > 0;
+    }
+
+    @Override
+    public void markCompleted(String ticketId, Long orderId, BigDecimal totalAmount) {
+        String key = RedisKeyConstants.getOrderTicketKey(ticketId);
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                "status", TicketStatus.COMPLETED.name(),
+                "orderId", String.valueOf(orderId),
+                "totalAmount", totalAmount.toPlainString()));
+        stringRedisTemplate.expire(key, ticketTtl);
+    }
+
+    @Override
+    public void markFailed(String ticketId, String errorMessage) {
+        String key = RedisKeyConstants.getOrderTicketKey(ticketId);
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                "status", TicketStatus.FAILED.name(),
+                "errorMessage", errorMessage != null ? errorMessage : ""));
+        stringRedisTemplate.expire(key, ticketTtl);
+    }
+}
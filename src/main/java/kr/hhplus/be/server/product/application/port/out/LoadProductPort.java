@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.product.application.port.out;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.time.LocalDateTime;
 
@@ -14,6 +16,12 @@ public interface LoadProductPort {
      */
     Optional<ProductInfo> loadProductById(Long productId);
     
+    /**
+     * 상품 ID 목록으로 일괄 조회 (단일 IN 쿼리)
+     * 존재하지 않는 상품은 결과 Map에 포함되지 않음
+     */
+    Map<Long, ProductInfo> loadProductsByIds(Collection<Long> productIds);
+    
     /**
      * 활성 상품 목록 조회
      */
@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,9 +38,12 @@ public class GetPopularProductsService implements GetPopularProductsUseCase {
                 return new GetPopularProductsResult(List.of());
             }
 
-            // 2. 상품 상세 정보 조회 및 결과 생성
+            // 2. 상품 상세 정보 일괄 조회 (단일 IN 쿼리)
+            Map<Long, LoadProductPort.ProductInfo> products = loadProductPort.loadProductsByIds(topProductIds);
+
+            // 3. 랭킹 순서대로 결과 생성
             List<PopularProductInfo> popularProducts = topProductIds.stream()
-                    .map(this::enrichProductInfoWithRanking)
+                    .map(productId -> enrichProductInfoWithRanking(productId, products.get(productId)))
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .toList();
@@ -54,17 +58,12 @@ public class GetPopularProductsService implements GetPopularProductsUseCase {
     /**
      * 상품 정보에 랭킹 정보를 추가
      */
-    private Optional<PopularProductInfo> enrichProductInfoWithRanking(Long productId) {
+    private Optional<PopularProductInfo> enrichProductInfoWithRanking(Long productId, LoadProductPort.ProductInfo productInfo) {
         try {
-            // 상품 상세 정보 조회
-            Optional<LoadProductPort.ProductInfo> productInfoOpt = loadProductPort.loadProductById(productId);
-            
-            if (productInfoOpt.isEmpty()) {
+            if (productInfo == null) {
                 return Optional.empty();
             }
             
-            LoadProductPort.ProductInfo productInfo = productInfoOpt.get();
-            
             // Redis에서 랭킹과 판매량 정보를 한 번에 조회 (통신 최적화)
             ProductRankingUseCase.ProductRankingInfo rankingInfo = productRankingService.getProductRankingInfo(productId);
             
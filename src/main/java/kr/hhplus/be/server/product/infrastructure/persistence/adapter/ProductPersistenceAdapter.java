@@ -6,8 +6,11 @@ import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEnti
 import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +32,17 @@ public class ProductPersistenceAdapter implements LoadProductPort, SaveProductPo
                 .map(this::mapToProductInfo);
     }
 
+    @Override
+    public Map<Long, LoadProductPort.ProductInfo> loadProductsByIds(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productJpaRepository.findAllById(productIds)
+                .stream()
+                .map(this::mapToProductInfo)
+                .collect(Collectors.toMap(LoadProductPort.ProductInfo::getId, Function.identity()));
+    }
+
     @Override
     public List<LoadProductPort.ProductInfo> loadAllActiveProducts() {
         return productJpaRepository.findByStatus("ACTIVE")
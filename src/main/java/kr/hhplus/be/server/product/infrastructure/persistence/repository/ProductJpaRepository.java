@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +18,7 @@ import java.util.Optional;
  * Product 도메인 전용 데이터 접근 계층
  */
 @Repository
-public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
+public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>, ProductStockBulkRepository {
 
     /**
      * 활성 상태의 상품 조회
@@ -33,6 +34,14 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>
     @Query("UPDATE ProductEntity p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :productId AND p.stockQuantity >= :quantity")
     int deductStockAtomic(@Param("productId") Long productId, @Param("quantity") Integer quantity);
     
+    /**
+     * 여러 상품을 id 오름차순으로 비관적 락 조회 (SELECT ... FOR UPDATE)
+     * 장바구니 간 락 획득 순서를 통일하여 데드락 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductEntity p WHERE p.id IN :productIds ORDER BY p.id ASC")
+    List<ProductEntity> findAllByIdForUpdateOrderById(@Param("productIds") Collection<Long> productIds);
+
     /**
      * 현재 재고 조회 (캐시 우회)
      */
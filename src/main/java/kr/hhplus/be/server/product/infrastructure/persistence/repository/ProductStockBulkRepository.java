@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.product.infrastructure.persistence.repository;
+
+import java.util.Map;
+
+/**
+ * 상품 재고 벌크 갱신 Repository Fragment
+ * 여러 상품의 재고를 CASE 식 단일 UPDATE로 조정
+ */
+public interface ProductStockBulkRepository {
+
+    /**
+     * 상품별 재고 증감 일괄 반영 (음수는 차감)
+     * @param deltas productId → 증감 수량
+     * @return 갱신된 행 수
+     */
+    int adjustStocks(Map<Long, Integer> deltas);
+}
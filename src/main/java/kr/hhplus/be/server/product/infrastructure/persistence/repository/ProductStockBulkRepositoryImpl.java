@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.product.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 재고 벌크 갱신 구현
+ * UPDATE products SET stock_quantity = stock_quantity + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+ */
+public class ProductStockBulkRepositoryImpl implements ProductStockBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int adjustStocks(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // productId 오름차순으로 파라미터를 구성하여 락 순서를 일정하게 유지
+        Map<Long, Integer> ordered = new TreeMap<>(deltas);
+
+        StringBuilder caseClause = new StringBuilder("CASE id");
+        StringBuilder inClause = new StringBuilder();
+        int position = 1;
+        for (int i = 0; i < ordered.size(); i++) {
+            caseClause.append(" WHEN ?").append(position++).append(" THEN ?").append(position++);
+        }
+        caseClause.append(" ELSE 0 END");
+        for (int i = 0; i < ordered.size(); i++) {
+            if (i > 0) inClause.append(", ");
+            inClause.append('?').append(position++);
+        }
+
+        String sql = "UPDATE products SET stock_quantity = stock_quantity + " + caseClause
+                + ", updated_at = CURRENT_TIMESTAMP(6) WHERE id IN (" + inClause + ")";
+
+        Query query = entityManager.createNativeQuery(sql);
+        int parameter = 1;
+        for (Map.Entry<Long, Integer> entry : ordered.entrySet()) {
+            query.setParameter(parameter++, entry.getKey());
+            query.setParameter(parameter++, entry.getValue());
+        }
+        for (Long productId : ordered.keySet()) {
+            query.setParameter(parameter++, productId);
+        }
+        return query.executeUpdate();
+    }
+}
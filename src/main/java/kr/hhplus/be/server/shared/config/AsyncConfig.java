@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.shared.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -10,17 +12,25 @@ import java.util.concurrent.Executor;
 /**
  * 비동기 처리 설정
  * 도메인별로 분리된 스레드 풀 구성
+ * spring.threads.virtual.enabled=true이면 풀 대신 작업마다 가상 스레드를 사용하고,
+ * 최대 풀 크기 + 대기열 크기를 동시 실행 상한으로 사용 (CallerRunsPolicy로 요청 스레드에 넘기지 않음)
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     /**
      * 쿠폰 발급 전용 스레드 풀
      * 대용량 트래픽 처리에 최적화
      */
     @Bean("couponIssueExecutor")
     public Executor couponIssueExecutor() {
+        if (virtualThreadsEnabled) {
+            return virtualThreadExecutor("coupon-issue-", 20 + 100);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);           // 기본 스레드 수
         executor.setMaxPoolSize(20);           // 최대 스레드 수
@@ -37,6 +47,9 @@ public class AsyncConfig {
      */
     @Bean("productRankingExecutor")
     public Executor productRankingExecutor() {
+        if (virtualThreadsEnabled) {
+            return virtualThreadExecutor("product-ranking-", 10 + 50);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(3);           // 기본 스레드 수
         executor.setMaxPoolSize(10);           // 최대 스레드 수
@@ -53,6 +66,9 @@ public class AsyncConfig {
      */
     @Bean("orderEventExecutor")
     public Executor orderEventExecutor() {
+        if (virtualThreadsEnabled) {
+            return virtualThreadExecutor("order-event-", 8 + 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);           // 기본 스레드 수
         executor.setMaxPoolSize(8);            // 최대 스레드 수
@@ -62,4 +78,16 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 가상 스레드 실행기
+     * 동시 실행 수를 제한해 DB 커넥션 풀/Redis에 대한 과부하를 막음 (초과 시 슬롯이 빌 때까지 대기)
+     */
+    private Executor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
 }
@@ -12,6 +12,23 @@ public final class RedisKeyConstants {
     // Redis 키 패턴 상수
     private static final String PRODUCT_RANKING_DAILY_PREFIX = "product:ranking:daily:";
     private static final String PRODUCT_RANKING_RECENT_3DAYS_PREFIX = "product:ranking:recent3days:";
+    // 재고 원장 키는 Lua 스크립트가 여러 키를 함께 다루므로 {stock} 해시 태그로 같은 클러스터 슬롯에 둠
+    public static final String STOCK_AVAILABLE_PREFIX = "{stock}:available:";
+    private static final String STOCK_RESERVATION_PREFIX = "{stock}:reservation:";
+    public static final String STOCK_PENDING_DELTA_KEY = "{stock}:pending-delta";
+    private static final String STOCK_PENDING_DELTA_PROCESSING_PREFIX = "{stock}:pending-delta:processing:";
+    public static final String STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY = "{stock}:pending-delta:processing";
+    public static final String STOCK_PENDING_DELTA_GENERATION_KEY = "{stock}:pending-delta:generation";
+    public static final String STOCK_RESERVATION_INDEX_KEY = "{stock}:reservations";
+    public static final String STOCK_MIRRORED_PRODUCTS_KEY = "{stock}:mirrored";
+    private static final String IDEMPOTENCY_PREFIX = "idempotency:";
+    private static final String ORDER_TICKET_PREFIX = "order:ticket:";
+    private static final String BALANCE_CACHE_PREFIX = "balance:cache:";
+    private static final String RATE_LIMIT_PREFIX = "rate-limit:";
+    public static final String COUPON_INFO_INVALIDATION_CHANNEL = "coupon:info:invalidate";
+    public static final String COUPON_SOLD_OUT_CHANNEL = "coupon:sold-out";
+    private static final String COUPON_SOLD_OUT_GENERATION_PREFIX = "coupon:sold-out:generation:";
+    public static final String COUPON_ISSUE_RESULT_CHANNEL = "coupon:issue:result";
     
     /**
      * 일별 상품 랭킹 키 생성
@@ -30,4 +47,79 @@ public final class RedisKeyConstants {
     public static String getProductRankingRecent3DaysKey(LocalDate date) {
         return PRODUCT_RANKING_RECENT_3DAYS_PREFIX + date.format(DateTimeFormatter.ISO_LOCAL_DATE);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Redis 재고 미러 키 생성
+     * @param productId 상품 ID
+     * @return Redis 키 (예: {stock}:available:1)
+     */
+    public static String getStockAvailableKey(Long productId) {
+        return STOCK_AVAILABLE_PREFIX + productId;
+    }
+    
+    /**
+     * 주문 단위 재고 예약 키 생성
+     * @param reservationId 예약 토큰
+     * @return Redis 키 (예: {stock}:reservation:3f2a...)
+     */
+    public static String getStockReservationKey(String reservationId) {
+        return STOCK_RESERVATION_PREFIX + reservationId;
+    }
+    
+    /**
+     * MySQL 반영 중인 재고 증감 키 생성 (반영 실행 단위)
+     * @param runId 반영 실행 ID
+     * @return Redis 키 (예: {stock}:pending-delta:processing:7b1e...)
+     */
+    public static String getStockPendingDeltaProcessingKey(String runId) {
+        return STOCK_PENDING_DELTA_PROCESSING_PREFIX + runId;
+    }
+    
+    /**
+     * 멱등 처리 기록 키 생성
+     * @param scope API 구분
+     * @param userKey 요청 사용자 (다른 사용자의 같은 키와 섞이지 않도록 구분)
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @return Redis 키 (예: idempotency:order:1001:6f1c...)
+     */
+    public static String getIdempotencyKey(String scope, String userKey, String idempotencyKey) {
+        return IDEMPOTENCY_PREFIX + scope + ":" + userKey + ":" + idempotencyKey;
+    }
+    
+    /**
+     * 비동기 주문 티켓 키 생성
+     * @param ticketId 티켓 ID
+     * @return Redis 키 (예: order:ticket:8d0e...)
+     */
+    public static String getOrderTicketKey(String ticketId) {
+        return ORDER_TICKET_PREFIX + ticketId;
+    }
+    
+    /**
+     * 잔액 캐시 키 생성
+     * @param userId 사용자 ID
+     * @return Redis 키 (예: balance:cache:1)
+     */
+    public static String getBalanceCacheKey(Long userId) {
+        return BALANCE_CACHE_PREFIX + userId;
+    }
+    
+    /**
+     * 요청 수 제한 키 생성
+     * @param scope API 구분
+     * @param key 사용자 키
+     * @return Redis 키 (예: rate-limit:coupon-issue:1001)
+     */
+    public static String getRateLimitKey(String scope, String key) {
+        return RATE_LIMIT_PREFIX + scope + ":" + key;
+    }
+
+    /**
+     * 쿠폰 소진 표시 세대 키 생성 (소진 해제마다 증가)
+     * @param couponId 쿠폰 ID
+     * @return Redis 키 (예: coupon:sold-out:generation:1)
+     */
+    public static String getCouponSoldOutGenerationKey(Long couponId) {
+        return COUPON_SOLD_OUT_GENERATION_PREFIX + couponId;
+    }
+}
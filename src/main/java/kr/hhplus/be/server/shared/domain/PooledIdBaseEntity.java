@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.shared.domain;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pooled ID 기반 공통 엔티티
+ * IDENTITY 전략은 INSERT마다 즉시 실행되어 JDBC 배치가 불가능하므로,
+ * 한 번에 여러 행을 쓰는 자식 테이블은 id_sequences 테이블에서 ID 블록(allocationSize)을 미리 할당받아 사용
+ * pooled_id 행은 기존 AUTO_INCREMENT 최대 ID 이후로 시드해야 함 (schema.sql, docker/mysql/migration/001-seed-pooled-id.sql)
+ */
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class PooledIdBaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_id_generator")
+    @TableGenerator(name = "pooled_id_generator", table = "id_sequences",
+                    pkColumnName = "sequence_name", valueColumnName = "next_val",
+                    pkColumnValue = "pooled_id", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
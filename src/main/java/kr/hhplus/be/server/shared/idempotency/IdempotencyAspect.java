@@ -0,0 +1,176 @@
+package kr.hhplus.be.server.shared.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.hhplus.be.server.shared.response.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Slf4j
+@Aspect
+@Component
+@Order(0) // 분산락/트랜잭션보다 먼저 실행 (중복 요청은 락 경합 전에 응답)
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long inProgressTtlMillis;
+    private final long retryAfterSeconds;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    public IdempotencyAspect(IdempotencyStore idempotencyStore,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                             @Value("${idempotency.in-progress-ttl-seconds:60}") long inProgressTtlSeconds,
+                             @Value("${idempotency.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.inProgressTtlMillis = inProgressTtlSeconds * 1000;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Around("@annotation(idempotent)")
+    public Object around(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        String key = currentIdempotencyKey();
+        if (key == null) {
+            // 헤더가 없으면 기존과 동일하게 처리
+            return joinPoint.proceed();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Idempotency-Key가 너무 깁니다."));
+        }
+
+        String userKey = resolveUserKey(joinPoint, idempotent);
+        if (userKey == null) {
+            // 사용자를 알 수 없는 요청은 다른 사용자의 기록과 섞이지 않도록 멱등 처리하지 않음
+            return joinPoint.proceed();
+        }
+
+        String scope = idempotent.scope();
+        String fingerprint = fingerprint(joinPoint.getArgs());
+        String owner = UUID.randomUUID().toString();
+
+        IdempotencyStore.IdempotencyRecord existing =
+                idempotencyStore.claim(scope, userKey, key, owner, fingerprint, inProgressTtlMillis);
+        if (existing != null) {
+            return respondToDuplicate(scope, key, fingerprint, existing);
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            // 예외로 끝난 요청은 결과를 남기지 않아 재시도가 다시 처리되도록 함
+            idempotencyStore.release(scope, userKey, key, owner);
+            throw t;
+        }
+
+        if (result instanceof ResponseEntity<?> response && !response.getStatusCode().is5xxServerError()) {
+            String body = response.getBody() != null ? objectMapper.writeValueAsString(response.getBody()) : null;
+            idempotencyStore.complete(scope, userKey, key, owner, response.getStatusCode().value(), body, ttlMillis);
+        } else {
+            idempotencyStore.release(scope, userKey, key, owner);
+        }
+        return result;
+    }
+
+    /**
+     * 중복 요청 처리
+     * - 본문이 다르면 422
+     * - 완료된 요청이면 저장된 결과 재전송
+     * - 처리 중이면 기다리지 않고 409 + Retry-After (요청 스레드를 점유하지 않음)
+     */
+    private ResponseEntity<?> respondToDuplicate(String scope, String key, String fingerprint,
+                                                 IdempotencyStore.IdempotencyRecord record) {
+        if (!fingerprint.equals(record.getFingerprint())) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(new ErrorResponse("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."));
+        }
+        if (record.isCompleted()) {
+            log.debug("Idempotent replay - scope: {}, key: {}", scope, key);
+            return replay(record);
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private ResponseEntity<?> replay(IdempotencyStore.IdempotencyRecord record) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.getStatus()).header(REPLAYED_HEADER, "true");
+        if (record.getBody() == null || record.getBody().isEmpty()) {
+            return builder.build();
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(record.getBody());
+    }
+
+    private String currentIdempotencyKey() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return key != null && !key.isBlank() ? key.trim() : null;
+    }
+
+    /**
+     * SpEL 사용자 키 평가 (값이 없으면 null)
+     */
+    private String resolveUserKey(ProceedingJoinPoint joinPoint, Idempotent idempotent) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+        Object[] args = joinPoint.getArgs();
+        if (paramNames == null) {
+            return null;
+        }
+        try {
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < paramNames.length && i < args.length; i++) {
+                context.setVariable(paramNames[i], args[i]);
+            }
+            Object value = parser.parseExpression(idempotent.key()).getValue(context);
+            return value != null ? value.toString() : null;
+        } catch (Exception e) {
+            log.warn("멱등 처리 사용자 키 생성 실패, 멱등 처리 없이 실행 - expression: {}", idempotent.key(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 요청 본문 지문 (SHA-256)
+     */
+    private String fingerprint(Object[] args) throws Exception {
+        byte[] serialized = objectMapper.writeValueAsString(args).getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serialized));
+    }
+}
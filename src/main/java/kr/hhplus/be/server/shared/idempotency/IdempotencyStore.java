@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.shared.idempotency;
+
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멱등 처리 기록 저장소 (Redis Hash)
+ * idempotency:{scope}:{userKey}:{key} → state, owner, fingerprint, status, body
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    static final String STATE_COMPLETED = "COMPLETED";
+
+    /**
+     * 키가 없으면 IN_PROGRESS로 선점하고 빈 배열 반환, 있으면 기존 기록 반환
+     * ARGV: owner, fingerprint, inProgressTtlMillis
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local existing = redis.call('HGETALL', KEYS[1])
+            if #existing > 0 then
+                return existing
+            end
+            redis.call('HSET', KEYS[1], 'state', 'IN_PROGRESS', 'owner', ARGV[1], 'fingerprint', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return {}
+            """, List.class);
+
+    /**
+     * 선점한 요청만 결과 기록
+     * ARGV: owner, status, body, ttlMillis
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'state', 'COMPLETED', 'status', ARGV[2], 'body', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * 선점한 요청만 기록 삭제 (처리 실패 시 재시도 허용)
+     * ARGV: owner
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 키 선점 시도
+     * @return 선점 성공 시 null, 이미 기록이 있으면 해당 기록
+     */
+    public IdempotencyRecord claim(String scope, String userKey, String key, String owner, String fingerprint,
+                                   long inProgressTtlMillis) {
+        List<?> existing = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                List.of(RedisKeyConstants.getIdempotencyKey(scope, userKey, key)),
+                owner, fingerprint, String.valueOf(inProgressTtlMillis));
+        if (existing == null || existing.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i + 1 < existing.size(); i += 2) {
+            fields.put(existing.get(i).toString(), existing.get(i + 1).toString());
+        }
+        return IdempotencyRecord.from(fields);
+    }
+
+    public boolean complete(String scope, String userKey, String key, String owner, int status, String body, long ttlMillis) {
+        Long updated = stringRedisTemplate.execute(COMPLETE_SCRIPT,
+                List.of(RedisKeyConstants.getIdempotencyKey(scope, userKey, key)),
+                owner, String.valueOf(status), body != null ? body : "", String.valueOf(ttlMillis));
+        return updated != null && updated > 0;
+    }
+
+    public void release(String scope, String userKey, String key, String owner) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(RedisKeyConstants.getIdempotencyKey(scope, userKey, key)), owner);
+    }
+
+    /**
+     * 멱등 처리 기록
+     */
+    public static class IdempotencyRecord {
+        private final String state;
+        private final String fingerprint;
+        private final Integer status;
+        private final String body;
+
+        private IdempotencyRecord(String state, String fingerprint, Integer status, String body) {
+            this.state = state;
+            this.fingerprint = fingerprint;
+            this.status = status;
+            this.body = body;
+        }
+
+        static IdempotencyRecord from(Map<String, String> fields) {
+            String status = fields.get("status");
+            return new IdempotencyRecord(fields.get("state"), fields.get("fingerprint"),
+                    status != null ? Integer.valueOf(status) : null, fields.get("body"));
+        }
+
+        public String getFingerprint() { return fingerprint; }
+        public Integer getStatus() { return status; }
+        public String getBody() { return body; }
+        public boolean isCompleted() { return STATE_COMPLETED.equals(state); }
+    }
+}
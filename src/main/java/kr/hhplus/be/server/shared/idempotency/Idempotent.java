@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.shared.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더 기반 멱등 처리 어노테이션
+ * ResponseEntity를 반환하는 컨트롤러 메서드에 사용합니다.
+ * 같은 키의 재요청은 최초 처리 결과를 그대로 돌려주고, 처리 중인 중복 요청은 기다리지 않고 409와 Retry-After 헤더로 응답합니다.
+ * 키는 사용자별로 기록되므로 다른 사용자가 같은 키를 보내도 서로의 결과를 받지 않습니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+
+    /**
+     * 키 네임스페이스 (API 단위로 구분)
+     */
+    String scope();
+
+    /**
+     * 사용자 키를 만드는 SpEL 표현식 (예: "#request.userId")
+     * 값이 없으면 멱등 처리 없이 실행
+     */
+    String key();
+}
@@ -6,7 +6,12 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -38,4 +43,42 @@ public class KafkaCouponEventProducer {
             }
         });
     }
-}
\ No newline at end of file
+    
+    /**
+     * 쿠폰 발급 이벤트 일괄 발행
+     * 모두 send한 뒤 flush 한 번으로 linger 대기 없이 배치 전송
+     * send 자체가 예외를 던진 메시지(직렬화 실패, 메타데이터 대기 초과 등)도 발행 실패로 처리
+     * @param onFailure 발행 실패한 메시지 처리 (flush 이후 호출 스레드에서 실행 - 프로듀서 I/O 스레드를 막지 않음)
+     */
+    public void publishCouponIssueEvents(List<CouponIssueMessage> messages, Consumer<CouponIssueMessage> onFailure) {
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(messages.size());
+        for (CouponIssueMessage message : messages) {
+            String key = "coupon-" + message.getCouponId() + "-user-" + message.getUserId();
+            try {
+                futures.add(kafkaTemplate.send(COUPON_ISSUE_TOPIC, key, message));
+            } catch (Exception e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        try {
+            kafkaTemplate.flush();
+        } catch (Exception e) {
+            // 전송 결과는 각 future로 확인
+            log.warn("쿠폰 발급 이벤트 flush 실패 - count: {}", messages.size(), e);
+        }
+
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            CouponIssueMessage message = messages.get(i);
+            try {
+                futures.get(i).join();
+            } catch (CompletionException | CancellationException e) {
+                failed++;
+                log.error("쿠폰 발급 이벤트 발행 실패 - couponId: {}, userId: {}",
+                    message.getCouponId(), message.getUserId(), e);
+                onFailure.accept(message);
+            }
+        }
+        log.debug("쿠폰 발급 이벤트 일괄 발행 - count: {}, failed: {}", messages.size(), failed);
+    }
+}
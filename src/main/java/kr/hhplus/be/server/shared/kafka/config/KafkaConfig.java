@@ -48,6 +48,15 @@ public class KafkaConfig {
     @Value("${kafka.topics.coupon-issue}")
     private String couponIssueTopic;
 
+    @Value("${coupon.issue.partitions:3}")
+    private int couponIssuePartitions;
+
+    @Value("${kafka.topics.order-placement}")
+    private String orderPlacementTopic;
+
+    @Value("${order.async.partitions:6}")
+    private int orderPlacementPartitions;
+
     /**
      * Kafka Producer 설정
      */
@@ -122,16 +131,23 @@ public class KafkaConfig {
     
     /**
      * 배치 처리용 Kafka Listener Factory (선택적)
+     * poll 한 번에 batch-max-poll-records건까지 받아 리스너에 List로 전달하고,
+     * 리스너가 정상 반환하면 배치 전체 오프셋을 한 번에 커밋
+     * - 커밋은 동기 (asyncAcks는 MANUAL 모드 전용이라 BATCH에서는 의미 없음)
+     * - 컨슈머 수는 쿠폰 발급 토픽 파티션 수와 같게 (더 많으면 남는 컨슈머는 할당 없이 대기)
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            @Value("${kafka.consumer.batch-max-poll-records:500}") int batchMaxPollRecords) {
+        Map<String, Object> configProps = new HashMap<>(consumerFactory().getConfigurationProperties());
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
         factory.setBatchListener(true);
         
-        // 배치 처리시 비동기 커밋
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
-        factory.getContainerProperties().setAsyncAcks(true);
+        factory.setConcurrency(couponIssuePartitions);
         
         return factory;
     }
@@ -183,14 +199,27 @@ public class KafkaConfig {
     }
     
     /**
-     * 쿠폰 발급 토픽 생성 (파티션 3개)
+     * 쿠폰 발급 토픽 생성 (파티션 coupon.issue.partitions개)
      */
     @Bean
     public NewTopic couponIssueTopic() {
-        log.info("Creating Kafka topic: {} with 3 partitions", couponIssueTopic);
+        log.info("Creating Kafka topic: {} with {} partitions", couponIssueTopic, couponIssuePartitions);
         return TopicBuilder.name(couponIssueTopic)
-                .partitions(3)
+                .partitions(couponIssuePartitions)
+                .replicas(1)
+                .build();
+    }
+    
+    /**
+     * 비동기 주문 처리 토픽 생성
+     * userId 키로 파티셔닝되어 파티션 수가 곧 주문 처리 병렬도
+     */
+    @Bean
+    public NewTopic orderPlacementTopic() {
+        log.info("Creating Kafka topic: {} with {} partitions", orderPlacementTopic, orderPlacementPartitions);
+        return TopicBuilder.name(orderPlacementTopic)
+                .partitions(orderPlacementPartitions)
                 .replicas(1)
                 .build();
     }
-}
\ No newline at end of file
+}
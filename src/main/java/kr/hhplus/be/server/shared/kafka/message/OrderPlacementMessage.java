@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.shared.kafka.message;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 주문 처리 요청 Kafka 메시지
+ * 파티션 키: userId
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPlacementMessage {
+
+    private String ticketId;
+    private Long userId;
+    private Long userCouponId;
+    private List<OrderPlacementItem> orderItems;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime acceptedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class OrderPlacementItem {
+        private Long productId;
+        private Integer quantity;
+    }
+}
@@ -2,13 +2,21 @@ package kr.hhplus.be.server.shared.kafka.producer;
 
 import kr.hhplus.be.server.shared.kafka.message.DataPlatformMessage;
 import kr.hhplus.be.server.shared.kafka.message.OrderCompletedMessage;
+import kr.hhplus.be.server.shared.kafka.message.OrderPlacementMessage;
 import kr.hhplus.be.server.shared.kafka.message.ProductRankingMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Kafka Event Producer
  * 주문 관련 이벤트를 Kafka로 발행
@@ -29,6 +37,9 @@ public class KafkaEventProducer {
     @Value("${kafka.topics.data-platform-transfer}")
     private String dataPlatformTransferTopic;
 
+    @Value("${kafka.topics.order-placement}")
+    private String orderPlacementTopic;
+
     /**
      * 주문 완료 이벤트 발행
      * 파티션 키: userId (같은 사용자의 주문은 순서 보장)
@@ -103,4 +114,62 @@ public class KafkaEventProducer {
             log.error("Error publishing data platform transfer event - orderId: {}", message.getOrderId(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 비동기 주문 처리 요청 발행
+     * 파티션 키: userId (같은 사용자의 주문은 한 파티션에서 순서대로 처리)
+     * 접수 응답 전에 브로커 확인까지 대기
+     */
+    public boolean publishOrderPlacement(OrderPlacementMessage message, long timeoutMillis) {
+        try {
+            String key = "user-" + message.getUserId();
+            kafkaTemplate.send(orderPlacementTopic, key, message).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            log.debug("Order placement published - ticketId: {}, userId: {}", message.getTicketId(), message.getUserId());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Failed to publish order placement - ticketId: {}, userId: {}",
+                    message.getTicketId(), message.getUserId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 여러 메시지를 한 번에 발행 (아웃박스 릴레이용)
+     * 전체를 send한 뒤 flush 한 번으로 전송하고, ack는 배치 단위로 대기
+     * @return 메시지별 발행 성공 여부 (입력 순서)
+     */
+    public List<Boolean> publishBatch(List<ProducerRecord<String, Object>> records, long timeoutMillis) {
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(records.size());
+        for (ProducerRecord<String, Object> record : records) {
+            try {
+                futures.add(kafkaTemplate.send(record));
+            } catch (Exception e) {
+                log.error("Error publishing batch record - topic: {}, key: {}", record.topic(), record.key(), e);
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        kafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Boolean> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+                results.add(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(false);
+            } catch (Exception e) {
+                log.warn("Failed to publish batch record - topic: {}, key: {}", records.get(i).topic(), records.get(i).key(), e);
+                results.add(false);
+            }
+        }
+
+        log.debug("Batch published - records: {}, succeeded: {}", records.size(), results.stream().filter(Boolean::booleanValue).count());
+        return results;
+    }
+}
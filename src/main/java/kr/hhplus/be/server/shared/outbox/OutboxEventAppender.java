@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.shared.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 기록기
+ * 호출한 비즈니스 트랜잭션 안에서만 기록 (트랜잭션이 없으면 예외)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 아웃박스 기록 요청
+     */
+    public record OutboxMessage(Long aggregateId, String topic, String key, Object payload) {
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<OutboxMessage> messages) {
+        List<OutboxEventEntity> entities = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            entities.add(OutboxEventEntity.builder()
+                    .aggregateId(message.aggregateId())
+                    .topic(message.topic())
+                    .messageKey(message.key())
+                    .messageType(message.payload().getClass().getName())
+                    .payload(serialize(message.payload()))
+                    .build());
+        }
+        // pooled ID이므로 커밋 시 한 번의 JDBC 배치로 INSERT
+        outboxEventJpaRepository.saveAll(entities);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 직렬화 실패 - type: " + payload.getClass().getName(), e);
+        }
+    }
+}
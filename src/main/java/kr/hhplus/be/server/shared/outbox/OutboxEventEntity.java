@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.shared.outbox;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.shared.domain.PooledIdBaseEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 엔티티
+ * 비즈니스 데이터와 같은 트랜잭션에서 INSERT되고, OutboxRelay가 Kafka로 발행
+ */
+@Entity
+@Table(name = "outbox_events",
+       indexes = @Index(name = "idx_outbox_events_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@Setter(AccessLevel.PRIVATE) // setter는 private으로 제한
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity extends PooledIdBaseEntity {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";     // 최대 시도 초과, 재처리 스케줄러가 PENDING으로 되돌림
+    public static final String STATUS_DEAD = "DEAD";         // 역직렬화 불가 등 재시도해도 발행할 수 없는 이벤트
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "message_type", nullable = false, length = 255)
+    private String messageType;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private String status = STATUS_PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now(); // 이 시각 이후에 발행 대상 (재시도 백오프, 릴레이 선점)
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
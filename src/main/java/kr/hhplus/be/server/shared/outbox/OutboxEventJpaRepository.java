@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.shared.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 JPA Repository
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 발행 시각이 된 대기 이벤트 배치 조회 (id 순)
+     * SKIP LOCKED로 여러 인스턴스의 릴레이가 서로 다른 배치를 가져감
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEventEntity> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 릴레이 선점 - 발행하는 동안 다른 릴레이가 가져가지 않도록 next_attempt_at을 뒤로 미룸
+     * 발행 결과를 반영하지 못하고 종료되면 leaseUntil 이후 다시 발행 대상이 됨
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.nextAttemptAt = :leaseUntil WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 발행 완료 일괄 처리
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = 'SENT', e.sentAt = :sentAt, e.updatedAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발행 실패 일괄 처리 - 시도 횟수 증가, 지수 백오프로 다음 시도 시각 설정, 최대 횟수 도달 시 FAILED
+     * MySQL은 SET을 왼쪽부터 적용하므로 attempts는 마지막에 증가
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET " +
+                   "status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, " +
+                   "next_attempt_at = DATE_ADD(:now, INTERVAL CAST(LEAST(:maxBackoffMillis, :baseBackoffMillis * POW(2, attempts)) AS UNSIGNED) * 1000 MICROSECOND), " +
+                   "attempts = attempts + 1, updated_at = :now WHERE id IN (:ids)",
+           nativeQuery = true)
+    int markFailedAttempt(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                          @Param("baseBackoffMillis") long baseBackoffMillis,
+                          @Param("maxBackoffMillis") long maxBackoffMillis,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 재시도해도 발행할 수 없는 이벤트 처리 (재처리 대상 제외)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = 'DEAD', e.attempts = e.attempts + 1, e.updatedAt = :now WHERE e.id IN :ids")
+    int markDead(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * FAILED 이벤트 재처리 - before 이전에 실패 처리된 이벤트를 시도 횟수 초기화 후 PENDING으로 되돌림
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = 'PENDING', e.attempts = 0, e.nextAttemptAt = :now, e.updatedAt = :now " +
+           "WHERE e.status = 'FAILED' AND e.updatedAt < :before")
+    int redriveFailed(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.status = 'SENT' AND e.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,177 @@
+package kr.hhplus.be.server.shared.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.shared.kafka.producer.KafkaEventProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이
+ * 발행 시각이 된 PENDING 이벤트를 배치 단위로 선점해 Kafka로 발행하고, 결과를 일괄 UPDATE
+ * - 선점(next_attempt_at을 claim-lease-ms 뒤로 미룸)은 짧은 트랜잭션으로 커밋한 뒤 발행하므로 ack 대기 중에는 행 락을 잡지 않음
+ * - 발행 실패 시 지수 백오프(base-backoff-ms * 2^attempts, 최대 max-backoff-ms)로 다음 시도 시각 설정
+ * - 실패가 있는 배치 뒤에는 연속 처리를 멈추고 다음 주기로 넘김 (브로커 장애 시 같은 행을 즉시 재선택하지 않음)
+ * - 최대 시도 초과로 FAILED가 된 이벤트는 redrive-after-minutes가 지나면 재처리 스케줄러가 PENDING으로 되돌림
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka")
+public class OutboxRelay {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final KafkaEventProducer kafkaEventProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long claimLeaseMillis;
+    private final int redriveAfterMinutes;
+    private final int retentionHours;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxEventJpaRepository,
+                       KafkaEventProducer kafkaEventProducer,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms:5000}") long sendTimeoutMillis,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.base-backoff-ms:1000}") long baseBackoffMillis,
+                       @Value("${outbox.relay.max-backoff-ms:300000}") long maxBackoffMillis,
+                       @Value("${outbox.relay.claim-lease-ms:30000}") long claimLeaseMillis,
+                       @Value("${outbox.relay.redrive-after-minutes:30}") int redriveAfterMinutes,
+                       @Value("${outbox.relay.retention-hours:24}") int retentionHours) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        // 선점 기간이 발행 대기보다 짧으면 발행 중인 이벤트를 다른 릴레이가 다시 가져감
+        this.claimLeaseMillis = Math.max(claimLeaseMillis, sendTimeoutMillis * 2);
+        this.redriveAfterMinutes = redriveAfterMinutes;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 대기 이벤트가 남아있으면 배치를 연속으로 처리 (실패가 있는 배치 후에는 다음 주기로)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            BatchResult result;
+            do {
+                result = relayBatch();
+            } while (result.claimed() == batchSize && result.failed() == 0);
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 한 배치 발행 - 선점 커밋 → 락 없이 발행 → 결과 반영
+     */
+    BatchResult relayBatch() {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<OutboxEventEntity> events = transactionTemplate.execute(status -> {
+            List<OutboxEventEntity> due = outboxEventJpaRepository.findDueForUpdate(claimedAt, batchSize);
+            if (!due.isEmpty()) {
+                outboxEventJpaRepository.claim(due.stream().map(OutboxEventEntity::getId).toList(),
+                        claimedAt.plus(Duration.ofMillis(claimLeaseMillis)));
+            }
+            return due;
+        });
+        if (events == null || events.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<ProducerRecord<String, Object>> records = new ArrayList<>(events.size());
+        List<Long> undecodableIds = new ArrayList<>();
+        List<OutboxEventEntity> decoded = new ArrayList<>(events.size());
+        for (OutboxEventEntity event : events) {
+            try {
+                Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getMessageType()));
+                records.add(new ProducerRecord<>(event.getTopic(), event.getMessageKey(), payload));
+                decoded.add(event);
+            } catch (Exception e) {
+                log.error("아웃박스 메시지 역직렬화 실패 - id: {}, type: {}", event.getId(), event.getMessageType(), e);
+                undecodableIds.add(event.getId());
+            }
+        }
+
+        List<Boolean> results = records.isEmpty() ? List.of()
+                : kafkaEventProducer.publishBatch(records, sendTimeoutMillis);
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < decoded.size(); i++) {
+            (results.get(i) ? sentIds : failedIds).add(decoded.get(i).getId());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!sentIds.isEmpty()) {
+                outboxEventJpaRepository.markSent(sentIds, now);
+            }
+            if (!failedIds.isEmpty()) {
+                outboxEventJpaRepository.markFailedAttempt(failedIds, maxAttempts, baseBackoffMillis, maxBackoffMillis, now);
+            }
+            if (!undecodableIds.isEmpty()) {
+                outboxEventJpaRepository.markDead(undecodableIds, now);
+            }
+        });
+        if (!failedIds.isEmpty() || !undecodableIds.isEmpty()) {
+            log.warn("아웃박스 발행 실패 - failed: {}, dead: {}, batch: {}", failedIds.size(), undecodableIds.size(), events.size());
+        }
+        return new BatchResult(events.size(), failedIds.size() + undecodableIds.size());
+    }
+
+    /**
+     * 최대 시도를 넘겨 FAILED가 된 이벤트를 시도 횟수 초기화 후 다시 발행 대상으로 (브로커 복구 후 자동 재처리)
+     */
+    @Scheduled(cron = "${outbox.relay.redrive-cron:0 */10 * * * *}")
+    public void redriveFailedEvents() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer redriven = transactionTemplate.execute(status ->
+                    outboxEventJpaRepository.redriveFailed(now.minusMinutes(redriveAfterMinutes), now));
+            if (redriven != null && redriven > 0) {
+                log.info("FAILED 아웃박스 이벤트 재처리 - redriven: {}", redriven);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 재처리 중 오류 발생", e);
+        }
+    }
+
+    record BatchResult(int claimed, int failed) {
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeSentEvents() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventJpaRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours)));
+            log.info("발행 완료 아웃박스 이벤트 정리 - deleted: {}", deleted);
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.shared.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.hhplus.be.server.shared.response.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 Aspect
+ * - Redis GCRA 스크립트 1회 호출로 허용 판정 (사용자 × API 단위)
+ * - 거절된 키는 다시 허용될 시각까지 노드 로컬에 기록해 Redis 없이 거절
+ *   (GCRA는 그 시각 전에는 허용 여유가 생기지 않으므로 로컬 거절이 Redis 판정과 같음)
+ * - Redis 장애 시에는 제한 없이 통과 (제한기 장애가 쓰기 API 장애로 번지지 않도록)
+ * - rate-limit.enabled=true일 때만 동작 (기본 비활성)
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(-1) // 멱등 처리/분산락/트랜잭션보다 먼저 실행 (한도 초과 요청은 어떤 자원도 점유하기 전에 거절)
+public class RateLimitAspect {
+
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    /**
+     * 거절된 키 → 다시 허용될 시각 (System.nanoTime 기준)
+     */
+    private final Cache<String, Long> blockedUntilNanos;
+
+    public RateLimitAspect(RateLimitStore rateLimitStore,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:false}") boolean enabled,
+                           @Value("${rate-limit.local-max-size:100000}") long localMaxSize) {
+        this.rateLimitStore = rateLimitStore;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.blockedUntilNanos = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .maximumSize(localMaxSize)
+                .build();
+    }
+
+    @Around("@annotation(rateLimited)")
+    public Object around(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        String scope = rateLimited.scope();
+        String key = resolveKey(joinPoint, rateLimited);
+        String localKey = scope + ":" + key;
+
+        // 로컬 사전 거절 - 이 노드가 받은 거절 시각 이전이면 Redis 호출 생략
+        Long blockedUntil = blockedUntilNanos.getIfPresent(localKey);
+        if (blockedUntil != null) {
+            long remainingNanos = blockedUntil - System.nanoTime();
+            if (remainingNanos > 0) {
+                return reject(scope, "local", TimeUnit.NANOSECONDS.toMicros(remainingNanos));
+            }
+            blockedUntilNanos.invalidate(localKey);
+        }
+
+        long emissionIntervalMicros = Math.max(1, TimeUnit.SECONDS.toMicros(rateLimited.period()) / rateLimited.limit());
+        int burst = rateLimited.burst() > 0 ? rateLimited.burst() : rateLimited.limit();
+        long retryAfterMicros;
+        try {
+            retryAfterMicros = rateLimitStore.tryAcquire(scope, key, emissionIntervalMicros, emissionIntervalMicros * burst);
+        } catch (Exception e) {
+            log.warn("요청 수 제한 확인 실패, 제한 없이 처리 - scope: {}, key: {}", scope, key, e);
+            return joinPoint.proceed();
+        }
+
+        if (retryAfterMicros > 0) {
+            blockedUntilNanos.put(localKey, System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(retryAfterMicros));
+            return reject(scope, "redis", retryAfterMicros);
+        }
+        return joinPoint.proceed();
+    }
+
+    private ResponseEntity<ErrorResponse> reject(String scope, String source, long retryAfterMicros) {
+        meterRegistry.counter("rate-limit.rejected", "scope", scope, "source", source).increment();
+        long retryAfterSeconds = Math.max(1, (retryAfterMicros + 999_999) / 1_000_000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * SpEL 키 평가, 값이 없으면 클라이언트 IP
+     */
+    private String resolveKey(ProceedingJoinPoint joinPoint, RateLimited rateLimited) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+        Object[] args = joinPoint.getArgs();
+        if (paramNames != null) {
+            try {
+                StandardEvaluationContext context = new StandardEvaluationContext();
+                for (int i = 0; i < paramNames.length && i < args.length; i++) {
+                    context.setVariable(paramNames[i], args[i]);
+                }
+                Object value = parser.parseExpression(rateLimited.key()).getValue(context);
+                if (value != null) {
+                    return value.toString();
+                }
+            } catch (Exception e) {
+                log.warn("요청 수 제한 키 생성 실패, 클라이언트 IP 사용 - expression: {}", rateLimited.key(), e);
+            }
+        }
+        return "ip-" + clientAddress();
+    }
+
+    private String clientAddress() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return "unknown";
+        }
+        HttpServletRequest request = attributes.getRequest();
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.shared.ratelimit;
+
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 요청 수 제한 상태 저장소 (Redis String, GCRA)
+ * rate-limit:{scope}:{key} → 다음 요청의 이론적 도착 시각 (TAT, 마이크로초)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitStore {
+
+    /**
+     * GCRA 허용 판정 (시각은 Redis TIME 기준이라 노드 간 시계 차이 영향 없음)
+     * KEYS[1]: 제한 키
+     * ARGV: emissionIntervalMicros(요청 1건 간격), toleranceMicros(간격 × burst)
+     * 반환: 0 허용(TAT 갱신), 양수 거절 후 다시 허용되기까지 남은 마이크로초
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local newTat = tat + interval
+            local allowAt = newTat - tolerance
+            if allowAt > now then
+                return allowAt - now
+            end
+            redis.call('SET', KEYS[1], string.format('%.0f', newTat), 'PX', math.ceil((newTat - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 요청 1건 허용 시도
+     * @return 0이면 허용, 양수면 다시 허용되기까지 남은 마이크로초
+     */
+    public long tryAcquire(String scope, String key, long emissionIntervalMicros, long toleranceMicros) {
+        Long retryAfterMicros = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(RedisKeyConstants.getRateLimitKey(scope, key)),
+                String.valueOf(emissionIntervalMicros), String.valueOf(toleranceMicros));
+        return retryAfterMicros != null ? retryAfterMicros : 0L;
+    }
+}
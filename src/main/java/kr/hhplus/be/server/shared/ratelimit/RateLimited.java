@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.shared.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자별 요청 수 제한 어노테이션 (Redis GCRA, 모든 노드 공유)
+ * ResponseEntity를 반환하는 컨트롤러 메서드에 사용합니다.
+ * 한도를 넘은 요청은 메서드를 실행하지 않고 429와 Retry-After 헤더로 응답합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * 키 네임스페이스 (API 단위로 구분)
+     */
+    String scope();
+
+    /**
+     * 사용자 키를 만드는 SpEL 표현식 (예: "#userId", "#request.userId")
+     * 값이 없으면 클라이언트 IP 기준
+     */
+    String key();
+
+    /**
+     * period 동안 허용할 요청 수 (평균 속도)
+     */
+    int limit();
+
+    /**
+     * 기간 (초, 기본값: 1초)
+     */
+    long period() default 1;
+
+    /**
+     * 한 번에 허용할 최대 요청 수 (기본값: limit과 같음)
+     */
+    int burst() default 0;
+}
@@ -51,6 +51,9 @@ public class UserEntity {
     private LocalDateTime updatedAt;
 
     // 비즈니스 메서드들
+    /**
+     * 상태 변경 - 잔액 캐시는 ACTIVE 사용자 기준이므로 변경 후 BalanceCachePort.evictAfterCommit 호출 필요
+     */
     public void updateStatus(String status) {
         this.status = status;
     }
@@ -1,6 +1,7 @@
 -- 외래키 관계로 인한 순서를 고려하여 테이블 삭제
 DROP TABLE IF EXISTS user_coupons;
 DROP TABLE IF EXISTS user_balance_tx;
+DROP TABLE IF EXISTS balance_tx_dead_letters;
 DROP TABLE IF EXISTS product_stats;
 DROP TABLE IF EXISTS order_items;
 DROP TABLE IF EXISTS order_history_events;
@@ -8,7 +9,12 @@ DROP TABLE IF EXISTS orders;
 DROP TABLE IF EXISTS products;
 DROP TABLE IF EXISTS coupons;
 DROP TABLE IF EXISTS balances;
+DROP TABLE IF EXISTS balance_shards;
+DROP TABLE IF EXISTS balance_reconciliation_reports;
+DROP TABLE IF EXISTS balance_reconciliation_baselines;
 DROP TABLE IF EXISTS users;
+DROP TABLE IF EXISTS id_sequences;
+DROP TABLE IF EXISTS outbox_events;
 
 -- users 테이블 생성 (BaseEntity 상속)
 CREATE TABLE users (
@@ -102,6 +108,68 @@ CREATE TABLE order_history_events (
     updated_at DATETIME(6) NOT NULL
 );
 
+-- balance_shards 테이블 생성 (BaseEntity 상속, 핫 계정 잔액 샤드 1 ~ N-1번)
+CREATE TABLE balance_shards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    amount DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_balance_shards_user_shard (user_id, shard_no)
+);
+
+-- balance_reconciliation_baselines 테이블 생성 (잔액 정합성 검증 기준점, 사용자별 최초 1회 저장)
+CREATE TABLE balance_reconciliation_baselines (
+    user_id BIGINT PRIMARY KEY,
+    opening_amount DECIMAL(15,2) NOT NULL,
+    tx_watermark_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+-- balance_reconciliation_reports 테이블 생성 (BaseEntity 상속, 잔액 정합성 검증 불일치 기록)
+CREATE TABLE balance_reconciliation_reports (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    run_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    balance_amount DECIMAL(15,2) NOT NULL,
+    expected_amount DECIMAL(15,2) NOT NULL,
+    difference DECIMAL(15,2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_balance_recon_run (run_id, user_id)
+);
+
+-- id_sequences 테이블 생성 (PooledIdBaseEntity 상속 엔티티의 pooled ID 할당용)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- pooled_id 시작값 (pooled optimizer는 next_val - 49부터 사용하므로 기존 최대 ID + allocationSize(50))
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'pooled_id', GREATEST(
+           (SELECT COALESCE(MAX(id), 0) FROM order_items),
+           (SELECT COALESCE(MAX(id), 0) FROM order_history_events)) + 50
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- outbox_events 테이블 생성 (PooledIdBaseEntity 상속, 트랜잭셔널 아웃박스)
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL PRIMARY KEY,
+    aggregate_id BIGINT NOT NULL,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    message_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_outbox_events_status_next (status, next_attempt_at)
+);
+
 -- user_coupons 테이블 생성 (BaseEntity 상속)
 CREATE TABLE user_coupons (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -125,8 +193,28 @@ CREATE TABLE user_balance_tx (
     status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
     memo VARCHAR(255),
     related_order_id BIGINT,
+    delta DECIMAL(15,2),
+    debit_seq BIGINT,
+    snapshotted TINYINT(1) NOT NULL DEFAULT 1,
     created_at DATETIME(6) NOT NULL,
-    updated_at DATETIME(6) NOT NULL
+    updated_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_balance_tx_debit_seq (user_id, debit_seq),
+    INDEX idx_user_balance_tx_user_created (user_id, created_at),
+    INDEX idx_balance_tx_ledger (user_id, snapshotted, delta),
+    INDEX idx_balance_tx_snapshot (snapshotted, id)
+);
+
+-- balance_tx_dead_letters 테이블 생성 (배치 저장에 실패한 거래 내역, 수동 재처리용)
+CREATE TABLE balance_tx_dead_letters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    amount DECIMAL(38,2) NOT NULL,
+    tx_type VARCHAR(20) NOT NULL,
+    memo VARCHAR(255),
+    related_order_id BIGINT,
+    occurred_at DATETIME(6) NOT NULL,
+    error_message VARCHAR(500),
+    created_at DATETIME(6) NOT NULL
 );
 
 -- 외래키 제약조건 추가 (논리적 관계만, 물리적 제약조건은 Entity에서 NO_CONSTRAINT로 비활성화)
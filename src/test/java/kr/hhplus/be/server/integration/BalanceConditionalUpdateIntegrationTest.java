@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.application.port.out.UpdateBalancePort;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 조건부 UPDATE 통합 테스트
+ * 충전(amount + ?)과 차감(amount - ? WHERE amount >= ?)이 영향받은 행 수로 성공을 판정하는지 검증 (balance.mode=direct)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("잔액 조건부 UPDATE 통합테스트")
+class BalanceConditionalUpdateIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private UpdateBalancePort updateBalancePort;
+
+    @Autowired
+    private BalanceJpaRepository balanceJpaRepository;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        balanceTransactionJpaRepository.deleteAll();
+        balanceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        user = userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(USER_ID)
+                .name("조건부갱신사용자")
+                .email("conditional-update@example.com")
+                .status("ACTIVE")
+                .build());
+    }
+
+    @Test
+    @DisplayName("잔액과 같은 금액은 차감되고 버전이 올라가며 결제 내역이 남는다")
+    void 잔액_전액_차감() {
+        // given
+        saveBalance("10000", "ACTIVE");
+        Long versionBefore = balance().getVersion();
+
+        // when
+        boolean deducted = updateBalancePort.deductBalance(USER_ID, new BigDecimal("10000"));
+
+        // then
+        assertThat(deducted).isTrue();
+        assertThat(balance().getAmount()).isEqualByComparingTo("0");
+        assertThat(balance().getVersion()).isEqualTo(versionBefore + 1);
+        assertThat(balanceTransactionJpaRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔액보다 큰 금액은 영향받은 행이 없어 실패하고 잔액과 내역은 그대로다")
+    void 잔액_부족_차감_실패() {
+        // given
+        saveBalance("10000", "ACTIVE");
+
+        // when
+        boolean deducted = updateBalancePort.deductBalance(USER_ID, new BigDecimal("10000.01"));
+
+        // then
+        assertThat(deducted).isFalse();
+        assertThat(balance().getAmount()).isEqualByComparingTo("10000");
+        assertThat(balanceTransactionJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성 잔액이나 잔액 행이 없으면 차감하지 않고, 0 이하 금액은 UPDATE 없이 거절한다")
+    void 비활성_없음_잘못된_금액_차감_실패() {
+        // given
+        saveBalance("10000", "INACTIVE");
+
+        // when & then
+        assertThat(updateBalancePort.deductBalance(USER_ID, new BigDecimal("1000"))).isFalse();
+        assertThat(updateBalancePort.deductBalance(999L, new BigDecimal("1000"))).isFalse();
+        assertThat(updateBalancePort.deductBalance(USER_ID, BigDecimal.ZERO)).isFalse();
+        assertThat(balance().getAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없으면 0원 행을 만든 뒤 충전하고 반영된 잔액을 돌려준다")
+    void 최초_충전_행_생성() {
+        // when
+        Optional<UpdateBalancePort.BalanceChange> first = updateBalancePort.chargeBalance(USER_ID, new BigDecimal("5000"));
+        Optional<UpdateBalancePort.BalanceChange> second = updateBalancePort.chargeBalance(USER_ID, new BigDecimal("3000"));
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getNewAmount()).isEqualByComparingTo("5000");
+        assertThat(second.get().getNewAmount()).isEqualByComparingTo("8000");
+        assertThat(balanceJpaRepository.count()).isEqualTo(1);
+        assertThat(balance().getAmount()).isEqualByComparingTo("8000");
+    }
+
+    @Test
+    @DisplayName("비활성 잔액에는 충전하지 않는다")
+    void 비활성_잔액_충전_실패() {
+        // given
+        saveBalance("10000", "INACTIVE");
+
+        // when
+        Optional<UpdateBalancePort.BalanceChange> result = updateBalancePort.chargeBalance(USER_ID, new BigDecimal("5000"));
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(balance().getAmount()).isEqualByComparingTo("10000");
+        assertThat(balanceTransactionJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 차감은 잔액이 허용하는 건수만 성공하고 음수가 되지 않는다")
+    void 동시_차감_잔액_한도() throws Exception {
+        // given - 1000원씩 5건만 가능
+        saveBalance("5000", "ACTIVE");
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return updateBalancePort.deductBalance(USER_ID, new BigDecimal("1000"));
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(5);
+        assertThat(balance().getAmount()).isEqualByComparingTo("0");
+        assertThat(balanceTransactionJpaRepository.count()).isEqualTo(5);
+    }
+
+    private void saveBalance(String amount, String status) {
+        balanceJpaRepository.saveAndFlush(BalanceEntity.builder()
+                .user(user)
+                .amount(new BigDecimal(amount))
+                .status(status)
+                .build());
+    }
+
+    private BalanceEntity balance() {
+        return balanceJpaRepository.findByUserId(USER_ID).orElseThrow();
+    }
+}
@@ -4,6 +4,7 @@ import kr.hhplus.be.server.balance.application.ChargeBalanceService;
 import kr.hhplus.be.server.balance.application.GetBalanceService;
 import kr.hhplus.be.server.balance.application.port.in.ChargeBalanceUseCase;
 import kr.hhplus.be.server.balance.application.port.in.GetBalanceUseCase;
+import kr.hhplus.be.server.balance.application.port.out.BalanceCachePort;
 import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
 import kr.hhplus.be.server.balance.infrastructure.persistence.adapter.BalancePersistenceAdapter;
@@ -65,6 +66,9 @@ class BalanceIntegrationTest {
     @Autowired
     private DeductBalancePort deductBalancePort;
 
+    @Autowired
+    private BalanceCachePort balanceCachePort;
+
     private UserEntity testUser;
 
     @BeforeEach
@@ -83,6 +87,9 @@ class BalanceIntegrationTest {
                 .status("ACTIVE")
                 .build();
         testUser = userJpaRepository.saveAndFlush(testUser);
+
+        // 이전 테스트가 채운 같은 사용자 ID의 잔액 캐시 제거 (캐시 적중은 사용자 조회를 하지 않음)
+        balanceCachePort.evictAfterCommit(testUser.getUserId());
     }
 
     @Test
@@ -164,6 +171,33 @@ class BalanceIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("잔액 조회 실패 - 캐시 적중은 사용자 조회 없이 응답하고 상태 변경 후 무효화하면 비활성 사용자는 조회되지 않음")
+    void 잔액_조회_실패_캐시_적중_비활성_사용자() {
+        // given - 조회로 잔액 캐시를 채운 뒤 사용자 비활성화
+        Long userId = testUser.getUserId();
+        balanceJpaRepository.saveAndFlush(BalanceEntity.builder()
+                .user(testUser)
+                .amount(new BigDecimal("10000.00"))
+                .status("ACTIVE")
+                .build());
+        GetBalanceUseCase.GetBalanceCommand command = new GetBalanceUseCase.GetBalanceCommand(userId);
+        assertThat(getBalanceService.getBalance(command)).isPresent();
+
+        UserEntity user = userJpaRepository.findByUserIdAndStatus(userId, "ACTIVE").orElseThrow();
+        user.updateStatus("INACTIVE");
+        userJpaRepository.saveAndFlush(user);
+
+        // when - 무효화 전에는 캐시 적중 (사용자 조회 없음), 무효화 후에는 사용자 확인
+        Optional<GetBalanceUseCase.GetBalanceResult> cachedResult = getBalanceService.getBalance(command);
+        balanceCachePort.evictAfterCommit(userId);
+        Optional<GetBalanceUseCase.GetBalanceResult> result = getBalanceService.getBalance(command);
+
+        // then
+        assertThat(cachedResult).isPresent();
+        assertThat(result).isEmpty();
+    }
+
     @Test
     @DisplayName("잔액 충전 실패 - 잘못된 금액")
     void 잔액_충전_실패_잘못된_금액() {
@@ -0,0 +1,219 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.application.port.out.UpdateBalancePort;
+import kr.hhplus.be.server.balance.infrastructure.persistence.adapter.BalanceLedgerPersistenceAdapter;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "balance.mode=ledger")
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("잔액 원장 통합테스트")
+class BalanceLedgerIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private BalanceLedgerPersistenceAdapter ledgerAdapter;
+
+    @Autowired
+    private BalanceJpaRepository balanceJpaRepository;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        balanceTransactionJpaRepository.deleteAll();
+        balanceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(USER_ID)
+                .name("ledgeruser")
+                .email("ledger@example.com")
+                .status("ACTIVE")
+                .build());
+    }
+
+    @Test
+    @DisplayName("충전과 차감은 원장 엔트리로 추가되고 거래 ID를 반환한다")
+    void 충전_차감_원장_추가() {
+        // when
+        Optional<UpdateBalancePort.BalanceChange> charged = ledgerAdapter.chargeBalance(USER_ID, new BigDecimal("1000.00"));
+        boolean deducted = ledgerAdapter.deductBalance(USER_ID, new BigDecimal("400.00"));
+
+        // then
+        assertThat(charged).isPresent();
+        assertThat(charged.get().getTransactionId()).isNotNull();
+        assertThat(deducted).isTrue();
+        assertThat(ledgerAdapter.loadActiveBalanceByUserId(USER_ID))
+                .hasValueSatisfying(balance -> assertThat(balance.getAmount()).isEqualByComparingTo("600.00"));
+        assertThat(balanceTransactionJpaRepository.findLastDebitSeq(USER_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 원장 엔트리 없이 실패한다")
+    void 잔액_부족_실패() {
+        // given
+        ledgerAdapter.chargeBalance(USER_ID, new BigDecimal("100.00"));
+
+        // when
+        boolean deducted = ledgerAdapter.deductBalance(USER_ID, new BigDecimal("100.01"));
+
+        // then
+        assertThat(deducted).isFalse();
+        assertThat(balanceTransactionJpaRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 차감 순번이 이미 있으면 null을 반환하고 트랜잭션은 계속 사용할 수 있다")
+    void 차감_순번_충돌() {
+        // when
+        Long[] ids = transactionTemplate.execute(status -> new Long[]{
+                balanceTransactionJpaRepository.appendLedgerEntry(
+                        USER_ID, new BigDecimal("10.00"), new BigDecimal("-10.00"), 1L, "PAYMENT", "주문 결제"),
+                balanceTransactionJpaRepository.appendLedgerEntry(
+                        USER_ID, new BigDecimal("20.00"), new BigDecimal("-20.00"), 1L, "PAYMENT", "주문 결제"),
+                balanceTransactionJpaRepository.appendLedgerEntry(
+                        USER_ID, new BigDecimal("30.00"), new BigDecimal("-30.00"), 2L, "PAYMENT", "주문 결제")
+        });
+
+        // then
+        assertThat(ids[0]).isNotNull();
+        assertThat(ids[1]).isNull();
+        assertThat(ids[2]).isNotNull();
+        assertThat(balanceTransactionJpaRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("순번 충돌이 아닌 INSERT 오류는 잔액 부족으로 처리하지 않고 예외로 전달한다")
+    void 순번_충돌_외_오류_전달() {
+        // given - delta DECIMAL(15,2) 범위를 넘는 금액
+        BigDecimal overflow = new BigDecimal("10000000000000.00");
+
+        // when & then
+        assertThatThrownBy(() -> ledgerAdapter.chargeBalance(USER_ID, overflow))
+                .isInstanceOf(DataAccessException.class);
+        assertThat(balanceTransactionJpaRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 다른 차감이 같은 순번을 가져가면 그 차감액을 반영해 다음 순번으로 재시도한다")
+    void 순번_충돌_재시도_성공() {
+        // given
+        ledgerAdapter.chargeBalance(USER_ID, new BigDecimal("1000.00"));
+
+        // when - 스냅샷을 잡은 트랜잭션 안에서, 다른 스레드의 차감이 커밋된 뒤 차감
+        Boolean deducted = transactionTemplate.execute(status -> {
+            balanceTransactionJpaRepository.findLastDebitSeq(USER_ID);
+            commitDeductInOtherThread("300.00");
+            return ledgerAdapter.deductBalance(USER_ID, new BigDecimal("700.00"));
+        });
+
+        // then
+        assertThat(deducted).isTrue();
+        assertThat(balanceTransactionJpaRepository.findLastDebitSeq(USER_ID)).isEqualTo(2L);
+        assertThat(ledgerAdapter.loadActiveBalanceByUserId(USER_ID))
+                .hasValueSatisfying(balance -> assertThat(balance.getAmount()).isEqualByComparingTo("0.00"));
+    }
+
+    @Test
+    @DisplayName("순번 충돌 후 반영한 잔액이 부족하면 엔트리 없이 실패한다")
+    void 순번_충돌_후_잔액_부족() {
+        // given
+        ledgerAdapter.chargeBalance(USER_ID, new BigDecimal("1000.00"));
+
+        // when
+        Boolean deducted = transactionTemplate.execute(status -> {
+            balanceTransactionJpaRepository.findLastDebitSeq(USER_ID);
+            commitDeductInOtherThread("300.00");
+            return ledgerAdapter.deductBalance(USER_ID, new BigDecimal("700.01"));
+        });
+
+        // then
+        assertThat(deducted).isFalse();
+        assertThat(balanceTransactionJpaRepository.findLastDebitSeq(USER_ID)).isEqualTo(1L);
+        assertThat(ledgerAdapter.loadActiveBalanceByUserId(USER_ID))
+                .hasValueSatisfying(balance -> assertThat(balance.getAmount()).isEqualByComparingTo("700.00"));
+    }
+
+    @Test
+    @DisplayName("동시 차감은 순번 충돌을 재시도해 잔액이 허용하는 건수만큼 정확히 성공한다")
+    void 동시_차감_잔액_한도() throws Exception {
+        // given - 1000원씩 5건만 가능
+        ledgerAdapter.chargeBalance(USER_ID, new BigDecimal("5000.00"));
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return ledgerAdapter.deductBalance(USER_ID, new BigDecimal("1000.00"));
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then - 순번 충돌만으로 실패한 차감 없이 5건 성공, 순번은 1~5
+        assertThat(succeeded).isEqualTo(5);
+        assertThat(balanceTransactionJpaRepository.findLastDebitSeq(USER_ID)).isEqualTo(5L);
+        assertThat(ledgerAdapter.loadActiveBalanceByUserId(USER_ID))
+                .hasValueSatisfying(balance -> assertThat(balance.getAmount()).isEqualByComparingTo("0.00"));
+    }
+
+    /**
+     * 별도 스레드(별도 트랜잭션)에서 차감하고 커밋될 때까지 대기
+     */
+    private void commitDeductInOtherThread(String amount) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(executor.submit(() -> ledgerAdapter.deductBalance(USER_ID, new BigDecimal(amount)))
+                    .get(10, TimeUnit.SECONDS)).isTrue();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
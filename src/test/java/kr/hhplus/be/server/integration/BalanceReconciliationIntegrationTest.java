@@ -0,0 +1,222 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.application.ChargeBalanceService;
+import kr.hhplus.be.server.balance.application.port.in.ChargeBalanceUseCase;
+import kr.hhplus.be.server.balance.infrastructure.persistence.adapter.BalancePersistenceAdapter;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceReconciliationReportEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceTransactionEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceReconciliationReportJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.scheduler.BalanceReconciliationJob;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "balance.reconciliation.recheck-delay-ms=0",
+        "balance.reconciliation.pause-ms=0"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("잔액 정합성 검증 통합테스트")
+class BalanceReconciliationIntegrationTest {
+
+    @Autowired
+    private BalanceReconciliationJob reconciliationJob;
+
+    @Autowired
+    private BalanceReconciliationReportJpaRepository reconciliationRepository;
+
+    @Autowired
+    private BalancePersistenceAdapter balancePersistenceAdapter;
+
+    @Autowired
+    private ChargeBalanceService chargeBalanceService;
+
+    @Autowired
+    private BalanceJpaRepository balanceJpaRepository;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private UserEntity testUser;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM balance_reconciliation_baselines");
+        balanceTransactionJpaRepository.deleteAll();
+        balanceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        testUser = userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(1L)
+                .name("testuser")
+                .email("test@example.com")
+                .status("ACTIVE")
+                .build());
+        // 거래 내역 기록 이전부터 있던 잔액
+        balanceJpaRepository.saveAndFlush(BalanceEntity.builder()
+                .user(testUser)
+                .amount(new BigDecimal("5000.00"))
+                .status("ACTIVE")
+                .build());
+    }
+
+    @Test
+    @DisplayName("주문 차감 시 PAYMENT 거래 내역이 함께 기록된다")
+    void 주문_차감_PAYMENT_기록() {
+        // when
+        boolean deducted = balancePersistenceAdapter.deductBalance(testUser.getUserId(), new BigDecimal("1200.00"));
+
+        // then
+        assertThat(deducted).isTrue();
+        assertThat(balanceTransactionJpaRepository.findAll())
+                .hasSize(1)
+                .allSatisfy(transaction -> {
+                    assertThat(transaction.getUserId()).isEqualTo(testUser.getUserId());
+                    assertThat(transaction.getType()).isEqualTo("PAYMENT");
+                    assertThat(transaction.getAmount()).isEqualByComparingTo("1200.00");
+                    assertThat(transaction.getDescription()).isEqualTo("주문 결제");
+                });
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 차감에 실패하면 PAYMENT 거래 내역을 남기지 않는다")
+    void 주문_차감_실패_PAYMENT_미기록() {
+        // when
+        boolean deducted = balancePersistenceAdapter.deductBalance(testUser.getUserId(), new BigDecimal("9000.00"));
+
+        // then
+        assertThat(deducted).isFalse();
+        assertThat(balanceTransactionJpaRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래 내역 이전부터 있던 잔액은 기준점으로 저장되고 불일치로 보고되지 않는다")
+    void 기존_잔액_기준점_저장() {
+        // when
+        String runId = reconciliationJob.run().orElseThrow();
+
+        // then
+        assertThat(reportsOf(runId)).isEmpty();
+        Map<String, Object> baseline = jdbcTemplate.queryForMap(
+                "SELECT opening_amount, tx_watermark_id FROM balance_reconciliation_baselines WHERE user_id = ?",
+                testUser.getUserId());
+        assertThat((BigDecimal) baseline.get("opening_amount")).isEqualByComparingTo("5000.00");
+        assertThat(((Number) baseline.get("tx_watermark_id")).longValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("기준점 이후 충전/결제는 거래 내역 합계와 일치한다")
+    void 기준점_이후_거래_일치() {
+        // given
+        reconciliationJob.run();
+        chargeBalanceService.chargeBalance(
+                new ChargeBalanceUseCase.ChargeBalanceCommand(testUser.getUserId(), new BigDecimal("1000.00")));
+        balancePersistenceAdapter.deductBalance(testUser.getUserId(), new BigDecimal("700.00"));
+
+        // when
+        String runId = reconciliationJob.run().orElseThrow();
+
+        // then
+        assertThat(reportsOf(runId)).isEmpty();
+        assertThat(balanceTransactionJpaRepository.findAll())
+                .extracting(BalanceTransactionEntity::getType)
+                .containsExactlyInAnyOrder("CHARGE", "PAYMENT");
+    }
+
+    @Test
+    @DisplayName("기준점 저장 이전 거래 내역은 다시 더하지 않는다")
+    void 기준점_이전_거래_제외() {
+        // given - 기준점 저장 전에 충전 (잔액 6000, 거래 내역 +1000)
+        chargeBalanceService.chargeBalance(
+                new ChargeBalanceUseCase.ChargeBalanceCommand(testUser.getUserId(), new BigDecimal("1000.00")));
+
+        // when
+        String firstRunId = reconciliationJob.run().orElseThrow();
+        String secondRunId = reconciliationJob.run().orElseThrow();
+
+        // then
+        assertThat(reportsOf(firstRunId)).isEmpty();
+        assertThat(reportsOf(secondRunId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래 내역 없이 잔액이 바뀌면 불일치로 보고된다")
+    void 거래_내역_없는_잔액_변경_보고() {
+        // given
+        reconciliationJob.run();
+        jdbcTemplate.update("UPDATE balances SET amount = amount + 300 WHERE user_id = ?", testUser.getUserId());
+
+        // when
+        String runId = reconciliationJob.run().orElseThrow();
+
+        // then
+        assertThat(reportsOf(runId))
+                .hasSize(1)
+                .allSatisfy(report -> {
+                    assertThat(report.getUserId()).isEqualTo(testUser.getUserId());
+                    assertThat(report.getBalanceAmount()).isEqualByComparingTo("5300.00");
+                    assertThat(report.getExpectedAmount()).isEqualByComparingTo("5000.00");
+                    assertThat(report.getDifference()).isEqualByComparingTo("300.00");
+                });
+    }
+
+    @Test
+    @DisplayName("다른 노드가 검증을 실행 중이면 건너뛰고 락이 풀리면 다시 실행된다")
+    void 실행_중_분산락_건너뜀() throws Exception {
+        // given - 다른 스레드(노드)가 검증 락을 보유
+        RLock lock = redissonClient.getLock("lock:balance:reconciliation");
+        CompletableFuture.runAsync(lock::lock).get(5, TimeUnit.SECONDS);
+
+        // when
+        Optional<String> skipped;
+        try {
+            skipped = reconciliationJob.run();
+        } finally {
+            lock.forceUnlock();
+        }
+        Optional<String> executed = reconciliationJob.run();
+
+        // then
+        assertThat(skipped).isEmpty();
+        assertThat(executed).isPresent();
+    }
+
+    private List<BalanceReconciliationReportEntity> reportsOf(String runId) {
+        return reconciliationRepository.findAll().stream()
+                .filter(report -> report.getRunId().equals(runId))
+                .toList();
+    }
+}
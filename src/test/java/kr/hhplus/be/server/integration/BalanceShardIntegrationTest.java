@@ -0,0 +1,208 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.infrastructure.persistence.adapter.BalanceShardPersistenceAdapter;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceShardJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "balance.mode=sharded",
+        "balance.shard.count=4",
+        "balance.shard.user-ids=1"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("샤드 잔액 통합테스트")
+class BalanceShardIntegrationTest {
+
+    private static final Long SHARDED_USER_ID = 1L;
+
+    @Autowired
+    private BalanceShardPersistenceAdapter shardAdapter;
+
+    @Autowired
+    private BalanceJpaRepository balanceJpaRepository;
+
+    @Autowired
+    private BalanceShardJpaRepository balanceShardJpaRepository;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        balanceTransactionJpaRepository.deleteAll();
+        balanceShardJpaRepository.deleteAll();
+        balanceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        UserEntity user = userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(SHARDED_USER_ID)
+                .name("hotuser")
+                .email("hot@example.com")
+                .status("ACTIVE")
+                .build());
+        // 0번 샤드(balances) 1000 + 1번 샤드 2000
+        balanceJpaRepository.saveAndFlush(BalanceEntity.builder()
+                .user(user)
+                .amount(new BigDecimal("1000.00"))
+                .status("ACTIVE")
+                .build());
+        transactionTemplate.executeWithoutResult(status ->
+                balanceShardJpaRepository.chargeShard(SHARDED_USER_ID, 1, new BigDecimal("2000.00")));
+    }
+
+    @Test
+    @DisplayName("샤드 계정 주문 차감 시 PAYMENT 거래 내역이 함께 기록된다")
+    void 샤드_차감_PAYMENT_기록() {
+        // when
+        boolean deducted = shardAdapter.deductBalance(SHARDED_USER_ID, new BigDecimal("1500.00"));
+
+        // then
+        assertThat(deducted).isTrue();
+        assertThat(balanceJpaRepository.findShardedAmount(SHARDED_USER_ID)).isEqualByComparingTo("1500.00");
+        assertThat(balanceTransactionJpaRepository.findAll())
+                .hasSize(1)
+                .allSatisfy(transaction -> {
+                    assertThat(transaction.getType()).isEqualTo("PAYMENT");
+                    assertThat(transaction.getAmount()).isEqualByComparingTo("1500.00");
+                    assertThat(transaction.getDescription()).isEqualTo("주문 결제");
+                });
+    }
+
+    @Test
+    @DisplayName("샤드 계정 잔액 부족으로 차감에 실패하면 PAYMENT 거래 내역을 남기지 않는다")
+    void 샤드_차감_실패_PAYMENT_미기록() {
+        // when
+        boolean deducted = shardAdapter.deductBalance(SHARDED_USER_ID, new BigDecimal("3500.00"));
+
+        // then
+        assertThat(deducted).isFalse();
+        assertThat(balanceJpaRepository.findShardedAmount(SHARDED_USER_ID)).isEqualByComparingTo("3000.00");
+        assertThat(balanceTransactionJpaRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반복 충전은 여러 샤드에 분산되고 합계는 충전 총액과 같다")
+    void 충전_샤드_분산() {
+        // when
+        for (int i = 0; i < 40; i++) {
+            shardAdapter.chargeBalance(SHARDED_USER_ID, new BigDecimal("100.00"));
+        }
+
+        // then
+        assertThat(balanceJpaRepository.findShardedAmount(SHARDED_USER_ID)).isEqualByComparingTo("7000.00");
+        Integer touchedShards = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM balance_shards WHERE user_id = ? AND shard_no > 1", Integer.class, SHARDED_USER_ID);
+        assertThat(touchedShards).isPositive();
+    }
+
+    @Test
+    @DisplayName("단일 샤드로 부족하면 나머지 샤드를 0번으로 모아 차감한다")
+    void 샤드_재분배_차감() {
+        // when - 0번 1000, 1번 2000으로는 각각 부족
+        boolean deducted = shardAdapter.deductBalance(SHARDED_USER_ID, new BigDecimal("2500.00"));
+
+        // then
+        assertThat(deducted).isTrue();
+        assertThat(balanceJpaRepository.findShardedAmount(SHARDED_USER_ID)).isEqualByComparingTo("500.00");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT amount FROM balances WHERE user_id = ?", BigDecimal.class, SHARDED_USER_ID))
+                .isEqualByComparingTo("500.00");
+        assertThat(balanceShardJpaRepository.findAll())
+                .allSatisfy(shard -> assertThat(shard.getAmount()).isEqualByComparingTo("0.00"));
+    }
+
+    @Test
+    @DisplayName("비활성 계정은 샤드 잔액이 있어도 차감되지 않고 샤드도 비우지 않는다")
+    void 비활성_계정_차감_실패() {
+        // given
+        jdbcTemplate.update("UPDATE balances SET status = 'INACTIVE' WHERE user_id = ?", SHARDED_USER_ID);
+
+        // when
+        boolean fromShard = shardAdapter.deductBalance(SHARDED_USER_ID, new BigDecimal("1500.00"));
+        boolean redistributed = shardAdapter.deductBalance(SHARDED_USER_ID, new BigDecimal("2500.00"));
+
+        // then
+        assertThat(fromShard).isFalse();
+        assertThat(redistributed).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM balance_shards WHERE user_id = ?", BigDecimal.class, SHARDED_USER_ID))
+                .isEqualByComparingTo("2000.00");
+        assertThat(balanceTransactionJpaRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잠금 조회는 전체 샤드 합계를 반환하고 트랜잭션이 끝날 때까지 차감을 막는다")
+    void 잠금_조회() throws Exception {
+        // given
+        CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        long holdMillis = 700;
+
+        try {
+            Future<BigDecimal> holder = executor.submit(() -> transactionTemplate.execute(status -> {
+                BigDecimal amount = shardAdapter.loadActiveBalanceByUserIdWithLock(SHARDED_USER_ID)
+                        .orElseThrow()
+                        .getAmount();
+                locked.countDown();
+                sleep(holdMillis);
+                return amount;
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            long startedAt = System.nanoTime();
+            Future<Boolean> deduction = executor.submit(() ->
+                    shardAdapter.deductBalance(SHARDED_USER_ID, new BigDecimal("500.00")));
+            boolean deducted = deduction.get(10, TimeUnit.SECONDS);
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(holder.get(10, TimeUnit.SECONDS)).isEqualByComparingTo("3000.00");
+            assertThat(deducted).isTrue();
+            assertThat(waitedMillis).isGreaterThanOrEqualTo(holdMillis / 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
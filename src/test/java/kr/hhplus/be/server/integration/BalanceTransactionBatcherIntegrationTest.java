@@ -0,0 +1,236 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.application.port.in.ChargeBalanceUseCase;
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.infrastructure.persistence.batch.BalanceTransactionBatcher;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 Write-Behind 배처 통합 테스트
+ * 일괄 저장, 실패 재시도, 재시도 초과 시 dead letter, 큐가 가득 찬 경우 afterCommit 동기 저장, 거래 ID 비대기 조회 검증
+ * 저장 실패는 insertAll만 가로채는 Repository 프록시로 주입 (나머지 호출은 실제 Repository로 위임)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("거래 내역 배처 통합테스트")
+class BalanceTransactionBatcherIntegrationTest {
+
+    private static final Long USER_ID = 7001L;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<BalanceTransactionBatcher> startedBatchers = new ArrayList<>();
+    private final List<Integer> insertAllSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        balanceTransactionJpaRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM balance_tx_dead_letters");
+        insertAllSizes.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (BalanceTransactionBatcher batcher : startedBatchers) {
+            batcher.stop();
+        }
+        startedBatchers.clear();
+    }
+
+    @Test
+    @DisplayName("flush 간격 안에 들어온 거래 내역은 INSERT 한 번으로 저장되고 각자 거래 ID를 받는다")
+    void 일괄_저장() throws Exception {
+        // given
+        BalanceTransactionBatcher batcher = started(batcher(repository(batch -> false), 10, 1, 100));
+
+        // when
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(batcher.submit(charge("충전" + i)));
+        }
+
+        // then
+        List<Long> ids = new ArrayList<>();
+        for (CompletableFuture<Long> future : futures) {
+            ids.add(future.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(insertAllSizes).containsExactly(10);
+        assertThat(savedCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 재시도해 저장하고 dead letter는 남기지 않는다")
+    void 일괄_저장_실패_재시도() throws Exception {
+        // given - 첫 INSERT만 실패
+        AtomicInteger calls = new AtomicInteger();
+        BalanceTransactionBatcher batcher = started(batcher(repository(batch -> calls.incrementAndGet() == 1), 10, 3, 10));
+
+        // when
+        Long transactionId = batcher.submit(charge("재시도")).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(transactionId).isNotNull();
+        assertThat(insertAllSizes).containsExactly(1, 1);
+        assertThat(savedCount()).isEqualTo(1);
+        assertThat(deadLetterCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패하면 한 건씩 저장하고 저장할 수 없는 건만 dead letter로 기록한다")
+    void 재시도_초과_dead_letter() throws Exception {
+        // given - "reject" 거래 내역이 포함된 INSERT는 항상 실패
+        BalanceTransactionBatcher batcher = started(batcher(repository(batch -> batch.stream()
+                .anyMatch(transaction -> "reject".equals(transaction.getDescription()))), 10, 2, 10));
+
+        // when
+        CompletableFuture<Long> first = batcher.submit(charge("정상1"));
+        CompletableFuture<Long> rejected = batcher.submit(charge("reject"));
+        CompletableFuture<Long> second = batcher.submit(charge("정상2"));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(rejected.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(savedCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT memo FROM balance_tx_dead_letters WHERE user_id = ?", String.class, USER_ID))
+                .containsExactly("reject");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 커밋 직후 호출 스레드에서 저장하고 롤백된 거래 내역은 저장하지 않는다")
+    void 큐_가득참_afterCommit_동기_저장() {
+        // given - flush 스레드 없이 큐(1건)를 채워 둠
+        BalanceTransactionBatcher batcher = batcher(repository(batch -> false), 1, 1, 10);
+        CompletableFuture<Long> queued = batcher.submit(charge("대기"));
+
+        // when
+        CompletableFuture<Long> committed = transactionTemplate.execute(status -> batcher.submit(charge("커밋")));
+        CompletableFuture<Long> rolledBack = transactionTemplate.execute(status -> {
+            CompletableFuture<Long> future = batcher.submit(charge("롤백"));
+            status.setRollbackOnly();
+            return future;
+        });
+
+        // then - 커밋 후 바로 저장되어 ID가 채워짐
+        assertThat(committed).isCompleted();
+        assertThat(committed.join()).isNotNull();
+        assertThat(rolledBack).isCompleted();
+        assertThat(rolledBack.join()).isNull();
+        assertThat(queued).isNotDone();
+        assertThat(jdbcTemplate.queryForList("SELECT memo FROM user_balance_tx WHERE user_id = ?", String.class, USER_ID))
+                .containsExactly("커밋");
+    }
+
+    @Test
+    @DisplayName("충전 결과의 거래 ID는 저장 전이면 기다리지 않고 null, 저장 후에는 ID를 돌려준다")
+    void 거래_ID_저장_전_null() throws Exception {
+        // given - flush 스레드 시작 전이라 저장되지 않은 상태
+        BalanceTransactionBatcher batcher = batcher(repository(batch -> false), 10, 1, 10);
+        ChargeBalanceUseCase.ChargeBalanceResult result = ChargeBalanceUseCase.ChargeBalanceResult.success(
+                USER_ID, new BigDecimal("1000"), batcher.submit(charge("대기")), new BigDecimal("1000"));
+
+        // when
+        long startedAt = System.nanoTime();
+        Long pendingId = result.getTransactionId();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(pendingId).isNull();
+        assertThat(elapsedMillis).isLessThan(100);
+        assertThat(result.getTransactionIdFuture()).isNotDone();
+
+        // when - 저장 후
+        started(batcher);
+        Long savedId = result.getTransactionIdFuture().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(savedId).isNotNull();
+        assertThat(result.getTransactionId()).isEqualTo(savedId);
+    }
+
+    private BalanceTransactionBatcher batcher(BalanceTransactionJpaRepository repository, int queueCapacity,
+                                              int maxAttempts, long retryBackoffMillis) {
+        return new BalanceTransactionBatcher(repository, transactionManager,
+                100, 200, queueCapacity, maxAttempts, retryBackoffMillis, 10_000);
+    }
+
+    private BalanceTransactionBatcher started(BalanceTransactionBatcher batcher) {
+        batcher.start();
+        startedBatchers.add(batcher);
+        return batcher;
+    }
+
+    /**
+     * insertAll 호출을 기록하고 failWhen이 참이면 실패시키는 Repository 프록시
+     */
+    @SuppressWarnings("unchecked")
+    private BalanceTransactionJpaRepository repository(Predicate<List<BalanceTransaction>> failWhen) {
+        return (BalanceTransactionJpaRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{BalanceTransactionJpaRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("insertAll")) {
+                        List<BalanceTransaction> batch = (List<BalanceTransaction>) args[0];
+                        insertAllSizes.add(batch.size());
+                        if (failWhen.test(batch)) {
+                            throw new IllegalStateException("테스트용 저장 실패");
+                        }
+                    }
+                    try {
+                        return method.invoke(balanceTransactionJpaRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private BalanceTransaction charge(String description) {
+        return BalanceTransaction.create(USER_ID, new BigDecimal("1000"),
+                BalanceTransaction.TransactionType.CHARGE, description);
+    }
+
+    private int savedCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_balance_tx WHERE user_id = ?", Integer.class, USER_ID);
+    }
+
+    private int deadLetterCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM balance_tx_dead_letters WHERE user_id = ?", Integer.class, USER_ID);
+    }
+}
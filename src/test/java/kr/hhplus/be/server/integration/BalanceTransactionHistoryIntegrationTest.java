@@ -0,0 +1,220 @@
+package kr.hhplus.be.server.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.adapter.in.web.BalanceController;
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase;
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase.GetTransactionsCommand;
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase.TransactionCursor;
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase.TransactionItem;
+import kr.hhplus.be.server.balance.application.port.in.GetBalanceTransactionsUseCase.TransactionPage;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceTransactionEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 잔액 거래 내역 조회 통합 테스트
+ * (created_at, id) 키셋 커서의 경계(동일 시각, 페이지 크기 배수, 다른 사용자)와 NDJSON 내보내기 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("잔액 거래 내역 조회 통합테스트")
+class BalanceTransactionHistoryIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Autowired
+    private GetBalanceTransactionsUseCase getBalanceTransactionsUseCase;
+
+    @Autowired
+    private BalanceController balanceController;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UserEntity user;
+    private UserEntity otherUser;
+
+    @BeforeEach
+    void setUp() {
+        balanceTransactionJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        user = userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(USER_ID)
+                .name("거래내역사용자")
+                .email("tx-history@example.com")
+                .status("ACTIVE")
+                .build());
+        otherUser = userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(OTHER_USER_ID)
+                .name("다른사용자")
+                .email("tx-history-other@example.com")
+                .status("ACTIVE")
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 시각의 거래가 페이지 경계에 걸려도 id로 이어서 빠짐없이 중복없이 조회한다")
+    void 동일_시각_페이지_경계() {
+        // given - 5건 중 3건이 같은 시각 (최신순: t+2, t+1(id 큰 순 3건), t)
+        List<Long> expected = new ArrayList<>();
+        Long oldest = transaction(user, BASE_TIME);
+        Long tie1 = transaction(user, BASE_TIME.plusSeconds(1));
+        Long tie2 = transaction(user, BASE_TIME.plusSeconds(1));
+        Long tie3 = transaction(user, BASE_TIME.plusSeconds(1));
+        Long newest = transaction(user, BASE_TIME.plusSeconds(2));
+        expected.addAll(List.of(newest, tie3, tie2, tie1, oldest));
+        transaction(otherUser, BASE_TIME.plusSeconds(1));
+
+        // when - 크기 2로 끝까지 순회 (두 번째 페이지 경계가 같은 시각 거래 사이)
+        List<Long> visited = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        TransactionCursor cursor = null;
+        do {
+            TransactionPage page = page(cursor, 2);
+            page.getItems().forEach(item -> visited.add(item.getTransactionId()));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor() != null ? TransactionCursor.decode(page.getNextCursor().encode()) : null;
+        } while (cursor != null);
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expected);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("거래 수가 페이지 크기의 배수면 마지막 페이지에서 다음 커서가 없다 (빈 페이지 없음)")
+    void 페이지_크기_배수() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            transaction(user, BASE_TIME.plusSeconds(i));
+        }
+
+        // when
+        TransactionPage first = page(null, 2);
+        TransactionPage second = page(first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("거래가 없으면 빈 페이지, 없는 사용자면 empty, 페이지 크기는 1 ~ 100으로 제한한다")
+    void 빈_내역_없는_사용자_크기_제한() {
+        // when & then
+        TransactionPage empty = page(null, 10);
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.getNextCursor()).isNull();
+        assertThat(getBalanceTransactionsUseCase.getTransactions(new GetTransactionsCommand(999L, null, 10))).isEmpty();
+        assertThat(new GetTransactionsCommand(USER_ID, null, 0).getSize()).isEqualTo(1);
+        assertThat(new GetTransactionsCommand(USER_ID, null, 1000).getSize()).isEqualTo(GetTransactionsCommand.MAX_SIZE);
+        assertThat(new GetTransactionsCommand(USER_ID, null, null).getSize()).isEqualTo(GetTransactionsCommand.DEFAULT_SIZE);
+    }
+
+    @Test
+    @DisplayName("커서는 마이크로초까지 보존해 인코딩되고 잘못된 커서는 IllegalArgumentException")
+    void 커서_인코딩() {
+        // given
+        TransactionCursor cursor = new TransactionCursor(BASE_TIME, 42L);
+
+        // when
+        TransactionCursor decoded = TransactionCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getCreatedAt()).isEqualTo(BASE_TIME);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThatThrownBy(() -> TransactionCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기는 한 줄에 거래 하나씩 최신순으로 해당 사용자 전체를 쓴다")
+    void NDJSON_내보내기() throws Exception {
+        // given
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expected.add(0, transaction(user, BASE_TIME.plusSeconds(i)));
+        }
+        transaction(otherUser, BASE_TIME);
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = balanceController.exportBalanceTransactions(USER_ID);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/x-ndjson"));
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<Long> exported = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            exported.add(node.get("transactionId").asLong());
+            assertThat(node.get("amount").asInt()).isEqualTo(1000);
+        }
+        assertThat(exported).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("없는 사용자 내보내기는 스트리밍 시작 전에 IllegalArgumentException")
+    void NDJSON_없는_사용자() {
+        assertThatThrownBy(() -> balanceController.exportBalanceTransactions(999L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TransactionPage page(TransactionCursor cursor, int size) {
+        return getBalanceTransactionsUseCase.getTransactions(new GetTransactionsCommand(USER_ID, cursor, size)).orElseThrow();
+    }
+
+    /**
+     * 거래 1건 저장 후 created_at을 지정한 시각으로 변경
+     */
+    private Long transaction(UserEntity owner, LocalDateTime createdAt) {
+        BalanceTransactionEntity saved = balanceTransactionJpaRepository.saveAndFlush(BalanceTransactionEntity.builder()
+                .user(owner)
+                .amount(new BigDecimal("1000"))
+                .type("CHARGE")
+                .description("잔액 충전")
+                .build());
+        jdbcTemplate.update("UPDATE user_balance_tx SET created_at = ? WHERE id = ?", createdAt, saved.getId());
+        return saved.getId();
+    }
+}
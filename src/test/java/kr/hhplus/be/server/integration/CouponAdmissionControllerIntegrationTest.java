@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.domain.service.CouponWaitingRoomService;
+import kr.hhplus.be.server.coupon.infrastructure.scheduler.CouponAdmissionController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기실 입장 제어 통합 테스트
+ * AIMD 허용 속도 조절과 여러 쿠폰 간 허용량 분배 검증
+ * (lag은 조회 메서드를 바꿔 주입, DB 지연은 coupon.issue.db.latency 타이머에 직접 기록)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("대기실 입장 제어 통합테스트")
+class CouponAdmissionControllerIntegrationTest {
+
+    private static final long INTERVAL_MS = 1000;
+    private static final double INITIAL_RATE = 10;
+    private static final double MIN_RATE = 4;
+    private static final double MAX_RATE = 20;
+    private static final double INCREASE_STEP = 5;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final long TARGET_LAG = 100;
+    private static final double TARGET_DB_LATENCY_MS = 50;
+
+    @Autowired
+    private CouponWaitingRoomService waitingRoomService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private MeterRegistry meterRegistry;
+    private AtomicLong lag;
+    private CouponAdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        meterRegistry = new SimpleMeterRegistry();
+        lag = new AtomicLong(0);
+        controller = new CouponAdmissionController(waitingRoomService, meterRegistry,
+                new DefaultListableBeanFactory().getBeanProvider(KafkaAdmin.class),
+                "coupon-issue-events", "coupon-issue-group", INTERVAL_MS,
+                INITIAL_RATE, MIN_RATE, MAX_RATE, INCREASE_STEP, DECREASE_FACTOR,
+                TARGET_LAG, TARGET_DB_LATENCY_MS) {
+            @Override
+            protected long fetchConsumerLag() {
+                return lag.get();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("lag과 DB 지연이 목표 이하면 주기마다 increase-step만큼 늘리고 max-rate에서 멈춘다")
+    void 여유_시_가산_증가() {
+        // given
+        enterUsers(1L, 100);
+
+        // when & then
+        assertThat(tick()).isEqualTo(15.0);
+        assertThat(tick()).isEqualTo(20.0);
+        assertThat(tick()).isEqualTo(MAX_RATE);
+        assertThat(admittedCount()).isEqualTo(15 + 20 + 20);
+    }
+
+    @Test
+    @DisplayName("lag이 목표를 넘으면 decrease-factor배로 줄이고 min-rate 아래로는 내려가지 않는다")
+    void lag_초과_시_승산_감소() {
+        // given
+        enterUsers(1L, 100);
+        lag.set(TARGET_LAG + 1);
+
+        // when & then
+        assertThat(tick()).isEqualTo(5.0);
+        assertThat(tick()).isEqualTo(MIN_RATE);
+    }
+
+    @Test
+    @DisplayName("직전 주기 DB 발급 평균 시간이 목표를 넘으면 줄이고 새 기록이 없으면 다시 늘린다")
+    void DB_지연_초과_시_감소() {
+        // given
+        enterUsers(1L, 100);
+        meterRegistry.timer("coupon.issue.db.latency").record(Duration.ofMillis(200));
+        meterRegistry.timer("coupon.issue.db.latency").record(Duration.ofMillis(100));
+
+        // when & then
+        assertThat(tick()).isEqualTo(5.0);
+        assertThat(tick()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("lag 조회에 실패하면 속도를 올리지 않는다")
+    void lag_조회_실패_시_유지() {
+        // given
+        enterUsers(1L, 100);
+        lag.set(-1);
+
+        // when & then
+        assertThat(tick()).isEqualTo(INITIAL_RATE);
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰에 허용량을 나눌 때 합계가 허용량을 넘지 않고 나머지는 돌아가며 배정된다")
+    void 쿠폰별_허용량_분배() {
+        // given - 허용량 15 (10 + 5), 쿠폰 4개
+        List<Long> couponIds = List.of(1L, 2L, 3L, 4L);
+        couponIds.forEach(couponId -> enterUsers(couponId, 50));
+
+        // when
+        tick();
+
+        // then - 15 = 4 + 4 + 4 + 3
+        assertThat(admittedCount()).isEqualTo(15);
+        assertThat(couponIds.stream().mapToLong(this::admittedOf).sorted().toArray()).containsExactly(3, 4, 4, 4);
+
+        // when - 다음 주기 허용량 20 = 5 × 4 (나머지 없음)
+        tick();
+
+        // then
+        assertThat(admittedCount()).isEqualTo(35);
+    }
+
+    /**
+     * 입장 제어 한 주기 실행 (주기 선점 키는 매번 비움)
+     * @return 조절 후 공유 허용 속도
+     */
+    private double tick() {
+        stringRedisTemplate.delete("coupon:waiting:admission-tick");
+        controller.admit();
+        return waitingRoomService.getAdmissionRate();
+    }
+
+    private void enterUsers(Long couponId, int count) {
+        for (long userId = 1; userId <= count; userId++) {
+            waitingRoomService.enter(couponId, userId);
+        }
+    }
+
+    private long admittedOf(Long couponId) {
+        Long size = stringRedisTemplate.opsForZSet().size("coupon:admitted:" + couponId);
+        return size != null ? size : 0;
+    }
+
+    private double admittedCount() {
+        return meterRegistry.counter("coupon.waiting-room.admitted").count();
+    }
+}
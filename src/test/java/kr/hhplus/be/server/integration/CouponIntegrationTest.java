@@ -4,7 +4,9 @@ import kr.hhplus.be.server.TestcontainersConfiguration;
 import kr.hhplus.be.server.coupon.domain.service.IssueCouponService;
 import kr.hhplus.be.server.coupon.application.port.in.IssueCouponUseCase;
 import kr.hhplus.be.server.coupon.domain.service.CachedCouponService;
+import kr.hhplus.be.server.coupon.application.port.out.LoadCouponPort;
 import kr.hhplus.be.server.coupon.application.port.out.LoadUserCouponPort;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponService;
 import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.CouponEntity;
 import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.UserCouponEntity;
 import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.CouponJpaRepository;
@@ -17,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -45,6 +49,18 @@ class CouponIntegrationTest {
     @Autowired
     private UserJpaRepository userJpaRepository;
 
+    @Autowired
+    private LoadCouponPort loadCouponPort;
+
+    @Autowired
+    private RedisCouponService redisCouponService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
     private UserEntity testUser;
     private CouponEntity testCoupon;
 
@@ -76,6 +92,36 @@ class CouponIntegrationTest {
         testCoupon = couponJpaRepository.saveAndFlush(testCoupon);
     }
 
+    @Test
+    @DisplayName("배치 발급 수량 증가는 커밋된 뒤에만 Redis 발급 수량에 반영된다")
+    void 배치_발급_수량_캐시는_커밋_후_반영() {
+        // given
+        Long couponId = testCoupon.getId();
+        redisCouponService.cacheCouponInfo(couponId, testCoupon.getName(), null, 1000,
+                testCoupon.getMaxIssuanceCount(), 0, "ACTIVE", null, null);
+
+        // when - 바깥 트랜잭션 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(loadCouponPort.incrementIssuedCountByBatch(couponId, 5)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cachedIssuedCount(couponId)).isEqualTo("0");
+        assertThat(couponJpaRepository.findById(couponId).orElseThrow().getIssuedCount()).isZero();
+
+        // when - 커밋
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(loadCouponPort.incrementIssuedCountByBatch(couponId, 5)).isTrue());
+
+        // then
+        assertThat(cachedIssuedCount(couponId)).isEqualTo("5");
+    }
+
+    private Object cachedIssuedCount(Long couponId) {
+        return redisTemplate.opsForHash().get("coupon:info:" + couponId, "issuedCount");
+    }
+
     @Test
     @DisplayName("쿠폰 발급 성공")
     void 쿠폰_발급_성공() {
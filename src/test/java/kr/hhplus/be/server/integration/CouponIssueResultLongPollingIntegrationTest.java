@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.adapter.in.dto.CouponQueueStatusResponse;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponQueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 쿠폰 발급 결과 Long-Polling 통합 테스트
+ * 실제 서블릿 컨테이너에서 DeferredResult 타임아웃과 Pub/Sub 결과 알림으로 깨어나는지 검증
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "coupon.issue.result-wait.timeout-ms=2000"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("쿠폰 발급 결과 Long-Polling 통합테스트")
+class CouponIssueResultLongPollingIntegrationTest {
+
+    private static final Long COUPON_ID = 700L;
+    private static final long TIMEOUT_MS = 2000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RedisCouponQueueService queueService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 timeout-ms 동안 기다린 뒤 PROCESSING을 응답하고 대기자를 해제한다")
+    void 결과_없음_타임아웃() {
+        // given
+        long started = System.nanoTime();
+
+        // when
+        ResponseEntity<CouponQueueStatusResponse> response = awaitResult(1L);
+
+        // then
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getStatus()).isEqualTo("PROCESSING");
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(TIMEOUT_MS - 100);
+        await().atMost(2, TimeUnit.SECONDS).until(() -> waiterCount() == 0);
+    }
+
+    @Test
+    @DisplayName("대기 중 결과가 저장되면 타임아웃 전에 깨어나 결과를 응답한다")
+    void 결과_저장_시_깨어남() {
+        // given - 요청이 대기자로 등록될 때까지 대기
+        CompletableFuture<ResponseEntity<CouponQueueStatusResponse>> pending =
+                CompletableFuture.supplyAsync(() -> awaitResult(2L));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> waiterCount() == 1);
+
+        // when
+        queueService.saveIssueResult(COUPON_ID, 2L, true, "쿠폰이 발급되었습니다.");
+
+        // then - 타임아웃이었다면 PROCESSING
+        ResponseEntity<CouponQueueStatusResponse> response = pending.join();
+        assertThat(response.getBody().getStatus()).isEqualTo("SUCCESS");
+        assertThat(response.getBody().getMessage()).isEqualTo("쿠폰이 발급되었습니다.");
+        await().atMost(2, TimeUnit.SECONDS).until(() -> waiterCount() == 0);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 결과는 기다리지 않고 바로 응답한다")
+    void 저장된_결과_즉시_응답() {
+        // given
+        queueService.saveIssueResult(COUPON_ID, 3L, false, "쿠폰이 모두 소진되었습니다.");
+        long started = System.nanoTime();
+
+        // when
+        ResponseEntity<CouponQueueStatusResponse> response = awaitResult(3L);
+
+        // then
+        assertThat(response.getBody().getStatus()).isEqualTo("FAILED");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(TIMEOUT_MS);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 결과 알림으로는 깨어나지 않는다")
+    void 다른_사용자_결과_무시() {
+        // given
+        CompletableFuture<ResponseEntity<CouponQueueStatusResponse>> pending =
+                CompletableFuture.supplyAsync(() -> awaitResult(4L));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> waiterCount() == 1);
+
+        // when
+        queueService.saveIssueResult(COUPON_ID, 5L, true, "쿠폰이 발급되었습니다.");
+
+        // then
+        assertThat(pending.join().getBody().getStatus()).isEqualTo("PROCESSING");
+    }
+
+    private ResponseEntity<CouponQueueStatusResponse> awaitResult(Long userId) {
+        return restTemplate.getForEntity("/api/coupons/{id}/issue/result?userId={userId}",
+                CouponQueueStatusResponse.class, COUPON_ID, userId);
+    }
+
+    private double waiterCount() {
+        return meterRegistry.get("coupon.issue.result.waiters").gauge().value();
+    }
+}
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.domain.service.CouponSoldOutRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 쿠폰 소진 레지스트리 통합 테스트
+ * 세대가 붙은 소진 표시/해제와 늦게 도착한 SET 메시지 무시 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("쿠폰 소진 레지스트리 통합테스트")
+class CouponSoldOutRegistryIntegrationTest {
+
+    private static final String CHANNEL = "coupon:sold-out";
+
+    @Autowired
+    private CouponSoldOutRegistry soldOutRegistry;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("해제하면 세대가 올라가고 소진 표시가 풀린다")
+    void 해제_시_세대_증가() {
+        // given
+        Long couponId = 501L;
+        soldOutRegistry.markSoldOut(couponId);
+        assertThat(soldOutRegistry.isSoldOut(couponId)).isTrue();
+
+        // when
+        soldOutRegistry.clear(couponId);
+
+        // then
+        assertThat(soldOutRegistry.isSoldOut(couponId)).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get("coupon:sold-out:generation:" + couponId)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("해제 이후 늦게 도착한 이전 세대의 SET은 무시하고 현재 세대 SET만 반영한다")
+    void 이전_세대_SET_무시() {
+        // given - 세대 0에서 소진 표시 후 해제 (세대 1)
+        Long couponId = 502L;
+        soldOutRegistry.markSoldOut(couponId);
+        soldOutRegistry.clear(couponId);
+
+        // when - 해제 전에 다른 노드가 보낸 세대 0의 SET이 늦게 도착
+        stringRedisTemplate.convertAndSend(CHANNEL, "SET:" + couponId + ":0");
+
+        // then
+        await().during(1, TimeUnit.SECONDS).atMost(2, TimeUnit.SECONDS)
+                .until(() -> !soldOutRegistry.isSoldOut(couponId));
+
+        // when - 현재 세대의 SET
+        stringRedisTemplate.convertAndSend(CHANNEL, "SET:" + couponId + ":1");
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS)
+                .until(() -> soldOutRegistry.isSoldOut(couponId));
+    }
+
+    @Test
+    @DisplayName("다시 소진되면 올라간 세대로 표시된다")
+    void 재소진_시_현재_세대_표시() {
+        // given
+        Long couponId = 503L;
+        soldOutRegistry.markSoldOut(couponId);
+        soldOutRegistry.clear(couponId);
+
+        // when
+        soldOutRegistry.markSoldOut(couponId);
+
+        // then - 같은 세대의 늦은 해제 메시지가 와도 올라간 세대의 표시는 유지
+        assertThat(soldOutRegistry.isSoldOut(couponId)).isTrue();
+        stringRedisTemplate.convertAndSend(CHANNEL, "CLEAR:" + couponId + ":1");
+        await().during(1, TimeUnit.SECONDS).atMost(2, TimeUnit.SECONDS)
+                .until(() -> soldOutRegistry.isSoldOut(couponId));
+    }
+}
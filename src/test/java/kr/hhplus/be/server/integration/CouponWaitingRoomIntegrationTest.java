@@ -0,0 +1,147 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.domain.service.CouponWaitingRoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 가상 대기실 통합 테스트
+ * 입장(ENTER) / 입장 허용(ADMIT) / 허용 확인·사용(CHECK, CONSUME) 스크립트 검증
+ */
+@SpringBootTest(properties = {
+    "coupon.waiting-room.admission-window-ms=60000"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("쿠폰 대기실 통합테스트")
+class CouponWaitingRoomIntegrationTest {
+
+    private static final Long COUPON_ID = 300L;
+
+    @Autowired
+    private CouponWaitingRoomService waitingRoomService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("입장 순서대로 대기 순번을 받고 재입장해도 같은 토큰과 순서를 유지한다")
+    void 입장_순서_유지() {
+        // when
+        String first = waitingRoomService.enter(COUPON_ID, 1L);
+        String second = waitingRoomService.enter(COUPON_ID, 2L);
+        String reentered = waitingRoomService.enter(COUPON_ID, 1L);
+
+        // then
+        assertThat(reentered).isEqualTo(first);
+        assertThat(second).isNotEqualTo(first);
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 1L).getPosition()).isEqualTo(1L);
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 2L).getPosition()).isEqualTo(2L);
+        assertThat(waitingRoomService.getActiveCouponIds()).containsExactly(COUPON_ID);
+    }
+
+    @Test
+    @DisplayName("입장 허용은 대기 순서대로 요청 수만큼만 이뤄진다")
+    void 대기_순서대로_입장_허용() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            waitingRoomService.enter(COUPON_ID, userId);
+        }
+
+        // when
+        long admitted = waitingRoomService.admit(COUPON_ID, 2);
+
+        // then
+        assertThat(admitted).isEqualTo(2);
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 1L).isAdmitted()).isTrue();
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 2L).isAdmitted()).isTrue();
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 3L).isAdmitted()).isFalse();
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 3L).getPosition()).isEqualTo(1L);
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 3L).getWaitingCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("허용된 토큰은 한 번만 사용되고 확인만으로는 사용되지 않는다")
+    void 입장_허용_1회_사용() {
+        // given
+        String token = waitingRoomService.enter(COUPON_ID, 1L);
+        waitingRoomService.admit(COUPON_ID, 1);
+
+        // when
+        long checked = waitingRoomService.checkAdmission(COUPON_ID, 1L, token);
+        long checkedAgain = waitingRoomService.checkAdmission(COUPON_ID, 1L, token);
+        long consumed = waitingRoomService.consumeAdmission(COUPON_ID, 1L, token);
+        long consumedAgain = waitingRoomService.consumeAdmission(COUPON_ID, 1L, token);
+
+        // then
+        assertThat(checked).isEqualTo(CouponWaitingRoomService.ADMITTED);
+        assertThat(checkedAgain).isEqualTo(CouponWaitingRoomService.ADMITTED);
+        assertThat(consumed).isEqualTo(CouponWaitingRoomService.ADMITTED);
+        assertThat(consumedAgain).isEqualTo(CouponWaitingRoomService.INVALID);
+    }
+
+    @Test
+    @DisplayName("아직 대기 중이면 WAITING, 토큰이 다르거나 없으면 INVALID")
+    void 대기중_또는_잘못된_토큰() {
+        // given
+        String token = waitingRoomService.enter(COUPON_ID, 1L);
+
+        // when & then
+        assertThat(waitingRoomService.consumeAdmission(COUPON_ID, 1L, token)).isEqualTo(CouponWaitingRoomService.WAITING);
+        assertThat(waitingRoomService.consumeAdmission(COUPON_ID, 1L, "other-token")).isEqualTo(CouponWaitingRoomService.INVALID);
+        assertThat(waitingRoomService.consumeAdmission(COUPON_ID, 1L, null)).isEqualTo(CouponWaitingRoomService.INVALID);
+        assertThat(waitingRoomService.consumeAdmission(COUPON_ID, 2L, token)).isEqualTo(CouponWaitingRoomService.INVALID);
+        // 대기 중 확인은 대기 순서에 영향 없음
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 1L).getPosition()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("허용 기간이 지나면 사용할 수 없고 다음 허용 주기에 정리되며 재입장 시 새 토큰으로 맨 뒤에 선다")
+    void 허용_만료() {
+        // given - 허용 만료 시각을 과거로 설정
+        String token = waitingRoomService.enter(COUPON_ID, 1L);
+        waitingRoomService.enter(COUPON_ID, 2L);
+        waitingRoomService.admit(COUPON_ID, 1);
+        stringRedisTemplate.opsForZSet().add("coupon:admitted:" + COUPON_ID, "1", 1);
+
+        // when
+        long checked = waitingRoomService.checkAdmission(COUPON_ID, 1L, token);
+        String reentered = waitingRoomService.enter(COUPON_ID, 1L);
+
+        // then
+        assertThat(checked).isEqualTo(CouponWaitingRoomService.INVALID);
+        assertThat(reentered).isNotEqualTo(token);
+        assertThat(waitingRoomService.getStatus(COUPON_ID, 1L).getPosition()).isEqualTo(2L);
+        assertThat(waitingRoomService.consumeAdmission(COUPON_ID, 1L, token)).isEqualTo(CouponWaitingRoomService.INVALID);
+    }
+
+    @Test
+    @DisplayName("대기와 허용 사용자가 모두 없어지면 처리 대상에서 빠진다")
+    void 빈_대기실_등록_해제() {
+        // given - 허용 만료 상태의 사용자 한 명
+        waitingRoomService.enter(COUPON_ID, 1L);
+        waitingRoomService.admit(COUPON_ID, 1);
+        stringRedisTemplate.opsForZSet().add("coupon:admitted:" + COUPON_ID, "1", 1);
+
+        // when - 다음 허용 주기에 만료된 허용이 정리됨
+        long admitted = waitingRoomService.admit(COUPON_ID, 1);
+
+        // then
+        assertThat(admitted).isZero();
+        assertThat(waitingRoomService.getActiveCouponIds()).isEmpty();
+    }
+}
@@ -0,0 +1,207 @@
+package kr.hhplus.be.server.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.adapter.in.dto.ChargeBalanceRequest;
+import kr.hhplus.be.server.balance.adapter.in.web.BalanceController;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceTransactionJpaRepository;
+import kr.hhplus.be.server.shared.idempotency.IdempotencyAspect;
+import kr.hhplus.be.server.shared.idempotency.IdempotencyStore;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 멱등 처리 통합 테스트
+ * 완료 결과 재전송, 처리 중 중복 요청 409, 본문 불일치 422, 실패한 요청의 키 해제, 사용자별 키 분리 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("멱등 처리 통합테스트")
+class IdempotencyIntegrationTest {
+
+    private static final String SCOPE = "balance-charge";
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @Autowired
+    private BalanceController balanceController;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private BalanceJpaRepository balanceJpaRepository;
+
+    @Autowired
+    private BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        balanceTransactionJpaRepository.deleteAll();
+        balanceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        for (Long userId : new Long[]{USER_ID, OTHER_USER_ID}) {
+            UserEntity user = userJpaRepository.saveAndFlush(UserEntity.builder()
+                    .userId(userId)
+                    .name("idempotency" + userId)
+                    .email("idempotency" + userId + "@example.com")
+                    .status("ACTIVE")
+                    .build());
+            balanceJpaRepository.saveAndFlush(BalanceEntity.builder()
+                    .user(user)
+                    .amount(new BigDecimal("5000.00"))
+                    .status("ACTIVE")
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 충전하지 않고 최초 응답을 재전송한다")
+    void 완료_결과_재전송() throws Exception {
+        // given
+        withIdempotencyKey("charge-1");
+        ResponseEntity<?> first = balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, 1000));
+
+        // when
+        ResponseEntity<?> replayed = balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, 1000));
+
+        // then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getHeaders().containsKey(IdempotencyAspect.REPLAYED_HEADER)).isFalse();
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getBody()).isEqualTo(objectMapper.writeValueAsString(first.getBody()));
+        assertThat(balanceOf(USER_ID)).isEqualByComparingTo("6000");
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키의 요청은 기다리지 않고 409와 Retry-After로 응답한다")
+    void 처리_중_중복_요청_409() throws Exception {
+        // given - 다른 노드가 같은 요청을 처리 중
+        ChargeBalanceRequest request = new ChargeBalanceRequest(USER_ID, 1000);
+        idempotencyStore.claim(SCOPE, String.valueOf(USER_ID), "charge-2", "other-node",
+                fingerprint(request), 60_000);
+        withIdempotencyKey("charge-2");
+
+        // when
+        long startedAt = System.nanoTime();
+        ResponseEntity<?> response = balanceController.chargeBalance(request);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(balanceOf(USER_ID)).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 422로 거절한다")
+    void 본문_불일치_422() {
+        // given
+        withIdempotencyKey("charge-3");
+        balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, 1000));
+
+        // when
+        ResponseEntity<?> response = balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, 2000));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(balanceOf(USER_ID)).isEqualByComparingTo("6000");
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 요청은 키를 해제해 같은 키로 다시 처리할 수 있다")
+    void 실패한_요청_키_해제() {
+        // given - 금액이 없어 컨트롤러에서 예외 발생
+        withIdempotencyKey("charge-4");
+        assertThatThrownBy(() -> balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, null)))
+                .isInstanceOf(NullPointerException.class);
+
+        // when
+        ResponseEntity<?> retried = balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, 1000));
+
+        // then - 422/409가 아니라 새로 처리됨
+        assertThat(retried.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(retried.getHeaders().containsKey(IdempotencyAspect.REPLAYED_HEADER)).isFalse();
+        assertThat(balanceOf(USER_ID)).isEqualByComparingTo("6000");
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 키를 보내도 각자 처리된다")
+    void 사용자별_키_분리() {
+        // given
+        withIdempotencyKey("shared-key");
+
+        // when
+        ResponseEntity<?> first = balanceController.chargeBalance(new ChargeBalanceRequest(USER_ID, 1000));
+        ResponseEntity<?> other = balanceController.chargeBalance(new ChargeBalanceRequest(OTHER_USER_ID, 3000));
+
+        // then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(other.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(other.getHeaders().containsKey(IdempotencyAspect.REPLAYED_HEADER)).isFalse();
+        assertThat(balanceOf(USER_ID)).isEqualByComparingTo("6000");
+        assertThat(balanceOf(OTHER_USER_ID)).isEqualByComparingTo("8000");
+    }
+
+    private void withIdempotencyKey(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, key);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private BigDecimal balanceOf(Long userId) {
+        return balanceJpaRepository.findByUserIdAndStatus(userId, "ACTIVE").orElseThrow().getAmount();
+    }
+
+    /**
+     * IdempotencyAspect와 같은 방식의 요청 지문 (메서드 인자 배열의 JSON SHA-256)
+     */
+    private String fingerprint(Object... args) throws Exception {
+        byte[] serialized = objectMapper.writeValueAsString(args).getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serialized));
+    }
+}
@@ -0,0 +1,207 @@
+package kr.hhplus.be.server.integration;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.order.application.port.out.SaveOrderPort;
+import kr.hhplus.be.server.order.domain.Order;
+import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderHistoryEventJpaRepository;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderItemJpaRepository;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderJpaRepository;
+import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
+import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 자식 행 pooled ID 통합 테스트
+ * id_sequences 블록 할당의 동시성 안전성과 order_items JDBC 배치 INSERT 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("주문 pooled ID 통합테스트")
+class OrderPooledIdIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private SaveOrderPort saveOrderPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderItemJpaRepository orderItemJpaRepository;
+
+    @Autowired
+    private OrderHistoryEventJpaRepository orderHistoryEventJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        orderHistoryEventJpaRepository.deleteAll();
+        orderItemJpaRepository.deleteAll();
+        orderJpaRepository.deleteAll();
+        productJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(USER_ID)
+                .name("pooledid")
+                .email("pooled-id@example.com")
+                .status("ACTIVE")
+                .build());
+
+        productIds.clear();
+        for (int i = 0; i < 20; i++) {
+            productIds.add(productJpaRepository.saveAndFlush(ProductEntity.builder()
+                    .name("배치상품" + i)
+                    .description("pooled ID 테스트용 상품")
+                    .price(new BigDecimal("1000"))
+                    .stockQuantity(100)
+                    .status("ACTIVE")
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("주문 아이템 20건은 한 번의 JDBC 배치로 INSERT된다")
+    void 주문_아이템_배치_INSERT() {
+        // given
+        StatementCounter counter = new StatementCounter();
+        Order order = order(20);
+
+        // when - 같은 세션에 리스너를 붙이고 flush까지 실행
+        Order saved = transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).addEventListeners(counter);
+            Order result = saveOrderPort.saveOrder(order);
+            entityManager.flush();
+            return result;
+        });
+
+        // then - 아이템별 PreparedStatement가 아니라 배치 1회
+        assertThat(saved.getOrderItems()).hasSize(20);
+        assertThat(counter.batchExecutions.get()).isEqualTo(1);
+        assertThat(counter.preparedStatements.get()).isLessThan(20);
+        assertThat(orderItemJpaRepository.count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("동시에 저장된 주문 아이템의 pooled ID는 모두 다르다")
+    void 동시_저장_pooled_ID_중복_없음() throws Exception {
+        // given - 8스레드 x 주문 5건 x 아이템 10건, allocationSize(50)를 여러 번 넘김
+        int threadCount = 8;
+        int ordersPerThread = 5;
+        int itemsPerOrder = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < ordersPerThread; i++) {
+                    saveOrderPort.saveOrder(order(itemsPerOrder)).getOrderItems()
+                            .forEach(item -> ids.add(item.getId()));
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+        List<Long> allIds = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            allIds.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        int expected = threadCount * ordersPerThread * itemsPerOrder;
+        Set<Long> distinctIds = new HashSet<>(allIds);
+        assertThat(allIds).hasSize(expected).doesNotContainNull();
+        assertThat(distinctIds).hasSize(expected);
+        assertThat(orderItemJpaRepository.count()).isEqualTo(expected);
+    }
+
+    private Order order(int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.builder()
+                    .productId(productIds.get(i % productIds.size()))
+                    .productName("배치상품" + i)
+                    .quantity(1)
+                    .unitPrice(new BigDecimal("1000"))
+                    .totalPrice(new BigDecimal("1000"))
+                    .build());
+        }
+        BigDecimal total = new BigDecimal("1000").multiply(BigDecimal.valueOf(itemCount));
+        return Order.builder()
+                .userId(USER_ID)
+                .orderItems(items)
+                .totalAmount(total)
+                .discountedAmount(total)
+                .discountAmount(BigDecimal.ZERO)
+                .status(Order.OrderStatus.COMPLETED)
+                .orderedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 세션 단위 JDBC 호출 집계 (백그라운드 작업의 쿼리는 다른 세션이라 포함되지 않음)
+     */
+    private static class StatementCounter extends BaseSessionEventListener {
+
+        private final AtomicInteger preparedStatements = new AtomicInteger();
+        private final AtomicInteger batchExecutions = new AtomicInteger();
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            preparedStatements.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batchExecutions.incrementAndGet();
+        }
+    }
+}
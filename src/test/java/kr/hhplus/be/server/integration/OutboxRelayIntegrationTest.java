@@ -0,0 +1,274 @@
+package kr.hhplus.be.server.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.shared.kafka.producer.KafkaEventProducer;
+import kr.hhplus.be.server.shared.outbox.OutboxEventAppender;
+import kr.hhplus.be.server.shared.outbox.OutboxEventEntity;
+import kr.hhplus.be.server.shared.outbox.OutboxEventJpaRepository;
+import kr.hhplus.be.server.shared.outbox.OutboxRelay;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아웃박스 릴레이 통합 테스트
+ * 비즈니스 트랜잭션 안의 기록, 선점/발행, 실패 재시도, FAILED 재처리, 릴레이 간 중복 발행 방지 검증
+ * Kafka 대신 발행 결과를 지정할 수 있는 Producer로 릴레이를 직접 구성 (애플리케이션 릴레이 스케줄은 사실상 정지)
+ */
+@SpringBootTest(properties = {
+    "outbox.relay.interval-ms=3600000",
+    "outbox.relay.redrive-cron=-"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("아웃박스 릴레이 통합테스트")
+class OutboxRelayIntegrationTest {
+
+    private static final String TOPIC = "outbox-test-topic";
+
+    @Autowired
+    private OutboxEventAppender outboxEventAppender;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("아웃박스는 비즈니스 트랜잭션과 함께 커밋/롤백되고 트랜잭션 밖에서는 기록할 수 없다")
+    void 비즈니스_트랜잭션_안에서_기록() {
+        // when - 롤백된 트랜잭션과 커밋된 트랜잭션
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventAppender.append(messages(2));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> outboxEventAppender.append(messages(3)));
+
+        // then
+        assertThat(outboxEventJpaRepository.findAll())
+                .hasSize(3)
+                .allSatisfy(event -> {
+                    assertThat(event.getStatus()).isEqualTo(OutboxEventEntity.STATUS_PENDING);
+                    assertThat(event.getAttempts()).isZero();
+                });
+        assertThatThrownBy(() -> outboxEventAppender.append(messages(1)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트를 선점해 발행하고 SENT로 표시한다")
+    void 선점_발행_완료() {
+        // given
+        append(3);
+        StubProducer producer = StubProducer.succeeding();
+
+        // when
+        relay(producer, 10).relay();
+
+        // then
+        assertThat(producer.publishedKeys()).containsExactlyInAnyOrder("key-0", "key-1", "key-2");
+        assertThat(producer.published).allSatisfy(record -> {
+            assertThat(record.topic()).isEqualTo(TOPIC);
+            assertThat(record.value()).isInstanceOf(HashMap.class);
+        });
+        assertThat(outboxEventJpaRepository.findAll()).allSatisfy(event -> {
+            assertThat(event.getStatus()).isEqualTo(OutboxEventEntity.STATUS_SENT);
+            assertThat(event.getSentAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 백오프 후 다시 발행 대상이 되고 재시도에서 발행된다")
+    void 발행_실패_재시도() {
+        // given
+        append(1);
+
+        // when - 첫 발행 실패
+        relay(StubProducer.failing(), 10).relay();
+
+        // then - 시도 횟수 증가, 다음 시도 시각은 미래라 바로 다시 선점되지 않음
+        OutboxEventEntity failed = outboxEventJpaRepository.findAll().get(0);
+        assertThat(failed.getStatus()).isEqualTo(OutboxEventEntity.STATUS_PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        StubProducer early = StubProducer.succeeding();
+        relay(early, 10).relay();
+        assertThat(early.published).isEmpty();
+
+        // when - 백오프가 지난 뒤 재시도
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = ?", LocalDateTime.now().minusSeconds(1));
+        StubProducer retry = StubProducer.succeeding();
+        relay(retry, 10).relay();
+
+        // then
+        assertThat(retry.published).hasSize(1);
+        OutboxEventEntity sent = outboxEventJpaRepository.findAll().get(0);
+        assertThat(sent.getStatus()).isEqualTo(OutboxEventEntity.STATUS_SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도를 넘겨 FAILED가 된 이벤트는 재처리 후 다시 발행된다")
+    void FAILED_재처리_후_발행() throws InterruptedException {
+        // given - 최대 시도 1회라 첫 실패에 FAILED
+        append(1);
+        relay(StubProducer.failing(), 10, 1).relay();
+        assertThat(outboxEventJpaRepository.findAll().get(0).getStatus()).isEqualTo(OutboxEventEntity.STATUS_FAILED);
+
+        // when - 재처리 기준 0분 (FAILED 처리 시각 이후면 모두 대상)
+        Thread.sleep(10);
+        StubProducer producer = StubProducer.succeeding();
+        OutboxRelay relay = relay(producer, 10, 1);
+        relay.redriveFailedEvents();
+        OutboxEventEntity redriven = outboxEventJpaRepository.findAll().get(0);
+        relay.relay();
+
+        // then
+        assertThat(redriven.getStatus()).isEqualTo(OutboxEventEntity.STATUS_PENDING);
+        assertThat(redriven.getAttempts()).isZero();
+        assertThat(producer.published).hasSize(1);
+        assertThat(outboxEventJpaRepository.findAll().get(0).getStatus()).isEqualTo(OutboxEventEntity.STATUS_SENT);
+    }
+
+    @Test
+    @DisplayName("두 릴레이가 동시에 실행돼도 같은 이벤트를 두 번 발행하지 않는다")
+    void 릴레이_동시_실행_중복_발행_없음() throws Exception {
+        // given - 배치 5건씩, 발행은 느리게 (선점 후 ack 대기 중인 상황)
+        append(20);
+        StubProducer first = StubProducer.slow(200);
+        StubProducer second = StubProducer.slow(200);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (OutboxRelay relay : List.of(relay(first, 5), relay(second, 5))) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                relay.relay();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then - 합쳐서 정확히 20건, 중복 없음
+        List<String> keys = new ArrayList<>(first.publishedKeys());
+        keys.addAll(second.publishedKeys());
+        assertThat(keys).hasSize(20).doesNotHaveDuplicates();
+        assertThat(outboxEventJpaRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxEventEntity.STATUS_SENT));
+    }
+
+    private OutboxRelay relay(KafkaEventProducer producer, int batchSize) {
+        return relay(producer, batchSize, 10);
+    }
+
+    private OutboxRelay relay(KafkaEventProducer producer, int batchSize, int maxAttempts) {
+        return new OutboxRelay(outboxEventJpaRepository, producer, objectMapper, transactionTemplate,
+                batchSize, 1000, maxAttempts, 1000, 300000, 30000, 0, 24);
+    }
+
+    private void append(int count) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventAppender.append(messages(count)));
+    }
+
+    private List<OutboxEventAppender.OutboxMessage> messages(int count) {
+        List<OutboxEventAppender.OutboxMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("sequence", i);
+            messages.add(new OutboxEventAppender.OutboxMessage((long) i, TOPIC, "key-" + i, payload));
+        }
+        return messages;
+    }
+
+    /**
+     * 발행 결과를 지정하는 테스트용 Producer (발행한 레코드 기록)
+     */
+    private static class StubProducer extends KafkaEventProducer {
+
+        private final boolean succeed;
+        private final long delayMillis;
+        private final List<ProducerRecord<String, Object>> published = Collections.synchronizedList(new ArrayList<>());
+
+        private StubProducer(boolean succeed, long delayMillis) {
+            super(null);
+            this.succeed = succeed;
+            this.delayMillis = delayMillis;
+        }
+
+        static StubProducer succeeding() {
+            return new StubProducer(true, 0);
+        }
+
+        static StubProducer failing() {
+            return new StubProducer(false, 0);
+        }
+
+        static StubProducer slow(long delayMillis) {
+            return new StubProducer(true, delayMillis);
+        }
+
+        @Override
+        public List<Boolean> publishBatch(List<ProducerRecord<String, Object>> records, long timeoutMillis) {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (succeed) {
+                published.addAll(records);
+            }
+            return Collections.nCopies(records.size(), succeed);
+        }
+
+        List<String> publishedKeys() {
+            synchronized (published) {
+                return published.stream().map(ProducerRecord::key).toList();
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort;
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort.ItemStatus;
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort.StockDeductionItem;
+import kr.hhplus.be.server.order.application.port.out.DeductProductStocksPort.StockDeductionResult;
+import kr.hhplus.be.server.order.domain.service.CreateOrderService;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderItemJpaRepository;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderJpaRepository;
+import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
+import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 재고 일괄 차감 통합 테스트
+ * 여러 상품을 한 번에 잠그고 한 번의 UPDATE로 차감, 하나라도 부족하면 전체 미적용 검증
+ */
+@SpringBootTest(properties = {
+    "spring.cache.type=none"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("상품 재고 일괄 차감 통합테스트")
+class ProductStockDeductionIntegrationTest {
+
+    @Autowired
+    private DeductProductStocksPort deductProductStocksPort;
+
+    @Autowired
+    private CreateOrderService createOrderService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderItemJpaRepository orderItemJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private BalanceJpaRepository balanceJpaRepository;
+
+    private ProductEntity productA;
+    private ProductEntity productB;
+    private ProductEntity productC;
+
+    @BeforeEach
+    void setUp() {
+        orderItemJpaRepository.deleteAll();
+        orderJpaRepository.deleteAll();
+        balanceJpaRepository.deleteAll();
+        productJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        productA = product("상품A", 10, "ACTIVE");
+        productB = product("상품B", 5, "ACTIVE");
+        productC = product("상품C", 3, "ACTIVE");
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 차감하고 같은 상품의 여러 줄은 합산해 차감한다")
+    void 여러_상품_일괄_차감() {
+        // given - 요청 순서는 productId 순서와 다르게, 상품A는 두 줄
+        List<StockDeductionItem> items = List.of(
+                new StockDeductionItem(productC.getId(), 3),
+                new StockDeductionItem(productA.getId(), 2),
+                new StockDeductionItem(productB.getId(), 1),
+                new StockDeductionItem(productA.getId(), 3));
+
+        // when
+        StockDeductionResult result = deductProductStocksPort.deductStocks(items);
+
+        // then - 결과는 요청 순서 유지, 남은 재고는 합산 차감 기준
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getFirstFailure()).isNull();
+        assertThat(result.getItems()).extracting(DeductProductStocksPort.ItemResult::getProductId)
+                .containsExactly(productC.getId(), productA.getId(), productB.getId(), productA.getId());
+        assertThat(result.getItems()).extracting(DeductProductStocksPort.ItemResult::getRemainingStock)
+                .containsExactly(0, 5, 4, 5);
+        assertThat(stockOf(productA)).isEqualTo(5);
+        assertThat(stockOf(productB)).isEqualTo(4);
+        assertThat(stockOf(productC)).isZero();
+    }
+
+    @Test
+    @DisplayName("일부 상품만 재고가 부족해도 어떤 상품도 차감하지 않는다")
+    void 일부_재고_부족_전체_미적용() {
+        // given - 상품B만 부족
+        List<StockDeductionItem> items = List.of(
+                new StockDeductionItem(productA.getId(), 2),
+                new StockDeductionItem(productB.getId(), 6),
+                new StockDeductionItem(productC.getId(), 1));
+
+        // when
+        StockDeductionResult result = deductProductStocksPort.deductStocks(items);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFirstFailure().getProductId()).isEqualTo(productB.getId());
+        assertThat(result.getFirstFailure().getRemainingStock()).isEqualTo(5);
+        assertThat(result.getItems()).extracting(DeductProductStocksPort.ItemResult::getStatus)
+                .containsExactly(ItemStatus.NOT_APPLIED, ItemStatus.INSUFFICIENT_STOCK, ItemStatus.NOT_APPLIED);
+        assertThat(stockOf(productA)).isEqualTo(10);
+        assertThat(stockOf(productB)).isEqualTo(5);
+        assertThat(stockOf(productC)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("줄별로는 충분해도 같은 상품의 합산 수량이 재고를 넘으면 부족으로 판정한다")
+    void 합산_수량_재고_초과() {
+        // given - 상품B 3 + 3 = 6 > 5
+        List<StockDeductionItem> items = List.of(
+                new StockDeductionItem(productB.getId(), 3),
+                new StockDeductionItem(productB.getId(), 3));
+
+        // when
+        StockDeductionResult result = deductProductStocksPort.deductStocks(items);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getItems()).extracting(DeductProductStocksPort.ItemResult::getStatus)
+                .containsOnly(ItemStatus.INSUFFICIENT_STOCK);
+        assertThat(stockOf(productB)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 판매 중지된 상품이 섞이면 전체 미적용하고 상태를 구분한다")
+    void 없는_상품_판매중지_상품() {
+        // given
+        ProductEntity inactive = product("중지상품", 10, "INACTIVE");
+        List<StockDeductionItem> items = List.of(
+                new StockDeductionItem(productA.getId(), 1),
+                new StockDeductionItem(inactive.getId(), 1),
+                new StockDeductionItem(999_999L, 1));
+
+        // when
+        StockDeductionResult result = deductProductStocksPort.deductStocks(items);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getItems()).extracting(DeductProductStocksPort.ItemResult::getStatus)
+                .containsExactly(ItemStatus.NOT_APPLIED, ItemStatus.INACTIVE, ItemStatus.NOT_FOUND);
+        assertThat(stockOf(productA)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("일괄 복구는 합산 수량만큼 한 번에 되돌린다")
+    void 일괄_복구() {
+        // given
+        List<StockDeductionItem> items = List.of(
+                new StockDeductionItem(productA.getId(), 2),
+                new StockDeductionItem(productB.getId(), 5),
+                new StockDeductionItem(productA.getId(), 1));
+        assertThat(deductProductStocksPort.deductStocks(items).isSuccess()).isTrue();
+
+        // when
+        boolean restored = deductProductStocksPort.restoreStocks(items);
+
+        // then
+        assertThat(restored).isTrue();
+        assertThat(stockOf(productA)).isEqualTo(10);
+        assertThat(stockOf(productB)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("주문의 일부 상품 재고가 부족하면 주문은 실패하고 재고와 잔액은 그대로다")
+    void 주문_일부_재고_부족() {
+        // given
+        UserEntity user = userJpaRepository.saveAndFlush(UserEntity.builder()
+                .userId(1L)
+                .name("재고차감사용자")
+                .email("stock-deduction@example.com")
+                .status("ACTIVE")
+                .build());
+        balanceJpaRepository.saveAndFlush(BalanceEntity.builder()
+                .user(user)
+                .amount(new BigDecimal("1000000"))
+                .status("ACTIVE")
+                .build());
+        CreateOrderUseCase.CreateOrderCommand command = new CreateOrderUseCase.CreateOrderCommand(1L, List.of(
+                new CreateOrderUseCase.OrderItemCommand(productA.getId(), 2),
+                new CreateOrderUseCase.OrderItemCommand(productC.getId(), 4)), null);
+
+        // when
+        CreateOrderUseCase.CreateOrderResult result = createOrderService.createOrder(command);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).contains("재고가 부족합니다").contains("상품C");
+        assertThat(stockOf(productA)).isEqualTo(10);
+        assertThat(stockOf(productC)).isEqualTo(3);
+        assertThat(orderJpaRepository.count()).isZero();
+        assertThat(balanceJpaRepository.findByUserId(1L).orElseThrow().getAmount()).isEqualByComparingTo("1000000");
+    }
+
+    private ProductEntity product(String name, int stock, String status) {
+        return productJpaRepository.saveAndFlush(ProductEntity.builder()
+                .name(name)
+                .description(name + " 설명")
+                .price(new BigDecimal("1000"))
+                .stockQuantity(stock)
+                .status(status)
+                .build());
+    }
+
+    private Integer stockOf(ProductEntity product) {
+        return productJpaRepository.findById(product.getId()).orElseThrow().getStockQuantity();
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.adapter.in.dto.ChargeBalanceRequest;
+import kr.hhplus.be.server.balance.adapter.in.web.BalanceController;
+import kr.hhplus.be.server.shared.ratelimit.RateLimitStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 수 제한 통합 테스트
+ * GCRA 버스트 허용/보충과 한도 초과 시 429 + Retry-After 응답 검증
+ */
+@SpringBootTest(properties = {
+    "rate-limit.enabled=true"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("요청 수 제한 통합테스트")
+class RateLimitIntegrationTest {
+
+    private static final String SCOPE = "test-scope";
+    private static final long INTERVAL_MICROS = TimeUnit.MILLISECONDS.toMicros(200);
+    private static final int BURST = 3;
+
+    @Autowired
+    private RateLimitStore rateLimitStore;
+
+    @Autowired
+    private BalanceController balanceController;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("버스트 수만큼 연속 허용하고 다음 요청은 요청 1건 간격 이내의 대기 시간과 함께 거절한다")
+    void 버스트_초과_거절() {
+        // when
+        for (int i = 0; i < BURST; i++) {
+            assertThat(acquire("user-1")).isZero();
+        }
+        long retryAfterMicros = acquire("user-1");
+
+        // then
+        assertThat(retryAfterMicros).isPositive().isLessThanOrEqualTo(INTERVAL_MICROS);
+        // 다른 사용자는 영향 없음
+        assertThat(acquire("user-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("거절 후 요청 1건 간격이 지나면 1건만 다시 허용된다")
+    void 간격마다_보충() throws InterruptedException {
+        // given
+        for (int i = 0; i < BURST; i++) {
+            acquire("user-1");
+        }
+        long retryAfterMicros = acquire("user-1");
+
+        // when - 알려준 대기 시간이 지난 뒤
+        Thread.sleep(TimeUnit.MICROSECONDS.toMillis(retryAfterMicros) + 10);
+
+        // then - 보충된 1건만 허용
+        assertThat(acquire("user-1")).isZero();
+        assertThat(acquire("user-1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 메서드를 실행하지 않고 429와 Retry-After 헤더로 응답하고 이후 요청은 노드 로컬에서 거절한다")
+    void 한도_초과_429_응답() {
+        // given - /balance/charge 한도(초당 5건, 버스트 10)를 미리 소진
+        Long userId = 999_001L;
+        long interval = TimeUnit.SECONDS.toMicros(1) / 5;
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimitStore.tryAcquire("balance-charge", String.valueOf(userId), interval, interval * 10)).isZero();
+        }
+        double localBefore = rejectedCount("local");
+
+        // when
+        ResponseEntity<?> response = balanceController.chargeBalance(new ChargeBalanceRequest(userId, 1000));
+        ResponseEntity<?> again = balanceController.chargeBalance(new ChargeBalanceRequest(userId, 1000));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(again.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejectedCount("local")).isEqualTo(localBefore + 1);
+    }
+
+    private long acquire(String key) {
+        return rateLimitStore.tryAcquire(SCOPE, key, INTERVAL_MICROS, INTERVAL_MICROS * BURST);
+    }
+
+    private double rejectedCount(String source) {
+        return meterRegistry.counter("rate-limit.rejected", "scope", "balance-charge", "source", source).count();
+    }
+}
@@ -0,0 +1,197 @@
+package kr.hhplus.be.server.integration;
+
+import io.lettuce.core.cluster.SlotHash;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.application.port.out.LoadCouponPort;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponQueueService;
+import kr.hhplus.be.server.coupon.infrastructure.scheduler.RedisCouponQueueProcessor;
+import kr.hhplus.be.server.shared.kafka.KafkaCouponEventProducer;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 쿠폰 대기열 통합 테스트
+ * 발행 실패 사용자의 원래 순서 재등록, 처리 중 예외 시 꺼낸 사용자 재등록, 기동 시 처리 대상 복구 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Redis 쿠폰 대기열 통합 테스트")
+class RedisCouponQueueIntegrationTest {
+
+    private static final Long COUPON_ID = 77L;
+    private static final String QUEUE_KEY = "{coupon:queue}:" + COUPON_ID;
+
+    @Autowired
+    private RedisCouponQueueService queueService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("발행 실패로 되돌린 사용자는 원래 score로 대기열 맨 앞에 다시 선다")
+    void requeue_keepsOriginalScore() {
+        // given
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "1", 100);
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "2", 200);
+        List<RedisCouponQueueService.QueuedUser> popped = queueService.popBatchFromQueue(COUPON_ID, 1);
+        queueService.addToQueue(COUPON_ID, 3L);
+
+        // when
+        boolean requeued = queueService.requeue(COUPON_ID, popped.get(0));
+
+        // then
+        assertThat(popped).containsExactly(new RedisCouponQueueService.QueuedUser(1L, 100));
+        assertThat(requeued).isTrue();
+        assertThat(queueService.getUserQueuePosition(COUPON_ID, 1L)).isEqualTo(1L);
+        assertThat(queueService.getActiveQueueCouponIds()).containsExactly(COUPON_ID);
+    }
+
+    @Test
+    @DisplayName("그 사이 다시 대기열에 들어온 사용자는 재등록하지 않고 기존 순서를 유지한다")
+    void requeue_keepsExistingEntry() {
+        // given
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "1", 100);
+        RedisCouponQueueService.QueuedUser user = queueService.popBatchFromQueue(COUPON_ID, 1).get(0);
+        redisTemplate.opsForZSet().add(QUEUE_KEY, "1", 500);
+
+        // when
+        boolean requeued = queueService.requeue(COUPON_ID, user);
+
+        // then
+        assertThat(requeued).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(QUEUE_KEY, "1")).isEqualTo(500.0);
+    }
+
+    @Test
+    @DisplayName("기동 시 처리 대상 집합에 없는 기존 대기열을 등록하고 빈 대기열은 제외한다")
+    void backfillActiveQueues() {
+        // given - 처리 대상 집합 없이 남아 있는 대기열 (해시 태그 도입 전 키 포함)
+        redisTemplate.opsForZSet().add("{coupon:queue}:10", "1", 100);
+        redisTemplate.opsForZSet().add("coupon:queue:11", "2", 100);
+        redisTemplate.opsForZSet().add("coupon:queue:11", "3", 200);
+        redisTemplate.opsForValue().set("coupon:queue:legacy", "x");
+
+        // when
+        int registered = queueService.backfillActiveQueues();
+
+        // then - 이전 키의 대기열은 원래 순서로 새 키에 옮겨짐
+        assertThat(registered).isEqualTo(2);
+        assertThat(queueService.getActiveQueueCouponIds()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(redisTemplate.hasKey("coupon:queue:11")).isFalse();
+        assertThat(queueService.popBatchFromQueue(11L, 10)).containsExactly(
+                new RedisCouponQueueService.QueuedUser(2L, 100),
+                new RedisCouponQueueService.QueuedUser(3L, 200));
+    }
+
+    @Test
+    @DisplayName("대기열 키와 처리 대상 집합은 같은 클러스터 슬롯에 있어 등록 해제/재등록 스크립트가 CROSSSLOT 없이 실행된다")
+    void keys_shareClusterSlot() {
+        // given
+        List<String> keys = List.of(QUEUE_KEY, "{coupon:queue}:" + (COUPON_ID + 1), "{coupon:queue}:active");
+
+        // when & then
+        assertThat(keys.stream().map(SlotHash::getSlot).distinct().toList()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("쿠폰 조회가 실패하면 꺼낸 사용자를 모두 원래 순서로 되돌린다")
+    void process_requeuesAllWhenLoadFails() {
+        // given
+        queueFor(1L, 100);
+        queueFor(2L, 200);
+        LoadCouponPort failingPort = loadCouponPort(() -> {
+            throw new IllegalStateException("테스트용 조회 실패");
+        });
+        RedisCouponQueueProcessor processor = new RedisCouponQueueProcessor(queueService,
+                new KafkaCouponEventProducer(sendFailingTemplate()), failingPort, 10, 1000);
+
+        // when
+        processor.processCouponQueue();
+
+        // then
+        assertThat(queueService.popBatchFromQueue(COUPON_ID, 10)).containsExactly(
+                new RedisCouponQueueService.QueuedUser(1L, 100),
+                new RedisCouponQueueService.QueuedUser(2L, 200));
+    }
+
+    @Test
+    @DisplayName("send가 예외를 던지면 발행 실패로 보고 꺼낸 사용자를 모두 원래 순서로 되돌린다")
+    void process_requeuesAllWhenSendThrows() {
+        // given
+        queueFor(1L, 100);
+        queueFor(2L, 200);
+        LoadCouponPort couponPort = loadCouponPort(() -> Optional.of(new LoadCouponPort.CouponInfo(
+                COUPON_ID, "대기열 쿠폰", null, 1000, 100, 0, "ACTIVE", null, null)));
+        RedisCouponQueueProcessor processor = new RedisCouponQueueProcessor(queueService,
+                new KafkaCouponEventProducer(sendFailingTemplate()), couponPort, 10, 1000);
+
+        // when
+        processor.processCouponQueue();
+
+        // then
+        assertThat(queueService.popBatchFromQueue(COUPON_ID, 10)).containsExactly(
+                new RedisCouponQueueService.QueuedUser(1L, 100),
+                new RedisCouponQueueService.QueuedUser(2L, 200));
+    }
+
+    private void queueFor(Long userId, double score) {
+        redisTemplate.opsForZSet().add(QUEUE_KEY, userId.toString(), score);
+        redisTemplate.opsForSet().add("{coupon:queue}:active", COUPON_ID);
+    }
+
+    /**
+     * loadCouponById만 지정한 결과를 돌려주는 LoadCouponPort 프록시
+     */
+    private LoadCouponPort loadCouponPort(Supplier<Optional<LoadCouponPort.CouponInfo>> loadCouponById) {
+        return (LoadCouponPort) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{LoadCouponPort.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("loadCouponById")) {
+                        return loadCouponById.get();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * send가 동기적으로 예외를 던지는 KafkaTemplate (브로커 연결 없음)
+     */
+    private KafkaTemplate<String, Object> sendFailingTemplate() {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<String, Object>(Map.of())) {
+            @Override
+            public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object data) {
+                throw new KafkaException("테스트용 전송 실패");
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+    }
+}
@@ -0,0 +1,254 @@
+package kr.hhplus.be.server.integration;
+
+import io.lettuce.core.cluster.SlotHash;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.order.infrastructure.stock.RedisStockLedger;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 재고 원장 통합 테스트
+ * 예약/해제 Lua 스크립트와 MySQL 반영 대기 증감의 2단계 drain 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Redis 재고 원장 통합 테스트")
+class RedisStockLedgerIntegrationTest {
+
+    private static final Long PRODUCT_A = 1001L;
+    private static final Long PRODUCT_B = 1002L;
+
+    @Autowired
+    private RedisStockLedger stockLedger;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        stockLedger.warm(Map.of(PRODUCT_A, 10, PRODUCT_B, 5), stockLedger.getDrainGeneration());
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 전체 상품을 한 번에 예약한다")
+    void reserve_success() {
+        // when
+        RedisStockLedger.ReserveOutcome outcome = stockLedger.reserve(token(), Map.of(PRODUCT_A, 3, PRODUCT_B, 2));
+
+        // then
+        assertThat(outcome.isReserved()).isTrue();
+        assertThat(outcome.getRemainingStocks()).containsEntry(PRODUCT_A, 7).containsEntry(PRODUCT_B, 3);
+        assertThat(stockLedger.getAvailableStocks(List.of(PRODUCT_A, PRODUCT_B)))
+                .containsEntry(PRODUCT_A, 7).containsEntry(PRODUCT_B, 3);
+        assertThat(stockLedger.getOutstandingReservedQuantities())
+                .containsEntry(PRODUCT_A, 3).containsEntry(PRODUCT_B, 2);
+    }
+
+    @Test
+    @DisplayName("재고 원장 키는 모두 같은 클러스터 슬롯에 있어 Lua 스크립트가 CROSSSLOT 없이 실행된다")
+    void keys_shareClusterSlot() {
+        // given
+        List<String> keys = List.of(
+                RedisKeyConstants.getStockAvailableKey(PRODUCT_A),
+                RedisKeyConstants.getStockAvailableKey(PRODUCT_B),
+                RedisKeyConstants.getStockReservationKey(token()),
+                RedisKeyConstants.getStockPendingDeltaProcessingKey(UUID.randomUUID().toString()),
+                RedisKeyConstants.STOCK_RESERVATION_INDEX_KEY,
+                RedisKeyConstants.STOCK_PENDING_DELTA_KEY,
+                RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY,
+                RedisKeyConstants.STOCK_PENDING_DELTA_GENERATION_KEY,
+                RedisKeyConstants.STOCK_MIRRORED_PRODUCTS_KEY);
+
+        // when & then
+        assertThat(keys.stream().map(SlotHash::getSlot).distinct().toList()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 재고가 부족하면 아무것도 예약하지 않는다")
+    void reserve_insufficient() {
+        // when
+        RedisStockLedger.ReserveOutcome outcome = stockLedger.reserve(token(), Map.of(PRODUCT_A, 3, PRODUCT_B, 6));
+
+        // then
+        assertThat(outcome.getStatus()).isEqualTo(RedisStockLedger.ReserveOutcome.Status.INSUFFICIENT_STOCK);
+        assertThat(outcome.getFailedProductId()).isEqualTo(PRODUCT_B);
+        assertThat(outcome.getCurrentStock()).isEqualTo(5);
+        assertThat(stockLedger.getAvailableStocks(List.of(PRODUCT_A, PRODUCT_B)))
+                .containsEntry(PRODUCT_A, 10).containsEntry(PRODUCT_B, 5);
+    }
+
+    @Test
+    @DisplayName("미러가 없는 상품이 있으면 MISSING_MIRROR를 반환한다")
+    void reserve_missingMirror() {
+        // when
+        RedisStockLedger.ReserveOutcome outcome = stockLedger.reserve(token(), Map.of(PRODUCT_A, 1, 9999L, 1));
+
+        // then
+        assertThat(outcome.getStatus()).isEqualTo(RedisStockLedger.ReserveOutcome.Status.MISSING_MIRROR);
+        assertThat(outcome.getFailedProductId()).isEqualTo(9999L);
+        assertThat(stockLedger.getAvailableStocks(List.of(PRODUCT_A))).containsEntry(PRODUCT_A, 10);
+    }
+
+    @Test
+    @DisplayName("예약 해제 시 예약 수량이 가용 재고로 복구되고 두 번째 해제는 무시된다")
+    void release_restoresAvailableStock() {
+        // given
+        String token = token();
+        stockLedger.reserve(token, Map.of(PRODUCT_A, 4, PRODUCT_B, 5));
+
+        // when
+        boolean first = stockLedger.release(token);
+        boolean second = stockLedger.release(token);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(stockLedger.getAvailableStocks(List.of(PRODUCT_A, PRODUCT_B)))
+                .containsEntry(PRODUCT_A, 10).containsEntry(PRODUCT_B, 5);
+        assertThat(stockLedger.getOutstandingReservedQuantities()).isEmpty();
+        assertThat(stockLedger.getPendingDeltas(List.of(PRODUCT_A, PRODUCT_B)))
+                .containsEntry(PRODUCT_A, 0).containsEntry(PRODUCT_B, 0);
+    }
+
+    @Test
+    @DisplayName("확정된 예약은 해제되지 않는다")
+    void release_afterConfirm_isNoop() {
+        // given
+        String token = token();
+        stockLedger.reserve(token, Map.of(PRODUCT_A, 4));
+        stockLedger.confirm(token);
+
+        // when
+        boolean released = stockLedger.release(token);
+
+        // then
+        assertThat(released).isFalse();
+        assertThat(stockLedger.getAvailableStocks(List.of(PRODUCT_A))).containsEntry(PRODUCT_A, 6);
+        assertThat(stockLedger.getPendingDeltas(List.of(PRODUCT_A))).containsEntry(PRODUCT_A, -4);
+    }
+
+    @Test
+    @DisplayName("drain은 증감을 반영 실행 키로 옮기고 completeDrain 전까지 Redis에 남긴다")
+    void drain_keepsDeltasUntilComplete() {
+        // given
+        confirmReservation(Map.of(PRODUCT_A, 3, PRODUCT_B, 1));
+
+        // when
+        RedisStockLedger.DrainRun run = stockLedger.drainPendingDeltas();
+
+        // then
+        assertThat(run.deltas()).containsEntry(PRODUCT_A, -3).containsEntry(PRODUCT_B, -1);
+        assertThat(stringRedisTemplate.hasKey(RedisKeyConstants.STOCK_PENDING_DELTA_KEY)).isFalse();
+        assertThat(stockLedger.getPendingDeltas(List.of(PRODUCT_A, PRODUCT_B)))
+                .containsEntry(PRODUCT_A, -3).containsEntry(PRODUCT_B, -1);
+        assertThat(stockLedger.drainPendingDeltas().isEmpty()).isTrue();
+
+        // when - 일부 상품만 반영 완료
+        stockLedger.completeDrain(run.runId(), List.of(PRODUCT_A));
+
+        // then
+        assertThat(stockLedger.getPendingDeltas(List.of(PRODUCT_A, PRODUCT_B)))
+                .containsEntry(PRODUCT_A, 0).containsEntry(PRODUCT_B, -1);
+
+        // when - 나머지 반영 완료
+        stockLedger.completeDrain(run.runId(), List.of(PRODUCT_B));
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(RedisKeyConstants.getStockPendingDeltaProcessingKey(run.runId()))).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().zCard(RedisKeyConstants.STOCK_PENDING_DELTA_PROCESSING_INDEX_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 반영 실행은 선점 시각이 지나면 다시 꺼낼 수 있고 한 번만 선점된다")
+    void claimStaleDrains_reclaimsUnfinishedRun() {
+        // given
+        confirmReservation(Map.of(PRODUCT_A, 2, PRODUCT_B, 2));
+        RedisStockLedger.DrainRun run = stockLedger.drainPendingDeltas();
+        stockLedger.completeDrain(run.runId(), List.of(PRODUCT_A));
+
+        // when - 선점 시각 이전 기준이면 대상 아님
+        List<RedisStockLedger.DrainRun> notStale = stockLedger.claimStaleDrains(System.currentTimeMillis() - 60_000);
+
+        // then
+        assertThat(notStale).isEmpty();
+
+        // when
+        long now = System.currentTimeMillis();
+        List<RedisStockLedger.DrainRun> claimed = stockLedger.claimStaleDrains(now + 1);
+        List<RedisStockLedger.DrainRun> claimedAgain = stockLedger.claimStaleDrains(now - 1);
+
+        // then - 남은 상품만 재반영 대상, 재선점으로 선점 시각이 갱신되어 곧바로 다시 꺼내지지 않음
+        assertThat(claimed).hasSize(1);
+        assertThat(claimed.get(0).runId()).isEqualTo(run.runId());
+        assertThat(claimed.get(0).deltas()).containsOnlyKeys(PRODUCT_B).containsEntry(PRODUCT_B, -2);
+        assertThat(claimedAgain).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 중인 증감이 있거나 세대가 바뀌면 warm은 미러를 덮어쓰지 않는다")
+    void warm_blockedWhileDraining() {
+        // given
+        Long product = 2001L;
+        long generation = stockLedger.getDrainGeneration();
+        confirmReservation(Map.of(PRODUCT_A, 1));
+        RedisStockLedger.DrainRun run = stockLedger.drainPendingDeltas();
+
+        // when - 반영 실행 진행 중
+        boolean duringDrain = stockLedger.warm(Map.of(product, 50), stockLedger.getDrainGeneration());
+        // when - 읽기 전 세대로 시도 (그 사이 drain 시작)
+        stockLedger.completeDrain(run.runId(), run.deltas().keySet());
+        boolean staleGeneration = stockLedger.warm(Map.of(product, 50), generation);
+        // when - 반영 완료 후 최신 세대
+        boolean afterDrain = stockLedger.warm(Map.of(product, 50), stockLedger.getDrainGeneration());
+
+        // then
+        assertThat(duringDrain).isFalse();
+        assertThat(staleGeneration).isFalse();
+        assertThat(afterDrain).isTrue();
+        assertThat(stockLedger.getAvailableStocks(List.of(product))).containsEntry(product, 50);
+        assertThat(stockLedger.getMirroredProductIds()).contains(product);
+    }
+
+    @Test
+    @DisplayName("warm은 이미 있는 미러를 덮어쓰지 않고 반영 대기 증감을 더해 초기화한다")
+    void warm_appliesPendingDeltaWithoutOverwriting() {
+        // given
+        Long product = 2002L;
+        stringRedisTemplate.opsForHash().put(RedisKeyConstants.STOCK_PENDING_DELTA_KEY, String.valueOf(product), "-7");
+
+        // when
+        boolean warmed = stockLedger.warm(Map.of(product, 20, PRODUCT_A, 999), stockLedger.getDrainGeneration());
+
+        // then
+        assertThat(warmed).isTrue();
+        assertThat(stockLedger.getAvailableStocks(List.of(product, PRODUCT_A)))
+                .containsEntry(product, 13).containsEntry(PRODUCT_A, 10);
+        assertThat(stockLedger.getMirroredProductIds()).containsAll(Set.of(product, PRODUCT_A));
+    }
+
+    private void confirmReservation(Map<Long, Integer> quantities) {
+        String token = token();
+        assertThat(stockLedger.reserve(token, quantities).isReserved()).isTrue();
+        assertThat(stockLedger.confirm(token)).isTrue();
+    }
+
+    private String token() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,229 @@
+package kr.hhplus.be.server.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.CouponEntity;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.UserCouponEntity;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.CouponJpaRepository;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.UserCouponJpaRepository;
+import kr.hhplus.be.server.coupon.infrastructure.scheduler.UserCouponExpirySweeper;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 쿠폰 만료 처리 통합 테스트
+ * PK 구간 경계, 쿠폰별 워터마크, 완료 시각 유예, 사용자 쿠폰 캐시 삭제 검증
+ */
+@SpringBootTest(properties = {
+    "coupon.expiry-sweep.cron=-",
+    "coupon.expiry-sweep.chunk-size=2",
+    "coupon.expiry-sweep.pause-ms=0"
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("사용자 쿠폰 만료 처리 통합테스트")
+class UserCouponExpirySweeperIntegrationTest {
+
+    private static final String SWEPT_THROUGH_KEY = "coupon:expiry-sweep:swept-through";
+    private static final String WATERMARK_KEY = "coupon:expiry-sweep:watermark";
+
+    @Autowired
+    private UserCouponExpirySweeper sweeper;
+
+    @Autowired
+    private UserCouponJpaRepository userCouponJpaRepository;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    @Qualifier("shortTermCacheManager")
+    private CacheManager shortTermCacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<UserEntity> users;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        userCouponJpaRepository.deleteAll();
+        couponJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        users = new ArrayList<>();
+        for (long userId = 1; userId <= 3; userId++) {
+            users.add(userJpaRepository.saveAndFlush(UserEntity.builder()
+                    .userId(userId)
+                    .name("만료처리사용자" + userId)
+                    .email("expiry-" + userId + "@example.com")
+                    .status("ACTIVE")
+                    .build()));
+        }
+    }
+
+    @Test
+    @DisplayName("chunk-size 구간 경계의 행까지 만료 대상만 EXPIRED로 바꾸고 다른 쿠폰은 그대로 둔다")
+    void 구간_경계_만료() {
+        // given - 구간 2개씩: [만료, 만료] [유효, 만료] [만료, 만료]
+        CouponEntity expired = coupon(LocalDateTime.now().minusHours(1));
+        CouponEntity valid = coupon(LocalDateTime.now().plusDays(1));
+        List<UserCouponEntity> expiredRows = new ArrayList<>();
+        expiredRows.add(issue(expired, 0));
+        expiredRows.add(issue(expired, 1));
+        UserCouponEntity validRow = issue(valid, 0);
+        expiredRows.add(issue(expired, 2));
+        expiredRows.add(issue(expired, 0));
+        expiredRows.add(issue(expired, 1));
+        long chunksBefore = chunkCount();
+
+        // when
+        long expiredCount = sweeper.run();
+
+        // then
+        assertThat(expiredCount).isEqualTo(5);
+        assertThat(chunkCount() - chunksBefore).isEqualTo(3);
+        expiredRows.forEach(row -> assertThat(statusOf(row)).isEqualTo("EXPIRED"));
+        assertThat(statusOf(validRow)).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("유예 중인 쿠폰은 워터마크를 남기고 다음 실행에서 워터마크 이후 구간만 처리한다")
+    void 워터마크_이후만_처리() {
+        // given - 방금 만료된 쿠폰 (완료 기록 유예 중)
+        CouponEntity expired = coupon(LocalDateTime.now().minusMinutes(1));
+        issue(expired, 0);
+        issue(expired, 1);
+        issue(expired, 2);
+        UserCouponEntity last = issue(expired, 0);
+        assertThat(sweeper.run()).isEqualTo(4);
+        assertThat(watermarkOf(expired)).isEqualTo(String.valueOf(last.getId()));
+        assertThat(isSwept(expired)).isFalse();
+
+        // when - 늦게 반영된 발급 1건
+        UserCouponEntity late = issue(expired, 1);
+        long chunksBefore = chunkCount();
+        long expiredCount = sweeper.run();
+
+        // then - 새 행이 있는 구간 하나만 처리
+        assertThat(expiredCount).isEqualTo(1);
+        assertThat(chunkCount() - chunksBefore).isEqualTo(1);
+        assertThat(statusOf(late)).isEqualTo("EXPIRED");
+        assertThat(watermarkOf(expired)).isEqualTo(String.valueOf(late.getId()));
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 쿠폰까지만 완료 시각에 포함하고 워터마크를 지우며 이후 실행에서 제외한다")
+    void 완료_시각_유예() {
+        // given
+        CouponEntity oldExpired = coupon(LocalDateTime.now().minusHours(1));
+        CouponEntity justExpired = coupon(LocalDateTime.now().minusMinutes(1));
+        issue(oldExpired, 0);
+        issue(justExpired, 1);
+
+        // when
+        sweeper.run();
+
+        // then
+        assertThat(isSwept(oldExpired)).isTrue();
+        assertThat(watermarkOf(oldExpired)).isNull();
+        assertThat(isSwept(justExpired)).isFalse();
+        assertThat(watermarkOf(justExpired)).isNotNull();
+
+        // when - 완료된 쿠폰에 행이 추가돼도 더 이상 처리하지 않음
+        UserCouponEntity skipped = issue(oldExpired, 2);
+        sweeper.run();
+
+        // then
+        assertThat(statusOf(skipped)).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("만료 처리된 사용자의 userCouponsAll 캐시만 삭제한다")
+    void 사용자_쿠폰_캐시_삭제() {
+        // given - 사용자 1은 만료 쿠폰, 사용자 3은 유효 쿠폰만 보유
+        CouponEntity expired = coupon(LocalDateTime.now().minusHours(1));
+        CouponEntity valid = coupon(LocalDateTime.now().plusDays(1));
+        issue(expired, 0);
+        issue(valid, 2);
+        // @Cacheable(cacheManager = "shortTermCacheManager")과 같은 캐시에 저장
+        shortTermCacheManager.getCache("userCouponsAll").put(1L, "cached");
+        shortTermCacheManager.getCache("userCouponsAll").put(3L, "cached");
+        assertThat(cachedValue(1L)).isNotNull();
+        assertThat(cachedValue(3L)).isNotNull();
+
+        // when
+        sweeper.run();
+
+        // then
+        assertThat(cachedValue(1L)).isNull();
+        assertThat(cachedValue(3L)).isNotNull();
+    }
+
+    private CouponEntity coupon(LocalDateTime validTo) {
+        return couponJpaRepository.saveAndFlush(CouponEntity.builder()
+                .name("만료처리쿠폰")
+                .discountAmount(new BigDecimal("1000.00"))
+                .maxIssuanceCount(100)
+                .issuedCount(0)
+                .status("ACTIVE")
+                .validFrom(validTo.minusDays(7))
+                .validTo(validTo)
+                .build());
+    }
+
+    private UserCouponEntity issue(CouponEntity coupon, int userIndex) {
+        return userCouponJpaRepository.saveAndFlush(UserCouponEntity.builder()
+                .user(users.get(userIndex))
+                .coupon(coupon)
+                .discountAmount(1000)
+                .status("AVAILABLE")
+                .build());
+    }
+
+    private String statusOf(UserCouponEntity userCoupon) {
+        return userCouponJpaRepository.findById(userCoupon.getId()).orElseThrow().getStatus();
+    }
+
+    private String watermarkOf(CouponEntity coupon) {
+        Object value = stringRedisTemplate.opsForHash().get(WATERMARK_KEY, coupon.getId().toString());
+        return value != null ? value.toString() : null;
+    }
+
+    private boolean isSwept(CouponEntity coupon) {
+        String sweptThrough = stringRedisTemplate.opsForValue().get(SWEPT_THROUGH_KEY);
+        return sweptThrough != null && coupon.getValidTo().isBefore(LocalDateTime.parse(sweptThrough));
+    }
+
+    private Object cachedValue(Long userId) {
+        return shortTermCacheManager.getCache("userCouponsAll").get(userId);
+    }
+
+    private long chunkCount() {
+        return meterRegistry.timer("coupon.expiry.chunk.lock-time").count();
+    }
+}
@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.integration.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.domain.service.CouponInfoNearCache;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponService;
+import kr.hhplus.be.server.shared.constants.RedisKeyConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 쿠폰 정보 Near Cache 통합 테스트
+ * Pub/Sub 무효화의 노드 간 전파와 발급 수량 무효화의 쿠폰별 간격 제한 검증
+ * 노드마다 Near Cache 인스턴스를 따로 만들어 같은 채널을 구독 (로컬 TTL은 길게 두어 무효화로만 항목이 사라지게 함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("쿠폰 정보 Near Cache 통합테스트")
+class CouponInfoNearCacheIntegrationTest {
+
+    private static final long LOCAL_TTL_MS = 60_000;
+    private static final long COUNT_INVALIDATION_INTERVAL_MS = 500;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Test
+    @DisplayName("다른 노드가 쿠폰 정보를 변경하면 이 노드의 항목도 무효화되어 다시 읽는다")
+    void 다른_노드_무효화_전파() {
+        // given
+        Long couponId = 9301L;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CouponInfoNearCache node = nearCache(registry);
+        CouponInfoNearCache otherNode = nearCache(new SimpleMeterRegistry());
+        double received = awaitSubscribed(registry);
+        CountingLoader loader = new CountingLoader();
+        node.get(couponId, loader);
+        node.get(couponId, loader);
+        assertThat(loader.loads.get()).isEqualTo(1);
+
+        // when
+        otherNode.invalidate(couponId);
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> receivedInvalidations(registry) >= received + 1);
+        node.get(couponId, loader);
+        assertThat(loader.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발급 수량 변경 무효화는 쿠폰별 간격 안에 한 번만 전파하고 간격이 지나면 다시 전파한다")
+    void 발급_수량_무효화_간격_제한() throws InterruptedException {
+        // given
+        Long couponId = 9302L;
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CouponInfoNearCache node = nearCache(registry);
+        double received = awaitSubscribed(registry);
+        CountingLoader loader = new CountingLoader();
+        node.get(couponId, loader);
+
+        // when - 첫 무효화는 전파
+        node.invalidateIssuedCount(couponId);
+        await().atMost(2, TimeUnit.SECONDS).until(() -> receivedInvalidations(registry) >= received + 1);
+        node.get(couponId, loader);
+
+        // when - 간격 안의 무효화는 건너뜀 (다른 쿠폰은 영향 없음)
+        node.invalidateIssuedCount(couponId);
+        node.invalidateIssuedCount(9303L);
+        await().atMost(2, TimeUnit.SECONDS).until(() -> receivedInvalidations(registry) >= received + 2);
+        node.get(couponId, loader);
+
+        // then
+        assertThat(loader.loads.get()).isEqualTo(2);
+        assertThat(receivedInvalidations(registry)).isEqualTo(received + 2);
+
+        // when - 간격이 지난 뒤 무효화
+        Thread.sleep(COUNT_INVALIDATION_INTERVAL_MS + 100);
+        node.invalidateIssuedCount(couponId);
+        await().atMost(2, TimeUnit.SECONDS).until(() -> receivedInvalidations(registry) >= received + 3);
+        node.get(couponId, loader);
+
+        // then
+        assertThat(loader.loads.get()).isEqualTo(3);
+    }
+
+    private CouponInfoNearCache nearCache(SimpleMeterRegistry registry) {
+        return new CouponInfoNearCache(stringRedisTemplate, listenerContainer, registry,
+                LOCAL_TTL_MS, 10_000, COUNT_INVALIDATION_INTERVAL_MS);
+    }
+
+    /**
+     * 구독이 끝날 때까지 확인용 메시지를 보내고 그 시점의 수신 수를 반환
+     */
+    private double awaitSubscribed(SimpleMeterRegistry registry) {
+        await().atMost(5, TimeUnit.SECONDS).pollInterval(100, TimeUnit.MILLISECONDS).until(() -> {
+            stringRedisTemplate.convertAndSend(RedisKeyConstants.COUPON_INFO_INVALIDATION_CHANNEL, "0");
+            return receivedInvalidations(registry) > 0;
+        });
+        // 늦게 도착하는 확인용 메시지까지 반영
+        await().pollDelay(200, TimeUnit.MILLISECONDS).until(() -> true);
+        return receivedInvalidations(registry);
+    }
+
+    private double receivedInvalidations(SimpleMeterRegistry registry) {
+        return registry.counter("coupon.info.near-cache.invalidations.received").count();
+    }
+
+    /**
+     * 호출 횟수를 세는 Redis 해시 대신 쓰는 로더
+     */
+    private static class CountingLoader implements Function<Long, Optional<RedisCouponService.CouponInfo>> {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public Optional<RedisCouponService.CouponInfo> apply(Long couponId) {
+            loads.incrementAndGet();
+            return Optional.of(new RedisCouponService.CouponInfo(couponId, "near-cache", null, 1000,
+                    100, loads.get(), "ACTIVE", null, null));
+        }
+    }
+}
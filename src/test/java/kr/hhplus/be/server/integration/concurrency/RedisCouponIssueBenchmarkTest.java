@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.integration.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.coupon.domain.service.CouponInfoNearCache;
+import kr.hhplus.be.server.coupon.domain.service.CouponSoldOutRegistry;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+/**
+ * 선착순 쿠폰 발급 Redis 처리량 비교
+ * - 기존 방식: SISMEMBER → SCARD → SADD → EXPIRE (명령 4회 왕복)
+ * - 스크립트 방식: RedisCouponService.checkAndIssueCoupon (Lua 1회 왕복)
+ * - 샤드 방식: 수량을 SHARDS개 키에 나눈 샤드 모드 (홈 샤드 소진 시 이웃 샤드 사용)
+ * 스크립트/샤드 방식은 소진 이후 요청을 노드 로컬 소진 표시로 거절하므로 그만큼 처리량에 포함됨
+ * 처리량 출력만 하고 정합성 검증은 RedisCouponIssueIntegrationTest에서 수행
+ *
+ * 실행: ./gradlew test --tests '*RedisCouponIssueBenchmarkTest' -Ptest.benchmark.enabled=true
+ */
+@Testcontainers
+@org.junit.jupiter.api.condition.EnabledIfSystemProperty(named = "test.benchmark.enabled", matches = "true")
+class RedisCouponIssueBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 20_000;
+    private static final int MAX_ISSUANCE = 1_000;
+    private static final int SHARDS = 8;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379)
+            .withStartupTimeout(Duration.ofMinutes(2));
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private RedisCouponService redisCouponService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.afterPropertiesSet();
+        redisTemplate = template;
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CouponInfoNearCache nearCache = new CouponInfoNearCache(stringRedisTemplate,
+                listenerContainer, meterRegistry, 2_000, 10_000, 200);
+        CouponSoldOutRegistry soldOutRegistry = new CouponSoldOutRegistry(stringRedisTemplate,
+                listenerContainer, meterRegistry, 60_000);
+        redisCouponService = new RedisCouponService(template, nearCache, soldOutRegistry, 0, SHARDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 명령_4회_방식과_스크립트_방식_처리량_비교() throws InterruptedException {
+        // 워밍업
+        run(1L, 2_000, this::issueWithCommands);
+        run(2L, 2_000, (couponId, userId) -> redisCouponService.checkAndIssueCoupon(couponId, userId, MAX_ISSUANCE).isSuccess());
+
+        Result commands = run(10L, REQUESTS, this::issueWithCommands);
+        Result script = run(20L, REQUESTS,
+                (couponId, userId) -> redisCouponService.checkAndIssueCoupon(couponId, userId, MAX_ISSUANCE).isSuccess());
+        redisCouponService.enableShardedIssuance(30L, SHARDS, MAX_ISSUANCE);
+        Result sharded = run(30L, REQUESTS,
+                (couponId, userId) -> redisCouponService.checkAndIssueCoupon(couponId, userId, MAX_ISSUANCE).isSuccess());
+
+        System.out.printf("%n=== 선착순 쿠폰 발급 (threads=%d, requests=%d, max=%d) ===%n", THREADS, REQUESTS, MAX_ISSUANCE);
+        System.out.printf("%-10s %12s %10s %10s%n", "방식", "ops/sec", "발급 성공", "Set 크기");
+        System.out.printf("%-10s %12.0f %10d %10d%n", "commands", commands.opsPerSecond, commands.issued, commands.setSize);
+        System.out.printf("%-10s %12.0f %10d %10d%n", "script", script.opsPerSecond, script.issued, script.setSize);
+        System.out.printf("%-10s %12.0f %10d %10d%n", "sharded", sharded.opsPerSecond, sharded.issued,
+                redisCouponService.getCurrentIssuedCount(30L));
+    }
+
+    /**
+     * 변경 전 checkAndIssueCoupon과 같은 명령 순서
+     */
+    private boolean issueWithCommands(Long couponId, Long userId) {
+        String issuedKey = "coupon:issued:" + couponId;
+        String userKey = userId.toString();
+
+        if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(issuedKey, userKey))) {
+            return false;
+        }
+        Long currentCount = redisTemplate.opsForSet().size(issuedKey);
+        if (currentCount != null && currentCount >= MAX_ISSUANCE) {
+            return false;
+        }
+        Long added = redisTemplate.opsForSet().add(issuedKey, userKey);
+        if (added != null && added > 0) {
+            redisTemplate.expire(issuedKey, Duration.ofDays(30));
+            return true;
+        }
+        return false;
+    }
+
+    private Result run(Long couponId, int requests, BiPredicate<Long, Long> issue) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(requests);
+        AtomicInteger issued = new AtomicInteger();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    if (issue.test(couponId, userId)) {
+                        issued.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - started;
+        executor.shutdown();
+
+        Long setSize = redisTemplate.opsForSet().size("coupon:issued:" + couponId);
+        return new Result(requests / (elapsedNanos / 1_000_000_000.0), issued.get(), setSize != null ? setSize : 0);
+    }
+
+    private record Result(double opsPerSecond, int issued, long setSize) {
+    }
+}
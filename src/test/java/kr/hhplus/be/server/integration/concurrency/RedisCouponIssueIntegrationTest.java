@@ -0,0 +1,200 @@
+package kr.hhplus.be.server.integration.concurrency;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 선착순 쿠폰 발급 정합성 통합 테스트
+ * 동시 요청에서 초과 발급과 중복 발급이 없는지, 샤드 모드 전환/이웃 샤드 사용/롤백이 수량을 지키는지 검증
+ * (처리량 비교는 RedisCouponIssueBenchmarkTest)
+ * 소진 표시가 노드 로컬에 남으므로 테스트마다 다른 쿠폰 ID 사용
+ */
+@SpringBootTest(properties = {
+    "coupon.issue.sharding.min-issuance=" + RedisCouponIssueIntegrationTest.SHARDING_MIN_ISSUANCE,
+    "coupon.issue.sharding.shards=" + RedisCouponIssueIntegrationTest.SHARDS
+})
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("Redis 쿠폰 발급 정합성 통합테스트")
+class RedisCouponIssueIntegrationTest {
+
+    static final int SHARDING_MIN_ISSUANCE = 1_000;
+    static final int SHARDS = 8;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RedisCouponService redisCouponService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("동시 요청이 수량보다 많아도 최대 발급 수량만큼만 발급한다")
+    void 스크립트_발급_초과_발급_없음() throws InterruptedException {
+        // given
+        Long couponId = 9101L;
+        int max = 100;
+
+        // when
+        int issued = issueConcurrently(couponId, 1_000, max);
+
+        // then
+        assertThat(issued).isEqualTo(max);
+        assertThat(stringRedisTemplate.opsForSet().size("coupon:issued:" + couponId)).isEqualTo(max);
+        assertThat(redisCouponService.checkAndIssueCoupon(couponId, 5_000L, max).getErrorMessage())
+                .isEqualTo("쿠폰이 모두 소진되었습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 요청해도 한 번만 발급한다")
+    void 스크립트_발급_중복_발급_없음() throws InterruptedException {
+        // given
+        Long couponId = 9102L;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        AtomicInteger issued = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    if (redisCouponService.checkAndIssueCoupon(couponId, 1L, 10).isSuccess()) {
+                        issued.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(issued.get()).isEqualTo(1);
+        assertThat(redisCouponService.isUserIssued(couponId, 1L)).isTrue();
+        assertThat(redisCouponService.getCurrentIssuedCount(couponId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("샤드 모드는 이웃 샤드 수량까지 소진하되 초과 및 중복 발급이 없고 롤백한 수량은 다시 발급된다")
+    void 샤드_모드_초과_중복_발급_없음() throws InterruptedException {
+        // given
+        Long couponId = 9201L;
+        int max = 100;
+        assertThat(redisCouponService.enableShardedIssuance(couponId, SHARDS, max)).isTrue();
+
+        // when - 사용자 수가 수량보다 많아 일부 홈 샤드는 먼저 소진되고 이웃 샤드 수량을 사용
+        int first = issueConcurrently(couponId, 1_000, max);
+        // 같은 사용자 재요청 - 모두 중복 또는 소진
+        int second = issueConcurrently(couponId, 1_000, max);
+
+        // then
+        assertThat(first).isEqualTo(max);
+        assertThat(second).isZero();
+        assertThat(redisCouponService.getCurrentIssuedCount(couponId)).isEqualTo((long) max);
+        assertThat(stringRedisTemplate.hasKey("coupon:issued:" + couponId)).isFalse();
+
+        // when - 롤백하면 수량이 반환되어 다른 사용자가 발급 가능
+        Long issuedUser = LongStream.rangeClosed(1, 1_000)
+                .filter(userId -> Boolean.TRUE.equals(redisCouponService.isUserIssued(couponId, userId)))
+                .boxed().findFirst().orElseThrow();
+        redisCouponService.rollbackCouponIssuance(couponId, issuedUser);
+
+        // then
+        assertThat(redisCouponService.checkAndIssueCoupon(couponId, 5_000L, max).isSuccess()).isTrue();
+        assertThat(redisCouponService.checkAndIssueCoupon(couponId, 5_001L, max).isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 발급 수량이 기준 이상인 쿠폰은 캐싱 시 샤드 모드로 전환되고 모드 키는 만료되지 않는다")
+    void 캐싱_시_샤드_모드_자동_전환() {
+        // when
+        redisCouponService.cacheCouponInfo(9202L, "대량 쿠폰", null, 1000, SHARDING_MIN_ISSUANCE, 0, "ACTIVE", null, null);
+        redisCouponService.cacheCouponInfo(9203L, "소량 쿠폰", null, 1000, SHARDING_MIN_ISSUANCE - 1, 0, "ACTIVE", null, null);
+
+        // then
+        assertThat(redisCouponService.checkAndIssueCoupon(9202L, 1L, SHARDING_MIN_ISSUANCE).isSuccess()).isTrue();
+        assertThat(redisCouponService.checkAndIssueCoupon(9203L, 1L, SHARDING_MIN_ISSUANCE - 1).isSuccess()).isTrue();
+        assertThat(stringRedisTemplate.hasKey("coupon:issued:9202")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("coupon:issued:9203")).isTrue();
+        assertThat(redisCouponService.isUserIssued(9202L, 1L)).isTrue();
+        assertThat(stringRedisTemplate.getExpire("coupon:issue-shards:{9202}")).isEqualTo(-1L);
+        assertThat(stringRedisTemplate.getExpire("coupon:info:9202")).isPositive();
+    }
+
+    @Test
+    @DisplayName("쿠폰 정보를 삭제하거나 다시 캐싱해도 샤드 모드와 남은 수량이 유지된다")
+    void 쿠폰_정보_삭제_후_샤드_모드_유지() {
+        // given
+        Long couponId = 9204L;
+        int max = 16;
+        redisCouponService.cacheCouponInfo(couponId, "샤드 쿠폰", null, 1000, max, 0, "ACTIVE", null, null);
+        redisCouponService.enableShardedIssuance(couponId, SHARDS, max);
+        assertThat(redisCouponService.checkAndIssueCoupon(couponId, 1L, max).isSuccess()).isTrue();
+
+        // when - 정보 삭제 후 재캐싱, 전환 재호출 (이미 샤드 모드면 수량을 다시 나누지 않음)
+        redisCouponService.deleteCouponInfo(couponId);
+        redisCouponService.cacheCouponInfo(couponId, "샤드 쿠폰", null, 1000, max, 1, "ACTIVE", null, null);
+        redisCouponService.enableShardedIssuance(couponId, SHARDS, max);
+
+        // then - 단일 Set으로 돌아가지 않아 같은 사용자는 중복, 전체 수량은 그대로
+        assertThat(stringRedisTemplate.opsForValue().get("coupon:issue-shards:{" + couponId + "}")).isEqualTo(String.valueOf(SHARDS));
+        assertThat(redisCouponService.checkAndIssueCoupon(couponId, 1L, max).getErrorMessage())
+                .isEqualTo("이미 발급받은 쿠폰입니다.");
+        assertThat(stringRedisTemplate.hasKey("coupon:issued:" + couponId)).isFalse();
+        int issued = 1;
+        for (long userId = 2; userId <= 100; userId++) {
+            if (redisCouponService.checkAndIssueCoupon(couponId, userId, max).isSuccess()) {
+                issued++;
+            }
+        }
+        assertThat(issued).isEqualTo(max);
+    }
+
+    /**
+     * 사용자 1..requests가 동시에 발급 요청, 성공 수 반환
+     */
+    private int issueConcurrently(Long couponId, int requests, int max) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(requests);
+        AtomicInteger issued = new AtomicInteger();
+
+        for (int i = 0; i < requests; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    if (redisCouponService.checkAndIssueCoupon(couponId, userId, max).isSuccess()) {
+                        issued.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executor.shutdown();
+        return issued.get();
+    }
+}
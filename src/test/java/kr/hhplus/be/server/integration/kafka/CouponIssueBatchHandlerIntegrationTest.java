@@ -0,0 +1,175 @@
+package kr.hhplus.be.server.integration.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.application.port.out.LoadCouponPort;
+import kr.hhplus.be.server.coupon.application.port.out.SaveUserCouponPort;
+import kr.hhplus.be.server.coupon.domain.UserCoupon;
+import kr.hhplus.be.server.coupon.domain.service.CouponSoldOutRegistry;
+import kr.hhplus.be.server.coupon.domain.service.KafkaCouponIssueBatchEventHandler;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponQueueService;
+import kr.hhplus.be.server.coupon.domain.service.RedisCouponService;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.CouponEntity;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.CouponJpaRepository;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.UserCouponJpaRepository;
+import kr.hhplus.be.server.shared.kafka.CouponIssueMessage;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 배치 핸들러 통합 테스트
+ * 쿠폰당 INSERT 한 번으로 최대 수량만큼만 발급하는지, 일괄 저장 실패 시 건별 발급으로 나머지를 살리는지 검증
+ * (Kafka 없이 리스너 메서드를 직접 호출, 처리량 비교는 CouponIssueConsumerBenchmarkTest)
+ * 저장 실패는 saveUserCoupons만 가로채는 Port 프록시로 주입 (나머지 호출은 실제 Adapter로 위임)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("쿠폰 발급 배치 핸들러 통합테스트")
+class CouponIssueBatchHandlerIntegrationTest {
+
+    private static final int USER_COUNT = 300;
+
+    @Autowired private LoadCouponPort loadCouponPort;
+    @Autowired private SaveUserCouponPort saveUserCouponPort;
+    @Autowired private RedisCouponService redisCouponService;
+    @Autowired private RedisCouponQueueService queueService;
+    @Autowired private CouponSoldOutRegistry soldOutRegistry;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private CouponJpaRepository couponRepository;
+    @Autowired private UserCouponJpaRepository userCouponRepository;
+    @Autowired private UserJpaRepository userRepository;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final List<Integer> saveSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+        userRepository.deleteAll();
+        saveSizes.clear();
+
+        userRepository.saveAll(LongStream.rangeClosed(1, USER_COUNT)
+                .mapToObj(userId -> UserEntity.builder()
+                        .userId(userId)
+                        .name("사용자" + userId)
+                        .email("batch" + userId + "@example.com")
+                        .build())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("요청이 수량보다 많으면 쿠폰당 한 번의 일괄 저장으로 최대 수량만큼만 발급한다")
+    void 일괄_발급_최대_수량까지() {
+        // given
+        CouponEntity coupon = coupon(200);
+        KafkaCouponIssueBatchEventHandler handler = handler(batch -> false);
+
+        // when
+        handler.handleCouponIssueEvents(messages(coupon, 1, USER_COUNT));
+
+        // then
+        assertThat(saveSizes).containsExactly(200);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount()).isEqualTo(200);
+        assertThat(issuedUserIds(coupon)).hasSize(200).doesNotHaveDuplicates();
+        assertThat(redisCouponService.getCurrentIssuedCount(coupon.getId())).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 건별로 다시 발급해 저장할 수 없는 요청만 실패시키고 Redis 발급을 롤백한다")
+    void 일괄_저장_실패_건별_발급() {
+        // given - 사용자 5가 포함된 저장은 항상 실패
+        CouponEntity coupon = coupon(100);
+        KafkaCouponIssueBatchEventHandler handler = handler(batch -> batch.stream()
+                .anyMatch(userCoupon -> userCoupon.getUserId() == 5L));
+
+        // when
+        handler.handleCouponIssueEvents(messages(coupon, 1, 10));
+
+        // then - 일괄 1회 실패 후 건별 10회 시도, 사용자 5만 실패
+        assertThat(saveSizes).hasSize(11).startsWith(10);
+        assertThat(issuedUserIds(coupon)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount()).isEqualTo(9);
+        assertThat(redisCouponService.isUserIssued(coupon.getId(), 5L)).isFalse();
+        assertThat(redisCouponService.isUserIssued(coupon.getId(), 6L)).isTrue();
+    }
+
+    private KafkaCouponIssueBatchEventHandler handler(Predicate<List<UserCoupon>> failWhen) {
+        return new KafkaCouponIssueBatchEventHandler(loadCouponPort, saveUserCouponPort(failWhen),
+                redisCouponService, queueService, soldOutRegistry, transactionTemplate, meterRegistry);
+    }
+
+    /**
+     * saveUserCoupons 호출 크기를 기록하고 failWhen이 참이면 실패시키는 Port 프록시
+     */
+    @SuppressWarnings("unchecked")
+    private SaveUserCouponPort saveUserCouponPort(Predicate<List<UserCoupon>> failWhen) {
+        return (SaveUserCouponPort) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{SaveUserCouponPort.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("saveUserCoupons")) {
+                        List<UserCoupon> batch = (List<UserCoupon>) args[0];
+                        saveSizes.add(batch.size());
+                        if (failWhen.test(batch)) {
+                            throw new IllegalStateException("테스트용 저장 실패");
+                        }
+                    }
+                    try {
+                        return method.invoke(saveUserCouponPort, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private CouponEntity coupon(int maxIssuance) {
+        return couponRepository.save(CouponEntity.builder()
+                .name("배치쿠폰")
+                .description("배치 핸들러 테스트용")
+                .discountAmount(BigDecimal.valueOf(1000))
+                .maxIssuanceCount(maxIssuance)
+                .issuedCount(0)
+                .status("ACTIVE")
+                .validFrom(LocalDateTime.now())
+                .validTo(LocalDateTime.now().plusDays(30))
+                .build());
+    }
+
+    private List<CouponIssueMessage> messages(CouponEntity coupon, long fromUserId, long toUserId) {
+        return LongStream.rangeClosed(fromUserId, toUserId)
+                .mapToObj(userId -> CouponIssueMessage.of(userId, coupon.getId(), coupon.getName(),
+                        coupon.getDiscountAmount().intValue(), coupon.getMaxIssuanceCount()))
+                .toList();
+    }
+
+    private List<Long> issuedUserIds(CouponEntity coupon) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM user_coupons WHERE coupon_id = ?", Long.class, coupon.getId());
+    }
+}
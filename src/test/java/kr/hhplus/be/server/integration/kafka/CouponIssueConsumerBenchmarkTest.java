@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.integration.kafka;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.entity.CouponEntity;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.CouponJpaRepository;
+import kr.hhplus.be.server.coupon.infrastructure.persistence.repository.UserCouponJpaRepository;
+import kr.hhplus.be.server.shared.kafka.CouponIssueMessage;
+import kr.hhplus.be.server.shared.kafka.KafkaCouponEventProducer;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 쿠폰 발급 컨슈머 end-to-end 처리량 비교 (Kafka 발행 → 발급 수량 도달까지)
+ * - Single: 레코드마다 트랜잭션 + UPDATE 1회 + INSERT 1회 (kafkaListenerContainerFactory)
+ * - Batch: poll 단위 쿠폰별 UPDATE 1회 + 다중 VALUES INSERT 1회 (batchKafkaListenerContainerFactory)
+ *
+ * 실행: ./gradlew test --tests '*CouponIssueConsumerBenchmarkTest*' -Ptest.benchmark.enabled=true
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@EmbeddedKafka(partitions = 3, topics = {"coupon-issue-events"})
+@TestPropertySource(properties = "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+abstract class CouponIssueConsumerBenchmarkTest {
+
+    private static final int USER_COUNT = 3_000;
+    private static final int MAX_ISSUANCE = 2_000;
+
+    @Autowired private KafkaCouponEventProducer producer;
+    @Autowired private CouponJpaRepository couponRepository;
+    @Autowired private UserCouponJpaRepository userCouponRepository;
+    @Autowired private UserJpaRepository userRepository;
+
+    @Value("${coupon.issue.consumer-mode}")
+    private String consumerMode;
+
+    private CouponEntity coupon;
+
+    @TestPropertySource(properties = "coupon.issue.consumer-mode=single")
+    @org.junit.jupiter.api.condition.EnabledIfSystemProperty(named = "test.benchmark.enabled", matches = "true")
+    static class Single extends CouponIssueConsumerBenchmarkTest {
+    }
+
+    @TestPropertySource(properties = "coupon.issue.consumer-mode=batch")
+    @org.junit.jupiter.api.condition.EnabledIfSystemProperty(named = "test.benchmark.enabled", matches = "true")
+    static class Batch extends CouponIssueConsumerBenchmarkTest {
+    }
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userRepository.saveAll(LongStream.rangeClosed(1, USER_COUNT)
+                .mapToObj(userId -> UserEntity.builder()
+                        .userId(userId)
+                        .name("사용자" + userId)
+                        .email("bench" + userId + "@example.com")
+                        .build())
+                .toList());
+
+        coupon = couponRepository.save(CouponEntity.builder()
+                .name("벤치마크쿠폰")
+                .description("컨슈머 처리량 비교용")
+                .discountAmount(BigDecimal.valueOf(1000))
+                .maxIssuanceCount(MAX_ISSUANCE)
+                .issuedCount(0)
+                .status("ACTIVE")
+                .validFrom(LocalDateTime.now())
+                .validTo(LocalDateTime.now().plusDays(30))
+                .build());
+    }
+
+    @Test
+    void 발급_처리량_측정() {
+        List<CouponIssueMessage> messages = LongStream.rangeClosed(1, USER_COUNT)
+                .mapToObj(userId -> CouponIssueMessage.of(userId, coupon.getId(), coupon.getName(),
+                        coupon.getDiscountAmount().intValue(), MAX_ISSUANCE))
+                .toList();
+
+        AtomicInteger failedSends = new AtomicInteger();
+        long started = System.nanoTime();
+        producer.publishCouponIssueEvents(messages, failed -> failedSends.incrementAndGet());
+        assertThat(failedSends.get()).isZero();
+
+        await().atMost(3, TimeUnit.MINUTES)
+                .pollInterval(50, TimeUnit.MILLISECONDS)
+                .until(() -> couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount() >= MAX_ISSUANCE);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        System.out.printf("%n=== 쿠폰 발급 컨슈머 (mode=%s, requests=%d, max=%d) ===%n", consumerMode, USER_COUNT, MAX_ISSUANCE);
+        System.out.printf("소요: %.2fs, 처리량: %.0f issued/sec%n", elapsedSeconds, MAX_ISSUANCE / elapsedSeconds);
+
+        // 초과 발급 없이 최대 수량만큼만 저장
+        await().during(1, TimeUnit.SECONDS).atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount()).isEqualTo(MAX_ISSUANCE);
+                    assertThat(userCouponRepository.count()).isEqualTo(MAX_ISSUANCE);
+                });
+    }
+}
@@ -0,0 +1,215 @@
+package kr.hhplus.be.server.integration.kafka;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.balance.infrastructure.persistence.entity.BalanceEntity;
+import kr.hhplus.be.server.balance.infrastructure.persistence.repository.BalanceJpaRepository;
+import kr.hhplus.be.server.order.application.port.in.CreateOrderUseCase;
+import kr.hhplus.be.server.order.application.port.in.PlaceOrderAsyncUseCase;
+import kr.hhplus.be.server.order.application.port.out.LoadProductPort;
+import kr.hhplus.be.server.order.application.port.out.OrderTicketPort;
+import kr.hhplus.be.server.order.domain.service.CreateOrderService;
+import kr.hhplus.be.server.order.domain.service.OrderDomainService;
+import kr.hhplus.be.server.order.domain.service.PlaceOrderAsyncService;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderItemJpaRepository;
+import kr.hhplus.be.server.order.infrastructure.persistence.repository.OrderJpaRepository;
+import kr.hhplus.be.server.product.infrastructure.persistence.entity.ProductEntity;
+import kr.hhplus.be.server.product.infrastructure.persistence.repository.ProductJpaRepository;
+import kr.hhplus.be.server.user.infrastructure.persistence.entity.UserEntity;
+import kr.hhplus.be.server.user.infrastructure.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 비동기 주문 접수/워커 통합 테스트
+ * 같은 사용자 주문의 처리 순서, 분산 락 없는 워커와 동기 경로의 동시 실행, 큐 등록 실패 시 역압 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@EmbeddedKafka(partitions = 3, topics = {"order-placement-topic"})
+@TestPropertySource(properties = "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("비동기 주문 처리 통합 테스트")
+@org.junit.jupiter.api.condition.EnabledIfSystemProperty(named = "test.kafka.enabled", matches = "true")
+class OrderPlacementIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired private PlaceOrderAsyncUseCase placeOrderAsyncUseCase;
+    @Autowired private CreateOrderService createOrderService;
+    @Autowired private OrderDomainService orderDomainService;
+    @Autowired private OrderTicketPort orderTicketPort;
+    @Autowired private LoadProductPort loadProductPort;
+    @Autowired private RedissonClient redissonClient;
+
+    @Autowired private UserJpaRepository userRepository;
+    @Autowired private ProductJpaRepository productRepository;
+    @Autowired private BalanceJpaRepository balanceRepository;
+    @Autowired private OrderJpaRepository orderRepository;
+    @Autowired private OrderItemJpaRepository orderItemRepository;
+
+    private ProductEntity product;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        balanceRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = userRepository.saveAndFlush(UserEntity.builder()
+                .userId(USER_ID)
+                .name("비동기주문사용자")
+                .email("async-order@example.com")
+                .status("ACTIVE")
+                .build());
+
+        product = productRepository.saveAndFlush(ProductEntity.builder()
+                .name("비동기주문상품")
+                .description("비동기 주문 테스트용 상품")
+                .price(new BigDecimal("10000"))
+                .stockQuantity(100)
+                .status("ACTIVE")
+                .build());
+
+        // 주문 2건만 결제 가능한 잔액
+        balanceRepository.saveAndFlush(BalanceEntity.builder()
+                .user(user)
+                .amount(new BigDecimal("20000"))
+                .status("ACTIVE")
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 비동기 주문은 접수 순서대로 처리된다")
+    void 같은_사용자_주문_접수순서_처리() {
+        // given
+        List<String> ticketIds = List.of(accept(), accept(), accept());
+
+        // when
+        await().atMost(30, TimeUnit.SECONDS)
+                .pollInterval(200, TimeUnit.MILLISECONDS)
+                .until(() -> ticketIds.stream().allMatch(this::isFinished));
+
+        // then - 잔액이 먼저 접수된 2건에만 쓰이고 세 번째만 실패
+        List<OrderTicketPort.OrderTicket> tickets = ticketIds.stream().map(this::ticket).toList();
+        assertThat(tickets).extracting(OrderTicketPort.OrderTicket::getStatus).containsExactly(
+                OrderTicketPort.TicketStatus.COMPLETED,
+                OrderTicketPort.TicketStatus.COMPLETED,
+                OrderTicketPort.TicketStatus.FAILED);
+        assertThat(tickets.get(0).getOrderId()).isLessThan(tickets.get(1).getOrderId());
+        assertThat(balanceRepository.findByUserId(USER_ID).orElseThrow().getAmount()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("워커는 분산 락을 잡지 않으므로 사용자 락이 잡혀 있어도 주문을 처리한다")
+    void 워커_분산락_미사용() throws InterruptedException {
+        // given - 동기 주문 경로가 사용자 락을 잡고 있는 상황
+        RLock lock = redissonClient.getLock("order_user_" + USER_ID);
+        assertThat(lock.tryLock(0, 30, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when
+            String ticketId = accept();
+
+            // then - 락이 잡혀 있는 동안에도 완료
+            await().atMost(30, TimeUnit.SECONDS)
+                    .pollInterval(200, TimeUnit.MILLISECONDS)
+                    .until(() -> ticket(ticketId).getStatus() == OrderTicketPort.TicketStatus.COMPLETED);
+            assertThat(lock.isLocked()).isTrue();
+        } finally {
+            lock.unlock();
+        }
+        assertThat(balanceRepository.findByUserId(USER_ID).orElseThrow().getAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("동기 주문과 비동기 주문이 동시에 실행돼도 잔액과 재고를 초과 차감하지 않는다")
+    void 동기_비동기_동시_주문_초과차감_없음() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when - 비동기 3건 접수와 동시에 동기 주문 1건
+        Future<CreateOrderUseCase.CreateOrderResult> syncResult = executor.submit(() -> createOrderService.createOrder(command()));
+        List<String> ticketIds = List.of(accept(), accept(), accept());
+        boolean syncSucceeded = syncResult.get(30, TimeUnit.SECONDS).isSuccess();
+        executor.shutdown();
+        await().atMost(30, TimeUnit.SECONDS)
+                .pollInterval(200, TimeUnit.MILLISECONDS)
+                .until(() -> ticketIds.stream().allMatch(this::isFinished));
+
+        // then - 잔액 2건분만 성공
+        long asyncCompleted = ticketIds.stream()
+                .filter(ticketId -> ticket(ticketId).getStatus() == OrderTicketPort.TicketStatus.COMPLETED)
+                .count();
+        assertThat(asyncCompleted + (syncSucceeded ? 1 : 0)).isEqualTo(2);
+        assertThat(orderRepository.count()).isEqualTo(2);
+        assertThat(balanceRepository.findByUserId(USER_ID).orElseThrow().getAmount()).isEqualByComparingTo("0");
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(98);
+    }
+
+    @Test
+    @DisplayName("큐 등록이 실패하면 재시도 가능 응답을 주고 티켓은 실패로 남긴다")
+    void 큐_등록_실패_역압() {
+        // given - 브로커 확인 타임아웃으로 등록이 거절되는 큐
+        AtomicReference<String> enqueuedTicketId = new AtomicReference<>();
+        PlaceOrderAsyncService service = new PlaceOrderAsyncService(
+                orderDomainService, orderTicketPort,
+                (ticketId, command) -> {
+                    enqueuedTicketId.set(ticketId);
+                    return false;
+                },
+                loadProductPort);
+
+        // when
+        PlaceOrderAsyncUseCase.AcceptOrderResult result = service.acceptOrder(command());
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.isQueueUnavailable()).isTrue();
+        assertThat(ticket(enqueuedTicketId.get()).getStatus()).isEqualTo(OrderTicketPort.TicketStatus.FAILED);
+        assertThat(orderRepository.count()).isZero();
+    }
+
+    private String accept() {
+        PlaceOrderAsyncUseCase.AcceptOrderResult result = placeOrderAsyncUseCase.acceptOrder(command());
+        assertThat(result.isSuccess()).isTrue();
+        return result.getTicket().getTicketId();
+    }
+
+    private CreateOrderUseCase.CreateOrderCommand command() {
+        return new CreateOrderUseCase.CreateOrderCommand(
+                USER_ID, List.of(new CreateOrderUseCase.OrderItemCommand(product.getId(), 1)), null);
+    }
+
+    private OrderTicketPort.OrderTicket ticket(String ticketId) {
+        return orderTicketPort.findById(ticketId).orElseThrow();
+    }
+
+    private boolean isFinished(String ticketId) {
+        OrderTicketPort.TicketStatus status = ticket(ticketId).getStatus();
+        return status == OrderTicketPort.TicketStatus.COMPLETED || status == OrderTicketPort.TicketStatus.FAILED;
+    }
+}